@@ -4,6 +4,7 @@ plugins {
     signing
     jacoco
     id("com.diffplug.spotless") version "6.25.0"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.mailbreeze"
@@ -34,6 +35,11 @@ dependencies {
     testImplementation("org.wiremock:wiremock:3.4.2")
     testImplementation("org.assertj:assertj-core:3.25.3")
     testImplementation("com.squareup.okhttp3:mockwebserver:4.12.0")
+    testImplementation("com.fasterxml.jackson.module:jackson-module-blackbird:2.17.0")
+
+    // Benchmarks
+    jmh("com.squareup.okhttp3:mockwebserver:4.12.0")
+    jmh("com.fasterxml.jackson.module:jackson-module-blackbird:2.17.0")
 }
 
 tasks.test {
@@ -41,6 +47,12 @@ tasks.test {
     finalizedBy(tasks.jacocoTestReport)
 }
 
+jmh {
+    jmhVersion.set("1.37")
+    profilers.add("gc")
+    resultFormat.set("JSON")
+}
+
 tasks.jacocoTestReport {
     dependsOn(tasks.test)
     reports {
@@ -0,0 +1,100 @@
+package com.mailbreeze.http;
+
+import com.mailbreeze.models.PersonalizedEmail;
+import com.mailbreeze.models.SendEmailParams;
+import com.mailbreeze.models.SendEmailTemplate;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Request;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures building one send of a campaign to one recipient. {@code rebuiltParams} rebuilds and
+ * serializes the whole {@link SendEmailParams} for each recipient; {@code template} personalizes a
+ * {@link SendEmailTemplate}, whose shared fields were serialized once in setup.
+ *
+ * <p>Both methods build the request through {@link MailBreezeHttpClient#jsonRequest}, which writes
+ * the whole body, shared bytes included, into a fresh buffer on every send. Time and allocation per
+ * send therefore stay proportional to the body size on both paths; the template only removes the
+ * cost of escaping and encoding the shared fields.
+ *
+ * <p>Run with {@code ./gradlew jmh}; the gc profiler reports {@code gc.alloc.rate.norm} per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkSendBenchmark {
+
+  private static final int RECIPIENTS = 1024;
+
+  @Param({"2048", "65536"})
+  int htmlLength;
+
+  private MailBreezeHttpClient client;
+  private String html;
+  private SendEmailTemplate template;
+  private String[] recipients;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    client =
+        new MailBreezeHttpClient("sk_test_bench", "https://api.mailbreeze.com", Duration.ZERO, 0);
+    StringBuilder body = new StringBuilder("<html><body>");
+    while (body.length() < htmlLength) {
+      body.append("<p>Here is what happened this week at Example &amp; Co.</p>");
+    }
+    html = body.append("</body></html>").toString();
+    template =
+        SendEmailTemplate.builder()
+            .from("newsletter@example.com")
+            .subject("Your weekly digest")
+            .html(html)
+            .text("Here is what happened this week.")
+            .templateId("tpl_weekly")
+            .replyTo("support@example.com")
+            .header("List-Unsubscribe", "<https://example.com/unsubscribe>")
+            .tags(List.of("digest", "weekly"))
+            .build();
+    recipients = new String[RECIPIENTS];
+    for (int i = 0; i < RECIPIENTS; i++) {
+      recipients[i] = "subscriber" + i + "@example.com";
+    }
+  }
+
+  private String nextRecipient() {
+    next = (next + 1) & (RECIPIENTS - 1);
+    return recipients[next];
+  }
+
+  @Benchmark
+  public Request rebuiltParams() {
+    String to = nextRecipient();
+    SendEmailParams params =
+        SendEmailParams.builder()
+            .from("newsletter@example.com")
+            .to(to)
+            .subject("Your weekly digest")
+            .html(html)
+            .text("Here is what happened this week.")
+            .templateId("tpl_weekly")
+            .variables(Map.of("email", to))
+            .replyTo("support@example.com")
+            .header("List-Unsubscribe", "<https://example.com/unsubscribe>")
+            .tags(List.of("digest", "weekly"))
+            .build();
+    return client.jsonRequest("POST", "/emails", params, null);
+  }
+
+  @Benchmark
+  public Request template() {
+    String to = nextRecipient();
+    PersonalizedEmail email = template.personalize(to, Map.of("email", to));
+    return client.jsonRequest("POST", "/emails", email, null);
+  }
+}
@@ -0,0 +1,98 @@
+package com.mailbreeze.http;
+
+import com.mailbreeze.MailBreeze;
+import com.mailbreeze.models.SendEmailParams;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Sends 10k emails against a local MockWebServer over HTTP/1.1 and over cleartext HTTP/2 (prior
+ * knowledge), from a fixed pool of caller threads. Reports time per send.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(Http2ThroughputBenchmark.SENDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Http2ThroughputBenchmark {
+
+  static final int SENDS = 10_000;
+  private static final int CALLER_THREADS = 64;
+
+  @Param({"HTTP_1_1", "H2_PRIOR_KNOWLEDGE"})
+  HttpVersion httpVersion;
+
+  private MockWebServer server;
+  private MailBreeze mailbreeze;
+  private ExecutorService callers;
+  private SendEmailParams params;
+
+  @Setup
+  public void setUp() throws Exception {
+    server = new MockWebServer();
+    if (httpVersion == HttpVersion.H2_PRIOR_KNOWLEDGE) {
+      server.setProtocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE));
+    }
+    server.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(RecordedRequest request) {
+            return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"success\":true,\"data\":{\"id\":\"email_1\",\"status\":\"queued\"}}");
+          }
+        });
+    server.start();
+
+    mailbreeze =
+        MailBreeze.builder()
+            .apiKey("sk_test_bench")
+            .baseUrl(server.url("/").toString())
+            .httpVersion(httpVersion)
+            .maxIdleConnections(CALLER_THREADS)
+            .maxRequestsPerHost(CALLER_THREADS)
+            .maxConcurrentStreams(CALLER_THREADS)
+            .build();
+    callers = Executors.newFixedThreadPool(CALLER_THREADS);
+    params =
+        SendEmailParams.builder()
+            .from("sender@example.com")
+            .to("recipient@example.com")
+            .subject("Benchmark")
+            .html("<p>Hello from the benchmark</p>")
+            .build();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    callers.shutdownNow();
+    server.shutdown();
+  }
+
+  @Benchmark
+  public int send10k() throws Exception {
+    List<Callable<Object>> sends = new ArrayList<>(SENDS);
+    for (int i = 0; i < SENDS; i++) {
+      sends.add(() -> mailbreeze.emails().send(params));
+    }
+    int completed = 0;
+    for (Future<Object> result : callers.invokeAll(sends)) {
+      result.get();
+      completed++;
+    }
+    return completed;
+  }
+}
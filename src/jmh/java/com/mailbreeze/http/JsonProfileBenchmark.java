@@ -0,0 +1,80 @@
+package com.mailbreeze.http;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mailbreeze.models.Contact;
+import com.mailbreeze.models.SendEmailParams;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares {@code ObjectMapper} calls, as the client made before {@link JsonCodec}, with the
+ * codec's cached readers and writers, with and without the performance profile. With {@code
+ * profile=true} Blackbird is registered, since the jmh classpath includes it.
+ *
+ * <p>Run with {@code ./gradlew jmh}; the gc profiler reports {@code gc.alloc.rate.norm} per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonProfileBenchmark {
+
+  @Param({"false", "true"})
+  boolean profile;
+
+  private ObjectMapper objectMapper;
+  private JsonCodec codec;
+  private SendEmailParams params;
+  private byte[] contact;
+
+  @Setup
+  public void setUp() {
+    objectMapper =
+        new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    codec = new JsonCodec(profile);
+    codec.preResolve(List.of(SendEmailParams.class, Contact.class));
+    params =
+        SendEmailParams.builder()
+            .from("sender@example.com")
+            .to("recipient@example.com")
+            .subject("Your weekly digest")
+            .html("<p>Hello! Here is what happened this week.</p>")
+            .replyTo("support@example.com")
+            .build();
+    contact =
+        ("{\"id\":\"contact_1\",\"email\":\"user@example.com\",\"first_name\":\"Ada\","
+                + "\"last_name\":\"Lovelace\",\"status\":\"active\",\"source\":\"api\","
+                + "\"custom_fields\":{\"plan\":\"pro\",\"seats\":5},\"list_id\":\"list_1\","
+                + "\"created_at\":\"2024-01-15T10:30:00Z\",\"updated_at\":\"2024-01-16T08:00:00Z\","
+                + "\"subscribed_at\":\"2024-01-15T10:30:00Z\"}")
+            .getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public byte[] mapperSerialize() throws Exception {
+    return objectMapper.writeValueAsBytes(params);
+  }
+
+  @Benchmark
+  public byte[] codecSerialize() throws Exception {
+    return codec.writer(SendEmailParams.class).writeValueAsBytes(params);
+  }
+
+  @Benchmark
+  public Contact mapperDeserialize() throws Exception {
+    return objectMapper.readValue(contact, Contact.class);
+  }
+
+  @Benchmark
+  public Contact codecDeserialize() throws Exception {
+    return codec.reader(Contact.class).readValue(contact);
+  }
+}
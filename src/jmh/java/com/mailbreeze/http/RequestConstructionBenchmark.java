@@ -0,0 +1,75 @@
+package com.mailbreeze.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mailbreeze.models.SendEmailParams;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Headers;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures per-request allocation of building a {@code send()} request. {@code payloadOnly} is the
+ * floor: serializing the body alone. {@code perRequestParsing} rebuilds headers and re-parses the
+ * URL on every call, as the client did before caching; {@code cachedBaseUrlAndHeaders} is the
+ * current client path.
+ *
+ * <p>Run with {@code ./gradlew jmh} and compare {@code gc.alloc.rate.norm}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestConstructionBenchmark {
+
+  private static final String BASE_URL = "https://api.mailbreeze.com/api/v1";
+  private static final MediaType JSON = MediaType.get("application/json");
+
+  private MailBreezeHttpClient client;
+  private ObjectMapper objectMapper;
+  private SendEmailParams params;
+
+  @Setup
+  public void setUp() {
+    client =
+        new MailBreezeHttpClient("sk_test_bench", "https://api.mailbreeze.com", Duration.ZERO, 0);
+    objectMapper = new ObjectMapper();
+    params =
+        SendEmailParams.builder()
+            .from("sender@example.com")
+            .to("recipient@example.com")
+            .subject("Your weekly digest")
+            .html("<p>Hello! Here is what happened this week.</p>")
+            .build();
+  }
+
+  @Benchmark
+  public byte[] payloadOnly() throws Exception {
+    return objectMapper.writeValueAsBytes(params);
+  }
+
+  @Benchmark
+  public Request perRequestParsing() throws Exception {
+    Headers headers =
+        new Headers.Builder()
+            .add("Content-Type", "application/json")
+            .add("X-API-Key", "sk_test_bench")
+            .add("User-Agent", "mailbreeze-java/0.2.0")
+            .build();
+    return new Request.Builder()
+        .url(HttpUrl.parse(BASE_URL + "/emails"))
+        .headers(headers)
+        .post(RequestBody.create(objectMapper.writeValueAsString(params), JSON))
+        .build();
+  }
+
+  @Benchmark
+  public Request cachedBaseUrlAndHeaders() {
+    return client.jsonRequest("POST", "/emails", params, null);
+  }
+}
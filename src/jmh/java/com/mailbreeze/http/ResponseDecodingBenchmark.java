@@ -0,0 +1,75 @@
+package com.mailbreeze.http;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mailbreeze.resources.Emails;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the tree-based envelope decoding (String, then {@code ApiResponse} tree, then {@code
+ * treeToValue}) with the single-pass {@link EnvelopeDecoder} on an emails list page.
+ *
+ * <p>Run with {@code ./gradlew jmh}; the gc profiler reports {@code gc.alloc.rate.norm} per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseDecodingBenchmark {
+
+  @Param({"10", "500"})
+  int pageSize;
+
+  private ObjectMapper objectMapper;
+  private EnvelopeDecoder decoder;
+  private byte[] payload;
+
+  @Setup
+  public void setUp() {
+    objectMapper =
+        new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    decoder = new EnvelopeDecoder(new JsonCodec(false));
+
+    StringBuilder json = new StringBuilder("{\"success\":true,\"data\":{\"emails\":[");
+    for (int i = 0; i < pageSize; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("{\"id\":\"email_")
+          .append(i)
+          .append("\",\"from\":\"sender@example.com\",\"to\":[\"user")
+          .append(i)
+          .append("@example.com\"],\"subject\":\"Weekly digest #")
+          .append(i)
+          .append("\",\"status\":\"delivered\",\"createdAt\":\"2024-01-15T10:30:00Z\"")
+          .append(",\"messageId\":\"<msg")
+          .append(i)
+          .append("@mailbreeze.com>\"}");
+    }
+    json.append("],\"pagination\":{\"page\":1,\"limit\":")
+        .append(pageSize)
+        .append(",\"total\":10000,\"totalPages\":20,\"hasNext\":true,\"hasPrev\":false}}")
+        .append(",\"meta\":{\"requestId\":\"req_bench\"}}");
+    payload = json.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public Emails.EmailsResponse treeDecoding() throws Exception {
+    String body = new String(payload, StandardCharsets.UTF_8);
+    ApiResponse envelope = objectMapper.readValue(body, ApiResponse.class);
+    return objectMapper.treeToValue(envelope.getData(), Emails.EmailsResponse.class);
+  }
+
+  @Benchmark
+  public Emails.EmailsResponse streamingDecoding() throws Exception {
+    return decoder.decode(new ByteArrayInputStream(payload), Emails.EmailsResponse.class).data;
+  }
+}
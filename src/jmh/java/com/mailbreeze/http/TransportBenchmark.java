@@ -0,0 +1,87 @@
+package com.mailbreeze.http;
+
+import com.mailbreeze.MailBreeze;
+import com.mailbreeze.models.SendEmailParams;
+import com.mailbreeze.models.SendEmailResult;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the OkHttp and JDK HttpClient transports against a local MockWebServer: single-caller
+ * latency, 16-caller throughput, and allocation per send (gc profiler).
+ */
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransportBenchmark {
+
+  @Param({"okhttp", "jdk"})
+  String transportType;
+
+  private MockWebServer server;
+  private Transport transport;
+  private MailBreeze mailbreeze;
+  private SendEmailParams params;
+
+  @Setup
+  public void setUp() throws Exception {
+    server = new MockWebServer();
+    server.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(RecordedRequest request) {
+            return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"success\":true,\"data\":{\"id\":\"email_1\",\"status\":\"queued\"}}");
+          }
+        });
+    server.start();
+
+    transport =
+        "jdk".equals(transportType)
+            ? JdkHttpTransport.builder().httpVersion(HttpVersion.HTTP_1_1).build()
+            : OkHttpTransport.builder()
+                .httpVersion(HttpVersion.HTTP_1_1)
+                .maxIdleConnections(16)
+                .build();
+    mailbreeze =
+        MailBreeze.builder()
+            .apiKey("sk_test_bench")
+            .baseUrl(server.url("/").toString())
+            .transport(transport)
+            .build();
+    params =
+        SendEmailParams.builder()
+            .from("sender@example.com")
+            .to("recipient@example.com")
+            .subject("Benchmark")
+            .html("<p>Hello from the benchmark</p>")
+            .build();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    transport.close();
+    server.shutdown();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public SendEmailResult latency() {
+    return mailbreeze.emails().send(params);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @Threads(16)
+  public SendEmailResult throughput() {
+    return mailbreeze.emails().send(params);
+  }
+}
@@ -0,0 +1,106 @@
+package com.mailbreeze.http;
+
+import com.mailbreeze.MailBreeze;
+import com.mailbreeze.models.SendEmailParams;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Issues 10k concurrent synchronous sends over one HTTP/2 connection, either from a fixed pool of
+ * 64 platform threads or from one virtual thread per send with a scheduler parallelism of 4. The
+ * server adds 20 ms of latency per response, so blocked callers dominate. Requires JDK 21+ for the
+ * virtual mode.
+ *
+ * <p>OkHttp 4 waits for HTTP/2 response headers with {@code Object.wait()} inside a monitor, which
+ * pins the virtual thread to its carrier. The JDK compensates by adding carriers up to the
+ * scheduler's default {@code maxPoolSize} (256), so the pool size is deliberately left uncapped:
+ * the virtual mode measures callers on a pinning transport with that compensation, not callers
+ * that park freely.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(VirtualThreadBenchmark.SENDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djdk.virtualThreadScheduler.parallelism=4")
+@State(Scope.Benchmark)
+public class VirtualThreadBenchmark {
+
+  static final int SENDS = 10_000;
+  private static final int PLATFORM_THREADS = 64;
+
+  @Param({"platform", "virtual"})
+  String callerThreads;
+
+  private MockWebServer server;
+  private MailBreeze mailbreeze;
+  private ExecutorService callers;
+  private SendEmailParams params;
+
+  @Setup
+  public void setUp() throws Exception {
+    server = new MockWebServer();
+    server.setProtocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE));
+    server.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(RecordedRequest request) {
+            return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setHeadersDelay(20, TimeUnit.MILLISECONDS)
+                .setBody("{\"success\":true,\"data\":{\"id\":\"email_1\",\"status\":\"queued\"}}");
+          }
+        });
+    server.start();
+
+    mailbreeze =
+        MailBreeze.builder()
+            .apiKey("sk_test_bench")
+            .baseUrl(server.url("/").toString())
+            .httpVersion(HttpVersion.H2_PRIOR_KNOWLEDGE)
+            .virtualThreads(true)
+            .build();
+    callers =
+        "virtual".equals(callerThreads)
+            ? VirtualThreads.newThreadPerTaskExecutor("bench-caller-")
+            : Executors.newFixedThreadPool(PLATFORM_THREADS);
+    params =
+        SendEmailParams.builder()
+            .from("sender@example.com")
+            .to("recipient@example.com")
+            .subject("Benchmark")
+            .html("<p>Hello from the benchmark</p>")
+            .build();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    callers.shutdownNow();
+    server.shutdown();
+  }
+
+  @Benchmark
+  public int send10k() throws Exception {
+    List<Callable<Object>> sends = new ArrayList<>(SENDS);
+    for (int i = 0; i < SENDS; i++) {
+      sends.add(() -> mailbreeze.emails().send(params));
+    }
+    int completed = 0;
+    for (Future<Object> result : callers.invokeAll(sends)) {
+      result.get();
+      completed++;
+    }
+    return completed;
+  }
+}
@@ -1,8 +1,26 @@
 package com.mailbreeze;
 
+import com.mailbreeze.http.CircuitBreaker;
+import com.mailbreeze.http.ClientMetrics;
+import com.mailbreeze.http.ConcurrencyLimit;
+import com.mailbreeze.http.EndpointFamily;
+import com.mailbreeze.http.HedgePolicy;
+import com.mailbreeze.http.HttpVersion;
+import com.mailbreeze.http.Jitter;
 import com.mailbreeze.http.MailBreezeHttpClient;
+import com.mailbreeze.http.OverflowPolicy;
+import com.mailbreeze.http.RateLimit;
+import com.mailbreeze.http.ResponseCache;
+import com.mailbreeze.http.RetryBudget;
+import com.mailbreeze.http.StatsTtl;
+import com.mailbreeze.http.Transport;
+import com.mailbreeze.models.*;
 import com.mailbreeze.resources.*;
 import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Main entry point for the MailBreeze Java SDK.
@@ -33,6 +51,33 @@ public final class MailBreeze {
   private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
   private static final int DEFAULT_MAX_RETRIES = 3;
 
+  /** Request and response models resolved up front under the JSON performance profile. */
+  private static final Class<?>[] JSON_TYPES = {
+    SendEmailParams.class,
+    PersonalizedEmail.class,
+    SendEmailResult.class,
+    Email.class,
+    Emails.EmailsResponse.class,
+    Emails.CancelEmailResult.class,
+    EmailStatsResponse.class,
+    CreateContactParams.class,
+    UpdateContactParams.class,
+    Contact.class,
+    Contacts.ContactsResponse.class,
+    CreateListParams.class,
+    UpdateListParams.class,
+    ContactList.class,
+    ContactList[].class,
+    ListStats.class,
+    BatchVerifyParams.class,
+    BatchVerifyResult.class,
+    VerifyEmailResult.class,
+    VerificationStats.class,
+    CreateAttachmentUploadParams.class,
+    CreateAttachmentUploadResult.class,
+    Attachment.class
+  };
+
   private final MailBreezeHttpClient httpClient;
   private final Emails emails;
   private final Lists lists;
@@ -44,7 +89,83 @@ public final class MailBreeze {
     Duration timeout = builder.timeout != null ? builder.timeout : DEFAULT_TIMEOUT;
     int maxRetries = builder.maxRetries != null ? builder.maxRetries : DEFAULT_MAX_RETRIES;
 
-    this.httpClient = new MailBreezeHttpClient(builder.apiKey, baseUrl, timeout, maxRetries);
+    MailBreezeHttpClient.Builder http =
+        MailBreezeHttpClient.builder()
+            .apiKey(builder.apiKey)
+            .baseUrl(baseUrl)
+            .timeout(timeout)
+            .maxRetries(maxRetries);
+    if (builder.jitter != null) {
+      http.jitter(builder.jitter);
+    }
+    if (builder.maxRetryDelay != null) {
+      http.maxRetryDelay(builder.maxRetryDelay);
+    }
+    if (builder.retryBudget != null) {
+      http.retryBudget(builder.retryBudget);
+    }
+    if (builder.concurrencyLimit != null) {
+      http.concurrencyLimit(builder.concurrencyLimit);
+    }
+    if (builder.maxInFlight != null) {
+      http.maxInFlight(builder.maxInFlight, builder.overflowPolicy);
+    }
+    if (builder.circuitBreaker != null) {
+      http.circuitBreaker(builder.circuitBreaker);
+    }
+    if (builder.hedgePolicy != null) {
+      http.hedging(builder.hedgePolicy);
+    }
+    http.singleFlight(builder.singleFlight);
+    if (builder.responseCache != null) {
+      http.responseCache(builder.responseCache);
+    }
+    builder.rateLimits.forEach(
+        (family, limit) -> http.rateLimit(family, limit.permitsPerSecond(), limit.burst()));
+    builder.statsTtls.forEach((family, ttl) -> http.statsTtl(family, ttl.ttl(), ttl.maxStale()));
+    builder.deadlines.forEach(http::deadline);
+    builder.attemptTimeouts.forEach(http::attemptTimeout);
+    if (builder.maxIdleConnections != null) {
+      http.maxIdleConnections(builder.maxIdleConnections);
+    }
+    if (builder.keepAliveDuration != null) {
+      http.keepAliveDuration(builder.keepAliveDuration);
+    }
+    if (builder.maxRequests != null) {
+      http.maxRequests(builder.maxRequests);
+    }
+    if (builder.maxRequestsPerHost != null) {
+      http.maxRequestsPerHost(builder.maxRequestsPerHost);
+    }
+    if (builder.dispatcherExecutor != null) {
+      http.dispatcherExecutor(builder.dispatcherExecutor);
+    }
+    if (builder.deserializationExecutor != null) {
+      http.deserializationExecutor(builder.deserializationExecutor);
+    }
+    if (builder.jsonPerformanceProfile) {
+      http.jsonPerformanceProfile(true).preResolve(JSON_TYPES);
+    }
+    if (builder.virtualThreads != null) {
+      http.virtualThreads(builder.virtualThreads);
+    }
+    if (builder.httpVersion != null) {
+      http.httpVersion(builder.httpVersion);
+    }
+    if (builder.maxConcurrentStreams != null) {
+      http.maxConcurrentStreams(builder.maxConcurrentStreams);
+    }
+    if (builder.requestCompressionThreshold != null) {
+      http.requestCompressionThreshold(builder.requestCompressionThreshold);
+    }
+    if (builder.transport != null) {
+      http.transport(builder.transport);
+    }
+    if (builder.tenantId != null) {
+      http.tenantId(builder.tenantId);
+    }
+
+    this.httpClient = http.build();
     this.emails = new Emails(httpClient);
     this.lists = new Lists(httpClient);
     this.attachments = new Attachments(httpClient);
@@ -108,6 +229,15 @@ public final class MailBreeze {
     return verification;
   }
 
+  /**
+   * Returns live metrics for this client, such as connection pool and dispatcher statistics.
+   *
+   * @return the client metrics
+   */
+  public ClientMetrics metrics() {
+    return httpClient.metrics();
+  }
+
   /** Builder for MailBreeze client configuration. */
   public static final class Builder {
 
@@ -115,6 +245,34 @@ public final class MailBreeze {
     private String baseUrl;
     private Duration timeout;
     private Integer maxRetries;
+    private Jitter jitter;
+    private Duration maxRetryDelay;
+    private RetryBudget retryBudget;
+    private final Map<EndpointFamily, RateLimit> rateLimits = new EnumMap<>(EndpointFamily.class);
+    private final Map<EndpointFamily, StatsTtl> statsTtls = new EnumMap<>(EndpointFamily.class);
+    private final Map<EndpointFamily, Duration> deadlines = new EnumMap<>(EndpointFamily.class);
+    private final Map<EndpointFamily, Duration> attemptTimeouts =
+        new EnumMap<>(EndpointFamily.class);
+    private ConcurrencyLimit concurrencyLimit;
+    private Integer maxInFlight;
+    private OverflowPolicy overflowPolicy;
+    private CircuitBreaker circuitBreaker;
+    private HedgePolicy hedgePolicy;
+    private boolean singleFlight;
+    private ResponseCache responseCache;
+    private Integer maxIdleConnections;
+    private Duration keepAliveDuration;
+    private Integer maxRequests;
+    private Integer maxRequestsPerHost;
+    private ExecutorService dispatcherExecutor;
+    private Executor deserializationExecutor;
+    private boolean jsonPerformanceProfile;
+    private Boolean virtualThreads;
+    private HttpVersion httpVersion;
+    private Integer maxConcurrentStreams;
+    private Long requestCompressionThreshold;
+    private Transport transport;
+    private String tenantId;
 
     private Builder() {}
 
@@ -162,11 +320,390 @@ public final class MailBreeze {
       return this;
     }
 
+    /**
+     * Sets the jitter applied to exponential retry backoff. {@link Jitter#FULL} or {@link
+     * Jitter#DECORRELATED} keep many clients from retrying in lockstep after a shared failure.
+     *
+     * @param jitter the jitter strategy (default: {@link Jitter#NONE})
+     * @return this builder
+     */
+    public Builder jitter(Jitter jitter) {
+      this.jitter = jitter;
+      return this;
+    }
+
+    /**
+     * Caps the backoff between retries. A {@code Retry-After} sent by the API is honored even when
+     * longer.
+     *
+     * @param maxRetryDelay the maximum backoff (default: 30 seconds)
+     * @return this builder
+     */
+    public Builder maxRetryDelay(Duration maxRetryDelay) {
+      this.maxRetryDelay = maxRetryDelay;
+      return this;
+    }
+
+    /**
+     * Limits retries to a fraction of recent successful requests. Once the budget is used up,
+     * retryable failures throw {@link com.mailbreeze.exceptions.RetryBudgetExhaustedException}
+     * instead of retrying.
+     *
+     * @param retryBudget the retry budget (default: none)
+     * @return this builder
+     */
+    public Builder retryBudget(RetryBudget retryBudget) {
+      this.retryBudget = retryBudget;
+      return this;
+    }
+
+    /**
+     * Paces requests to an endpoint family on the client, so bulk work runs at the allowed rate
+     * instead of bouncing off 429 responses. The burst is one second's worth of permits.
+     *
+     * @param family the endpoint family, e.g. {@link EndpointFamily#EMAILS}
+     * @param permitsPerSecond the initial request rate, adapted from the API's rate-limit headers
+     * @return this builder
+     */
+    public Builder rateLimit(EndpointFamily family, double permitsPerSecond) {
+      return rateLimit(family, permitsPerSecond, (int) Math.max(1, Math.ceil(permitsPerSecond)));
+    }
+
+    /**
+     * Paces requests to an endpoint family on the client. The rate adapts to the API's {@code
+     * X-RateLimit-*} and {@code Retry-After} headers.
+     *
+     * @param family the endpoint family, e.g. {@link EndpointFamily#EMAILS}
+     * @param permitsPerSecond the initial request rate
+     * @param burst the most requests that may be sent at once after an idle period
+     * @return this builder
+     */
+    public Builder rateLimit(EndpointFamily family, double permitsPerSecond, int burst) {
+      rateLimits.put(family, new RateLimit(permitsPerSecond, burst));
+      return this;
+    }
+
+    /**
+     * Caches the {@code stats()} results of an endpoint family, e.g. {@code EndpointFamily.EMAILS}
+     * for {@code emails().stats()}. An expired result is served for up to one more TTL while it is
+     * refreshed.
+     *
+     * @param family the endpoint family
+     * @param ttl how long a result is served without refreshing it
+     * @return this builder
+     * @see #statsTtl(EndpointFamily, Duration, Duration)
+     */
+    public Builder statsTtl(EndpointFamily family, Duration ttl) {
+      return statsTtl(family, ttl, ttl);
+    }
+
+    /**
+     * Caches the {@code stats()} results of an endpoint family with stale-while-revalidate. Calls
+     * within the TTL return the cached result; later calls still return it immediately while at
+     * most one background request per path refreshes it. Only once a result is older than the TTL
+     * plus {@code maxStale} do callers wait for a fresh one.
+     *
+     * @param family the endpoint family
+     * @param ttl how long a result is served without refreshing it
+     * @param maxStale how long past the TTL a result may still be served while refreshing
+     * @return this builder
+     */
+    public Builder statsTtl(EndpointFamily family, Duration ttl, Duration maxStale) {
+      statsTtls.put(family, new StatsTtl(ttl, maxStale));
+      return this;
+    }
+
+    /**
+     * Sets the default deadline for calls to an endpoint family. The deadline covers every attempt,
+     * backoff and wait; a retry that cannot start before it is not sent and the call fails with
+     * {@link com.mailbreeze.exceptions.DeadlineExceededException}. A deadline in {@link
+     * com.mailbreeze.http.RequestOptions} overrides it per call.
+     *
+     * @param family the endpoint family, e.g. {@link EndpointFamily#EMAILS}
+     * @param deadline the deadline (default: none)
+     * @return this builder
+     */
+    public Builder deadline(EndpointFamily family, Duration deadline) {
+      deadlines.put(family, deadline);
+      return this;
+    }
+
+    /**
+     * Sets the default timeout for each attempt of a call to an endpoint family, e.g. longer for
+     * {@link EndpointFamily#VERIFICATION} batches and shorter for sends. An attempt timeout in
+     * {@link com.mailbreeze.http.RequestOptions} overrides it per call.
+     *
+     * @param family the endpoint family
+     * @param attemptTimeout the per-attempt timeout (default: none beyond the client timeout)
+     * @return this builder
+     */
+    public Builder attemptTimeout(EndpointFamily family, Duration attemptTimeout) {
+      attemptTimeouts.put(family, attemptTimeout);
+      return this;
+    }
+
+    /**
+     * Limits concurrent async requests with a limit that adapts to observed latency and errors.
+     * Calls beyond the limit queue up to the configured size and are then rejected with {@link
+     * com.mailbreeze.exceptions.ConcurrencyLimitExceededException}.
+     *
+     * @param concurrencyLimit the limit configuration, e.g. {@code
+     *     ConcurrencyLimit.aimd().maxLimit(100).build()}
+     * @return this builder
+     */
+    public Builder concurrencyLimit(ConcurrencyLimit concurrencyLimit) {
+      this.concurrencyLimit = concurrencyLimit;
+      return this;
+    }
+
+    /**
+     * Caps the number of outstanding async requests so a fast producer cannot queue unbounded work.
+     * A request holds its permit until its future completes, retries included.
+     *
+     * @param maxInFlight the most async requests in flight at once (default: unlimited)
+     * @param overflowPolicy whether a call over the cap blocks, fails fast or returns a future that
+     *     waits for a permit
+     * @return this builder
+     */
+    public Builder maxInFlight(int maxInFlight, OverflowPolicy overflowPolicy) {
+      this.maxInFlight = maxInFlight;
+      this.overflowPolicy = overflowPolicy;
+      return this;
+    }
+
+    /**
+     * Adds a circuit breaker per endpoint family. While a family's breaker is open its calls fail
+     * immediately with {@link com.mailbreeze.exceptions.CircuitOpenException} instead of waiting
+     * for timeouts and retries.
+     *
+     * @param circuitBreaker the breaker configuration, e.g. {@code
+     *     CircuitBreaker.builder().failureRateThreshold(0.5).build()}
+     * @return this builder
+     */
+    public Builder circuitBreaker(CircuitBreaker circuitBreaker) {
+      this.circuitBreaker = circuitBreaker;
+      return this;
+    }
+
+    /**
+     * Hedges GET requests: when a response has not arrived after the policy's delay, a second copy
+     * is sent and whichever answers first wins. Hedges are capped by the policy's budget.
+     *
+     * @param hedgePolicy the hedge policy, e.g. {@code HedgePolicy.percentile(0.95).build()}
+     * @return this builder
+     */
+    public Builder hedging(HedgePolicy hedgePolicy) {
+      this.hedgePolicy = hedgePolicy;
+      return this;
+    }
+
+    /**
+     * Coalesces concurrent identical GETs, such as many threads calling {@code emails.stats()} at
+     * once: the first call goes out and the others share its result instead of sending their own
+     * request. Results are not cached beyond the in-flight request. GETs with {@link
+     * com.mailbreeze.http.RequestOptions} are never coalesced.
+     *
+     * <p>Coalesced callers receive the same model instance, not copies, so a caller that modifies
+     * the result changes it for every other caller of that request. Treat shared results as
+     * read-only.
+     *
+     * @param singleFlight whether to coalesce identical GETs (default: false)
+     * @return this builder
+     */
+    public Builder singleFlight(boolean singleFlight) {
+      this.singleFlight = singleFlight;
+      return this;
+    }
+
+    /**
+     * Caches GET responses such as {@code lists.list()}, {@code attachments.get(id)} and the
+     * {@code stats()} endpoints. Stored responses are revalidated with {@code If-None-Match} or
+     * {@code If-Modified-Since}, and a {@code 304 Not Modified} is answered from the stored body.
+     *
+     * @param responseCache the response cache, e.g. {@code ResponseCache.builder().build()}
+     * @return this builder
+     */
+    public Builder responseCache(ResponseCache responseCache) {
+      this.responseCache = responseCache;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of idle connections kept in the connection pool.
+     *
+     * @param maxIdleConnections the max idle connections (default: 5)
+     * @return this builder
+     */
+    public Builder maxIdleConnections(int maxIdleConnections) {
+      this.maxIdleConnections = maxIdleConnections;
+      return this;
+    }
+
+    /**
+     * Sets how long an idle connection is kept alive before it is evicted from the pool.
+     *
+     * @param keepAliveDuration the keep-alive duration (default: 5 minutes)
+     * @return this builder
+     */
+    public Builder keepAliveDuration(Duration keepAliveDuration) {
+      this.keepAliveDuration = keepAliveDuration;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of async requests executing concurrently.
+     *
+     * @param maxRequests the max concurrent requests (default: 64)
+     * @return this builder
+     */
+    public Builder maxRequests(int maxRequests) {
+      this.maxRequests = maxRequests;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of async requests executing concurrently against one host. All API
+     * calls go to a single host, so this is usually the effective concurrency limit.
+     *
+     * @param maxRequestsPerHost the max concurrent requests per host (default: 5)
+     * @return this builder
+     */
+    public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+      this.maxRequestsPerHost = maxRequestsPerHost;
+      return this;
+    }
+
+    /**
+     * Sets the executor that runs async requests. The caller owns the executor and is responsible
+     * for shutting it down.
+     *
+     * @param dispatcherExecutor the executor (default: an internal cached thread pool)
+     * @return this builder
+     */
+    public Builder dispatcherExecutor(ExecutorService dispatcherExecutor) {
+      this.dispatcherExecutor = dispatcherExecutor;
+      return this;
+    }
+
+    /**
+     * Sets the executor that parses async responses. Bodies are still read on the thread that
+     * received the response, but binding them into response objects, which is CPU-bound for large
+     * pages such as {@code contacts.list()}, moves to this executor so network callbacks are not
+     * held up. The caller owns the executor and is responsible for shutting it down.
+     *
+     * @param deserializationExecutor the executor (default: none, parse on the receiving thread)
+     * @return this builder
+     */
+    public Builder deserializationExecutor(Executor deserializationExecutor) {
+      this.deserializationExecutor = deserializationExecutor;
+      return this;
+    }
+
+    /**
+     * Enables the JSON performance profile. Jackson's Blackbird module is registered when {@code
+     * com.fasterxml.jackson.module:jackson-module-blackbird} is on the classpath, and readers and
+     * writers for the SDK's request and response models are resolved while the client is built
+     * rather than on each type's first request.
+     *
+     * @param jsonPerformanceProfile whether to enable the profile (default: false)
+     * @return this builder
+     */
+    public Builder jsonPerformanceProfile(boolean jsonPerformanceProfile) {
+      this.jsonPerformanceProfile = jsonPerformanceProfile;
+      return this;
+    }
+
+    /**
+     * Runs async requests on virtual threads instead of a platform thread pool. Detected at
+     * runtime: takes effect on JDK 21 and later and is ignored on older JDKs or when a dispatcher
+     * executor is set.
+     *
+     * <p>Synchronous methods run on the calling thread and hold no SDK monitor across network I/O
+     * or retry backoff, so those waits park a calling virtual thread. OkHttp 4 is the exception
+     * over HTTP/2: it waits for response headers inside a monitor, which pins the carrier thread.
+     * Use HTTP/1.1 or {@link com.mailbreeze.http.JdkHttpTransport} when many virtual threads call
+     * the SDK at once.
+     *
+     * @param virtualThreads whether to use virtual threads (default: false)
+     * @return this builder
+     */
+    public Builder virtualThreads(boolean virtualThreads) {
+      this.virtualThreads = virtualThreads;
+      return this;
+    }
+
+    /**
+     * Sets the HTTP protocol version. HTTP/2 multiplexes concurrent requests over a single
+     * connection instead of opening one connection per in-flight request.
+     *
+     * @param httpVersion the HTTP version (default: HTTP/2 with HTTP/1.1 fallback)
+     * @return this builder
+     */
+    public Builder httpVersion(HttpVersion httpVersion) {
+      this.httpVersion = httpVersion;
+      return this;
+    }
+
+    /**
+     * Sets how many requests to the API host may run at once when an HTTP/2 version is selected,
+     * in place of {@link #maxRequestsPerHost(int)}. This caps calls in flight on the client; it
+     * does not limit streams per connection, and OkHttp opens more connections when the server's
+     * stream limit is reached.
+     *
+     * @param maxConcurrentStreams the max concurrent streams
+     * @return this builder
+     */
+    public Builder maxConcurrentStreams(int maxConcurrentStreams) {
+      this.maxConcurrentStreams = maxConcurrentStreams;
+      return this;
+    }
+
+    /**
+     * Enables gzip compression ({@code Content-Encoding: gzip}) for request bodies whose JSON is at
+     * least the given size, such as sends with large HTML bodies or batch verifications with many
+     * addresses. Disabled by default.
+     *
+     * @param bytes the minimum JSON size in bytes to compress
+     * @return this builder
+     */
+    public Builder requestCompressionThreshold(long bytes) {
+      this.requestCompressionThreshold = bytes;
+      return this;
+    }
+
+    /**
+     * Sets the transport that executes requests. Pass the same transport to many MailBreeze
+     * instances so that clients with different API keys reuse one connection pool and dispatcher.
+     * Use {@link com.mailbreeze.http.JdkHttpTransport} to run on the JDK HTTP client instead of
+     * OkHttp. When set, the connection pool, dispatcher and HTTP version options on this builder
+     * are ignored.
+     *
+     * @param transport the shared transport
+     * @return this builder
+     */
+    public Builder transport(Transport transport) {
+      this.transport = transport;
+      return this;
+    }
+
+    /**
+     * Sets the tenant ID used for fair queuing on a shared transport. Clients with the same tenant
+     * ID share a queue; by default each client gets its own.
+     *
+     * @param tenantId the tenant ID
+     * @return this builder
+     */
+    public Builder tenantId(String tenantId) {
+      this.tenantId = tenantId;
+      return this;
+    }
+
     /**
      * Builds the MailBreeze client.
      *
      * @return a new MailBreeze client
-     * @throws IllegalArgumentException if API key is not set or is blank
+     * @throws IllegalArgumentException if API key is not set or is blank, or a pool or dispatcher
+     *     limit is out of range
      */
     public MailBreeze build() {
       if (apiKey == null || apiKey.isBlank()) {
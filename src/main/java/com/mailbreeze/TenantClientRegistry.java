@@ -0,0 +1,215 @@
+package com.mailbreeze;
+
+import com.mailbreeze.http.Transport;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Registry of per-tenant {@link MailBreeze} clients that share one {@link Transport}.
+ *
+ * <p>Clients are created on first use, bound to the tenant's API key, and evicted once they have
+ * been idle for longer than the configured idle timeout. Eviction runs lazily during {@link #get}
+ * and can also be triggered with {@link #evictIdle()}.
+ *
+ * <pre>{@code
+ * Transport transport = OkHttpTransport.builder().maxRequestsPerHost(64).build();
+ * TenantClientRegistry registry = TenantClientRegistry.builder()
+ *     .transport(transport)
+ *     .idleTimeout(Duration.ofMinutes(10))
+ *     .configure(builder -> builder.maxRetries(2))
+ *     .build();
+ *
+ * registry.get(account.getId(), account.getApiKey()).emails().send(params);
+ * }</pre>
+ *
+ * <p>This class is thread-safe.
+ */
+public final class TenantClientRegistry {
+
+  private final Transport transport;
+  private final long idleTimeoutNanos;
+  private final Consumer<MailBreeze.Builder> configurer;
+  private final LongSupplier nanoClock;
+  private final Map<String, Entry> clients = new ConcurrentHashMap<>();
+  private volatile long lastSweepNanos;
+
+  private TenantClientRegistry(Builder builder) {
+    this.transport = builder.transport;
+    this.idleTimeoutNanos = builder.idleTimeout.toNanos();
+    this.configurer = builder.configurer;
+    this.nanoClock = builder.nanoClock;
+    this.lastSweepNanos = nanoClock.getAsLong();
+  }
+
+  /**
+   * Creates a new builder for registry configuration.
+   *
+   * @return a new builder instance
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns the client for a tenant, creating it if needed. If the tenant's API key changed since
+   * the client was created, a new client is created with the new key.
+   *
+   * @param tenantId the tenant ID
+   * @param apiKey the tenant's API key
+   * @return the tenant's client
+   */
+  public MailBreeze get(String tenantId, String apiKey) {
+    long now = nanoClock.getAsLong();
+    if (now - lastSweepNanos >= idleTimeoutNanos) {
+      lastSweepNanos = now;
+      evictIdle(now);
+    }
+    // Touch the entry inside compute, so a concurrent sweep never sees it unstamped
+    Entry entry =
+        clients.compute(
+            tenantId,
+            (id, existing) -> {
+              Entry current =
+                  existing != null && existing.apiKey.equals(apiKey)
+                      ? existing
+                      : new Entry(apiKey, createClient(id, apiKey));
+              current.lastAccessNanos = now;
+              return current;
+            });
+    return entry.client;
+  }
+
+  /**
+   * Removes a tenant's client.
+   *
+   * @param tenantId the tenant ID
+   */
+  public void remove(String tenantId) {
+    clients.remove(tenantId);
+  }
+
+  /**
+   * Evicts clients that have been idle for longer than the idle timeout.
+   *
+   * @return the number of evicted clients
+   */
+  public int evictIdle() {
+    return evictIdle(nanoClock.getAsLong());
+  }
+
+  /**
+   * Returns the number of cached clients.
+   *
+   * @return the registry size
+   */
+  public int size() {
+    return clients.size();
+  }
+
+  private int evictIdle(long now) {
+    AtomicInteger evicted = new AtomicInteger();
+    for (String tenantId : clients.keySet()) {
+      // Decide under the key's lock, so an entry touched by get() in the meantime is kept
+      clients.computeIfPresent(
+          tenantId,
+          (id, entry) -> {
+            if (now - entry.lastAccessNanos <= idleTimeoutNanos) {
+              return entry;
+            }
+            evicted.incrementAndGet();
+            return null;
+          });
+    }
+    return evicted.get();
+  }
+
+  private MailBreeze createClient(String tenantId, String apiKey) {
+    MailBreeze.Builder builder = MailBreeze.builder();
+    if (configurer != null) {
+      configurer.accept(builder);
+    }
+    return builder.apiKey(apiKey).transport(transport).tenantId(tenantId).build();
+  }
+
+  private static final class Entry {
+    private final String apiKey;
+    private final MailBreeze client;
+    private volatile long lastAccessNanos;
+
+    private Entry(String apiKey, MailBreeze client) {
+      this.apiKey = apiKey;
+      this.client = client;
+    }
+  }
+
+  /** Builder for registry configuration. */
+  public static final class Builder {
+
+    private Transport transport;
+    private Duration idleTimeout = Duration.ofMinutes(30);
+    private Consumer<MailBreeze.Builder> configurer;
+    private LongSupplier nanoClock = System::nanoTime;
+
+    private Builder() {}
+
+    /**
+     * Sets the transport shared by all tenant clients.
+     *
+     * @param transport the shared transport (required)
+     * @return this builder
+     */
+    public Builder transport(Transport transport) {
+      this.transport = transport;
+      return this;
+    }
+
+    /**
+     * Sets how long a client may go unused before it is evicted.
+     *
+     * @param idleTimeout the idle timeout (default: 30 minutes)
+     * @return this builder
+     */
+    public Builder idleTimeout(Duration idleTimeout) {
+      this.idleTimeout = idleTimeout;
+      return this;
+    }
+
+    /**
+     * Sets a callback that applies common settings, such as timeout or retries, to each new client
+     * builder. The API key, transport and tenant ID are set by the registry.
+     *
+     * @param configurer the builder callback
+     * @return this builder
+     */
+    public Builder configure(Consumer<MailBreeze.Builder> configurer) {
+      this.configurer = configurer;
+      return this;
+    }
+
+    Builder nanoClock(LongSupplier nanoClock) {
+      this.nanoClock = nanoClock;
+      return this;
+    }
+
+    /**
+     * Builds the registry.
+     *
+     * @return a new registry
+     * @throws IllegalArgumentException if the transport is not set or the idle timeout is not
+     *     positive
+     */
+    public TenantClientRegistry build() {
+      if (transport == null) {
+        throw new IllegalArgumentException("transport is required");
+      }
+      if (idleTimeout == null || idleTimeout.isNegative() || idleTimeout.isZero()) {
+        throw new IllegalArgumentException("idleTimeout must be positive");
+      }
+      return new TenantClientRegistry(this);
+    }
+  }
+}
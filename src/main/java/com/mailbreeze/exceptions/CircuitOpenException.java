@@ -0,0 +1,20 @@
+package com.mailbreeze.exceptions;
+
+/**
+ * Thrown when a request is rejected because the circuit breaker for its endpoint family is open.
+ * The request was not sent.
+ */
+public class CircuitOpenException extends MailBreezeException {
+
+  public CircuitOpenException(String endpointFamily) {
+    super(
+        0,
+        "CIRCUIT_OPEN",
+        "Circuit breaker open for " + endpointFamily + " endpoints; request was not sent");
+  }
+
+  @Override
+  public boolean isRetryable() {
+    return false;
+  }
+}
@@ -0,0 +1,21 @@
+package com.mailbreeze.exceptions;
+
+/**
+ * Thrown when an async request is rejected because the client's concurrency limit, or its cap on
+ * in-flight async requests, is reached. The request was not sent.
+ */
+public class ConcurrencyLimitExceededException extends MailBreezeException {
+
+  public ConcurrencyLimitExceededException(int limit) {
+    this("Too many concurrent requests (limit " + limit + ")");
+  }
+
+  public ConcurrencyLimitExceededException(String message) {
+    super(0, "CONCURRENCY_LIMIT_EXCEEDED", message + "; request was not sent");
+  }
+
+  @Override
+  public boolean isRetryable() {
+    return false;
+  }
+}
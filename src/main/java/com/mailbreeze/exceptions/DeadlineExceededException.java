@@ -0,0 +1,28 @@
+package com.mailbreeze.exceptions;
+
+/**
+ * Thrown when a call's deadline passes before it succeeds. If an attempt failed before the
+ * deadline ran out, that failure is available as the cause.
+ */
+public class DeadlineExceededException extends MailBreezeException {
+
+  public DeadlineExceededException(long deadlineMillis, MailBreezeException lastError) {
+    super(
+        lastError != null ? lastError.getStatusCode() : 0,
+        "DEADLINE_EXCEEDED",
+        "Deadline of "
+            + deadlineMillis
+            + "ms exceeded"
+            + (lastError != null ? ": " + lastError.getMessage() : ""),
+        lastError != null ? lastError.getRequestId() : null,
+        lastError != null ? lastError.getDetails() : null);
+    if (lastError != null) {
+      initCause(lastError);
+    }
+  }
+
+  @Override
+  public boolean isRetryable() {
+    return false;
+  }
+}
@@ -0,0 +1,23 @@
+package com.mailbreeze.exceptions;
+
+/**
+ * Thrown instead of retrying when the client's retry budget is used up. The failure that would
+ * have been retried is available as the cause.
+ */
+public class RetryBudgetExhaustedException extends MailBreezeException {
+
+  public RetryBudgetExhaustedException(MailBreezeException lastError) {
+    super(
+        lastError.getStatusCode(),
+        "RETRY_BUDGET_EXHAUSTED",
+        "Retry budget exhausted: " + lastError.getMessage(),
+        lastError.getRequestId(),
+        lastError.getDetails());
+    initCause(lastError);
+  }
+
+  @Override
+  public boolean isRetryable() {
+    return false;
+  }
+}
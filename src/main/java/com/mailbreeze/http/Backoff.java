@@ -0,0 +1,39 @@
+package com.mailbreeze.http;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/** Computes retry delays from a base delay, a cap and a {@link Jitter} strategy. */
+final class Backoff {
+
+  private final long baseMillis;
+  private final long maxMillis;
+  private final Jitter jitter;
+
+  Backoff(Duration base, Duration max, Jitter jitter) {
+    this.baseMillis = base.toMillis();
+    this.maxMillis = max.toMillis();
+    this.jitter = jitter;
+  }
+
+  /**
+   * Returns the delay before the retry following the given attempt.
+   *
+   * @param attempt the zero-based attempt that just failed
+   * @param previousMillis the delay before that attempt, or 0 for the first attempt
+   * @return the delay in milliseconds, never above the cap
+   */
+  long delayMillis(int attempt, long previousMillis) {
+    long exponential = baseMillis << Math.min(attempt, 30);
+    long ceiling = exponential < 0 ? maxMillis : Math.min(maxMillis, exponential);
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    return switch (jitter) {
+      case NONE -> ceiling;
+      case FULL -> random.nextLong(ceiling + 1);
+      case DECORRELATED -> {
+        long previous = Math.max(previousMillis, baseMillis);
+        yield Math.min(maxMillis, random.nextLong(baseMillis, previous * 3 + 1));
+      }
+    };
+  }
+}
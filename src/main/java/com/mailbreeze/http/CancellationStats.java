@@ -0,0 +1,11 @@
+package com.mailbreeze.http;
+
+/**
+ * Async calls cancelled by the caller, including calls completed by {@code orTimeout}.
+ *
+ * @param cancelledBeforeSend calls cancelled while queued or waiting for a retry, before the next
+ *     request went out
+ * @param cancelledInFlight calls cancelled while a request was in flight; the HTTP call was
+ *     cancelled too
+ */
+public record CancellationStats(long cancelledBeforeSend, long cancelledInFlight) {}
@@ -0,0 +1,225 @@
+package com.mailbreeze.http;
+
+import java.time.Duration;
+
+/**
+ * Configuration for per-endpoint circuit breakers. Each {@link EndpointFamily} gets its own
+ * breaker built from this configuration.
+ *
+ * <p>A closed breaker records the outcome of the last {@link Builder#slidingWindowSize(int)} calls.
+ * Once at least {@link Builder#minimumCalls(int)} are recorded and either the share of 5xx and
+ * network failures or the share of slow calls reaches its threshold, the breaker opens: calls fail
+ * immediately with {@link com.mailbreeze.exceptions.CircuitOpenException} instead of waiting for
+ * timeouts and retries. After the open duration a few trial calls are let through; the breaker
+ * closes if they all succeed quickly and reopens otherwise.
+ *
+ * <pre>{@code
+ * MailBreeze mailbreeze = MailBreeze.builder()
+ *     .apiKey("sk_live_your_api_key")
+ *     .circuitBreaker(CircuitBreaker.builder()
+ *         .failureRateThreshold(0.5)
+ *         .slowCallDuration(Duration.ofSeconds(5))
+ *         .listener((family, from, to) -> log.warn("{} circuit {} -> {}", family, from, to))
+ *         .build())
+ *     .build();
+ * }</pre>
+ */
+public final class CircuitBreaker {
+
+  private final double failureRateThreshold;
+  private final double slowCallRateThreshold;
+  private final Duration slowCallDuration;
+  private final int slidingWindowSize;
+  private final int minimumCalls;
+  private final Duration openDuration;
+  private final int halfOpenCalls;
+  private final CircuitBreakerListener listener;
+
+  private CircuitBreaker(Builder builder) {
+    this.failureRateThreshold = builder.failureRateThreshold;
+    this.slowCallRateThreshold = builder.slowCallRateThreshold;
+    this.slowCallDuration = builder.slowCallDuration;
+    this.slidingWindowSize = builder.slidingWindowSize;
+    this.minimumCalls = builder.minimumCalls;
+    this.openDuration = builder.openDuration;
+    this.halfOpenCalls = builder.halfOpenCalls;
+    this.listener = builder.listener;
+  }
+
+  /**
+   * Creates a new builder for circuit breaker configuration.
+   *
+   * @return a new builder instance
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  double failureRateThreshold() {
+    return failureRateThreshold;
+  }
+
+  double slowCallRateThreshold() {
+    return slowCallRateThreshold;
+  }
+
+  Duration slowCallDuration() {
+    return slowCallDuration;
+  }
+
+  int slidingWindowSize() {
+    return slidingWindowSize;
+  }
+
+  int minimumCalls() {
+    return minimumCalls;
+  }
+
+  Duration openDuration() {
+    return openDuration;
+  }
+
+  int halfOpenCalls() {
+    return halfOpenCalls;
+  }
+
+  CircuitBreakerListener listener() {
+    return listener;
+  }
+
+  /** Builder for circuit breaker configuration. */
+  public static final class Builder {
+
+    private double failureRateThreshold = 0.5;
+    private double slowCallRateThreshold = 0.8;
+    private Duration slowCallDuration = Duration.ofSeconds(10);
+    private int slidingWindowSize = 50;
+    private int minimumCalls = 20;
+    private Duration openDuration = Duration.ofSeconds(30);
+    private int halfOpenCalls = 5;
+    private CircuitBreakerListener listener;
+
+    private Builder() {}
+
+    /**
+     * Sets the share of 5xx and network failures in the window at which the breaker opens.
+     *
+     * @param failureRateThreshold a rate between 0 (exclusive) and 1 (default: 0.5)
+     * @return this builder
+     */
+    public Builder failureRateThreshold(double failureRateThreshold) {
+      this.failureRateThreshold = failureRateThreshold;
+      return this;
+    }
+
+    /**
+     * Sets the share of slow calls in the window at which the breaker opens.
+     *
+     * @param slowCallRateThreshold a rate between 0 (exclusive) and 1 (default: 0.8)
+     * @return this builder
+     */
+    public Builder slowCallRateThreshold(double slowCallRateThreshold) {
+      this.slowCallRateThreshold = slowCallRateThreshold;
+      return this;
+    }
+
+    /**
+     * Sets the duration above which a call counts as slow, whether or not it succeeded.
+     *
+     * @param slowCallDuration the slow-call duration (default: 10 seconds)
+     * @return this builder
+     */
+    public Builder slowCallDuration(Duration slowCallDuration) {
+      this.slowCallDuration = slowCallDuration;
+      return this;
+    }
+
+    /**
+     * Sets how many of the most recent calls the failure and slow-call rates are computed over.
+     *
+     * @param slidingWindowSize the window size in calls (default: 50)
+     * @return this builder
+     */
+    public Builder slidingWindowSize(int slidingWindowSize) {
+      this.slidingWindowSize = slidingWindowSize;
+      return this;
+    }
+
+    /**
+     * Sets how many calls must be recorded before the rates are evaluated, so a handful of early
+     * failures cannot open the breaker.
+     *
+     * @param minimumCalls the minimum number of calls (default: 20)
+     * @return this builder
+     */
+    public Builder minimumCalls(int minimumCalls) {
+      this.minimumCalls = minimumCalls;
+      return this;
+    }
+
+    /**
+     * Sets how long the breaker stays open before letting trial calls through.
+     *
+     * @param openDuration the open duration (default: 30 seconds)
+     * @return this builder
+     */
+    public Builder openDuration(Duration openDuration) {
+      this.openDuration = openDuration;
+      return this;
+    }
+
+    /**
+     * Sets how many trial calls a half-open breaker lets through. The breaker closes once all of
+     * them succeed and reopens on the first failed or slow one.
+     *
+     * @param halfOpenCalls the number of trial calls (default: 5)
+     * @return this builder
+     */
+    public Builder halfOpenCalls(int halfOpenCalls) {
+      this.halfOpenCalls = halfOpenCalls;
+      return this;
+    }
+
+    /**
+     * Sets a listener notified of every state transition.
+     *
+     * @param listener the listener (default: none)
+     * @return this builder
+     */
+    public Builder listener(CircuitBreakerListener listener) {
+      this.listener = listener;
+      return this;
+    }
+
+    /**
+     * Builds the circuit breaker configuration.
+     *
+     * @return a new circuit breaker configuration
+     * @throws IllegalArgumentException if a setting is out of range
+     */
+    public CircuitBreaker build() {
+      if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+        throw new IllegalArgumentException("failureRateThreshold must be > 0 and <= 1");
+      }
+      if (!(slowCallRateThreshold > 0 && slowCallRateThreshold <= 1)) {
+        throw new IllegalArgumentException("slowCallRateThreshold must be > 0 and <= 1");
+      }
+      if (slowCallDuration == null || slowCallDuration.isNegative() || slowCallDuration.isZero()) {
+        throw new IllegalArgumentException("slowCallDuration must be positive");
+      }
+      if (slidingWindowSize < 1) {
+        throw new IllegalArgumentException("slidingWindowSize must be >= 1");
+      }
+      if (minimumCalls < 1 || minimumCalls > slidingWindowSize) {
+        throw new IllegalArgumentException("minimumCalls must be between 1 and slidingWindowSize");
+      }
+      if (openDuration == null || openDuration.isNegative() || openDuration.isZero()) {
+        throw new IllegalArgumentException("openDuration must be positive");
+      }
+      if (halfOpenCalls < 1) {
+        throw new IllegalArgumentException("halfOpenCalls must be >= 1");
+      }
+      return new CircuitBreaker(this);
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package com.mailbreeze.http;
+
+/**
+ * Receives circuit breaker state transitions. Called on the thread that caused the transition, so
+ * implementations must be quick and must not throw.
+ */
+@FunctionalInterface
+public interface CircuitBreakerListener {
+
+  /**
+   * Called after an endpoint family's circuit changes state.
+   *
+   * @param family the endpoint family
+   * @param from the previous state
+   * @param to the new state
+   */
+  void onStateChange(EndpointFamily family, CircuitState from, CircuitState to);
+}
@@ -0,0 +1,19 @@
+package com.mailbreeze.http;
+
+/**
+ * Circuit breaker state for one endpoint family.
+ *
+ * @param state the current state
+ * @param failureRate share of recorded calls that failed with a 5xx or network error
+ * @param slowCallRate share of recorded calls slower than the slow-call duration
+ * @param bufferedCalls calls in the sliding window
+ * @param notPermittedCalls calls failed fast while the circuit was open or half-open
+ * @param transitions state changes since the client was created
+ */
+public record CircuitBreakerStats(
+    CircuitState state,
+    double failureRate,
+    double slowCallRate,
+    int bufferedCalls,
+    long notPermittedCalls,
+    long transitions) {}
@@ -0,0 +1,231 @@
+package com.mailbreeze.http;
+
+import com.mailbreeze.exceptions.MailBreezeException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * One circuit breaker per {@link EndpointFamily}, all built from the same {@link CircuitBreaker}
+ * configuration.
+ *
+ * <p>Callers ask {@link #tryAcquire} before each attempt and report its outcome with {@link
+ * #onResult}, or hand the permit back with {@link #release} if the attempt is abandoned before it
+ * is sent or answered. A closed breaker is checked with a single volatile read, and an open one
+ * with a lock and a clock read, so rejected calls fail without touching the network.
+ */
+final class CircuitBreakers {
+
+  private static final byte FAILED = 1;
+  private static final byte SLOW = 2;
+
+  private final CircuitBreaker config;
+  private final Map<EndpointFamily, Circuit> circuits;
+  private final LongSupplier nanoClock;
+  private final long slowCallNanos;
+  private final long openNanos;
+
+  CircuitBreakers(CircuitBreaker config) {
+    this(config, System::nanoTime);
+  }
+
+  CircuitBreakers(CircuitBreaker config, LongSupplier nanoClock) {
+    this.config = config;
+    this.nanoClock = nanoClock;
+    this.slowCallNanos = config.slowCallDuration().toNanos();
+    this.openNanos = config.openDuration().toNanos();
+    Map<EndpointFamily, Circuit> byFamily = new EnumMap<>(EndpointFamily.class);
+    for (EndpointFamily family : EndpointFamily.values()) {
+      byFamily.put(family, new Circuit(family));
+    }
+    this.circuits = byFamily;
+  }
+
+  /**
+   * Returns true if a request to the given family may be sent. A half-open breaker admits only its
+   * trial calls.
+   */
+  boolean tryAcquire(EndpointFamily family) {
+    Circuit circuit = circuits.get(family);
+    return circuit.state == CircuitState.CLOSED || circuit.tryAcquire();
+  }
+
+  /**
+   * Records the outcome of a request admitted by {@link #tryAcquire}.
+   *
+   * @param elapsedNanos how long the request took
+   * @param error the failure, or null if the request succeeded
+   */
+  void onResult(EndpointFamily family, long elapsedNanos, Throwable error) {
+    byte outcome = 0;
+    if (isFailure(error)) {
+      outcome |= FAILED;
+    }
+    if (elapsedNanos >= slowCallNanos) {
+      outcome |= SLOW;
+    }
+    circuits.get(family).record(outcome);
+  }
+
+  /**
+   * Returns a permit from {@link #tryAcquire} whose request was abandoned without an outcome, such
+   * as one cancelled or timed out before it was sent. A half-open breaker can then admit another
+   * trial call in its place.
+   */
+  void release(EndpointFamily family) {
+    Circuit circuit = circuits.get(family);
+    if (circuit.state != CircuitState.CLOSED) {
+      circuit.release();
+    }
+  }
+
+  /** Returns true if a failure counts against the breaker: a 5xx or a network error. */
+  static boolean isFailure(Throwable error) {
+    if (error instanceof MailBreezeException mbe) {
+      return mbe.getStatusCode() >= 500 || "NETWORK_ERROR".equals(mbe.getCode());
+    }
+    return false;
+  }
+
+  Map<EndpointFamily, CircuitBreakerStats> stats() {
+    Map<EndpointFamily, CircuitBreakerStats> stats = new EnumMap<>(EndpointFamily.class);
+    circuits.forEach((family, circuit) -> stats.put(family, circuit.stats()));
+    return Collections.unmodifiableMap(stats);
+  }
+
+  private void fireStateChange(EndpointFamily family, CircuitState from, CircuitState to) {
+    CircuitBreakerListener listener = config.listener();
+    if (listener != null && from != to) {
+      listener.onStateChange(family, from, to);
+    }
+  }
+
+  /** Breaker for one family. State changes happen under the monitor; reads of state do not. */
+  private final class Circuit {
+    private final EndpointFamily family;
+    private final byte[] window = new byte[config.slidingWindowSize()];
+    private volatile CircuitState state = CircuitState.CLOSED;
+    private int next;
+    private int buffered;
+    private int failed;
+    private int slow;
+    private long openUntil;
+    private int trialsPermitted;
+    private int trialsSucceeded;
+    private long notPermitted;
+    private long transitions;
+
+    Circuit(EndpointFamily family) {
+      this.family = family;
+    }
+
+    boolean tryAcquire() {
+      CircuitState from;
+      synchronized (this) {
+        from = state;
+        long now = nanoClock.getAsLong();
+        if (state == CircuitState.CLOSED) {
+          return true;
+        }
+        if (now - openUntil < 0) {
+          // Still open, or half-open with all trial calls in flight
+          if (state == CircuitState.HALF_OPEN && trialsPermitted < config.halfOpenCalls()) {
+            trialsPermitted++;
+            return true;
+          }
+          notPermitted++;
+          return false;
+        }
+        // Open duration over, or trial calls that never reported back: start a new trial round
+        transition(CircuitState.HALF_OPEN);
+        openUntil = now + openNanos;
+        trialsPermitted = 1;
+        trialsSucceeded = 0;
+      }
+      fireStateChange(family, from, CircuitState.HALF_OPEN);
+      return true;
+    }
+
+    synchronized void release() {
+      if (state == CircuitState.HALF_OPEN && trialsPermitted > 0) {
+        trialsPermitted--;
+      }
+    }
+
+    void record(byte outcome) {
+      CircuitState from;
+      CircuitState to;
+      synchronized (this) {
+        from = state;
+        switch (state) {
+          case CLOSED -> {
+            add(outcome);
+            if (buffered >= config.minimumCalls()
+                && (failed >= config.failureRateThreshold() * buffered
+                    || slow >= config.slowCallRateThreshold() * buffered)) {
+              open();
+            }
+          }
+          case HALF_OPEN -> {
+            if (outcome != 0) {
+              open();
+            } else if (++trialsSucceeded >= config.halfOpenCalls()) {
+              transition(CircuitState.CLOSED);
+              clear();
+            }
+          }
+          case OPEN -> {
+            // Late outcome of a call sent before the breaker opened
+          }
+        }
+        to = state;
+      }
+      fireStateChange(family, from, to);
+    }
+
+    private void open() {
+      transition(CircuitState.OPEN);
+      openUntil = nanoClock.getAsLong() + openNanos;
+      clear();
+    }
+
+    private void transition(CircuitState to) {
+      if (state != to) {
+        state = to;
+        transitions++;
+      }
+    }
+
+    private void add(byte outcome) {
+      if (buffered == window.length) {
+        byte evicted = window[next];
+        failed -= evicted & FAILED;
+        slow -= (evicted & SLOW) >> 1;
+      } else {
+        buffered++;
+      }
+      window[next] = outcome;
+      next = (next + 1) % window.length;
+      failed += outcome & FAILED;
+      slow += (outcome & SLOW) >> 1;
+    }
+
+    private void clear() {
+      next = 0;
+      buffered = 0;
+      failed = 0;
+      slow = 0;
+    }
+
+    synchronized CircuitBreakerStats stats() {
+      return new CircuitBreakerStats(
+          state,
+          buffered == 0 ? 0 : (double) failed / buffered,
+          buffered == 0 ? 0 : (double) slow / buffered,
+          buffered,
+          notPermitted,
+          transitions);
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package com.mailbreeze.http;
+
+/** States of an endpoint family's circuit breaker. */
+public enum CircuitState {
+  /** Requests are sent and their outcomes recorded. */
+  CLOSED,
+
+  /** Requests fail immediately without being sent until the open duration has passed. */
+  OPEN,
+
+  /** A limited number of trial requests are sent to decide whether to close or reopen. */
+  HALF_OPEN
+}
@@ -0,0 +1,166 @@
+package com.mailbreeze.http;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Live metrics for a {@link MailBreezeHttpClient}. Each accessor returns a fresh snapshot, so
+ * values can be polled periodically and exported to a metrics system.
+ */
+public final class ClientMetrics {
+
+  private final MailBreezeHttpClient httpClient;
+
+  ClientMetrics(MailBreezeHttpClient httpClient) {
+    this.httpClient = httpClient;
+  }
+
+  /**
+   * Returns connection pool and dispatcher statistics.
+   *
+   * @return the current pool statistics
+   */
+  public PoolStats pool() {
+    return httpClient.poolStats();
+  }
+
+  /**
+   * Returns stream usage for each pooled connection, showing how many requests are multiplexed on
+   * each HTTP/2 connection.
+   *
+   * @return per-connection stream statistics
+   */
+  public List<ConnectionStats> connections() {
+    return httpClient.connectionStats();
+  }
+
+  /**
+   * Returns raw and compressed byte totals for gzip-compressed request bodies.
+   *
+   * @return request compression statistics
+   */
+  public CompressionStats compression() {
+    return httpClient.compressionStats();
+  }
+
+  /**
+   * Returns retry scheduler statistics: waits pending, time spent waiting, and endpoints paused by
+   * {@code Retry-After}.
+   *
+   * @return retry statistics
+   */
+  public RetryStats retries() {
+    return httpClient.retryStats();
+  }
+
+  /**
+   * Returns how many retries the retry budget allowed and denied. All zero when no budget is
+   * configured.
+   *
+   * @return retry budget statistics
+   */
+  public RetryBudgetStats retryBudget() {
+    return httpClient.retryBudgetStats();
+  }
+
+  /**
+   * Returns client-side rate limiter state for each rate-limited endpoint family.
+   *
+   * @return rate limiter statistics by endpoint family
+   */
+  public Map<EndpointFamily, RateLimitStats> rateLimits() {
+    return httpClient.rateLimitStats();
+  }
+
+  /**
+   * Returns the adaptive concurrency limit, in-flight async requests and rejected calls. All zero
+   * when no concurrency limit is configured.
+   *
+   * @return concurrency limiter statistics
+   */
+  public ConcurrencyStats concurrency() {
+    return httpClient.concurrencyStats();
+  }
+
+  /**
+   * Returns the cap on in-flight async requests, how many calls are waiting for a permit and how
+   * long they waited. Producers can watch {@link InFlightStats#queued()} to throttle themselves.
+   * All zero when no cap is configured.
+   *
+   * @return in-flight cap statistics
+   */
+  public InFlightStats inFlight() {
+    return httpClient.inFlightStats();
+  }
+
+  /**
+   * Returns circuit breaker state, failure and slow-call rates for each endpoint family. Empty
+   * when no circuit breaker is configured; use {@link CircuitBreaker.Builder#listener} to be
+   * notified of transitions as they happen.
+   *
+   * @return circuit breaker statistics by endpoint family
+   */
+  public Map<EndpointFamily, CircuitBreakerStats> circuitBreakers() {
+    return httpClient.circuitBreakerStats();
+  }
+
+  /**
+   * Returns how many GETs were hedged, how many the second copy answered first and how many the
+   * hedge budget denied. All zero when hedging is not configured.
+   *
+   * @return hedging statistics
+   */
+  public HedgeStats hedging() {
+    return httpClient.hedgeStats();
+  }
+
+  /**
+   * Returns how many async calls were cancelled, or timed out via {@code orTimeout}, before their
+   * request was sent and while it was in flight.
+   *
+   * @return cancellation statistics
+   */
+  public CancellationStats cancellations() {
+    return httpClient.cancellationStats();
+  }
+
+  /**
+   * Returns how many GETs went out as their own request and how many shared an identical one
+   * already in flight. All zero when single-flight coalescing is not enabled.
+   *
+   * @return single-flight statistics
+   */
+  public SingleFlightStats singleFlight() {
+    return httpClient.singleFlightStats();
+  }
+
+  /**
+   * Returns response cache hits, revalidations and misses for each endpoint family that has served
+   * a GET since the client was created. Empty when no response cache is configured.
+   *
+   * @return response cache statistics by endpoint family
+   */
+  public Map<EndpointFamily, ResponseCacheStats> responseCache() {
+    return httpClient.responseCacheStats();
+  }
+
+  /**
+   * Returns stats cache hits, misses and refresh failures, and how old each cached result is.
+   * All zero when no stats TTL is configured.
+   *
+   * @return stats cache statistics
+   */
+  public StatsCacheStats statsCache() {
+    return httpClient.statsCacheStats();
+  }
+
+  /**
+   * Returns time spent waiting for response headers, reading bodies and binding them, and how long
+   * offloaded responses waited for a deserialization executor thread.
+   *
+   * @return per-stage response timings
+   */
+  public StageTimingStats stageTimings() {
+    return httpClient.stageTimingStats();
+  }
+}
@@ -0,0 +1,23 @@
+package com.mailbreeze.http;
+
+/**
+ * Sizes of gzip-compressed request bodies. {@link ClientMetrics#compression()} reports totals
+ * across the client; each compressed request also carries its own sizes as a request tag, with
+ * {@code compressedRequests} of 1, readable by a {@link Transport} through {@code
+ * request.tag(CompressionStats.class)}.
+ *
+ * @param compressedRequests request bodies sent with {@code Content-Encoding: gzip}
+ * @param rawBytes JSON size of those bodies before compression
+ * @param compressedBytes bytes actually sent for those bodies
+ */
+public record CompressionStats(long compressedRequests, long rawBytes, long compressedBytes) {
+
+  /**
+   * Returns compressed size as a fraction of raw size, or 1.0 if nothing was compressed.
+   *
+   * @return the compression ratio
+   */
+  public double ratio() {
+    return rawBytes == 0 ? 1.0 : (double) compressedBytes / rawBytes;
+  }
+}
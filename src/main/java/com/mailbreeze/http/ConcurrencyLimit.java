@@ -0,0 +1,197 @@
+package com.mailbreeze.http;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the adaptive limit on concurrent async requests.
+ *
+ * <p>The limit is resized from observed latency and errors: {@link #aimd()} grows it by one while
+ * requests succeed and cuts it on errors or slow responses, and {@link #gradient()} shrinks it as
+ * latency rises above the long-term baseline, in the style of TCP Vegas. Calls beyond the limit
+ * wait in a bounded queue, or are rejected with {@link
+ * com.mailbreeze.exceptions.ConcurrencyLimitExceededException} once the queue is full:
+ *
+ * <pre>{@code
+ * MailBreeze mailbreeze = MailBreeze.builder()
+ *     .apiKey("sk_live_your_api_key")
+ *     .concurrencyLimit(ConcurrencyLimit.gradient().maxLimit(128).maxQueued(1000).build())
+ *     .build();
+ * }</pre>
+ */
+public final class ConcurrencyLimit {
+
+  /** Algorithms that resize the limit. */
+  public enum Algorithm {
+    /** Additive increase, multiplicative decrease on errors and slow responses. */
+    AIMD,
+
+    /** Scales the limit by the ratio of baseline latency to current latency. */
+    GRADIENT
+  }
+
+  private final Algorithm algorithm;
+  private final int initialLimit;
+  private final int minLimit;
+  private final int maxLimit;
+  private final int maxQueued;
+  private final double backoffRatio;
+  private final Duration latencyThreshold;
+
+  private ConcurrencyLimit(Builder builder) {
+    this.algorithm = builder.algorithm;
+    this.initialLimit = builder.initialLimit;
+    this.minLimit = builder.minLimit;
+    this.maxLimit = builder.maxLimit;
+    this.maxQueued = builder.maxQueued;
+    this.backoffRatio = builder.backoffRatio;
+    this.latencyThreshold = builder.latencyThreshold;
+  }
+
+  /**
+   * Creates a builder for an AIMD limit.
+   *
+   * @return a new builder instance
+   */
+  public static Builder aimd() {
+    return new Builder(Algorithm.AIMD);
+  }
+
+  /**
+   * Creates a builder for a gradient limit.
+   *
+   * @return a new builder instance
+   */
+  public static Builder gradient() {
+    return new Builder(Algorithm.GRADIENT);
+  }
+
+  Algorithm algorithm() {
+    return algorithm;
+  }
+
+  int maxQueued() {
+    return maxQueued;
+  }
+
+  LimitAlgorithm newAlgorithm() {
+    return switch (algorithm) {
+      case AIMD ->
+          new LimitAlgorithm.Aimd(
+              initialLimit, minLimit, maxLimit, backoffRatio, latencyThreshold.toNanos());
+      case GRADIENT -> new LimitAlgorithm.Gradient(initialLimit, minLimit, maxLimit, backoffRatio);
+    };
+  }
+
+  /** Builder for concurrency limit configuration. */
+  public static final class Builder {
+
+    private final Algorithm algorithm;
+    private int initialLimit = 20;
+    private int minLimit = 1;
+    private int maxLimit = 200;
+    private int maxQueued;
+    private double backoffRatio = 0.9;
+    private Duration latencyThreshold = Duration.ofSeconds(5);
+
+    private Builder(Algorithm algorithm) {
+      this.algorithm = algorithm;
+    }
+
+    /**
+     * Sets the limit used before any latency has been observed.
+     *
+     * @param initialLimit the initial limit (default: 20)
+     * @return this builder
+     */
+    public Builder initialLimit(int initialLimit) {
+      this.initialLimit = initialLimit;
+      return this;
+    }
+
+    /**
+     * Sets the lowest the limit may shrink to.
+     *
+     * @param minLimit the minimum limit (default: 1)
+     * @return this builder
+     */
+    public Builder minLimit(int minLimit) {
+      this.minLimit = minLimit;
+      return this;
+    }
+
+    /**
+     * Sets the highest the limit may grow to.
+     *
+     * @param maxLimit the maximum limit (default: 200)
+     * @return this builder
+     */
+    public Builder maxLimit(int maxLimit) {
+      this.maxLimit = maxLimit;
+      return this;
+    }
+
+    /**
+     * Sets how many calls may wait for a slot once the limit is reached. Further calls are rejected
+     * immediately.
+     *
+     * @param maxQueued the queue size (default: 0, reject as soon as the limit is reached)
+     * @return this builder
+     */
+    public Builder maxQueued(int maxQueued) {
+      this.maxQueued = maxQueued;
+      return this;
+    }
+
+    /**
+     * Sets the factor the limit is multiplied by after an error response, network failure or,
+     * for AIMD, a response slower than the latency threshold.
+     *
+     * @param backoffRatio the backoff ratio (default: 0.9)
+     * @return this builder
+     */
+    public Builder backoffRatio(double backoffRatio) {
+      this.backoffRatio = backoffRatio;
+      return this;
+    }
+
+    /**
+     * Sets the latency above which AIMD treats a response as a sign of overload. Ignored by the
+     * gradient algorithm, which tracks latency continuously.
+     *
+     * @param latencyThreshold the latency threshold (default: 5 seconds)
+     * @return this builder
+     */
+    public Builder latencyThreshold(Duration latencyThreshold) {
+      this.latencyThreshold = latencyThreshold;
+      return this;
+    }
+
+    /**
+     * Builds the concurrency limit.
+     *
+     * @return a new concurrency limit
+     * @throws IllegalArgumentException if a setting is out of range
+     */
+    public ConcurrencyLimit build() {
+      if (minLimit < 1) {
+        throw new IllegalArgumentException("minLimit must be >= 1");
+      }
+      if (maxLimit < minLimit) {
+        throw new IllegalArgumentException("maxLimit must be >= minLimit");
+      }
+      if (initialLimit < minLimit || initialLimit > maxLimit) {
+        throw new IllegalArgumentException("initialLimit must be between minLimit and maxLimit");
+      }
+      if (maxQueued < 0) {
+        throw new IllegalArgumentException("maxQueued must be >= 0");
+      }
+      if (!(backoffRatio > 0 && backoffRatio < 1)) {
+        throw new IllegalArgumentException("backoffRatio must be > 0 and < 1");
+      }
+      if (latencyThreshold == null || latencyThreshold.isNegative() || latencyThreshold.isZero()) {
+        throw new IllegalArgumentException("latencyThreshold must be positive");
+      }
+      return new ConcurrencyLimit(this);
+    }
+  }
+}
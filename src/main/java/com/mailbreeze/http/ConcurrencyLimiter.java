@@ -0,0 +1,162 @@
+package com.mailbreeze.http;
+
+import com.mailbreeze.exceptions.ConcurrencyLimitExceededException;
+import com.mailbreeze.exceptions.MailBreezeException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caps concurrent async requests at a limit that a {@link LimitAlgorithm} resizes from observed
+ * latency and errors. Calls over the limit wait in a bounded FIFO queue or are rejected. A waiter
+ * that is cancelled leaves the queue, and freed slots are granted on the grant executor so that
+ * the waiter's request does not run on the releasing thread.
+ */
+final class ConcurrencyLimiter {
+
+  private final LimitAlgorithm algorithm;
+  private final int maxQueued;
+  private final Executor grantExecutor;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final ArrayDeque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+  private final LongAdder rejected = new LongAdder();
+  private int inFlight;
+
+  ConcurrencyLimiter(ConcurrencyLimit config) {
+    this(config, Runnable::run);
+  }
+
+  /**
+   * @param grantExecutor completes the future of a waiter that is handed a freed slot; a rejected
+   *     grant completes on the releasing thread
+   */
+  ConcurrencyLimiter(ConcurrencyLimit config, Executor grantExecutor) {
+    this.algorithm = config.newAlgorithm();
+    this.maxQueued = config.maxQueued();
+    this.grantExecutor = grantExecutor;
+  }
+
+  /**
+   * Acquires a slot. The returned future completes with a permit once a slot is free, or fails
+   * with {@link ConcurrencyLimitExceededException} if the queue is full.
+   */
+  CompletableFuture<Permit> acquire() {
+    lock.lock();
+    try {
+      if (inFlight < algorithm.limit()) {
+        inFlight++;
+        return CompletableFuture.completedFuture(new Permit());
+      }
+      if (waiters.size() < maxQueued) {
+        CompletableFuture<Permit> waiter = new CompletableFuture<>();
+        waiters.add(waiter);
+        waiter.whenComplete(
+            (permit, error) -> {
+              if (waiter.isCancelled()) {
+                remove(waiter);
+              }
+            });
+        return waiter;
+      }
+      rejected.increment();
+      return CompletableFuture.failedFuture(
+          new ConcurrencyLimitExceededException(algorithm.limit()));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void remove(CompletableFuture<Permit> waiter) {
+    lock.lock();
+    try {
+      waiters.remove(waiter);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  ConcurrencyStats stats() {
+    lock.lock();
+    try {
+      return new ConcurrencyStats(algorithm.limit(), inFlight, waiters.size(), rejected.sum());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns true if a failure signals that the API is overloaded: a 5xx, a 429 or a network error.
+   */
+  static boolean isOverload(Throwable error) {
+    if (error instanceof MailBreezeException mbe) {
+      int status = mbe.getStatusCode();
+      return status >= 500 || status == 429 || "NETWORK_ERROR".equals(mbe.getCode());
+    }
+    return false;
+  }
+
+  /** Frees a slot, feeding the request's outcome to the algorithm unless it was never sent. */
+  private void release(long rttNanos, boolean dropped, boolean sampled) {
+    List<CompletableFuture<Permit>> granted = new ArrayList<>();
+    lock.lock();
+    try {
+      if (sampled) {
+        algorithm.onSample(rttNanos, inFlight, dropped);
+      }
+      inFlight--;
+      while (inFlight < algorithm.limit() && !waiters.isEmpty()) {
+        CompletableFuture<Permit> waiter = waiters.poll();
+        // Skip a waiter cancelled before its removal took the lock
+        if (!waiter.isDone()) {
+          inFlight++;
+          granted.add(waiter);
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+    for (CompletableFuture<Permit> waiter : granted) {
+      grant(waiter);
+    }
+  }
+
+  /** Completes a waiter outside the lock; one cancelled since the poll frees its slot again. */
+  private void grant(CompletableFuture<Permit> waiter) {
+    Runnable complete =
+        () -> {
+          if (!waiter.complete(new Permit())) {
+            release(0, false, false);
+          }
+        };
+    try {
+      grantExecutor.execute(complete);
+    } catch (RejectedExecutionException e) {
+      complete.run();
+    }
+  }
+
+  /** A held slot. Released exactly once with the outcome of the request it covered. */
+  final class Permit {
+    private final long startNanos = System.nanoTime();
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    void release(Throwable error) {
+      if (released.compareAndSet(false, true)) {
+        ConcurrencyLimiter.this.release(System.nanoTime() - startNanos, isOverload(error), true);
+      }
+    }
+
+    /** Frees the slot without a sample, for a request cancelled by the caller. */
+    void cancel() {
+      if (released.compareAndSet(false, true)) {
+        ConcurrencyLimiter.this.release(0, false, false);
+      }
+    }
+  }
+}
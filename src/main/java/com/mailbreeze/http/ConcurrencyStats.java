@@ -0,0 +1,11 @@
+package com.mailbreeze.http;
+
+/**
+ * Adaptive concurrency limiter state.
+ *
+ * @param limit the current limit on concurrent async requests
+ * @param inFlight async requests currently in flight
+ * @param queued calls waiting for a slot
+ * @param rejected calls rejected because the limit and queue were full
+ */
+public record ConcurrencyStats(int limit, int inFlight, int queued, long rejected) {}
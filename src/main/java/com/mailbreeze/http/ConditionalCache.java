@@ -0,0 +1,415 @@
+package com.mailbreeze.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import okhttp3.CacheControl;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Conditional-GET cache with an in-memory LRU tier and an optional disk tier.
+ *
+ * <p>Entries hold the raw response body, so every hit is decoded afresh and callers never share
+ * mutable model objects. Memory is the source of truth for a running client; the disk tier is
+ * consulted on a memory miss and written through on every store. Disk failures are ignored: the
+ * cache is an optimization, so an unreadable or unwritable entry just means a full fetch.
+ *
+ * <p>The disk tier keeps an in-memory index of its files in least recently used order, loaded when
+ * the cache is created. A memory miss for a URL that is not on disk costs no I/O, and trimming the
+ * tier never lists the directory. Entries written by another process after this cache was created
+ * are not seen until the next start.
+ */
+final class ConditionalCache {
+
+  private static final int DISK_FORMAT = 1;
+  private static final String DISK_SUFFIX = ".entry";
+  private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+  private final long maxMemoryBytes;
+  private final Path diskDirectory;
+  private final long maxDiskBytes;
+  private final String apiKey;
+  private final LongSupplier clock;
+  private final LinkedHashMap<String, Entry> memory = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<EndpointFamily, Counters> counters = new EnumMap<>(EndpointFamily.class);
+  // File names to sizes in access order; a ReentrantLock so disk I/O never pins a virtual thread
+  private final LinkedHashMap<String, Long> diskIndex = new LinkedHashMap<>(16, 0.75f, true);
+  private final ReentrantLock diskLock = new ReentrantLock();
+  private long memoryBytes;
+  private long diskBytes;
+
+  ConditionalCache(ResponseCache config, String apiKey) {
+    this(config, apiKey, System::currentTimeMillis);
+  }
+
+  ConditionalCache(ResponseCache config, String apiKey, LongSupplier clock) {
+    this.maxMemoryBytes = config.maxMemoryBytes();
+    this.diskDirectory = config.diskDirectory();
+    this.maxDiskBytes = config.maxDiskBytes();
+    this.apiKey = apiKey;
+    this.clock = clock;
+    for (EndpointFamily family : EndpointFamily.values()) {
+      counters.put(family, new Counters());
+    }
+    if (diskDirectory != null) {
+      try {
+        Files.createDirectories(diskDirectory);
+        List<Path> files;
+        try (Stream<Path> entries = diskEntries()) {
+          files = entries.sorted(Comparator.comparingLong(ConditionalCache::modifiedAt)).toList();
+        }
+        for (Path file : files) {
+          long size = sizeOf(file);
+          diskIndex.put(file.getFileName().toString(), size);
+          diskBytes += size;
+        }
+      } catch (IOException e) {
+        throw new IllegalArgumentException("Cannot use cache directory " + diskDirectory, e);
+      }
+    }
+  }
+
+  /**
+   * Looks up a GET once for the whole call: returns a response built from a fresh entry, or the
+   * request to send, carrying the stored entry's validators if there is one.
+   */
+  Lookup lookup(Request request) {
+    Entry entry = lookup(request.url().toString());
+    if (entry == null) {
+      return new Lookup(null, request);
+    }
+    if (entry.freshUntilMillis() > clock.getAsLong()) {
+      counters(request).hits.increment();
+      Response fresh =
+          new Response.Builder()
+              .request(request)
+              .protocol(Protocol.HTTP_1_1)
+              .code(200)
+              .message("OK")
+              .body(ResponseBody.create(entry.body(), JSON))
+              .build();
+      return new Lookup(fresh, request);
+    }
+    Request.Builder builder = request.newBuilder().tag(Entry.class, entry);
+    if (entry.etag() != null) {
+      builder.header("If-None-Match", entry.etag());
+    }
+    if (entry.lastModified() != null) {
+      builder.header("If-Modified-Since", entry.lastModified());
+    }
+    return new Lookup(null, builder.build());
+  }
+
+  /**
+   * Stores a cacheable GET response or answers a {@code 304} from the entry it revalidated, and
+   * drops the entry for a URL changed by a successful POST, PUT, PATCH or DELETE. Returns the
+   * response to decode, which no longer reads from the network when its body was buffered.
+   *
+   * @throws IOException if a cacheable response body cannot be read
+   */
+  Response onResponse(Request request, Response response) throws IOException {
+    String key = request.url().toString();
+    if (!"GET".equals(request.method())) {
+      if (response.isSuccessful()) {
+        invalidate(key);
+      }
+      return response;
+    }
+
+    Entry validated = request.tag(Entry.class);
+    if (response.code() == 304 && validated != null) {
+      counters(request).revalidations.increment();
+      long freshUntil = freshUntil(response.cacheControl());
+      if (freshUntil != validated.freshUntilMillis()) {
+        store(key, validated.withFreshUntil(freshUntil));
+      }
+      return withBody(response, validated.body());
+    }
+    if (response.code() != 200) {
+      return response;
+    }
+
+    counters(request).misses.increment();
+    CacheControl cacheControl = response.cacheControl();
+    String etag = response.header("ETag");
+    String lastModified = response.header("Last-Modified");
+    long freshUntil = freshUntil(cacheControl);
+    if (cacheControl.noStore() || (etag == null && lastModified == null && freshUntil == 0)) {
+      return response;
+    }
+    ResponseBody body = response.body();
+    byte[] bytes = body != null ? body.bytes() : new byte[0];
+    store(key, new Entry(etag, lastModified, freshUntil, bytes));
+    return withBody(response, bytes);
+  }
+
+  Map<EndpointFamily, ResponseCacheStats> stats() {
+    Map<EndpointFamily, ResponseCacheStats> stats = new EnumMap<>(EndpointFamily.class);
+    counters.forEach(
+        (family, counter) -> {
+          ResponseCacheStats snapshot = counter.snapshot();
+          if (snapshot.hits() + snapshot.revalidations() + snapshot.misses() > 0) {
+            stats.put(family, snapshot);
+          }
+        });
+    return stats;
+  }
+
+  private long freshUntil(CacheControl cacheControl) {
+    if (cacheControl.noCache() || cacheControl.maxAgeSeconds() <= 0) {
+      return 0;
+    }
+    return clock.getAsLong() + cacheControl.maxAgeSeconds() * 1000L;
+  }
+
+  private Counters counters(Request request) {
+    return counters.get(request.tag(EndpointFamily.class));
+  }
+
+  private static Response withBody(Response response, byte[] body) {
+    return response
+        .newBuilder()
+        .code(200)
+        .message("OK")
+        .body(ResponseBody.create(body, JSON))
+        .build();
+  }
+
+  // ==================== Tiers ====================
+
+  private Entry lookup(String key) {
+    synchronized (this) {
+      Entry entry = memory.get(key);
+      if (entry != null || diskDirectory == null) {
+        return entry;
+      }
+    }
+    Entry entry = readDisk(key);
+    if (entry != null) {
+      putMemory(key, entry);
+    }
+    return entry;
+  }
+
+  private void store(String key, Entry entry) {
+    putMemory(key, entry);
+    if (diskDirectory != null) {
+      writeDisk(key, entry);
+    }
+  }
+
+  private void invalidate(String key) {
+    synchronized (this) {
+      Entry removed = memory.remove(key);
+      if (removed != null) {
+        memoryBytes -= removed.body().length;
+      }
+    }
+    if (diskDirectory != null) {
+      String name = diskFileName(key);
+      diskLock.lock();
+      try {
+        Long size = diskIndex.remove(name);
+        if (size != null) {
+          diskBytes -= size;
+          Files.deleteIfExists(diskDirectory.resolve(name));
+        }
+      } catch (IOException e) {
+        // Best effort; a stale disk entry is still revalidated before use
+      } finally {
+        diskLock.unlock();
+      }
+    }
+  }
+
+  private synchronized void putMemory(String key, Entry entry) {
+    Entry previous = memory.remove(key);
+    if (previous != null) {
+      memoryBytes -= previous.body().length;
+    }
+    if (entry.body().length > maxMemoryBytes) {
+      return;
+    }
+    memory.put(key, entry);
+    memoryBytes += entry.body().length;
+    Iterator<Entry> eldest = memory.values().iterator();
+    while (memoryBytes > maxMemoryBytes) {
+      memoryBytes -= eldest.next().body().length;
+      eldest.remove();
+    }
+  }
+
+  private Entry readDisk(String key) {
+    String name = diskFileName(key);
+    diskLock.lock();
+    try {
+      // Also marks the entry as recently used
+      if (diskIndex.get(name) == null) {
+        return null;
+      }
+    } finally {
+      diskLock.unlock();
+    }
+    byte[] bytes;
+    try {
+      bytes = Files.readAllBytes(diskDirectory.resolve(name));
+    } catch (IOException e) {
+      return null;
+    }
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+      if (in.readInt() != DISK_FORMAT || !key.equals(in.readUTF())) {
+        return null;
+      }
+      String etag = emptyToNull(in.readUTF());
+      String lastModified = emptyToNull(in.readUTF());
+      long freshUntil = in.readLong();
+      byte[] body = new byte[in.readInt()];
+      in.readFully(body);
+      return new Entry(etag, lastModified, freshUntil, body);
+    } catch (IOException e) {
+      // Truncated or foreign file
+      return null;
+    }
+  }
+
+  private void writeDisk(String key, Entry entry) {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(entry.body().length + 256);
+    try (DataOutputStream out = new DataOutputStream(buffer)) {
+      out.writeInt(DISK_FORMAT);
+      out.writeUTF(key);
+      out.writeUTF(entry.etag() != null ? entry.etag() : "");
+      out.writeUTF(entry.lastModified() != null ? entry.lastModified() : "");
+      out.writeLong(entry.freshUntilMillis());
+      out.writeInt(entry.body().length);
+      out.write(entry.body());
+    } catch (IOException e) {
+      // A URL or validator over 64 KB cannot be encoded; the entry stays in memory only
+      return;
+    }
+
+    String name = diskFileName(key);
+    Path temp;
+    try {
+      // Write then rename, so readers never see a partial entry
+      temp = Files.createTempFile(diskDirectory, "entry", ".tmp");
+      Files.write(temp, buffer.toByteArray());
+    } catch (IOException e) {
+      // Best effort; the entry stays in memory
+      return;
+    }
+    diskLock.lock();
+    try {
+      Files.move(
+          temp,
+          diskDirectory.resolve(name),
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      Long previousSize = diskIndex.put(name, (long) buffer.size());
+      diskBytes += buffer.size() - (previousSize != null ? previousSize : 0);
+      trimDisk();
+    } catch (IOException e) {
+      deleteQuietly(temp);
+    } finally {
+      diskLock.unlock();
+    }
+  }
+
+  /** Deletes the least recently used entries until the disk tier fits its budget. */
+  private void trimDisk() {
+    Iterator<Map.Entry<String, Long>> eldest = diskIndex.entrySet().iterator();
+    while (diskBytes > maxDiskBytes && eldest.hasNext()) {
+      Map.Entry<String, Long> file = eldest.next();
+      eldest.remove();
+      diskBytes -= file.getValue();
+      deleteQuietly(diskDirectory.resolve(file.getKey()));
+    }
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      // Best effort; the index no longer counts it
+    }
+  }
+
+  private Stream<Path> diskEntries() throws IOException {
+    return Files.list(diskDirectory).filter(file -> file.toString().endsWith(DISK_SUFFIX));
+  }
+
+  private String diskFileName(String key) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      // The API key is part of the name so clients with different keys can share a directory
+      digest.update(apiKey.getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) '\n');
+      digest.update(key.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest.digest()) + DISK_SUFFIX;
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  private static long sizeOf(Path file) {
+    try {
+      return Files.size(file);
+    } catch (IOException e) {
+      return 0;
+    }
+  }
+
+  private static long modifiedAt(Path file) {
+    try {
+      return Files.getLastModifiedTime(file).toMillis();
+    } catch (IOException e) {
+      return 0;
+    }
+  }
+
+  private static String emptyToNull(String value) {
+    return value.isEmpty() ? null : value;
+  }
+
+  /** Outcome of {@link #lookup(Request)}: a fresh response to serve, or the request to send. */
+  record Lookup(Response fresh, Request request) {}
+
+  /** Stored response body and the validators needed to revalidate it. */
+  record Entry(String etag, String lastModified, long freshUntilMillis, byte[] body) {
+    Entry withFreshUntil(long freshUntilMillis) {
+      return new Entry(etag, lastModified, freshUntilMillis, body);
+    }
+  }
+
+  private static final class Counters {
+    final LongAdder hits = new LongAdder();
+    final LongAdder revalidations = new LongAdder();
+    final LongAdder misses = new LongAdder();
+
+    ResponseCacheStats snapshot() {
+      return new ResponseCacheStats(hits.sum(), revalidations.sum(), misses.sum());
+    }
+  }
+}
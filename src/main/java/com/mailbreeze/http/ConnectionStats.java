@@ -0,0 +1,14 @@
+package com.mailbreeze.http;
+
+/**
+ * Stream usage of one pooled connection. On HTTP/2 connections several streams run concurrently;
+ * on HTTP/1.1 connections at most one does.
+ *
+ * @param address the remote address (host:port)
+ * @param protocol the negotiated protocol, such as {@code h2} or {@code http/1.1}
+ * @param activeStreams requests currently carried by the connection
+ * @param peakStreams the highest number of concurrent requests seen on the connection
+ * @param totalStreams requests carried over the connection's lifetime
+ */
+public record ConnectionStats(
+    String address, String protocol, int activeStreams, int peakStreams, long totalStreams) {}
@@ -0,0 +1,48 @@
+package com.mailbreeze.http;
+
+/**
+ * Groups of API endpoints that share rate limits and other per-endpoint client state. Every path
+ * under a resource belongs to its family, so {@code /emails} and {@code /emails/email_123/cancel}
+ * are both {@link #EMAILS}.
+ */
+public enum EndpointFamily {
+  /** {@code /emails}. */
+  EMAILS,
+
+  /** Contacts nested under a contact list, {@code /contact-lists/{id}/contacts}. */
+  CONTACTS,
+
+  /** {@code /contact-lists}, excluding nested contacts. */
+  LISTS,
+
+  /** {@code /email-verification}. */
+  VERIFICATION,
+
+  /** {@code /attachments}. */
+  ATTACHMENTS,
+
+  /** Any other path. */
+  OTHER;
+
+  /**
+   * Returns the family of a resource path.
+   *
+   * @param path the path relative to the API base, e.g. {@code /emails/email_123}
+   */
+  static EndpointFamily of(String path) {
+    int queryStart = path.indexOf('?');
+    String clean = queryStart >= 0 ? path.substring(0, queryStart) : path;
+    if (clean.contains("/contacts")) {
+      return CONTACTS;
+    }
+    int start = clean.startsWith("/") ? 1 : 0;
+    int slash = clean.indexOf('/', start);
+    return switch (clean.substring(start, slash >= 0 ? slash : clean.length())) {
+      case "emails" -> EMAILS;
+      case "contact-lists" -> LISTS;
+      case "email-verification" -> VERIFICATION;
+      case "attachments" -> ATTACHMENTS;
+      default -> OTHER;
+    };
+  }
+}
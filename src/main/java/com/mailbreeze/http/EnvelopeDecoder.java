@@ -0,0 +1,76 @@
+package com.mailbreeze.http;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Single-pass decoder for the API response envelope.
+ *
+ * <p>Reads {@code success} and {@code error} from the envelope and binds {@code data} directly into
+ * the target type while streaming, so no intermediate String or tree of the whole payload is built.
+ * Requesting {@code JsonNode.class} binds {@code data} as a tree, matching {@link ApiResponse}.
+ */
+final class EnvelopeDecoder {
+
+  private final JsonCodec codec;
+
+  EnvelopeDecoder(JsonCodec codec) {
+    this.codec = codec;
+  }
+
+  /**
+   * Decodes an envelope from the given stream.
+   *
+   * @param in the response body stream
+   * @param dataType the type to bind {@code data} into, or {@code Void.class} to skip it
+   * @return the decoded envelope
+   * @throws IOException if the stream cannot be read or is not a valid envelope; a {@code data}
+   *     field that does not bind is reported in {@link Envelope#dataError} instead
+   */
+  <T> Envelope<T> decode(InputStream in, Class<T> dataType) throws IOException {
+    try (JsonParser parser = codec.objectMapper().getFactory().createParser(in)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new JsonParseException(parser, "Expected response envelope object");
+      }
+
+      Envelope<T> envelope = new Envelope<>();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        parser.nextToken();
+        switch (field) {
+          case "success" -> envelope.success = parser.getValueAsBoolean();
+          case "error" ->
+              envelope.error = codec.reader(ApiResponse.ApiError.class).readValue(parser);
+          case "data" -> {
+            if (dataType == Void.class) {
+              parser.skipChildren();
+            } else {
+              try {
+                envelope.data = codec.reader(dataType).readValue(parser);
+              } catch (JsonProcessingException e) {
+                // Parser state is undefined after a failed bind; report what was read so far.
+                // Other IOExceptions are read failures, not bad data, and propagate as such
+                envelope.dataError = e;
+                return envelope;
+              }
+            }
+          }
+          default -> parser.skipChildren();
+        }
+      }
+      return envelope;
+    }
+  }
+
+  /** Decoded envelope fields. */
+  static final class Envelope<T> {
+    boolean success;
+    ApiResponse.ApiError error;
+    T data;
+    JsonProcessingException dataError;
+  }
+}
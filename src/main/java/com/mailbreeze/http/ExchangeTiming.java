@@ -0,0 +1,26 @@
+package com.mailbreeze.http;
+
+import okhttp3.Request;
+
+/**
+ * Send time of one HTTP exchange, carried as a request tag. The client tags each call it creates;
+ * the transport stamps the tag when the call actually starts executing, after any dispatcher or
+ * fair-queue wait. Transports that do not stamp it leave the time the call was created.
+ */
+final class ExchangeTiming {
+
+  private volatile long sentAt = System.nanoTime();
+
+  /** Stamps the request's timing tag, if it has one, with the current time. */
+  static void markSent(Request request) {
+    ExchangeTiming timing = request.tag(ExchangeTiming.class);
+    if (timing != null) {
+      timing.sentAt = System.nanoTime();
+    }
+  }
+
+  /** Returns the nanoseconds from the send until now. */
+  long elapsedNanos() {
+    return System.nanoTime() - sentAt;
+  }
+}
@@ -0,0 +1,102 @@
+package com.mailbreeze.http;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Response;
+
+/**
+ * Round-robin queue in front of the OkHttp dispatcher.
+ *
+ * <p>The dispatcher runs ready calls in FIFO order, so a tenant that enqueues thousands of calls
+ * delays everyone queued behind it. This queue holds calls per tenant and hands them to the
+ * dispatcher one tenant at a time, never keeping more than {@code permits} calls in the dispatcher.
+ */
+final class FairCallQueue {
+
+  private final int permits;
+  private final Map<Object, ArrayDeque<Pending>> queues = new HashMap<>();
+  private final ArrayDeque<Object> ready = new ArrayDeque<>();
+  private int inFlight;
+  private int queued;
+
+  FairCallQueue(int permits) {
+    this.permits = permits;
+  }
+
+  /** Queues a call for the given tenant and dispatches as many calls as permits allow. */
+  void enqueue(Object tenant, Call call, Callback callback) {
+    synchronized (this) {
+      ArrayDeque<Pending> queue = queues.get(tenant);
+      if (queue == null) {
+        queue = new ArrayDeque<>();
+        queues.put(tenant, queue);
+        ready.add(tenant);
+      }
+      queue.add(new Pending(call, callback));
+      queued++;
+    }
+    drain();
+  }
+
+  synchronized int queuedCount() {
+    return queued;
+  }
+
+  private void drain() {
+    List<Pending> dispatch = new ArrayList<>();
+    synchronized (this) {
+      while (inFlight < permits && !ready.isEmpty()) {
+        Object tenant = ready.poll();
+        ArrayDeque<Pending> queue = queues.get(tenant);
+        dispatch.add(queue.poll());
+        if (queue.isEmpty()) {
+          queues.remove(tenant);
+        } else {
+          ready.add(tenant);
+        }
+        queued--;
+        inFlight++;
+      }
+    }
+    // Enqueue outside the lock; OkHttp may invoke the callback synchronously on failure
+    for (Pending pending : dispatch) {
+      pending.call.enqueue(new ReleasingCallback(pending.callback));
+    }
+  }
+
+  private void release() {
+    synchronized (this) {
+      inFlight--;
+    }
+    drain();
+  }
+
+  private record Pending(Call call, Callback callback) {}
+
+  /** Frees the permit before handing the result to the caller's callback. */
+  private final class ReleasingCallback implements Callback {
+    private final Callback delegate;
+
+    ReleasingCallback(Callback delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void onFailure(Call call, IOException e) {
+      release();
+      delegate.onFailure(call, e);
+    }
+
+    @Override
+    public void onResponse(Call call, Response response) throws IOException {
+      release();
+      delegate.onResponse(call, response);
+    }
+  }
+}
@@ -0,0 +1,152 @@
+package com.mailbreeze.http;
+
+import java.time.Duration;
+
+/**
+ * Configuration for hedged GET requests.
+ *
+ * <p>When a GET has not completed after the hedge delay, a second copy of the request is sent. The
+ * first successful response wins and the other copy is cancelled. The delay is either fixed or
+ * derived from a latency percentile observed per {@link EndpointFamily}, so only the slowest few
+ * percent of requests are hedged. Hedges are paid for from a budget that every GET tops up by
+ * {@link Builder#budgetRatio(double)}, so hedging adds at most that fraction of extra load:
+ *
+ * <pre>{@code
+ * MailBreeze mailbreeze = MailBreeze.builder()
+ *     .apiKey("sk_live_your_api_key")
+ *     .hedging(HedgePolicy.percentile(0.95).budgetRatio(0.05).build())
+ *     .build();
+ * }</pre>
+ *
+ * <p>Only GETs are hedged, since they are idempotent. On HTTP/1.1 the second copy goes out on
+ * another pooled connection, since the first is still busy; on HTTP/2 it is a new stream on the
+ * shared connection.
+ */
+public final class HedgePolicy {
+
+  private final Duration fixedDelay;
+  private final double percentile;
+  private final Duration minDelay;
+  private final double budgetRatio;
+  private final int maxBudget;
+
+  private HedgePolicy(Builder builder) {
+    this.fixedDelay = builder.fixedDelay;
+    this.percentile = builder.percentile;
+    this.minDelay = builder.minDelay;
+    this.budgetRatio = builder.budgetRatio;
+    this.maxBudget = builder.maxBudget;
+  }
+
+  /**
+   * Creates a builder for hedging after a fixed delay.
+   *
+   * @param delay how long to wait for a response before sending the second copy
+   * @return a new builder instance
+   */
+  public static Builder fixed(Duration delay) {
+    return new Builder(delay, 0);
+  }
+
+  /**
+   * Creates a builder for hedging after the given percentile of recently observed latency for the
+   * request's endpoint family. No request is hedged until enough latencies have been observed.
+   *
+   * @param percentile the latency percentile, e.g. 0.95 to hedge requests slower than the p95
+   * @return a new builder instance
+   */
+  public static Builder percentile(double percentile) {
+    return new Builder(null, percentile);
+  }
+
+  Duration fixedDelay() {
+    return fixedDelay;
+  }
+
+  double percentile() {
+    return percentile;
+  }
+
+  Duration minDelay() {
+    return minDelay;
+  }
+
+  RetryBudget newBudget() {
+    return RetryBudget.of(budgetRatio, maxBudget);
+  }
+
+  /** Builder for hedge policy configuration. */
+  public static final class Builder {
+
+    private final Duration fixedDelay;
+    private final double percentile;
+    private Duration minDelay = Duration.ofMillis(10);
+    private double budgetRatio = 0.1;
+    private int maxBudget = 10;
+
+    private Builder(Duration fixedDelay, double percentile) {
+      this.fixedDelay = fixedDelay;
+      this.percentile = percentile;
+    }
+
+    /**
+     * Sets the shortest hedge delay a percentile policy may derive, so a burst of fast responses
+     * cannot make every request a hedge candidate. Ignored by fixed policies.
+     *
+     * @param minDelay the minimum delay (default: 10 milliseconds)
+     * @return this builder
+     */
+    public Builder minDelay(Duration minDelay) {
+      this.minDelay = minDelay;
+      return this;
+    }
+
+    /**
+     * Sets how many hedges each GET pays for, capping hedges at that fraction of GETs.
+     *
+     * @param budgetRatio hedges allowed per GET (default: 0.1)
+     * @return this builder
+     */
+    public Builder budgetRatio(double budgetRatio) {
+      this.budgetRatio = budgetRatio;
+      return this;
+    }
+
+    /**
+     * Sets the most hedges that can be saved up during a quiet period.
+     *
+     * @param maxBudget the budget capacity (default: 10)
+     * @return this builder
+     */
+    public Builder maxBudget(int maxBudget) {
+      this.maxBudget = maxBudget;
+      return this;
+    }
+
+    /**
+     * Builds the hedge policy.
+     *
+     * @return a new hedge policy
+     * @throws IllegalArgumentException if a setting is out of range
+     */
+    public HedgePolicy build() {
+      if (fixedDelay != null) {
+        if (fixedDelay.isNegative() || fixedDelay.isZero()) {
+          throw new IllegalArgumentException("hedge delay must be positive");
+        }
+      } else if (!(percentile > 0 && percentile < 1)) {
+        throw new IllegalArgumentException("percentile must be > 0 and < 1");
+      }
+      if (minDelay == null || minDelay.isNegative()) {
+        throw new IllegalArgumentException("minDelay must be >= 0");
+      }
+      if (!(budgetRatio > 0 && budgetRatio <= 1)) {
+        throw new IllegalArgumentException("budgetRatio must be > 0 and <= 1");
+      }
+      if (maxBudget < 1) {
+        throw new IllegalArgumentException("maxBudget must be >= 1");
+      }
+      return new HedgePolicy(this);
+    }
+  }
+}
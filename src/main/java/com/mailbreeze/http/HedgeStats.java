@@ -0,0 +1,11 @@
+package com.mailbreeze.http;
+
+/**
+ * Hedged request counters.
+ *
+ * @param hedgedRequests GETs for which a second copy was sent
+ * @param hedgeWins hedged GETs answered first by the second copy
+ * @param budgetDenied GETs that reached the hedge delay but were not hedged because the budget was
+ *     exhausted
+ */
+public record HedgeStats(long hedgedRequests, long hedgeWins, long budgetDenied) {}
@@ -0,0 +1,106 @@
+package com.mailbreeze.http;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides when GETs are hedged: the hedge delay for each endpoint family and whether the budget
+ * allows another hedge.
+ */
+final class Hedger {
+
+  /** Latencies kept per family for percentile policies. */
+  static final int WINDOW_SIZE = 256;
+
+  /** Latencies a family needs before a percentile policy hedges its requests. */
+  static final int MIN_SAMPLES = 20;
+
+  /** New samples after which the cached percentile is recomputed. */
+  private static final int RECOMPUTE_INTERVAL = 16;
+
+  private final HedgePolicy policy;
+  private final RetryBudget budget;
+  private final Map<EndpointFamily, LatencyWindow> windows = new EnumMap<>(EndpointFamily.class);
+  private final LongAdder wins = new LongAdder();
+
+  Hedger(HedgePolicy policy) {
+    this.policy = policy;
+    this.budget = policy.newBudget();
+    if (policy.fixedDelay() == null) {
+      for (EndpointFamily family : EndpointFamily.values()) {
+        windows.put(family, new LatencyWindow());
+      }
+    }
+  }
+
+  /**
+   * Returns how long to wait for a GET to the given family before hedging it, or -1 if it should
+   * not be hedged. Also tops up the budget, so call it once per GET.
+   */
+  long delayMillis(EndpointFamily family) {
+    budget.recordSuccess();
+    if (policy.fixedDelay() != null) {
+      return policy.fixedDelay().toMillis();
+    }
+    long percentileNanos = windows.get(family).percentileNanos();
+    if (percentileNanos < 0) {
+      return -1;
+    }
+    return Math.max(policy.minDelay().toMillis(), TimeUnit.NANOSECONDS.toMillis(percentileNanos));
+  }
+
+  /** Withdraws one hedge from the budget, returning false if it is exhausted. */
+  boolean tryHedge() {
+    return budget.tryAcquire();
+  }
+
+  /**
+   * Records the latency a caller saw for a GET, from sending the first copy until a copy answered.
+   */
+  void onResponse(EndpointFamily family, long elapsedNanos, boolean hedge) {
+    if (hedge) {
+      wins.increment();
+    }
+    LatencyWindow window = windows.get(family);
+    if (window != null) {
+      window.add(elapsedNanos);
+    }
+  }
+
+  HedgeStats stats() {
+    RetryBudgetStats budgetStats = budget.stats();
+    return new HedgeStats(budgetStats.allowedRetries(), wins.sum(), budgetStats.deniedRetries());
+  }
+
+  /** Ring of recent latencies with a cached percentile. */
+  private final class LatencyWindow {
+    private final long[] samples = new long[WINDOW_SIZE];
+    private int next;
+    private int count;
+    private int sinceRecompute;
+    private volatile long percentileNanos = -1;
+
+    synchronized void add(long nanos) {
+      samples[next] = nanos;
+      next = (next + 1) % samples.length;
+      if (count < samples.length) {
+        count++;
+      }
+      sinceRecompute++;
+      if (count == MIN_SAMPLES || (count > MIN_SAMPLES && sinceRecompute >= RECOMPUTE_INTERVAL)) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(policy.percentile() * count) - 1;
+        percentileNanos = sorted[Math.max(0, index)];
+        sinceRecompute = 0;
+      }
+    }
+
+    long percentileNanos() {
+      return percentileNanos;
+    }
+  }
+}
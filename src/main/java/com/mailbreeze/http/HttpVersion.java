@@ -0,0 +1,33 @@
+package com.mailbreeze.http;
+
+import java.util.List;
+import okhttp3.Protocol;
+
+/** HTTP protocol versions the transport may use. */
+public enum HttpVersion {
+  /** HTTP/1.1 only. Each connection carries one request at a time. */
+  HTTP_1_1(List.of(Protocol.HTTP_1_1)),
+
+  /** HTTP/2 negotiated over TLS (ALPN), falling back to HTTP/1.1 if the server lacks support. */
+  HTTP_2(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1)),
+
+  /**
+   * Cleartext HTTP/2 without negotiation (h2c prior knowledge). Intended for local stand-in servers
+   * and proxies that speak HTTP/2 over plain TCP.
+   */
+  H2_PRIOR_KNOWLEDGE(List.of(Protocol.H2_PRIOR_KNOWLEDGE));
+
+  private final List<Protocol> protocols;
+
+  HttpVersion(List<Protocol> protocols) {
+    this.protocols = protocols;
+  }
+
+  List<Protocol> protocols() {
+    return protocols;
+  }
+
+  boolean isMultiplexed() {
+    return this != HTTP_1_1;
+  }
+}
@@ -0,0 +1,149 @@
+package com.mailbreeze.http;
+
+import com.mailbreeze.exceptions.ConcurrencyLimitExceededException;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed cap on outstanding async requests. Permits are granted in FIFO order; blocking and waiting
+ * callers share one queue, so neither can overtake the other. A waiter that gives up is dropped
+ * from the queue, and a released permit is handed to the next waiter on the grant executor so that
+ * the waiter's request does not run on the releasing thread.
+ */
+final class InFlightLimiter {
+
+  private final int maxInFlight;
+  private final OverflowPolicy policy;
+  private final Executor grantExecutor;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder permitWaits = new LongAdder();
+  private final LongAdder permitWaitNanos = new LongAdder();
+  private int inFlight;
+
+  InFlightLimiter(int maxInFlight, OverflowPolicy policy) {
+    this(maxInFlight, policy, Runnable::run);
+  }
+
+  /**
+   * @param grantExecutor completes the future of a waiter that is handed a released permit; a
+   *     rejected grant completes on the releasing thread
+   */
+  InFlightLimiter(int maxInFlight, OverflowPolicy policy, Executor grantExecutor) {
+    this.maxInFlight = maxInFlight;
+    this.policy = policy;
+    this.grantExecutor = grantExecutor;
+  }
+
+  OverflowPolicy policy() {
+    return policy;
+  }
+
+  /**
+   * Requests a permit. The future completes when the permit is granted, or fails with {@link
+   * ConcurrencyLimitExceededException} under {@link OverflowPolicy#FAIL_FAST}. Each granted permit
+   * must be returned with {@link #release()}.
+   */
+  CompletableFuture<Void> acquire() {
+    lock.lock();
+    try {
+      if (inFlight < maxInFlight && waiters.isEmpty()) {
+        inFlight++;
+        return CompletableFuture.completedFuture(null);
+      }
+      if (policy == OverflowPolicy.FAIL_FAST) {
+        rejected.increment();
+        return CompletableFuture.failedFuture(
+            new ConcurrencyLimitExceededException(
+                "Too many in-flight async requests (max " + maxInFlight + ")"));
+      }
+      Waiter waiter = new Waiter(System.nanoTime());
+      waiters.add(waiter);
+      waiter.future.whenComplete(
+          (ignored, error) -> {
+            if (waiter.future.isCancelled()) {
+              remove(waiter);
+            }
+          });
+      return waiter.future;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void remove(Waiter waiter) {
+    lock.lock();
+    try {
+      waiters.remove(waiter);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void release() {
+    while (true) {
+      Waiter granted;
+      lock.lock();
+      try {
+        granted = waiters.poll();
+        if (granted == null) {
+          inFlight--;
+          return;
+        }
+      } finally {
+        lock.unlock();
+      }
+      // The permit passes straight to the next waiter unless it was cancelled after the poll
+      if (!granted.future.isDone()) {
+        permitWaits.increment();
+        permitWaitNanos.add(System.nanoTime() - granted.enqueuedAt);
+        grant(granted);
+        return;
+      }
+    }
+  }
+
+  private void grant(Waiter waiter) {
+    Runnable complete =
+        () -> {
+          if (!waiter.future.complete(null)) {
+            release();
+          }
+        };
+    try {
+      grantExecutor.execute(complete);
+    } catch (RejectedExecutionException e) {
+      complete.run();
+    }
+  }
+
+  InFlightStats stats() {
+    lock.lock();
+    try {
+      return new InFlightStats(
+          maxInFlight,
+          inFlight,
+          waiters.size(),
+          rejected.sum(),
+          permitWaits.sum(),
+          TimeUnit.NANOSECONDS.toMillis(permitWaitNanos.sum()));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static final class Waiter {
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+    final long enqueuedAt;
+
+    Waiter(long enqueuedAt) {
+      this.enqueuedAt = enqueuedAt;
+    }
+  }
+}
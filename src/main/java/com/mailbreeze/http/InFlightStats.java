@@ -0,0 +1,20 @@
+package com.mailbreeze.http;
+
+/**
+ * State of the cap on in-flight async requests. A request is in flight from the moment it gets a
+ * permit until its future completes, retries included.
+ *
+ * @param maxInFlight the configured cap
+ * @param inFlight async requests holding a permit
+ * @param queued calls waiting for a permit
+ * @param rejected calls failed fast because the cap was reached
+ * @param permitWaits calls that had to wait for a permit
+ * @param totalPermitWaitMillis time those calls spent waiting
+ */
+public record InFlightStats(
+    int maxInFlight,
+    int inFlight,
+    int queued,
+    long rejected,
+    long permitWaits,
+    long totalPermitWaitMillis) {}
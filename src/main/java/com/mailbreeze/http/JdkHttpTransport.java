@@ -0,0 +1,457 @@
+package com.mailbreeze.http;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.Okio;
+import okio.Timeout;
+
+/**
+ * Transport backed by the JDK {@code java.net.http.HttpClient}. Useful for services that already
+ * standardize on the JDK client, for example to run its async work on virtual threads:
+ *
+ * <pre>{@code
+ * MailBreeze mailbreeze = MailBreeze.builder()
+ *     .apiKey("sk_live_your_api_key")
+ *     .transport(JdkHttpTransport.builder().virtualThreads(true).build())
+ *     .build();
+ * }</pre>
+ *
+ * <p>The JDK client does not expose pool statistics, so {@link #stats()} reports zeros.
+ */
+public final class JdkHttpTransport implements Transport {
+
+  /** Headers the JDK client manages itself and rejects when set explicitly. */
+  private static final Set<String> RESTRICTED_HEADERS =
+      Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+  private final HttpClient httpClient;
+  private final ExecutorService ownedExecutor;
+
+  private JdkHttpTransport(Builder builder) {
+    HttpClient.Builder client =
+        HttpClient.newBuilder()
+            .version(builder.version)
+            .connectTimeout(builder.connectTimeout)
+            .followRedirects(HttpClient.Redirect.NORMAL);
+    if (builder.executor != null) {
+      client.executor(builder.executor);
+      this.ownedExecutor = null;
+    } else if (builder.virtualThreads && VirtualThreads.isAvailable()) {
+      this.ownedExecutor = VirtualThreads.newThreadPerTaskExecutor("MailBreeze JdkHttp-");
+      client.executor(ownedExecutor);
+    } else {
+      this.ownedExecutor = null;
+    }
+    this.httpClient = client.build();
+  }
+
+  /**
+   * Creates a new builder for transport configuration.
+   *
+   * @return a new builder instance
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  @Override
+  public Call.Factory callFactory(Duration timeout) {
+    return request -> new JdkCall(request, timeout);
+  }
+
+  /**
+   * Shuts down the virtual thread executor if this transport created one. The JDK client has no
+   * explicit shutdown before JDK 21; idle connections expire on their own.
+   */
+  @Override
+  public void close() {
+    if (ownedExecutor != null) {
+      ownedExecutor.shutdown();
+    }
+  }
+
+  private HttpRequest toJdkRequest(Request request, Duration timeout) throws IOException {
+    HttpRequest.BodyPublisher publisher = HttpRequest.BodyPublishers.noBody();
+    RequestBody body = request.body();
+    if (body != null) {
+      Buffer buffer = new Buffer();
+      body.writeTo(buffer);
+      publisher = HttpRequest.BodyPublishers.ofByteArray(buffer.readByteArray());
+    }
+
+    HttpRequest.Builder builder =
+        HttpRequest.newBuilder(request.url().uri()).method(request.method(), publisher);
+    if (!timeout.isZero()) {
+      builder.timeout(timeout);
+    }
+    Headers headers = request.headers();
+    for (int i = 0; i < headers.size(); i++) {
+      if (!RESTRICTED_HEADERS.contains(headers.name(i).toLowerCase(Locale.ROOT))) {
+        builder.header(headers.name(i), headers.value(i));
+      }
+    }
+    if (body != null && body.contentType() != null && request.header("Content-Type") == null) {
+      builder.header("Content-Type", body.contentType().toString());
+    }
+    return builder.build();
+  }
+
+  private static Response toOkHttpResponse(
+      Request request, HttpResponse<InputStream> response, InputStream body) {
+    Headers.Builder headers = new Headers.Builder();
+    for (Map.Entry<String, List<String>> header : response.headers().map().entrySet()) {
+      // Skip HTTP/2 pseudo-headers such as :status
+      if (!header.getKey().startsWith(":")) {
+        for (String value : header.getValue()) {
+          headers.add(header.getKey(), value);
+        }
+      }
+    }
+    Headers responseHeaders = headers.build();
+    String contentType = responseHeaders.get("Content-Type");
+    long contentLength = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+    return new Response.Builder()
+        .request(request)
+        .protocol(
+            response.version() == HttpClient.Version.HTTP_2 ? Protocol.HTTP_2 : Protocol.HTTP_1_1)
+        .code(response.statusCode())
+        .message("")
+        .headers(responseHeaders)
+        .body(
+            ResponseBody.create(
+                Okio.buffer(Okio.source(body)),
+                contentType != null ? MediaType.parse(contentType) : null,
+                contentLength))
+        .build();
+  }
+
+  /** Adapts a JDK request exchange to OkHttp's {@link Call}. */
+  private final class JdkCall implements Call {
+    private final Request request;
+    private final Duration timeout;
+    private final Timeout callTimeout = new Timeout();
+    private final AtomicBoolean executed = new AtomicBoolean();
+    private volatile boolean canceled;
+    private volatile boolean timedOut;
+    private volatile CompletableFuture<HttpResponse<InputStream>> exchange;
+    private volatile CompletableFuture<Void> timer;
+    private volatile InputStream body;
+
+    JdkCall(Request request, Duration timeout) {
+      this.request = request;
+      this.timeout = timeout;
+    }
+
+    @Override
+    public Request request() {
+      return request;
+    }
+
+    @Override
+    public Response execute() throws IOException {
+      CompletableFuture<HttpResponse<InputStream>> future = start();
+      try {
+        return toResponse(future.get());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        cancel();
+        throw new IOException("Interrupted", e);
+      } catch (CancellationException e) {
+        throw asIOException(e);
+      } catch (ExecutionException e) {
+        throw asIOException(e.getCause());
+      }
+    }
+
+    @Override
+    public void enqueue(Callback callback) {
+      CompletableFuture<HttpResponse<InputStream>> future;
+      try {
+        future = start();
+      } catch (IOException e) {
+        callback.onFailure(this, e);
+        return;
+      }
+      future.whenComplete(
+          (response, error) -> {
+            if (error != null) {
+              callback.onFailure(this, asIOException(error));
+              return;
+            }
+            try {
+              callback.onResponse(this, toResponse(response));
+            } catch (IOException e) {
+              callback.onFailure(this, e);
+            }
+          });
+    }
+
+    private CompletableFuture<HttpResponse<InputStream>> start() throws IOException {
+      if (!executed.compareAndSet(false, true)) {
+        throw new IllegalStateException("Already Executed");
+      }
+      if (canceled) {
+        throw new IOException("Canceled");
+      }
+      // The JDK client applies its request timeout until the response headers arrive
+      Duration effective = timeout;
+      long callTimeoutNanos = callTimeout.timeoutNanos();
+      if (callTimeoutNanos > 0
+          && (effective.isZero() || callTimeoutNanos < effective.toNanos())) {
+        effective = Duration.ofNanos(callTimeoutNanos);
+      }
+      HttpRequest jdkRequest = toJdkRequest(request, effective);
+      ExchangeTiming.markSent(request);
+      exchange = httpClient.sendAsync(jdkRequest, HttpResponse.BodyHandlers.ofInputStream());
+      // A cancel() that ran before the exchange was assigned found nothing to cancel
+      if (canceled) {
+        exchange.cancel(true);
+      }
+      if (callTimeoutNanos > 0) {
+        // The request timeout stops at the headers; this one also covers reading the body
+        timer =
+            CompletableFuture.runAsync(
+                this::timeOut,
+                CompletableFuture.delayedExecutor(callTimeoutNanos, TimeUnit.NANOSECONDS));
+        exchange.whenComplete(
+            (response, error) -> {
+              if (error != null) {
+                timer.cancel(false);
+              }
+            });
+      }
+      return exchange;
+    }
+
+    private Response toResponse(HttpResponse<InputStream> response) {
+      body = new TimedBody(response.body());
+      if (timedOut) {
+        closeBody();
+      }
+      return toOkHttpResponse(request, response, body);
+    }
+
+    /** Fails the exchange, or the body read in progress, once the call timeout has passed. */
+    private void timeOut() {
+      timedOut = true;
+      CompletableFuture<HttpResponse<InputStream>> current = exchange;
+      if (current != null) {
+        current.cancel(true);
+      }
+      closeBody();
+    }
+
+    private void closeBody() {
+      InputStream current = body;
+      if (current != null) {
+        try {
+          current.close();
+        } catch (IOException e) {
+          // Already failed; the reader sees the timeout
+        }
+      }
+    }
+
+    private IOException asIOException(Throwable error) {
+      Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+      // The call timer and the JDK request timeout race for the same deadline; report either the
+      // way OkHttp reports a call timeout, and the way TimedBody reports one during the body
+      if (timedOut
+          || (cause instanceof HttpTimeoutException
+              && !(cause instanceof HttpConnectTimeoutException))) {
+        InterruptedIOException timeout = new InterruptedIOException("timeout");
+        timeout.initCause(cause);
+        return timeout;
+      }
+      if (cause instanceof IOException io) {
+        return io;
+      }
+      if (cause instanceof CancellationException) {
+        return new IOException("Canceled", cause);
+      }
+      return new IOException(cause);
+    }
+
+    @Override
+    public void cancel() {
+      canceled = true;
+      CompletableFuture<HttpResponse<InputStream>> current = exchange;
+      if (current != null) {
+        current.cancel(true);
+      }
+    }
+
+    @Override
+    public boolean isExecuted() {
+      return executed.get();
+    }
+
+    @Override
+    public boolean isCanceled() {
+      return canceled;
+    }
+
+    @Override
+    public Timeout timeout() {
+      return callTimeout;
+    }
+
+    @Override
+    public Call clone() {
+      JdkCall copy = new JdkCall(request, timeout);
+      copy.callTimeout.timeout(callTimeout.timeoutNanos(), TimeUnit.NANOSECONDS);
+      return copy;
+    }
+
+    /** Response body that reports a read cut short by the call timeout as a timeout. */
+    private final class TimedBody extends FilterInputStream {
+
+      TimedBody(InputStream in) {
+        super(in);
+      }
+
+      @Override
+      public int read() throws IOException {
+        try {
+          int read = super.read();
+          if (!timedOut) {
+            return read;
+          }
+        } catch (IOException e) {
+          if (!timedOut) {
+            throw e;
+          }
+        }
+        throw new InterruptedIOException("timeout");
+      }
+
+      @Override
+      public int read(byte[] buffer, int offset, int length) throws IOException {
+        try {
+          int read = super.read(buffer, offset, length);
+          if (!timedOut) {
+            return read;
+          }
+        } catch (IOException e) {
+          if (!timedOut) {
+            throw e;
+          }
+        }
+        throw new InterruptedIOException("timeout");
+      }
+
+      @Override
+      public void close() throws IOException {
+        CompletableFuture<Void> pending = timer;
+        if (pending != null) {
+          pending.cancel(false);
+        }
+        super.close();
+      }
+    }
+  }
+
+  /** Builder for transport configuration. */
+  public static final class Builder {
+
+    private HttpClient.Version version = HttpClient.Version.HTTP_2;
+    private Duration connectTimeout = Duration.ofSeconds(30);
+    private Executor executor;
+    private boolean virtualThreads;
+
+    private Builder() {}
+
+    /**
+     * Sets the preferred HTTP version. The JDK client negotiates HTTP/2 over TLS and upgrades
+     * cleartext connections; it does not support h2c prior knowledge.
+     *
+     * @param httpVersion {@link HttpVersion#HTTP_1_1} or {@link HttpVersion#HTTP_2} (default)
+     * @return this builder
+     * @throws IllegalArgumentException for {@link HttpVersion#H2_PRIOR_KNOWLEDGE}
+     */
+    public Builder httpVersion(HttpVersion httpVersion) {
+      this.version =
+          switch (httpVersion) {
+            case HTTP_1_1 -> HttpClient.Version.HTTP_1_1;
+            case HTTP_2 -> HttpClient.Version.HTTP_2;
+            case H2_PRIOR_KNOWLEDGE ->
+                throw new IllegalArgumentException(
+                    "JDK HttpClient does not support HTTP/2 prior knowledge");
+          };
+      return this;
+    }
+
+    /**
+     * Sets the timeout for establishing connections.
+     *
+     * @param connectTimeout the connect timeout (default: 30 seconds)
+     * @return this builder
+     */
+    public Builder connectTimeout(Duration connectTimeout) {
+      this.connectTimeout = connectTimeout;
+      return this;
+    }
+
+    /**
+     * Sets the executor for async tasks and callbacks. The caller owns its lifecycle.
+     *
+     * @param executor the executor (default: the JDK client's internal pool)
+     * @return this builder
+     */
+    public Builder executor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Runs async tasks and callbacks on virtual threads. Takes effect on JDK 21 and later; older
+     * JDKs keep the client's internal pool. Ignored when an {@link #executor(Executor)} is set.
+     *
+     * @param virtualThreads whether to use virtual threads (default: false)
+     * @return this builder
+     */
+    public Builder virtualThreads(boolean virtualThreads) {
+      this.virtualThreads = virtualThreads;
+      return this;
+    }
+
+    /**
+     * Builds the transport.
+     *
+     * @return a new transport
+     */
+    public JdkHttpTransport build() {
+      return new JdkHttpTransport(this);
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package com.mailbreeze.http;
+
+/**
+ * Randomization applied to exponential retry backoff. Jitter spreads out retries from many clients
+ * that failed at the same moment, so they do not hit the API again in lockstep.
+ */
+public enum Jitter {
+  /** No randomization: waits exactly {@code base * 2^attempt}. */
+  NONE,
+
+  /** Waits a uniformly random time between zero and {@code base * 2^attempt}. */
+  FULL,
+
+  /**
+   * Waits a random time between the base delay and three times the previous wait, so successive
+   * waits grow without being correlated across clients.
+   */
+  DECORRELATED
+}
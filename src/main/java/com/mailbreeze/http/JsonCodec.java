@@ -0,0 +1,79 @@
+package com.mailbreeze.http;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The client's Jackson configuration, with an {@link ObjectReader} and {@link ObjectWriter} cached
+ * per type. A cached reader or writer holds its resolved type and root (de)serializer, so binding
+ * skips the type construction and cache lookups {@code ObjectMapper.readValue} repeats per call.
+ *
+ * <p>The performance profile also registers the Blackbird module, which replaces reflective
+ * property access with generated lambdas, when it is on the classpath. It is looked up reflectively
+ * so the SDK does not depend on it.
+ */
+final class JsonCodec {
+
+  private static final String BLACKBIRD = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
+  private final ObjectMapper objectMapper;
+  private final boolean blackbird;
+  private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+  private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+  JsonCodec(boolean performanceProfile) {
+    this.objectMapper =
+        new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    this.blackbird = performanceProfile && registerBlackbird(objectMapper);
+  }
+
+  private static boolean registerBlackbird(ObjectMapper objectMapper) {
+    try {
+      Class<?> type = Class.forName(BLACKBIRD);
+      objectMapper.registerModule((Module) type.getDeclaredConstructor().newInstance());
+      return true;
+    } catch (ReflectiveOperationException | LinkageError e) {
+      // Blackbird is not on the classpath
+      return false;
+    }
+  }
+
+  /** Returns true if the Blackbird module was registered. */
+  boolean blackbird() {
+    return blackbird;
+  }
+
+  ObjectMapper objectMapper() {
+    return objectMapper;
+  }
+
+  /** Returns the cached reader for a type, resolving it on first use. */
+  ObjectReader reader(Class<?> type) {
+    return readers.computeIfAbsent(type, objectMapper::readerFor);
+  }
+
+  /** Returns the cached writer for a type, resolving it on first use. */
+  ObjectWriter writer(Class<?> type) {
+    return writers.computeIfAbsent(type, objectMapper::writerFor);
+  }
+
+  /**
+   * Resolves readers and writers for the given types up front, so the first request for each does
+   * not pay for introspection. Jackson defers any (de)serializer it cannot build to first use.
+   */
+  void preResolve(Collection<Class<?>> types) {
+    for (Class<?> type : types) {
+      reader(type);
+      writer(type);
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package com.mailbreeze.http;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+
+/**
+ * JSON request body backed by an Okio buffer. Gzip bodies are compressed once, when the body is
+ * created, by streaming the JSON through a {@link GzipSink}; every write, including retries and
+ * transports that buffer the body, sends the same compressed bytes with a known length.
+ */
+final class JsonRequestBody extends RequestBody {
+
+  private static final MediaType JSON = MediaType.get("application/json");
+
+  private final Buffer content;
+  private final CompressionStats compression;
+
+  private JsonRequestBody(Buffer content, CompressionStats compression) {
+    this.content = content;
+    this.compression = compression;
+  }
+
+  /** Creates a plain body. */
+  static JsonRequestBody plain(Buffer json) {
+    return new JsonRequestBody(json, null);
+  }
+
+  /**
+   * Creates a gzip-compressed body, consuming the JSON buffer, and reports its sizes to the
+   * recorder.
+   */
+  static JsonRequestBody gzip(Buffer json, Recorder recorder) throws IOException {
+    long raw = json.size();
+    Buffer compressed = new Buffer();
+    try (BufferedSink gzip = Okio.buffer(new GzipSink(compressed))) {
+      gzip.writeAll(json);
+    }
+    CompressionStats stats = new CompressionStats(1, raw, compressed.size());
+    recorder.record(stats);
+    return new JsonRequestBody(compressed, stats);
+  }
+
+  boolean isGzip() {
+    return compression != null;
+  }
+
+  /** Returns this body's raw and compressed sizes, or null if it is sent uncompressed. */
+  CompressionStats compression() {
+    return compression;
+  }
+
+  @Override
+  public MediaType contentType() {
+    return JSON;
+  }
+
+  @Override
+  public long contentLength() {
+    return content.size();
+  }
+
+  @Override
+  public void writeTo(BufferedSink sink) throws IOException {
+    content.copyTo(sink.getBuffer(), 0, content.size());
+    sink.emit();
+  }
+
+  /** Accumulates raw and compressed sizes across requests. */
+  static final class Recorder {
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder rawBytes = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+
+    void record(CompressionStats request) {
+      requests.add(request.compressedRequests());
+      rawBytes.add(request.rawBytes());
+      compressedBytes.add(request.compressedBytes());
+    }
+
+    CompressionStats snapshot() {
+      return new CompressionStats(requests.sum(), rawBytes.sum(), compressedBytes.sum());
+    }
+  }
+}
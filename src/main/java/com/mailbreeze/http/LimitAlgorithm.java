@@ -0,0 +1,106 @@
+package com.mailbreeze.http;
+
+/**
+ * Resizes a concurrency limit from request samples. Implementations are not thread-safe; {@link
+ * ConcurrencyLimiter} calls them under its lock.
+ */
+interface LimitAlgorithm {
+
+  /** Returns the current limit. */
+  int limit();
+
+  /**
+   * Updates the limit from a completed request.
+   *
+   * @param rttNanos the request's round-trip time
+   * @param inFlight requests in flight when this one completed, including it
+   * @param dropped whether the request failed with a sign of overload
+   */
+  void onSample(long rttNanos, int inFlight, boolean dropped);
+
+  /** Additive increase, multiplicative decrease. */
+  final class Aimd implements LimitAlgorithm {
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private double limit;
+
+    Aimd(int initialLimit, int minLimit, int maxLimit, double backoffRatio, long latencyNanos) {
+      this.limit = initialLimit;
+      this.minLimit = minLimit;
+      this.maxLimit = maxLimit;
+      this.backoffRatio = backoffRatio;
+      this.latencyThresholdNanos = latencyNanos;
+    }
+
+    @Override
+    public int limit() {
+      return (int) limit;
+    }
+
+    @Override
+    public void onSample(long rttNanos, int inFlight, boolean dropped) {
+      if (dropped || rttNanos > latencyThresholdNanos) {
+        limit = Math.max(minLimit, limit * backoffRatio);
+      } else if (inFlight * 2 >= limit) {
+        // Only grow while the limit is actually being used
+        limit = Math.min(maxLimit, limit + 1);
+      }
+    }
+  }
+
+  /**
+   * Vegas-style gradient: compares each sample with a slow-moving baseline RTT and shrinks the
+   * limit as queueing delay builds up, while leaving headroom of {@code sqrt(limit)} to probe for
+   * more capacity.
+   */
+  final class Gradient implements LimitAlgorithm {
+    private static final double SMOOTHING = 0.2;
+    private static final double TOLERANCE = 1.5;
+    private static final int BASELINE_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private double limit;
+    private double baselineRtt;
+
+    Gradient(int initialLimit, int minLimit, int maxLimit, double backoffRatio) {
+      this.limit = initialLimit;
+      this.minLimit = minLimit;
+      this.maxLimit = maxLimit;
+      this.backoffRatio = backoffRatio;
+    }
+
+    @Override
+    public int limit() {
+      return (int) limit;
+    }
+
+    @Override
+    public void onSample(long rttNanos, int inFlight, boolean dropped) {
+      if (dropped) {
+        limit = Math.max(minLimit, limit * backoffRatio);
+        return;
+      }
+      double rtt = Math.max(rttNanos, 1);
+      if (baselineRtt == 0) {
+        baselineRtt = rtt;
+      } else {
+        baselineRtt += (rtt - baselineRtt) * 2 / (BASELINE_WINDOW + 1);
+        // Let the baseline recover quickly after a latency spike has passed
+        if (baselineRtt / rtt > 2) {
+          baselineRtt *= 0.95;
+        }
+      }
+      if (inFlight * 2 < limit) {
+        return;
+      }
+      double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * baselineRtt / rtt));
+      double target = limit * gradient + Math.sqrt(limit);
+      limit = limit * (1 - SMOOTHING) + target * SMOOTHING;
+      limit = Math.max(minLimit, Math.min(maxLimit, limit));
+    }
+  }
+}
@@ -1,17 +1,29 @@
 package com.mailbreeze.http;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.mailbreeze.exceptions.*;
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import okhttp3.*;
+import okio.Buffer;
 
 /**
  * HTTP client for MailBreeze API with retry logic and async support. Thread-safe and reusable
@@ -20,58 +32,254 @@ import okhttp3.*;
 public class MailBreezeHttpClient {
 
   private static final String VERSION = "0.2.0";
+  private static final String USER_AGENT = "mailbreeze-java/" + VERSION;
   private static final String API_VERSION = "/api/v1";
-  private static final MediaType JSON = MediaType.get("application/json");
+  private static final Duration BASE_RETRY_DELAY = Duration.ofSeconds(1);
 
   private final String apiKey;
   private final String baseUrl;
+  private final HttpUrl baseHttpUrl;
+  private final Headers defaultHeaders;
   private final int maxRetries;
-  private final OkHttpClient okHttpClient;
-  private final ObjectMapper objectMapper;
+  private final Transport transport;
+  private final Call.Factory callFactory;
+  private final Object tenant;
+  private final JsonCodec jsonCodec;
+  private final EnvelopeDecoder envelopeDecoder;
+  private final ClientMetrics metrics;
+  private final long compressionThreshold;
+  private final JsonRequestBody.Recorder compressionRecorder = new JsonRequestBody.Recorder();
+  private final RetryScheduler retryScheduler = new RetryScheduler();
+  private final Backoff backoff;
+  private final RetryBudget retryBudget;
+  private final RateLimiter rateLimiter;
+  private final ConcurrencyLimiter concurrencyLimiter;
+  private final InFlightLimiter inFlightLimiter;
+  private final CircuitBreakers circuitBreakers;
+  private final Hedger hedger;
+  private final SingleFlight singleFlight;
+  private final ConditionalCache responseCache;
+  private final StatsCache statsCache;
+  private final Map<EndpointFamily, Duration> defaultDeadlines;
+  private final Map<EndpointFamily, Duration> defaultAttemptTimeouts;
+  private final Map<EndpointFamily, Call.Factory> familyCallFactories;
+  private final LongAdder cancelledBeforeSend = new LongAdder();
+  private final LongAdder cancelledInFlight = new LongAdder();
+  private final StageTimer stageTimer = new StageTimer();
+  private final Executor deserializationExecutor;
 
   public MailBreezeHttpClient(String apiKey, String baseUrl, Duration timeout, int maxRetries) {
-    this.apiKey = apiKey;
+    this(builder().apiKey(apiKey).baseUrl(baseUrl).timeout(timeout).maxRetries(maxRetries));
+  }
+
+  private MailBreezeHttpClient(Builder builder) {
+    this.apiKey = builder.apiKey;
     String cleanBaseUrl =
-        baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        builder.baseUrl.endsWith("/")
+            ? builder.baseUrl.substring(0, builder.baseUrl.length() - 1)
+            : builder.baseUrl;
     // Add API version prefix if not already present
     this.baseUrl = cleanBaseUrl.endsWith(API_VERSION) ? cleanBaseUrl : cleanBaseUrl + API_VERSION;
-    this.maxRetries = maxRetries;
-
-    this.okHttpClient =
-        new OkHttpClient.Builder()
-            .connectTimeout(timeout)
-            .readTimeout(timeout)
-            .writeTimeout(timeout)
+    this.baseHttpUrl = HttpUrl.get(baseUrl);
+    this.defaultHeaders =
+        new Headers.Builder()
+            .add("Content-Type", "application/json")
+            .add("X-API-Key", apiKey)
+            .add("User-Agent", USER_AGENT)
             .build();
+    this.maxRetries = builder.maxRetries;
+
+    this.transport =
+        builder.transport != null ? builder.transport : builder.transportBuilder.build();
+    this.callFactory = transport.callFactory(builder.timeout);
+    this.tenant = builder.tenantId != null ? builder.tenantId : this;
+
+    this.jsonCodec = new JsonCodec(builder.jsonPerformanceProfile);
+    if (builder.jsonPerformanceProfile) {
+      jsonCodec.preResolve(builder.jsonTypes);
+    }
+    this.envelopeDecoder = new EnvelopeDecoder(jsonCodec);
+    this.metrics = new ClientMetrics(this);
+    this.compressionThreshold = builder.compressionThreshold;
+    this.backoff = new Backoff(BASE_RETRY_DELAY, builder.maxRetryDelay, builder.jitter);
+    this.retryBudget = builder.retryBudget;
+    this.rateLimiter = new RateLimiter(builder.rateLimits);
+    this.concurrencyLimiter =
+        builder.concurrencyLimit != null
+            ? new ConcurrencyLimiter(builder.concurrencyLimit, retryScheduler.handoff())
+            : null;
+    this.inFlightLimiter =
+        builder.maxInFlight != null
+            ? new InFlightLimiter(
+                builder.maxInFlight, builder.overflowPolicy, retryScheduler.handoff())
+            : null;
+    this.circuitBreakers =
+        builder.circuitBreaker != null ? new CircuitBreakers(builder.circuitBreaker) : null;
+    this.hedger = builder.hedgePolicy != null ? new Hedger(builder.hedgePolicy) : null;
+    this.singleFlight = builder.singleFlight ? new SingleFlight() : null;
+    this.responseCache =
+        builder.responseCache != null ? new ConditionalCache(builder.responseCache, apiKey) : null;
+    this.statsCache =
+        builder.statsTtls.isEmpty() ? null : new StatsCache(new EnumMap<>(builder.statsTtls));
+    this.deserializationExecutor = builder.deserializationExecutor;
+    this.defaultDeadlines = new EnumMap<>(builder.deadlines);
+    this.defaultAttemptTimeouts = new EnumMap<>(builder.attemptTimeouts);
+    // Socket timeouts would cut a longer attempt short, so those families get their own factory
+    this.familyCallFactories = new EnumMap<>(EndpointFamily.class);
+    defaultAttemptTimeouts.forEach(
+        (family, attemptTimeout) -> {
+          if (attemptTimeout.compareTo(builder.timeout) > 0) {
+            familyCallFactories.put(family, transport.callFactory(attemptTimeout));
+          }
+        });
+  }
+
+  /**
+   * Creates a new builder for HTTP client configuration.
+   *
+   * @return a new builder instance
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
 
-    this.objectMapper =
-        new ObjectMapper()
-            .registerModule(new JavaTimeModule())
-            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+  /**
+   * Returns live metrics for this client.
+   *
+   * @return the client metrics
+   */
+  public ClientMetrics metrics() {
+    return metrics;
+  }
+
+  PoolStats poolStats() {
+    return transport.stats();
+  }
+
+  List<ConnectionStats> connectionStats() {
+    return transport.connectionStats();
+  }
+
+  CompressionStats compressionStats() {
+    return compressionRecorder.snapshot();
+  }
+
+  RetryStats retryStats() {
+    return retryScheduler.stats();
+  }
+
+  Map<EndpointFamily, RateLimitStats> rateLimitStats() {
+    return rateLimiter.stats();
+  }
+
+  ConcurrencyStats concurrencyStats() {
+    return concurrencyLimiter != null
+        ? concurrencyLimiter.stats()
+        : new ConcurrencyStats(0, 0, 0, 0);
+  }
+
+  InFlightStats inFlightStats() {
+    return inFlightLimiter != null
+        ? inFlightLimiter.stats()
+        : new InFlightStats(0, 0, 0, 0, 0, 0);
+  }
+
+  Map<EndpointFamily, CircuitBreakerStats> circuitBreakerStats() {
+    return circuitBreakers != null ? circuitBreakers.stats() : Map.of();
+  }
+
+  HedgeStats hedgeStats() {
+    return hedger != null ? hedger.stats() : new HedgeStats(0, 0, 0);
+  }
+
+  SingleFlightStats singleFlightStats() {
+    return singleFlight != null ? singleFlight.stats() : new SingleFlightStats(0, 0);
+  }
+
+  Map<EndpointFamily, ResponseCacheStats> responseCacheStats() {
+    return responseCache != null ? responseCache.stats() : Map.of();
+  }
+
+  StatsCacheStats statsCacheStats() {
+    return statsCache != null ? statsCache.stats() : new StatsCacheStats(0, 0, 0, 0, Map.of());
+  }
+
+  CancellationStats cancellationStats() {
+    return new CancellationStats(cancelledBeforeSend.sum(), cancelledInFlight.sum());
+  }
+
+  StageTimingStats stageTimingStats() {
+    return stageTimer.snapshot();
+  }
+
+  RetryBudgetStats retryBudgetStats() {
+    return retryBudget != null ? retryBudget.stats() : new RetryBudgetStats(0, 0, 0);
   }
 
   // ==================== Sync Methods ====================
 
   public <T> T get(String path, Map<String, String> queryParams, Class<T> responseType) {
-    return executeWithRetry(() -> doGet(path, queryParams, responseType));
+    return get(path, queryParams, responseType, null);
+  }
+
+  public <T> T get(
+      String path, Map<String, String> queryParams, Class<T> responseType, RequestOptions options) {
+    ConditionalCache.Lookup lookup = lookup(getRequest(path, queryParams));
+    if (lookup.fresh() != null) {
+      return handleResponse(lookup.fresh(), responseType);
+    }
+    Request request = lookup.request();
+    if (singleFlight != null && options == null) {
+      return singleFlight.execute(
+          new FlightKey(path, queryParams, responseType),
+          () -> executeWithRetry(path, null, timeout -> doGet(request, responseType, timeout)));
+    }
+    return executeWithRetry(path, options, timeout -> doGet(request, responseType, timeout));
+  }
+
+  /**
+   * Performs a GET for an aggregate stats endpoint. When a {@link Builder#statsTtl stats TTL} is
+   * set for the path's endpoint family the result is served from the stats cache, and the same
+   * instance may be returned to many callers, so it must not be modified.
+   */
+  public <T> T getStats(String path, Class<T> responseType) {
+    if (statsCache == null || !statsCache.caches(EndpointFamily.of(path))) {
+      return get(path, null, responseType);
+    }
+    return statsCache.get(path, () -> getAsync(path, null, responseType));
   }
 
   public <T> T post(String path, Object body, Class<T> responseType, RequestOptions options) {
-    return executeWithRetry(() -> doPost(path, body, responseType, options));
+    return executeWithRetry(
+        path, options, timeout -> doPost(path, body, responseType, options, timeout));
   }
 
   public <T> T patch(String path, Object body, Class<T> responseType) {
-    return executeWithRetry(() -> doPatch(path, body, responseType));
+    return patch(path, body, responseType, null);
+  }
+
+  public <T> T patch(String path, Object body, Class<T> responseType, RequestOptions options) {
+    return executeWithRetry(path, options, timeout -> doPatch(path, body, responseType, timeout));
   }
 
   public <T> T put(String path, Object body, Class<T> responseType) {
-    return executeWithRetry(() -> doPut(path, body, responseType));
+    return put(path, body, responseType, null);
+  }
+
+  public <T> T put(String path, Object body, Class<T> responseType, RequestOptions options) {
+    return executeWithRetry(path, options, timeout -> doPut(path, body, responseType, timeout));
   }
 
   public void delete(String path) {
+    delete(path, null);
+  }
+
+  public void delete(String path, RequestOptions options) {
     executeWithRetry(
-        () -> {
-          doDelete(path);
+        path,
+        options,
+        timeout -> {
+          doDelete(path, timeout);
           return null;
         });
   }
@@ -80,161 +288,327 @@ public class MailBreezeHttpClient {
 
   public <T> CompletableFuture<T> getAsync(
       String path, Map<String, String> queryParams, Class<T> responseType) {
-    return executeWithRetryAsync(() -> doGetAsync(path, queryParams, responseType));
+    return getAsync(path, queryParams, responseType, null);
+  }
+
+  public <T> CompletableFuture<T> getAsync(
+      String path, Map<String, String> queryParams, Class<T> responseType, RequestOptions options) {
+    ConditionalCache.Lookup lookup = lookup(getRequest(path, queryParams));
+    if (lookup.fresh() != null) {
+      try {
+        return CompletableFuture.completedFuture(handleResponse(lookup.fresh(), responseType));
+      } catch (RuntimeException e) {
+        return CompletableFuture.failedFuture(e);
+      }
+    }
+    Request request = lookup.request();
+    if (singleFlight != null && options == null) {
+      return singleFlight.executeAsync(
+          new FlightKey(path, queryParams, responseType),
+          () ->
+              executeWithRetryAsync(
+                  path, null, timeout -> doGetAsync(request, responseType, timeout)));
+    }
+    return executeWithRetryAsync(
+        path, options, timeout -> doGetAsync(request, responseType, timeout));
   }
 
   public <T> CompletableFuture<T> postAsync(
       String path, Object body, Class<T> responseType, RequestOptions options) {
-    return executeWithRetryAsync(() -> doPostAsync(path, body, responseType, options));
+    return executeWithRetryAsync(
+        path, options, timeout -> doPostAsync(path, body, responseType, options, timeout));
   }
 
   public <T> CompletableFuture<T> patchAsync(String path, Object body, Class<T> responseType) {
-    return executeWithRetryAsync(() -> doPatchAsync(path, body, responseType));
+    return patchAsync(path, body, responseType, null);
   }
 
-  public CompletableFuture<Void> deleteAsync(String path) {
-    return executeWithRetryAsync(() -> doDeleteAsync(path));
+  public <T> CompletableFuture<T> patchAsync(
+      String path, Object body, Class<T> responseType, RequestOptions options) {
+    return executeWithRetryAsync(
+        path, options, timeout -> doPatchAsync(path, body, responseType, timeout));
   }
 
-  // ==================== Internal Request Methods ====================
-
-  private <T> T doGet(String path, Map<String, String> queryParams, Class<T> responseType) {
-    HttpUrl.Builder urlBuilder = HttpUrl.parse(baseUrl + path).newBuilder();
-    if (queryParams != null) {
-      queryParams.forEach(urlBuilder::addQueryParameter);
-    }
+  public <T> CompletableFuture<T> putAsync(String path, Object body, Class<T> responseType) {
+    return putAsync(path, body, responseType, null);
+  }
 
-    Request request =
-        new Request.Builder().url(urlBuilder.build()).headers(buildHeaders(null)).get().build();
+  public <T> CompletableFuture<T> putAsync(
+      String path, Object body, Class<T> responseType, RequestOptions options) {
+    return executeWithRetryAsync(
+        path, options, timeout -> doPutAsync(path, body, responseType, timeout));
+  }
 
-    return executeRequest(request, responseType);
+  /**
+   * Async variant of {@link #getStats}. A result served from the stats cache completes
+   * immediately; cancelling a future that waits for a cached fetch does not cancel the fetch,
+   * which other callers may share.
+   */
+  public <T> CompletableFuture<T> getStatsAsync(String path, Class<T> responseType) {
+    if (statsCache == null || !statsCache.caches(EndpointFamily.of(path))) {
+      return getAsync(path, null, responseType);
+    }
+    return statsCache.getAsync(path, () -> getAsync(path, null, responseType));
   }
 
-  private <T> T doPost(String path, Object body, Class<T> responseType, RequestOptions options) {
-    Request request =
-        new Request.Builder()
-            .url(baseUrl + path)
-            .headers(buildHeaders(options))
-            .post(createJsonBody(body))
-            .build();
+  public CompletableFuture<Void> deleteAsync(String path) {
+    return deleteAsync(path, null);
+  }
 
-    return executeRequest(request, responseType);
+  public CompletableFuture<Void> deleteAsync(String path, RequestOptions options) {
+    return executeWithRetryAsync(path, options, timeout -> doDeleteAsync(path, timeout));
   }
 
-  private <T> T doPatch(String path, Object body, Class<T> responseType) {
-    Request request =
-        new Request.Builder()
-            .url(baseUrl + path)
-            .headers(buildHeaders(null))
-            .patch(createJsonBody(body))
-            .build();
+  // ==================== Internal Request Methods ====================
 
-    return executeRequest(request, responseType);
+  private <T> T doGet(Request request, Class<T> responseType, long timeout) {
+    if (hedger != null) {
+      return new HedgedGet<>(request, responseType, timeout).execute();
+    }
+    return executeRequest(request, responseType, timeout);
   }
 
-  private <T> T doPut(String path, Object body, Class<T> responseType) {
-    Request request =
-        new Request.Builder()
-            .url(baseUrl + path)
-            .headers(buildHeaders(null))
-            .put(createJsonBody(body))
-            .build();
+  private <T> T doPost(
+      String path, Object body, Class<T> responseType, RequestOptions options, long timeout) {
+    return executeRequest(jsonRequest("POST", path, body, options), responseType, timeout);
+  }
 
-    return executeRequest(request, responseType);
+  private <T> T doPatch(String path, Object body, Class<T> responseType, long timeout) {
+    return executeRequest(jsonRequest("PATCH", path, body, null), responseType, timeout);
   }
 
-  private void doDelete(String path) {
-    Request request =
-        new Request.Builder().url(baseUrl + path).headers(buildHeaders(null)).delete().build();
+  private <T> T doPut(String path, Object body, Class<T> responseType, long timeout) {
+    return executeRequest(jsonRequest("PUT", path, body, null), responseType, timeout);
+  }
 
-    executeRequest(request, Void.class);
+  private void doDelete(String path, long timeout) {
+    executeRequest(deleteRequest(path), Void.class, timeout);
   }
 
   // ==================== Async Internal Methods ====================
 
   private <T> CompletableFuture<T> doGetAsync(
-      String path, Map<String, String> queryParams, Class<T> responseType) {
-    HttpUrl.Builder urlBuilder = HttpUrl.parse(baseUrl + path).newBuilder();
-    if (queryParams != null) {
-      queryParams.forEach(urlBuilder::addQueryParameter);
+      Request request, Class<T> responseType, long timeout) {
+    if (hedger != null) {
+      return new HedgedGet<>(request, responseType, timeout).start();
     }
-
-    Request request =
-        new Request.Builder().url(urlBuilder.build()).headers(buildHeaders(null)).get().build();
-
-    return executeRequestAsync(request, responseType);
+    return executeCallAsync(newCall(request, timeout), responseType);
   }
 
   private <T> CompletableFuture<T> doPostAsync(
-      String path, Object body, Class<T> responseType, RequestOptions options) {
-    Request request =
-        new Request.Builder()
-            .url(baseUrl + path)
-            .headers(buildHeaders(options))
-            .post(createJsonBody(body))
-            .build();
+      String path, Object body, Class<T> responseType, RequestOptions options, long timeout) {
+    return executeCallAsync(
+        newCall(jsonRequest("POST", path, body, options), timeout), responseType);
+  }
 
-    return executeRequestAsync(request, responseType);
+  private <T> CompletableFuture<T> doPatchAsync(
+      String path, Object body, Class<T> responseType, long timeout) {
+    return executeCallAsync(newCall(jsonRequest("PATCH", path, body, null), timeout), responseType);
   }
 
-  private <T> CompletableFuture<T> doPatchAsync(String path, Object body, Class<T> responseType) {
-    Request request =
-        new Request.Builder()
-            .url(baseUrl + path)
-            .headers(buildHeaders(null))
-            .patch(createJsonBody(body))
-            .build();
+  private <T> CompletableFuture<T> doPutAsync(
+      String path, Object body, Class<T> responseType, long timeout) {
+    return executeCallAsync(newCall(jsonRequest("PUT", path, body, null), timeout), responseType);
+  }
 
-    return executeRequestAsync(request, responseType);
+  private CompletableFuture<Void> doDeleteAsync(String path, long timeout) {
+    return executeCallAsync(newCall(deleteRequest(path), timeout), Void.class);
   }
 
-  private CompletableFuture<Void> doDeleteAsync(String path) {
-    Request request =
-        new Request.Builder().url(baseUrl + path).headers(buildHeaders(null)).delete().build();
+  // ==================== Request Execution ====================
 
-    return executeRequestAsync(request, Void.class);
+  /**
+   * Creates a call for one attempt.
+   *
+   * @param timeout the attempt timeout in milliseconds, covering the whole exchange; 0 for none.
+   *     Socket timeouts still apply, so a per-call timeout longer than the client timeout only
+   *     takes full effect for families whose default attempt timeout is at least as long.
+   */
+  private Call newCall(Request request, long timeout) {
+    Call.Factory factory =
+        familyCallFactories.getOrDefault(request.tag(EndpointFamily.class), callFactory);
+    // Each call gets its own timing tag, since a GET's request is shared by retries and hedges
+    Request timed = request.newBuilder().tag(ExchangeTiming.class, new ExchangeTiming()).build();
+    Call call = factory.newCall(timed);
+    if (timeout > 0) {
+      call.timeout().timeout(timeout, TimeUnit.MILLISECONDS);
+    }
+    return call;
   }
 
-  // ==================== Request Execution ====================
+  private <T> T executeRequest(Request request, Class<T> responseType, long timeout) {
+    return executeRequest(newCall(request, timeout), responseType);
+  }
 
-  private <T> T executeRequest(Request request, Class<T> responseType) {
-    try (Response response = okHttpClient.newCall(request).execute()) {
-      return handleResponse(response, responseType);
+  private <T> T executeRequest(Call httpCall, Class<T> responseType) {
+    Request request = httpCall.request();
+    long startedAt = System.nanoTime();
+    try (Response response = httpCall.execute()) {
+      stageTimer.headers(sinceSent(request, startedAt));
+      rateLimiter.observe(request.tag(EndpointFamily.class), response);
+      return handleResponse(cached(request, response), responseType);
     } catch (IOException e) {
       throw new MailBreezeException(0, "NETWORK_ERROR", "Network error: " + e.getMessage());
     }
   }
 
-  private <T> CompletableFuture<T> executeRequestAsync(Request request, Class<T> responseType) {
-    CompletableFuture<T> future = new CompletableFuture<>();
-
-    okHttpClient
-        .newCall(request)
-        .enqueue(
-            new Callback() {
-              @Override
-              public void onFailure(Call call, IOException e) {
-                future.completeExceptionally(
-                    new MailBreezeException(
-                        0, "NETWORK_ERROR", "Network error: " + e.getMessage()));
-              }
-
-              @Override
-              public void onResponse(Call call, Response response) {
-                try (response) {
-                  T result = handleResponse(response, responseType);
-                  future.complete(result);
-                } catch (Exception e) {
-                  future.completeExceptionally(e);
-                }
-              }
-            });
+  private <T> ExchangeFuture<T> executeCallAsync(Call httpCall, Class<T> responseType) {
+    ExchangeFuture<T> future = new ExchangeFuture<>();
+    Request request = httpCall.request();
+    future.whenComplete(
+        (value, error) -> {
+          if (future.isCancelled()) {
+            httpCall.cancel();
+          }
+        });
+
+    long enqueuedAt = System.nanoTime();
+    transport.enqueue(
+        tenant,
+        httpCall,
+        new Callback() {
+          @Override
+          public void onFailure(Call call, IOException e) {
+            future.completeExceptionally(
+                new MailBreezeException(0, "NETWORK_ERROR", "Network error: " + e.getMessage()));
+          }
+
+          @Override
+          public void onResponse(Call call, Response response) {
+            long headersNanos = sinceSent(request, enqueuedAt);
+            stageTimer.headers(headersNanos);
+            future.latencyNanos = headersNanos;
+            if (deserializationExecutor != null) {
+              offload(request, response, responseType, future);
+              return;
+            }
+            try (response) {
+              rateLimiter.observe(request.tag(EndpointFamily.class), response);
+              T result = handleResponse(cached(request, response), responseType);
+              future.complete(result);
+            } catch (IOException e) {
+              future.completeExceptionally(
+                  new MailBreezeException(0, "NETWORK_ERROR", "Network error: " + e.getMessage()));
+            } catch (Exception e) {
+              future.completeExceptionally(e);
+            }
+          }
+        });
 
     return future;
   }
 
-  @SuppressWarnings("unchecked")
+  /**
+   * Reads the body on the dispatcher thread, where the I/O completed, and binds it on the
+   * deserialization executor. Runs the bind inline if the executor rejects it.
+   */
+  private <T> void offload(
+      Request request, Response response, Class<T> responseType, CompletableFuture<T> future) {
+    Response handled;
+    try {
+      rateLimiter.observe(request.tag(EndpointFamily.class), response);
+      handled = cached(request, response);
+    } catch (Exception e) {
+      response.close();
+      future.completeExceptionally(
+          e instanceof IOException
+              ? new MailBreezeException(0, "NETWORK_ERROR", "Network error: " + e.getMessage())
+              : e);
+      return;
+    }
+    if (handled != response) {
+      response.close();
+    }
+    ResponseBody body = handled.body();
+    if (body != null) {
+      long readStart = System.nanoTime();
+      try {
+        body.source().request(Long.MAX_VALUE);
+      } catch (IOException e) {
+        handled.close();
+        future.completeExceptionally(
+            new MailBreezeException(
+                handled.code(),
+                "RESPONSE_READ_ERROR",
+                "Failed to read response body",
+                handled.header("X-Request-Id"),
+                null));
+        return;
+      }
+      stageTimer.bodyRead(System.nanoTime() - readStart);
+    }
+
+    long queuedAt = System.nanoTime();
+    Runnable bind =
+        () -> {
+          try (handled) {
+            if (!future.isDone()) {
+              future.complete(handleResponse(handled, responseType, true));
+            }
+          } catch (Exception e) {
+            future.completeExceptionally(e);
+          }
+        };
+    try {
+      deserializationExecutor.execute(
+          () -> {
+            stageTimer.handoff(System.nanoTime() - queuedAt);
+            bind.run();
+          });
+    } catch (RejectedExecutionException e) {
+      bind.run();
+    }
+  }
+
+  /**
+   * Checks the response cache once per GET: a fresh entry is served as is, and a stale one adds
+   * its validators to the request sent by every attempt.
+   */
+  private ConditionalCache.Lookup lookup(Request request) {
+    return responseCache != null
+        ? responseCache.lookup(request)
+        : new ConditionalCache.Lookup(null, request);
+  }
+
+  /** Lets the response cache store a response or answer a 304 from the entry it revalidated. */
+  private Response cached(Request request, Response response) throws IOException {
+    return responseCache != null ? responseCache.onResponse(request, response) : response;
+  }
+
+  /**
+   * Returns the nanoseconds since the transport started the exchange, excluding any dispatcher or
+   * fair-queue wait, or since {@code fallbackStart} for requests without a timing tag.
+   */
+  private static long sinceSent(Request request, long fallbackStart) {
+    ExchangeTiming timing = request.tag(ExchangeTiming.class);
+    return timing != null ? timing.elapsedNanos() : System.nanoTime() - fallbackStart;
+  }
+
+  /** Waits for an async request on the calling thread, rethrowing its failure unwrapped. */
+  static <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new MailBreezeException(0, "INTERRUPTED", "Request interrupted");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new MailBreezeException(0, "NETWORK_ERROR", "Network error: " + e.getCause());
+    }
+  }
+
   private <T> T handleResponse(Response response, Class<T> responseType) {
+    return handleResponse(response, responseType, false);
+  }
+
+  /**
+   * Decodes a response. A {@code buffered} body was already read, and its read time recorded,
+   * before the decode; reading it again from memory counts as bind time.
+   */
+  private <T> T handleResponse(Response response, Class<T> responseType, boolean buffered) {
     String requestId = response.header("X-Request-Id");
     Integer retryAfter = parseRetryAfter(response.header("Retry-After"));
 
@@ -243,19 +617,15 @@ public class MailBreezeHttpClient {
       return null;
     }
 
-    String bodyString;
+    // Decode the envelope straight from the body stream
+    EnvelopeDecoder.Envelope<T> envelope;
+    long decodeStart = System.nanoTime();
+    ResponseBody body = response.body();
+    StageTimer.TimedInputStream in =
+        new StageTimer.TimedInputStream(
+            body != null ? body.byteStream() : InputStream.nullInputStream());
     try {
-      ResponseBody body = response.body();
-      bodyString = body != null ? body.string() : "";
-    } catch (IOException e) {
-      throw new MailBreezeException(
-          response.code(), "RESPONSE_READ_ERROR", "Failed to read response body", requestId, null);
-    }
-
-    // Parse response envelope
-    ApiResponse apiResponse;
-    try {
-      apiResponse = objectMapper.readValue(bodyString, ApiResponse.class);
+      envelope = envelopeDecoder.decode(in, responseType);
     } catch (JsonProcessingException e) {
       // If we can't parse the response, check HTTP status
       if (response.code() >= 400) {
@@ -268,14 +638,17 @@ public class MailBreezeHttpClient {
           "Failed to parse response: " + e.getMessage(),
           requestId,
           null);
+    } catch (IOException e) {
+      throw new MailBreezeException(
+          response.code(), "RESPONSE_READ_ERROR", "Failed to read response body", requestId, null);
+    } finally {
+      stageTimer.decoded(System.nanoTime() - decodeStart, buffered ? 0 : in.readNanos());
     }
 
     // Check for API error (success=false)
-    if (!apiResponse.isSuccess() || apiResponse.getError() != null) {
-      String message =
-          apiResponse.getError() != null ? apiResponse.getError().getMessage() : "Unknown error";
-      Map<String, Object> details =
-          apiResponse.getError() != null ? apiResponse.getError().getDetails() : null;
+    if (envelope.error != null || (!envelope.success && envelope.dataError == null)) {
+      String message = envelope.error != null ? envelope.error.getMessage() : "Unknown error";
+      Map<String, Object> details = envelope.error != null ? envelope.error.getDetails() : null;
       throw createExceptionFromStatus(response.code(), message, requestId, retryAfter, details);
     }
 
@@ -284,104 +657,433 @@ public class MailBreezeHttpClient {
       throw createExceptionFromStatus(response.code(), "HTTP error", requestId, retryAfter, null);
     }
 
-    // Return data from envelope
-    if (responseType == Void.class) {
-      return null;
-    }
-
-    try {
-      if (apiResponse.getData() == null) {
-        return null;
-      }
-      // For JsonNode type, return directly without conversion
-      if (responseType == JsonNode.class) {
-        @SuppressWarnings("unchecked")
-        T result = (T) apiResponse.getData();
-        return result;
-      }
-      return objectMapper.treeToValue(apiResponse.getData(), responseType);
-    } catch (JsonProcessingException e) {
+    if (envelope.dataError != null) {
       throw new MailBreezeException(
           response.code(),
           "PARSE_ERROR",
-          "Failed to parse response data: " + e.getMessage(),
+          "Failed to parse response data: " + envelope.dataError.getMessage(),
           requestId,
           null);
     }
+
+    // Return data from envelope
+    return envelope.data;
   }
 
   // ==================== Retry Logic ====================
 
-  private <T> T executeWithRetry(RequestSupplier<T> supplier) {
-    MailBreezeException lastException = null;
-
-    for (int attempt = 0; attempt <= maxRetries; attempt++) {
+  private <T> T executeWithRetry(
+      String path, RequestOptions options, RequestSupplier<T> supplier) {
+    EndpointFamily endpoint = EndpointFamily.of(path);
+    Deadline deadline = deadline(endpoint, options);
+    long attemptTimeout = attemptTimeout(endpoint, options);
+    MailBreezeException lastError = null;
+    long delay = 0;
+
+    for (int attempt = 0; ; attempt++) {
+      sleepWithin(deadline, retryScheduler.pauseRemaining(endpoint), lastError);
+      acquireCircuit(endpoint);
+      long timeout;
+      try {
+        sleepWithin(deadline, rateLimiter.reserve(endpoint), lastError);
+        timeout = attemptTimeout(deadline, attemptTimeout, lastError);
+      } catch (RuntimeException e) {
+        releaseCircuit(endpoint);
+        throw e;
+      }
+      long start = System.nanoTime();
       try {
-        return supplier.execute();
+        T result = supplier.execute(timeout);
+        recordCircuit(endpoint, System.nanoTime() - start, null);
+        recordSuccess();
+        return result;
       } catch (MailBreezeException e) {
-        lastException = e;
+        recordCircuit(endpoint, System.nanoTime() - start, e);
+        recordPause(endpoint, e);
         if (!e.isRetryable() || attempt >= maxRetries) {
           throw e;
         }
-        sleep(calculateRetryDelay(attempt, e));
+        acquireRetry(e);
+        delay = calculateRetryDelay(attempt, delay, e);
+        sleepWithin(deadline, delay, e);
+        lastError = e;
       }
     }
+  }
 
-    throw lastException;
+  private <T> CompletableFuture<T> executeWithRetryAsync(
+      String path, RequestOptions options, AsyncRequestSupplier<T> supplier) {
+    EndpointFamily endpoint = EndpointFamily.of(path);
+    AsyncCall<T> call =
+        new AsyncCall<>(
+            endpoint,
+            supplier,
+            deadline(endpoint, options),
+            attemptTimeout(endpoint, options));
+    call.result.whenComplete((value, error) -> onAsyncCallDone(call));
+    if (inFlightLimiter == null) {
+      attemptAsync(call);
+      return call.result;
+    }
+    CompletableFuture<Void> permit = inFlightLimiter.acquire();
+    call.await(permit, false);
+    if (inFlightLimiter.policy() == OverflowPolicy.BLOCK && !permit.isDone()) {
+      try {
+        if (call.deadline != null) {
+          permit.get(Math.max(call.deadline.remainingMillis(), 0), TimeUnit.MILLISECONDS);
+        } else {
+          permit.get();
+        }
+      } catch (TimeoutException e) {
+        if (!permit.cancel(false)) {
+          inFlightLimiter.release();
+        }
+        return CompletableFuture.failedFuture(
+            new DeadlineExceededException(call.deadline.millis(), null));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        // A permit granted between the interrupt and the cancel must be handed back
+        if (!permit.cancel(false)) {
+          inFlightLimiter.release();
+        }
+        return CompletableFuture.failedFuture(
+            new MailBreezeException(0, "INTERRUPTED", "Interrupted waiting for a permit"));
+      } catch (ExecutionException e) {
+        return CompletableFuture.failedFuture(e.getCause());
+      }
+    }
+    withinDeadline(call, permit);
+    permit.whenComplete(
+        (granted, error) -> {
+          if (error != null) {
+            call.result.completeExceptionally(error);
+            return;
+          }
+          // The permit covers every attempt of the call, so it is returned once the result is final
+          call.result.whenComplete((value, failure) -> inFlightLimiter.release());
+          attemptAsync(call);
+        });
+    return call.result;
   }
 
-  private <T> CompletableFuture<T> executeWithRetryAsync(AsyncRequestSupplier<T> supplier) {
-    return executeWithRetryAsync(supplier, 0, null);
+  /**
+   * Waits out any endpoint pause, checks the circuit breaker and waits out the rate limit, then
+   * sends one attempt. Each attempt completes the same result future rather than chaining a new
+   * stage per retry.
+   */
+  private <T> void attemptAsync(AsyncCall<T> call) {
+    if (call.result.isDone()) {
+      return;
+    }
+    long paused = retryScheduler.pauseRemaining(call.endpoint);
+    if (paused > 0) {
+      if (!fitsDeadline(call, paused)) {
+        return;
+      }
+      afterDelay(call, paused, () -> attemptAsync(call));
+      return;
+    }
+    if (circuitBreakers != null) {
+      if (!circuitBreakers.tryAcquire(call.endpoint)) {
+        call.result.completeExceptionally(circuitOpen(call.endpoint));
+        return;
+      }
+      // Handed back by onAsyncCallDone if the call ends before this attempt has an outcome
+      call.circuitHeld.set(true);
+      if (call.result.isDone()) {
+        releaseCircuit(call);
+        return;
+      }
+    }
+    long throttled = rateLimiter.reserve(call.endpoint);
+    if (!fitsDeadline(call, throttled)) {
+      return;
+    }
+    if (throttled > 0) {
+      afterDelay(call, throttled, () -> acquireAndSend(call));
+    } else {
+      acquireAndSend(call);
+    }
   }
 
-  private <T> CompletableFuture<T> executeWithRetryAsync(
-      AsyncRequestSupplier<T> supplier, int attempt, MailBreezeException lastException) {
-    if (attempt > maxRetries) {
-      return CompletableFuture.failedFuture(lastException);
-    }
-
-    return supplier
-        .execute()
-        .exceptionally(
-            ex -> {
-              throw wrapException(ex);
-            })
-        .thenApply(result -> result)
-        .exceptionallyCompose(
-            ex -> {
-              Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
-              if (cause instanceof MailBreezeException mbe) {
-                if (!mbe.isRetryable() || attempt >= maxRetries) {
-                  return CompletableFuture.failedFuture(mbe);
-                }
-
-                long delay = calculateRetryDelay(attempt, mbe);
-                return CompletableFuture.supplyAsync(
-                        () -> null, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
-                    .thenCompose(ignored -> executeWithRetryAsync(supplier, attempt + 1, mbe));
-              }
-              return CompletableFuture.failedFuture(cause);
-            });
-  }
-
-  private RuntimeException wrapException(Throwable ex) {
-    if (ex instanceof RuntimeException re) {
-      return re;
-    }
-    return new RuntimeException(ex);
-  }
-
-  private long calculateRetryDelay(int attempt, MailBreezeException exception) {
+  /** Takes a concurrency limiter slot, if a limit is configured, before sending. */
+  private <T> void acquireAndSend(AsyncCall<T> call) {
+    if (concurrencyLimiter == null) {
+      sendAsync(call, null);
+      return;
+    }
+    CompletableFuture<ConcurrencyLimiter.Permit> acquired = concurrencyLimiter.acquire();
+    call.await(acquired, false);
+    withinDeadline(call, acquired);
+    acquired.whenComplete(
+        (permit, error) -> {
+          if (error != null) {
+            call.result.completeExceptionally(error);
+          } else {
+            sendAsync(call, permit);
+          }
+        });
+  }
+
+  /** Sends one attempt and, on a retryable failure, schedules the next on the retry scheduler. */
+  private <T> void sendAsync(AsyncCall<T> call, ConcurrencyLimiter.Permit permit) {
+    if (call.result.isDone()) {
+      if (permit != null) {
+        permit.cancel();
+      }
+      return;
+    }
+    CompletableFuture<T> future;
+    long start = System.nanoTime();
+    try {
+      long timeout = attemptTimeout(call.deadline, call.attemptTimeout, call.lastError);
+      future = call.supplier.execute(timeout);
+    } catch (RuntimeException e) {
+      if (permit != null) {
+        permit.release(e);
+      }
+      recordCircuit(call, System.nanoTime() - start, e);
+      call.result.completeExceptionally(e);
+      return;
+    }
+    call.await(future, true);
+    future.whenComplete(
+        (value, error) -> {
+          if (call.result.isDone()) {
+            // Cancelled by the caller; the outcome says nothing about the API
+            if (permit != null) {
+              permit.cancel();
+            }
+            return;
+          }
+          Throwable cause =
+              error instanceof CompletionException && error.getCause() != null
+                  ? error.getCause()
+                  : error;
+          if (permit != null) {
+            permit.release(cause);
+          }
+          // Time the API took to answer, without dispatcher queueing or response binding
+          long latency =
+              future instanceof ExchangeFuture<?> exchange && exchange.latencyNanos >= 0
+                  ? exchange.latencyNanos
+                  : System.nanoTime() - start;
+          recordCircuit(call, latency, cause);
+          if (cause == null) {
+            recordSuccess();
+            call.result.complete(value);
+            return;
+          }
+          if (!(cause instanceof MailBreezeException mbe)) {
+            call.result.completeExceptionally(cause);
+            return;
+          }
+          recordPause(call.endpoint, mbe);
+          if (!mbe.isRetryable() || call.attempt >= maxRetries) {
+            call.result.completeExceptionally(mbe);
+            return;
+          }
+          try {
+            acquireRetry(mbe);
+          } catch (RetryBudgetExhaustedException e) {
+            call.result.completeExceptionally(e);
+            return;
+          }
+          call.previousDelay = calculateRetryDelay(call.attempt, call.previousDelay, mbe);
+          call.attempt++;
+          call.lastError = mbe;
+          if (fitsDeadline(call, call.previousDelay)) {
+            afterDelay(call, call.previousDelay, () -> attemptAsync(call));
+          }
+        });
+  }
+
+  private void afterDelay(AsyncCall<?> call, long millis, Runnable next) {
+    CompletableFuture<Void> delay = retryScheduler.delay(millis);
+    call.await(delay, false);
+    delay.whenComplete(
+        (ignored, error) -> {
+          if (error != null) {
+            call.result.completeExceptionally(error);
+          } else {
+            next.run();
+          }
+        });
+  }
+
+  /**
+   * Stops whatever an async call is waiting on once its result is complete. When the caller
+   * cancelled the result or it timed out via {@code orTimeout}, this cancels the in-flight HTTP
+   * call or drops the pending wait, so no further attempt is made.
+   */
+  private void onAsyncCallDone(AsyncCall<?> call) {
+    releaseCircuit(call);
+    AsyncCall.Stage stage = call.stage;
+    boolean inFlight = stage != null && stage.inFlight() && !stage.future().isDone();
+    if (stage != null) {
+      stage.future().cancel(true);
+    }
+    if (isCancellation(call.result)) {
+      (inFlight ? cancelledInFlight : cancelledBeforeSend).increment();
+    }
+  }
+
+  private static boolean isCancellation(CompletableFuture<?> result) {
+    if (result.isCancelled()) {
+      return true;
+    }
+    try {
+      result.getNow(null);
+      return false;
+    } catch (CompletionException e) {
+      return e.getCause() instanceof TimeoutException;
+    } catch (CancellationException e) {
+      return true;
+    }
+  }
+
+  /** A Retry-After on a 429 pauses every request to the same endpoint family. */
+  private void recordPause(EndpointFamily endpoint, MailBreezeException exception) {
+    if (exception instanceof RateLimitException rle && rle.getRetryAfter() != null) {
+      retryScheduler.pause(endpoint, rle.getRetryAfter() * 1000L);
+    }
+  }
+
+  private void recordSuccess() {
+    if (retryBudget != null) {
+      retryBudget.recordSuccess();
+    }
+  }
+
+  /** Fails fast instead of retrying when the retry budget is used up. */
+  private void acquireRetry(MailBreezeException exception) {
+    if (retryBudget != null && !retryBudget.tryAcquire()) {
+      throw new RetryBudgetExhaustedException(exception);
+    }
+  }
+
+  /** Honors Retry-After as sent by the server; otherwise backs off with jitter up to the cap. */
+  private long calculateRetryDelay(int attempt, long previousDelay, MailBreezeException exception) {
     if (exception instanceof RateLimitException rle && rle.getRetryAfter() != null) {
       return rle.getRetryAfter() * 1000L;
     }
-    // Exponential backoff: 1s, 2s, 4s, 8s...
-    return (1L << attempt) * 1000L;
+    return backoff.delayMillis(attempt, previousDelay);
+  }
+
+  // ==================== Deadlines ====================
+
+  private Deadline deadline(EndpointFamily endpoint, RequestOptions options) {
+    Duration deadline = options != null ? options.getDeadline() : null;
+    if (deadline == null) {
+      deadline = defaultDeadlines.get(endpoint);
+    }
+    return deadline != null ? Deadline.after(deadline) : null;
+  }
+
+  private long attemptTimeout(EndpointFamily endpoint, RequestOptions options) {
+    Duration timeout = options != null ? options.getAttemptTimeout() : null;
+    if (timeout == null) {
+      timeout = defaultAttemptTimeouts.get(endpoint);
+    }
+    return timeout != null ? timeout.toMillis() : 0;
+  }
+
+  /**
+   * Returns the timeout for the next attempt: the per-attempt timeout cut to the time left before
+   * the deadline, or 0 for none.
+   *
+   * @throws DeadlineExceededException if the deadline has already passed
+   */
+  private static long attemptTimeout(
+      Deadline deadline, long attemptTimeout, MailBreezeException lastError) {
+    if (deadline == null) {
+      return attemptTimeout;
+    }
+    long remaining = deadline.remainingMillis();
+    if (remaining <= 0) {
+      throw new DeadlineExceededException(deadline.millis(), lastError);
+    }
+    return attemptTimeout > 0 ? Math.min(attemptTimeout, remaining) : remaining;
+  }
+
+  /** Sleeps unless the wait would outlast the deadline, in which case the call fails now. */
+  private void sleepWithin(Deadline deadline, long millis, MailBreezeException lastError) {
+    if (deadline != null && millis > 0 && millis >= deadline.remainingMillis()) {
+      throw new DeadlineExceededException(deadline.millis(), lastError);
+    }
+    sleep(millis);
+  }
+
+  /**
+   * Fails the call once its deadline passes if it is still waiting for a limiter permit. Failing
+   * the result cancels the wait, which takes the waiter out of the limiter's queue.
+   */
+  private void withinDeadline(AsyncCall<?> call, CompletableFuture<?> wait) {
+    if (call.deadline == null || wait.isDone()) {
+      return;
+    }
+    CompletableFuture<Void> timer = retryScheduler.timer(call.deadline.remainingMillis());
+    timer.thenRun(
+        () ->
+            call.result.completeExceptionally(
+                new DeadlineExceededException(call.deadline.millis(), call.lastError)));
+    wait.whenComplete((value, error) -> timer.cancel(false));
+  }
+
+  /** Fails the call and returns false if waiting the given time would outlast its deadline. */
+  private static boolean fitsDeadline(AsyncCall<?> call, long millis) {
+    if (call.deadline != null && millis > 0 && millis >= call.deadline.remainingMillis()) {
+      call.result.completeExceptionally(
+          new DeadlineExceededException(call.deadline.millis(), call.lastError));
+      return false;
+    }
+    return true;
+  }
+
+  /** Fails fast with {@link CircuitOpenException} if the family's circuit breaker is open. */
+  private void acquireCircuit(EndpointFamily endpoint) {
+    if (circuitBreakers != null && !circuitBreakers.tryAcquire(endpoint)) {
+      throw circuitOpen(endpoint);
+    }
+  }
+
+  private void recordCircuit(EndpointFamily endpoint, long elapsedNanos, Throwable error) {
+    if (circuitBreakers != null) {
+      circuitBreakers.onResult(endpoint, elapsedNanos, error);
+    }
+  }
+
+  /** Records an async attempt's outcome against the circuit permit it holds, if any. */
+  private void recordCircuit(AsyncCall<?> call, long elapsedNanos, Throwable error) {
+    if (call.circuitHeld.compareAndSet(true, false)) {
+      circuitBreakers.onResult(call.endpoint, elapsedNanos, error);
+    }
+  }
+
+  /** Hands back a circuit permit whose attempt was abandoned before it had an outcome. */
+  private void releaseCircuit(EndpointFamily endpoint) {
+    if (circuitBreakers != null) {
+      circuitBreakers.release(endpoint);
+    }
+  }
+
+  /** Hands back the circuit permit an async call holds, if its attempt has no outcome yet. */
+  private void releaseCircuit(AsyncCall<?> call) {
+    if (call.circuitHeld.compareAndSet(true, false)) {
+      circuitBreakers.release(call.endpoint);
+    }
+  }
+
+  private static CircuitOpenException circuitOpen(EndpointFamily endpoint) {
+    return new CircuitOpenException(endpoint.name().toLowerCase(Locale.ROOT));
   }
 
   private void sleep(long millis) {
+    if (millis <= 0) {
+      return;
+    }
     try {
-      Thread.sleep(millis);
+      retryScheduler.await(millis);
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       throw new MailBreezeException(0, "INTERRUPTED", "Request interrupted");
@@ -391,26 +1093,82 @@ public class MailBreezeHttpClient {
   // ==================== Helpers ====================
 
   private Headers buildHeaders(RequestOptions options) {
-    Headers.Builder builder =
-        new Headers.Builder()
-            .add("Content-Type", "application/json")
-            .add("X-API-Key", apiKey)
-            .add("User-Agent", "mailbreeze-java/" + VERSION);
+    if (options == null || options.getIdempotencyKey() == null) {
+      return defaultHeaders;
+    }
+    return defaultHeaders
+        .newBuilder()
+        .add("X-Idempotency-Key", options.getIdempotencyKey())
+        .build();
+  }
 
-    if (options != null && options.getIdempotencyKey() != null) {
-      builder.add("X-Idempotency-Key", options.getIdempotencyKey());
+  /**
+   * Resolves a resource path against the cached base URL. The path may carry its own query string
+   * (e.g. {@code /123?includeResults=true}).
+   */
+  private HttpUrl.Builder urlBuilder(String path) {
+    HttpUrl.Builder builder = baseHttpUrl.newBuilder();
+    int queryStart = path.indexOf('?');
+    int pathEnd = queryStart >= 0 ? queryStart : path.length();
+    if (pathEnd > 1) {
+      builder.addEncodedPathSegments(path.substring(1, pathEnd));
     }
+    if (queryStart >= 0) {
+      builder.encodedQuery(path.substring(queryStart + 1));
+    }
+    return builder;
+  }
 
+  private Request getRequest(String path, Map<String, String> queryParams) {
+    HttpUrl.Builder url = urlBuilder(path);
+    if (queryParams != null) {
+      queryParams.forEach(url::addQueryParameter);
+    }
+    return new Request.Builder()
+        .url(url.build())
+        .headers(defaultHeaders)
+        .tag(EndpointFamily.class, EndpointFamily.of(path))
+        .get()
+        .build();
+  }
+
+  private Request deleteRequest(String path) {
+    return new Request.Builder()
+        .url(urlBuilder(path).build())
+        .headers(defaultHeaders)
+        .tag(EndpointFamily.class, EndpointFamily.of(path))
+        .delete()
+        .build();
+  }
+
+  Request jsonRequest(String method, String path, Object body, RequestOptions options) {
+    JsonRequestBody requestBody = createJsonBody(body);
+    Request.Builder builder =
+        new Request.Builder()
+            .url(urlBuilder(path).build())
+            .headers(buildHeaders(options))
+            .tag(EndpointFamily.class, EndpointFamily.of(path))
+            .method(method, requestBody);
+    if (requestBody.isGzip()) {
+      builder
+          .header("Content-Encoding", "gzip")
+          .tag(CompressionStats.class, requestBody.compression());
+    }
     return builder.build();
   }
 
-  private RequestBody createJsonBody(Object body) {
+  private JsonRequestBody createJsonBody(Object body) {
+    Buffer json = new Buffer();
     try {
-      String json = objectMapper.writeValueAsString(body);
-      return RequestBody.create(json, JSON);
-    } catch (JsonProcessingException e) {
+      Class<?> type = body != null ? body.getClass() : Object.class;
+      jsonCodec.writer(type).writeValue(json.outputStream(), body);
+      if (compressionThreshold >= 0 && json.size() >= compressionThreshold) {
+        return JsonRequestBody.gzip(json, compressionRecorder);
+      }
+    } catch (IOException e) {
       throw new MailBreezeException(0, "SERIALIZATION_ERROR", "Failed to serialize request body");
     }
+    return JsonRequestBody.plain(json);
   }
 
   private MailBreezeException createExceptionFromStatus(
@@ -434,14 +1192,8 @@ public class MailBreezeHttpClient {
   }
 
   private Integer parseRetryAfter(String header) {
-    if (header == null) {
-      return null;
-    }
-    try {
-      return Integer.parseInt(header);
-    } catch (NumberFormatException e) {
-      return null;
-    }
+    Long seconds = RateLimiter.parseRetryAfterSeconds(header);
+    return seconds != null ? (int) Math.min(seconds, Integer.MAX_VALUE) : null;
   }
 
   @Override
@@ -456,13 +1208,675 @@ public class MailBreezeHttpClient {
         + '}';
   }
 
+  /** Builder for HTTP client configuration. */
+  public static final class Builder {
+
+    private String apiKey;
+    private String baseUrl;
+    private Duration timeout = Duration.ofSeconds(30);
+    private int maxRetries = 3;
+    private final OkHttpTransport.Builder transportBuilder =
+        OkHttpTransport.builder().fairQueuing(false);
+    private Transport transport;
+    private String tenantId;
+    private long compressionThreshold = -1;
+    private Jitter jitter = Jitter.NONE;
+    private Duration maxRetryDelay = Duration.ofSeconds(30);
+    private RetryBudget retryBudget;
+    private final Map<EndpointFamily, RateLimit> rateLimits =
+        new EnumMap<>(EndpointFamily.class);
+    private final Map<EndpointFamily, StatsTtl> statsTtls = new EnumMap<>(EndpointFamily.class);
+    private ConcurrencyLimit concurrencyLimit;
+    private Integer maxInFlight;
+    private CircuitBreaker circuitBreaker;
+    private HedgePolicy hedgePolicy;
+    private boolean singleFlight;
+    private Executor deserializationExecutor;
+    private boolean jsonPerformanceProfile;
+    private final List<Class<?>> jsonTypes = new ArrayList<>();
+    private ResponseCache responseCache;
+    private final Map<EndpointFamily, Duration> deadlines = new EnumMap<>(EndpointFamily.class);
+    private final Map<EndpointFamily, Duration> attemptTimeouts =
+        new EnumMap<>(EndpointFamily.class);
+    private OverflowPolicy overflowPolicy;
+
+    private Builder() {}
+
+    public Builder apiKey(String apiKey) {
+      this.apiKey = apiKey;
+      return this;
+    }
+
+    public Builder baseUrl(String baseUrl) {
+      this.baseUrl = baseUrl;
+      return this;
+    }
+
+    public Builder timeout(Duration timeout) {
+      this.timeout = timeout;
+      return this;
+    }
+
+    public Builder maxRetries(int maxRetries) {
+      this.maxRetries = maxRetries;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of idle connections kept in the pool.
+     *
+     * @param maxIdleConnections the max idle connections (default: 5)
+     * @return this builder
+     */
+    public Builder maxIdleConnections(int maxIdleConnections) {
+      transportBuilder.maxIdleConnections(maxIdleConnections);
+      return this;
+    }
+
+    /**
+     * Sets how long an idle connection is kept alive before eviction.
+     *
+     * @param keepAliveDuration the keep-alive duration (default: 5 minutes)
+     * @return this builder
+     */
+    public Builder keepAliveDuration(Duration keepAliveDuration) {
+      transportBuilder.keepAliveDuration(keepAliveDuration);
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of async requests executing concurrently.
+     *
+     * @param maxRequests the max concurrent requests (default: 64)
+     * @return this builder
+     */
+    public Builder maxRequests(int maxRequests) {
+      transportBuilder.maxRequests(maxRequests);
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of async requests executing concurrently against one host.
+     *
+     * @param maxRequestsPerHost the max concurrent requests per host (default: 5)
+     * @return this builder
+     */
+    public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+      transportBuilder.maxRequestsPerHost(maxRequestsPerHost);
+      return this;
+    }
+
+    /**
+     * Sets the executor that runs async calls. The caller owns its lifecycle.
+     *
+     * @param dispatcherExecutor the dispatcher executor (default: OkHttp's cached thread pool)
+     * @return this builder
+     */
+    public Builder dispatcherExecutor(ExecutorService dispatcherExecutor) {
+      transportBuilder.dispatcherExecutor(dispatcherExecutor);
+      return this;
+    }
+
+    /**
+     * Sets the executor that binds async response bodies. The body is read on the dispatcher
+     * thread that received the response, then handed to this executor for binding, so large pages
+     * do not hold up other network callbacks. A rejected task is bound on the dispatcher thread.
+     * The caller owns its lifecycle.
+     *
+     * @param deserializationExecutor the executor (default: none, bind on the dispatcher thread)
+     * @return this builder
+     */
+    public Builder deserializationExecutor(Executor deserializationExecutor) {
+      this.deserializationExecutor = deserializationExecutor;
+      return this;
+    }
+
+    /**
+     * Enables the JSON performance profile: registers Jackson's Blackbird module when it is on the
+     * classpath and resolves readers and writers for the {@link #preResolve} types while the client
+     * is built. Readers and writers are cached per type either way.
+     *
+     * @param jsonPerformanceProfile whether to enable the profile (default: false)
+     * @return this builder
+     */
+    public Builder jsonPerformanceProfile(boolean jsonPerformanceProfile) {
+      this.jsonPerformanceProfile = jsonPerformanceProfile;
+      return this;
+    }
+
+    /**
+     * Adds request and response types to resolve up front under the JSON performance profile.
+     *
+     * @param types the model types
+     * @return this builder
+     */
+    public Builder preResolve(Class<?>... types) {
+      jsonTypes.addAll(List.of(types));
+      return this;
+    }
+
+    /**
+     * Runs async calls on virtual threads when the JDK supports them (21+).
+     *
+     * @param virtualThreads whether to use virtual threads (default: false)
+     * @return this builder
+     */
+    public Builder virtualThreads(boolean virtualThreads) {
+      transportBuilder.virtualThreads(virtualThreads);
+      return this;
+    }
+
+    /**
+     * Sets the HTTP protocol version.
+     *
+     * @param httpVersion the HTTP version (default: HTTP/2 with HTTP/1.1 fallback)
+     * @return this builder
+     */
+    public Builder httpVersion(HttpVersion httpVersion) {
+      transportBuilder.httpVersion(httpVersion);
+      return this;
+    }
+
+    /**
+     * Sets how many requests to the API host may run at once when an HTTP/2 version is selected.
+     * This caps calls in flight on the client rather than streams per connection.
+     *
+     * @param maxConcurrentStreams the max concurrent streams
+     * @return this builder
+     * @see OkHttpTransport.Builder#maxConcurrentStreams(int)
+     */
+    public Builder maxConcurrentStreams(int maxConcurrentStreams) {
+      transportBuilder.maxConcurrentStreams(maxConcurrentStreams);
+      return this;
+    }
+
+    /**
+     * Sets the transport that executes requests, possibly shared with other clients. When set, the
+     * connection pool, dispatcher and HTTP version options on this builder are ignored.
+     *
+     * @param transport the shared transport
+     * @return this builder
+     */
+    public Builder transport(Transport transport) {
+      this.transport = transport;
+      return this;
+    }
+
+    /**
+     * Sets the tenant this client queues async calls under on a fair-queuing transport. Clients
+     * with the same tenant ID share a queue. Defaults to a queue per client.
+     *
+     * @param tenantId the tenant ID
+     * @return this builder
+     */
+    public Builder tenantId(String tenantId) {
+      this.tenantId = tenantId;
+      return this;
+    }
+
+    /**
+     * Enables gzip compression of request bodies whose JSON is at least the given size. Requests
+     * below the threshold are sent uncompressed. Disabled by default.
+     *
+     * @param bytes the minimum JSON size in bytes to compress, or -1 to disable
+     * @return this builder
+     */
+    public Builder requestCompressionThreshold(long bytes) {
+      this.compressionThreshold = bytes;
+      return this;
+    }
+
+    /**
+     * Sets the jitter applied to exponential retry backoff.
+     *
+     * @param jitter the jitter strategy (default: {@link Jitter#NONE})
+     * @return this builder
+     */
+    public Builder jitter(Jitter jitter) {
+      this.jitter = jitter;
+      return this;
+    }
+
+    /**
+     * Caps the backoff between retries. A {@code Retry-After} sent by the server is honored even
+     * when longer.
+     *
+     * @param maxRetryDelay the maximum backoff (default: 30 seconds)
+     * @return this builder
+     */
+    public Builder maxRetryDelay(Duration maxRetryDelay) {
+      this.maxRetryDelay = maxRetryDelay;
+      return this;
+    }
+
+    /**
+     * Limits retries to a fraction of recent successful requests. Once the budget is used up,
+     * retryable failures throw {@link RetryBudgetExhaustedException} instead of retrying.
+     *
+     * @param retryBudget the retry budget (default: none, every request may retry up to max
+     *     retries)
+     * @return this builder
+     */
+    public Builder retryBudget(RetryBudget retryBudget) {
+      this.retryBudget = retryBudget;
+      return this;
+    }
+
+    /**
+     * Paces requests to an endpoint family on the client with a token bucket, with a burst of one
+     * second's worth of permits.
+     *
+     * @param family the endpoint family
+     * @param permitsPerSecond the initial request rate
+     * @return this builder
+     * @see #rateLimit(EndpointFamily, double, int)
+     */
+    public Builder rateLimit(EndpointFamily family, double permitsPerSecond) {
+      return rateLimit(family, permitsPerSecond, (int) Math.max(1, Math.ceil(permitsPerSecond)));
+    }
+
+    /**
+     * Paces requests to an endpoint family on the client with a token bucket. The rate adapts to
+     * the API's {@code X-RateLimit-Remaining}/{@code X-RateLimit-Reset} headers and to {@code
+     * Retry-After}, so requests wait before sending instead of being rejected with a 429.
+     *
+     * @param family the endpoint family
+     * @param permitsPerSecond the initial request rate
+     * @param burst the most requests that may be sent at once after an idle period
+     * @return this builder
+     */
+    public Builder rateLimit(EndpointFamily family, double permitsPerSecond, int burst) {
+      rateLimits.put(family, new RateLimit(permitsPerSecond, burst));
+      return this;
+    }
+
+    /**
+     * Caches stats results for an endpoint family, serving an expired result for up to one more
+     * TTL while it is refreshed.
+     *
+     * @param family the endpoint family
+     * @param ttl how long a result is served without refreshing it
+     * @return this builder
+     * @see #statsTtl(EndpointFamily, Duration, Duration)
+     */
+    public Builder statsTtl(EndpointFamily family, Duration ttl) {
+      return statsTtl(family, ttl, ttl);
+    }
+
+    /**
+     * Caches stats results for an endpoint family with stale-while-revalidate: once a result is
+     * past its TTL it is still returned immediately while one background request refreshes it.
+     * Only calls made through {@link MailBreezeHttpClient#getStats} are cached.
+     *
+     * @param family the endpoint family
+     * @param ttl how long a result is served without refreshing it
+     * @param maxStale how long past the TTL a result may still be served while refreshing
+     * @return this builder
+     */
+    public Builder statsTtl(EndpointFamily family, Duration ttl, Duration maxStale) {
+      statsTtls.put(family, new StatsTtl(ttl, maxStale));
+      return this;
+    }
+
+    /**
+     * Limits concurrent async requests with an adaptive limit. Sync requests are not limited.
+     *
+     * @param concurrencyLimit the limit configuration (default: none)
+     * @return this builder
+     */
+    public Builder concurrencyLimit(ConcurrencyLimit concurrencyLimit) {
+      this.concurrencyLimit = concurrencyLimit;
+      return this;
+    }
+
+    /**
+     * Caps the number of outstanding async requests, retries included. Sync requests are not
+     * capped.
+     *
+     * @param maxInFlight the most async requests in flight at once (default: unlimited)
+     * @param overflowPolicy what a call does when the cap is reached
+     * @return this builder
+     */
+    public Builder maxInFlight(int maxInFlight, OverflowPolicy overflowPolicy) {
+      this.maxInFlight = maxInFlight;
+      this.overflowPolicy = overflowPolicy;
+      return this;
+    }
+
+    /**
+     * Adds a circuit breaker per endpoint family that fails calls fast while the API is failing or
+     * slow.
+     *
+     * @param circuitBreaker the breaker configuration (default: none)
+     * @return this builder
+     */
+    public Builder circuitBreaker(CircuitBreaker circuitBreaker) {
+      this.circuitBreaker = circuitBreaker;
+      return this;
+    }
+
+    /**
+     * Hedges GET requests that are slower than the policy's delay by sending a second copy.
+     *
+     * @param hedgePolicy the hedge policy (default: none)
+     * @return this builder
+     */
+    public Builder hedging(HedgePolicy hedgePolicy) {
+      this.hedgePolicy = hedgePolicy;
+      return this;
+    }
+
+    /**
+     * Shares one in-flight request between concurrent identical GETs (same path and query). GETs
+     * with {@link RequestOptions} always go out on their own. Coalesced callers receive the same
+     * result instance, so it must not be modified.
+     *
+     * @param singleFlight whether to coalesce identical GETs (default: false)
+     * @return this builder
+     */
+    public Builder singleFlight(boolean singleFlight) {
+      this.singleFlight = singleFlight;
+      return this;
+    }
+
+    /**
+     * Caches GET responses and revalidates them with {@code If-None-Match} or {@code
+     * If-Modified-Since}.
+     *
+     * @param responseCache the response cache (default: none)
+     * @return this builder
+     */
+    public Builder responseCache(ResponseCache responseCache) {
+      this.responseCache = responseCache;
+      return this;
+    }
+
+    /**
+     * Sets the default deadline for calls to an endpoint family, covering every attempt, backoff
+     * and wait. {@link RequestOptions#getDeadline()} overrides it per call.
+     *
+     * @param family the endpoint family
+     * @param deadline the deadline (default: none)
+     * @return this builder
+     */
+    public Builder deadline(EndpointFamily family, Duration deadline) {
+      deadlines.put(family, deadline);
+      return this;
+    }
+
+    /**
+     * Sets the default timeout for each attempt of a call to an endpoint family. {@link
+     * RequestOptions#getAttemptTimeout()} overrides it per call.
+     *
+     * @param family the endpoint family
+     * @param attemptTimeout the per-attempt timeout (default: none beyond the client timeout)
+     * @return this builder
+     */
+    public Builder attemptTimeout(EndpointFamily family, Duration attemptTimeout) {
+      attemptTimeouts.put(family, attemptTimeout);
+      return this;
+    }
+
+    /**
+     * Builds the HTTP client.
+     *
+     * @return a new HTTP client
+     * @throws IllegalArgumentException if a pool, dispatcher or retry setting is out of range
+     */
+    public MailBreezeHttpClient build() {
+      if (jitter == null) {
+        throw new IllegalArgumentException("jitter is required");
+      }
+      if (maxRetryDelay == null || maxRetryDelay.isNegative() || maxRetryDelay.isZero()) {
+        throw new IllegalArgumentException("maxRetryDelay must be positive");
+      }
+      if (maxInFlight != null) {
+        if (maxInFlight < 1) {
+          throw new IllegalArgumentException("maxInFlight must be >= 1");
+        }
+        if (overflowPolicy == null) {
+          throw new IllegalArgumentException("overflowPolicy is required");
+        }
+      }
+      for (Duration deadline : deadlines.values()) {
+        if (deadline == null || deadline.isNegative() || deadline.isZero()) {
+          throw new IllegalArgumentException("deadline must be positive");
+        }
+      }
+      for (Duration attemptTimeout : attemptTimeouts.values()) {
+        if (attemptTimeout == null || attemptTimeout.isNegative() || attemptTimeout.isZero()) {
+          throw new IllegalArgumentException("attemptTimeout must be positive");
+        }
+      }
+      for (StatsTtl ttl : statsTtls.values()) {
+        if (ttl.ttl() == null || ttl.ttl().isNegative() || ttl.ttl().isZero()) {
+          throw new IllegalArgumentException("stats ttl must be positive");
+        }
+        if (ttl.maxStale() == null || ttl.maxStale().isNegative()) {
+          throw new IllegalArgumentException("stats maxStale must be >= 0");
+        }
+      }
+      for (RateLimit limit : rateLimits.values()) {
+        if (!(limit.permitsPerSecond() > 0)) {
+          throw new IllegalArgumentException("rate limit permitsPerSecond must be positive");
+        }
+        if (limit.burst() < 1) {
+          throw new IllegalArgumentException("rate limit burst must be >= 1");
+        }
+      }
+      return new MailBreezeHttpClient(this);
+    }
+  }
+
   @FunctionalInterface
   private interface RequestSupplier<T> {
-    T execute();
+    /** Sends one attempt with the given timeout in milliseconds, 0 for none. */
+    T execute(long timeout);
   }
 
   @FunctionalInterface
   private interface AsyncRequestSupplier<T> {
-    CompletableFuture<T> execute();
+    /** Sends one attempt with the given timeout in milliseconds, 0 for none. */
+    CompletableFuture<T> execute(long timeout);
+  }
+
+  /**
+   * Identifies a GET for single-flight coalescing. The API key is fixed per client, and so is each
+   * client's single-flight table, so it need not be part of the key.
+   */
+  private record FlightKey(String path, Map<String, String> query, Class<?> responseType) {
+    FlightKey(String path, Map<String, String> query, Class<?> responseType) {
+      this.path = path;
+      // Map equality ignores ordering, so differently built but equal queries share a flight
+      this.query = query != null ? new HashMap<>(query) : Map.of();
+      this.responseType = responseType;
+    }
+  }
+
+  /** Point in time by which a call must finish. */
+  private record Deadline(long millis, long expiresAtNanos) {
+    static Deadline after(Duration duration) {
+      return new Deadline(duration.toMillis(), System.nanoTime() + duration.toNanos());
+    }
+
+    long remainingMillis() {
+      return TimeUnit.NANOSECONDS.toMillis(expiresAtNanos - System.nanoTime());
+    }
+  }
+
+  /**
+   * One GET sent as up to two copies. The second copy goes out once the hedge delay passes without
+   * a response, if the budget allows. The first success completes the result and cancels the other
+   * copy; the result fails only when every copy sent has failed.
+   */
+  private final class HedgedGet<T> {
+    private final Request request;
+    private final Class<T> responseType;
+    private final long timeout;
+    private final EndpointFamily endpoint;
+    private final ExchangeFuture<T> result = new ExchangeFuture<>();
+    private final List<Call> calls = new ArrayList<>(2);
+    private int pending;
+    private boolean answered;
+    private long started;
+    private Throwable firstError;
+    private boolean failed;
+
+    HedgedGet(Request request, Class<T> responseType, long timeout) {
+      this.request = request;
+      this.responseType = responseType;
+      this.timeout = timeout;
+      this.endpoint = request.tag(EndpointFamily.class);
+    }
+
+    /** Sends the first copy through the dispatcher. */
+    ExchangeFuture<T> start() {
+      started = System.nanoTime();
+      long delay = hedger.delayMillis(endpoint);
+      send(false);
+      scheduleHedge(delay);
+      // Cancelling the loser, or every copy if the caller cancels the result
+      result.whenComplete((value, error) -> cancelAll());
+      return result;
+    }
+
+    /**
+     * Sends the first copy on the calling thread, as an unhedged sync GET would, so only the hedge
+     * takes a dispatcher slot. Blocks until a copy answers or every copy sent has failed.
+     */
+    T execute() {
+      started = System.nanoTime();
+      long delay = hedger.delayMillis(endpoint);
+      Call primary = newCall(request, timeout);
+      synchronized (this) {
+        calls.add(primary);
+        pending++;
+      }
+      scheduleHedge(delay);
+      result.whenComplete((value, error) -> cancelAll());
+      try {
+        onCopyDone(executeRequest(primary, responseType), null, false, -1);
+      } catch (RuntimeException e) {
+        // Includes the primary being cancelled because the hedge answered first
+        onCopyDone(null, e, false, -1);
+      }
+      return await(result);
+    }
+
+    private void scheduleHedge(long delay) {
+      if (delay >= 0) {
+        CompletableFuture<Void> timer = retryScheduler.timer(delay);
+        timer.thenRun(this::hedge);
+        result.whenComplete((value, error) -> timer.cancel(false));
+      }
+    }
+
+    private void hedge() {
+      if (!result.isDone() && hedger.tryHedge()) {
+        send(true);
+      }
+    }
+
+    private void send(boolean hedge) {
+      Call httpCall = newCall(request, timeout);
+      synchronized (this) {
+        if (failed || result.isDone()) {
+          return;
+        }
+        calls.add(httpCall);
+        pending++;
+      }
+      ExchangeFuture<T> copy = executeCallAsync(httpCall, responseType);
+      copy.whenComplete((value, error) -> onCopyDone(value, error, hedge, copy.latencyNanos));
+    }
+
+    private void onCopyDone(T value, Throwable error, boolean hedge, long latencyNanos) {
+      if (error == null) {
+        synchronized (this) {
+          if (answered) {
+            return;
+          }
+          answered = true;
+        }
+        result.latencyNanos = latencyNanos;
+        if (result.complete(value)) {
+          // The latency the caller saw, which includes the hedge delay when the hedge won
+          hedger.onResponse(endpoint, System.nanoTime() - started, hedge);
+        }
+        return;
+      }
+      boolean last;
+      synchronized (this) {
+        if (firstError == null) {
+          firstError = error;
+        }
+        last = --pending == 0;
+        failed = last;
+      }
+      if (last) {
+        result.completeExceptionally(firstError);
+      }
+    }
+
+    private void cancelAll() {
+      List<Call> sent;
+      synchronized (this) {
+        sent = new ArrayList<>(calls);
+      }
+      for (Call httpCall : sent) {
+        httpCall.cancel();
+      }
+    }
+  }
+
+  /**
+   * Future of one exchange, or of the copy that answered a hedged GET. Carries how long the API
+   * took to return response headers once the request was sent, or -1 if no response arrived.
+   */
+  private static final class ExchangeFuture<T> extends CompletableFuture<T> {
+    volatile long latencyNanos = -1;
+  }
+
+  /**
+   * Retry state of one async call. Attempts run one after another, so the mutable fields are only
+   * touched by one thread at a time.
+   */
+  private static final class AsyncCall<T> {
+    final EndpointFamily endpoint;
+    final AsyncRequestSupplier<T> supplier;
+    final Deadline deadline;
+    final long attemptTimeout;
+    final CompletableFuture<T> result = new CompletableFuture<>();
+    final AtomicBoolean circuitHeld = new AtomicBoolean();
+    int attempt;
+    long previousDelay;
+    MailBreezeException lastError;
+    volatile Stage stage;
+
+    AsyncCall(
+        EndpointFamily endpoint,
+        AsyncRequestSupplier<T> supplier,
+        Deadline deadline,
+        long attemptTimeout) {
+      this.endpoint = endpoint;
+      this.supplier = supplier;
+      this.deadline = deadline;
+      this.attemptTimeout = attemptTimeout;
+    }
+
+    /**
+     * Records what the call now waits on, cancelling it straight away if the result is already
+     * complete.
+     *
+     * @param inFlight whether the future is an attempt sent to the API
+     */
+    void await(CompletableFuture<?> future, boolean inFlight) {
+      stage = new Stage(future, inFlight);
+      if (result.isDone()) {
+        future.cancel(true);
+      }
+    }
+
+    record Stage(CompletableFuture<?> future, boolean inFlight) {}
   }
 }
@@ -0,0 +1,320 @@
+package com.mailbreeze.http;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+/**
+ * Connection pool, dispatcher and thread pool shared by one or more {@link MailBreezeHttpClient}
+ * instances. Thread-safe.
+ *
+ * <p>Build one transport and pass it to every client to reuse connections and threads across
+ * tenants. Each client keeps its own API key, timeout and retry settings:
+ *
+ * <pre>{@code
+ * OkHttpTransport transport = OkHttpTransport.builder()
+ *     .maxRequests(256)
+ *     .maxRequestsPerHost(64)
+ *     .build();
+ *
+ * MailBreeze tenantA = MailBreeze.builder().apiKey(keyA).transport(transport).build();
+ * MailBreeze tenantB = MailBreeze.builder().apiKey(keyB).transport(transport).build();
+ * }</pre>
+ *
+ * <p>With fair queuing enabled (the default for transports built here), async calls are queued per
+ * tenant and dispatched round-robin, so a tenant with a large backlog cannot starve the others.
+ */
+public final class OkHttpTransport implements Transport {
+
+  private final OkHttpClient okHttpClient;
+  private final StreamTrackingListener streamListener;
+  private final FairCallQueue fairQueue;
+  private final boolean ownsExecutor;
+  private final boolean virtualThreads;
+
+  private OkHttpTransport(Builder builder) {
+    ExecutorService executor = builder.dispatcherExecutor;
+    this.virtualThreads =
+        executor == null && builder.virtualThreads && VirtualThreads.isAvailable();
+    if (virtualThreads) {
+      executor = VirtualThreads.newThreadPerTaskExecutor("MailBreeze Dispatcher-");
+    }
+    Dispatcher dispatcher = executor != null ? new Dispatcher(executor) : new Dispatcher();
+    // On HTTP/2 every concurrent call to the API host becomes a stream on a shared connection,
+    // so the per-host limit bounds the streams multiplexed on it
+    int perHostLimit =
+        builder.httpVersion.isMultiplexed() && builder.maxConcurrentStreams != null
+            ? builder.maxConcurrentStreams
+            : builder.maxRequestsPerHost;
+    dispatcher.setMaxRequests(builder.maxRequests);
+    dispatcher.setMaxRequestsPerHost(perHostLimit);
+
+    this.streamListener = new StreamTrackingListener();
+    this.okHttpClient =
+        new OkHttpClient.Builder()
+            .protocols(builder.httpVersion.protocols())
+            .eventListener(streamListener)
+            // Runs once the dispatcher starts the call, so the send time excludes queueing
+            .addInterceptor(
+                chain -> {
+                  ExchangeTiming.markSent(chain.request());
+                  return chain.proceed(chain.request());
+                })
+            .connectionPool(
+                new ConnectionPool(
+                    builder.maxIdleConnections,
+                    builder.keepAliveDuration.toMillis(),
+                    TimeUnit.MILLISECONDS))
+            .dispatcher(dispatcher)
+            .build();
+    // All API calls target one host, so the per-host limit is the effective dispatcher capacity
+    this.fairQueue =
+        builder.fairQueuing ? new FairCallQueue(Math.min(builder.maxRequests, perHostLimit)) : null;
+    this.ownsExecutor = builder.dispatcherExecutor == null;
+  }
+
+  /**
+   * Creates a new builder for transport configuration.
+   *
+   * @return a new builder instance
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns true if async calls run on virtual threads. False when virtual threads were requested
+   * on a JDK older than 21.
+   */
+  public boolean usesVirtualThreads() {
+    return virtualThreads;
+  }
+
+  /**
+   * Returns an OkHttp client with the given timeouts that shares this transport's connection pool
+   * and dispatcher.
+   */
+  @Override
+  public OkHttpClient callFactory(Duration timeout) {
+    return okHttpClient
+        .newBuilder()
+        .connectTimeout(timeout)
+        .readTimeout(timeout)
+        .writeTimeout(timeout)
+        .build();
+  }
+
+  /** Enqueues an async call, queuing per tenant when fair queuing is enabled. */
+  @Override
+  public void enqueue(Object tenant, Call call, Callback callback) {
+    if (fairQueue != null) {
+      fairQueue.enqueue(tenant, call, callback);
+    } else {
+      call.enqueue(callback);
+    }
+  }
+
+  /**
+   * Returns connection pool and dispatcher statistics. Calls held in the fair queue count as
+   * queued.
+   *
+   * @return the current pool statistics
+   */
+  @Override
+  public PoolStats stats() {
+    Dispatcher dispatcher = okHttpClient.dispatcher();
+    ConnectionPool pool = okHttpClient.connectionPool();
+    int fairQueued = fairQueue != null ? fairQueue.queuedCount() : 0;
+    return new PoolStats(
+        dispatcher.queuedCallsCount() + fairQueued,
+        dispatcher.runningCallsCount(),
+        pool.idleConnectionCount(),
+        pool.connectionCount());
+  }
+
+  /**
+   * Returns per-connection stream usage for connections currently in the pool. Use it to confirm
+   * that HTTP/2 calls are multiplexed rather than spread over many connections.
+   *
+   * @return stream statistics for each live connection
+   */
+  @Override
+  public List<ConnectionStats> connectionStats() {
+    return streamListener.snapshot();
+  }
+
+  /**
+   * Releases pooled connections and, unless a dispatcher executor was supplied, shuts down the
+   * dispatcher threads. Clients using this transport must not be used afterwards.
+   */
+  @Override
+  public void close() {
+    if (ownsExecutor) {
+      okHttpClient.dispatcher().executorService().shutdown();
+    }
+    okHttpClient.connectionPool().evictAll();
+  }
+
+  /** Builder for transport configuration. */
+  public static final class Builder {
+
+    private int maxIdleConnections = 5;
+    private Duration keepAliveDuration = Duration.ofMinutes(5);
+    private int maxRequests = 64;
+    private int maxRequestsPerHost = 5;
+    private ExecutorService dispatcherExecutor;
+    private boolean fairQueuing = true;
+    private boolean virtualThreads;
+    private HttpVersion httpVersion = HttpVersion.HTTP_2;
+    private Integer maxConcurrentStreams;
+
+    private Builder() {}
+
+    /**
+     * Sets the maximum number of idle connections kept in the pool.
+     *
+     * @param maxIdleConnections the max idle connections (default: 5)
+     * @return this builder
+     */
+    public Builder maxIdleConnections(int maxIdleConnections) {
+      this.maxIdleConnections = maxIdleConnections;
+      return this;
+    }
+
+    /**
+     * Sets how long an idle connection is kept alive before eviction.
+     *
+     * @param keepAliveDuration the keep-alive duration (default: 5 minutes)
+     * @return this builder
+     */
+    public Builder keepAliveDuration(Duration keepAliveDuration) {
+      this.keepAliveDuration = keepAliveDuration;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of async requests executing concurrently.
+     *
+     * @param maxRequests the max concurrent requests (default: 64)
+     * @return this builder
+     */
+    public Builder maxRequests(int maxRequests) {
+      this.maxRequests = maxRequests;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of async requests executing concurrently against one host.
+     *
+     * @param maxRequestsPerHost the max concurrent requests per host (default: 5)
+     * @return this builder
+     */
+    public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+      this.maxRequestsPerHost = maxRequestsPerHost;
+      return this;
+    }
+
+    /**
+     * Sets the executor that runs async calls. The caller owns its lifecycle.
+     *
+     * @param dispatcherExecutor the dispatcher executor (default: OkHttp's cached thread pool)
+     * @return this builder
+     */
+    public Builder dispatcherExecutor(ExecutorService dispatcherExecutor) {
+      this.dispatcherExecutor = dispatcherExecutor;
+      return this;
+    }
+
+    /**
+     * Runs async calls on a new virtual thread each instead of OkHttp's cached thread pool. Takes
+     * effect on JDK 21 and later; older JDKs keep platform threads. Ignored when a {@link
+     * #dispatcherExecutor(ExecutorService)} is set.
+     *
+     * <p>Virtual threads make in-flight calls cheap, so {@link #maxRequests(int)} and {@link
+     * #maxRequestsPerHost(int)} can be raised well beyond what a platform thread pool allows. Over
+     * HTTP/2, OkHttp waits for response headers inside a monitor, which pins each waiting call's
+     * carrier thread; the gain is largest over HTTP/1.1.
+     *
+     * @param virtualThreads whether to use virtual threads (default: false)
+     * @return this builder
+     */
+    public Builder virtualThreads(boolean virtualThreads) {
+      this.virtualThreads = virtualThreads;
+      return this;
+    }
+
+    /**
+     * Enables per-tenant round-robin queuing of async calls.
+     *
+     * @param fairQueuing whether to queue fairly across tenants (default: true)
+     * @return this builder
+     */
+    public Builder fairQueuing(boolean fairQueuing) {
+      this.fairQueuing = fairQueuing;
+      return this;
+    }
+
+    /**
+     * Sets the HTTP protocol version. Use {@link HttpVersion#H2_PRIOR_KNOWLEDGE} for cleartext
+     * HTTP/2 against a local server.
+     *
+     * @param httpVersion the HTTP version (default: HTTP/2 with HTTP/1.1 fallback)
+     * @return this builder
+     */
+    public Builder httpVersion(HttpVersion httpVersion) {
+      this.httpVersion = httpVersion;
+      return this;
+    }
+
+    /**
+     * Sets how many requests to the API host the dispatcher runs at once when an HTTP/2 version is
+     * selected, in place of {@link #maxRequestsPerHost(int)}. This is a client-side cap on calls in
+     * flight, not a per-connection stream limit: OkHttp does not expose the connection's stream
+     * count, and when calls exceed the server's advertised {@code SETTINGS_MAX_CONCURRENT_STREAMS}
+     * it opens additional connections. Ignored for HTTP/1.1.
+     *
+     * @param maxConcurrentStreams the max concurrent streams
+     * @return this builder
+     */
+    public Builder maxConcurrentStreams(int maxConcurrentStreams) {
+      this.maxConcurrentStreams = maxConcurrentStreams;
+      return this;
+    }
+
+    /**
+     * Builds the transport.
+     *
+     * @return a new transport
+     * @throws IllegalArgumentException if a pool or dispatcher limit is out of range
+     */
+    public OkHttpTransport build() {
+      if (maxIdleConnections < 0) {
+        throw new IllegalArgumentException("maxIdleConnections must be >= 0");
+      }
+      if (keepAliveDuration == null
+          || keepAliveDuration.isNegative()
+          || keepAliveDuration.isZero()) {
+        throw new IllegalArgumentException("keepAliveDuration must be positive");
+      }
+      if (maxRequests < 1) {
+        throw new IllegalArgumentException("maxRequests must be >= 1");
+      }
+      if (maxRequestsPerHost < 1) {
+        throw new IllegalArgumentException("maxRequestsPerHost must be >= 1");
+      }
+      if (httpVersion == null) {
+        throw new IllegalArgumentException("httpVersion is required");
+      }
+      if (maxConcurrentStreams != null && maxConcurrentStreams < 1) {
+        throw new IllegalArgumentException("maxConcurrentStreams must be >= 1");
+      }
+      return new OkHttpTransport(this);
+    }
+  }
+}
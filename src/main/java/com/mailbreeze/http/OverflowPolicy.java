@@ -0,0 +1,19 @@
+package com.mailbreeze.http;
+
+/** What an async call does when the client's cap on in-flight async requests is reached. */
+public enum OverflowPolicy {
+  /** The calling thread blocks until a permit frees up, then gets its future. */
+  BLOCK,
+
+  /**
+   * The call returns a future that has already failed with {@link
+   * com.mailbreeze.exceptions.ConcurrencyLimitExceededException}; the request is not sent.
+   */
+  FAIL_FAST,
+
+  /**
+   * The call returns immediately with a future; the request is sent once a permit frees up. Waiting
+   * calls count towards {@link InFlightStats#queued()}.
+   */
+  WAIT
+}
@@ -0,0 +1,12 @@
+package com.mailbreeze.http;
+
+/**
+ * Point-in-time snapshot of the connection pool and dispatcher.
+ *
+ * @param queuedCalls async calls waiting for a dispatcher slot
+ * @param runningCalls calls currently executing (sync and async)
+ * @param idleConnections pooled connections not carrying a request
+ * @param totalConnections all pooled connections
+ */
+public record PoolStats(
+    int queuedCalls, int runningCalls, int idleConnections, int totalConnections) {}
@@ -0,0 +1,9 @@
+package com.mailbreeze.http;
+
+/**
+ * Initial client-side rate limit for one endpoint family.
+ *
+ * @param permitsPerSecond the initial request rate
+ * @param burst the most requests that may be sent at once after an idle period
+ */
+public record RateLimit(double permitsPerSecond, int burst) {}
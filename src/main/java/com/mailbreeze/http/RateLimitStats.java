@@ -0,0 +1,15 @@
+package com.mailbreeze.http;
+
+/**
+ * Client-side rate limiter state for one endpoint family.
+ *
+ * @param permitsPerSecond the current refill rate, adapted from the API's rate-limit headers
+ * @param availablePermits permits that can be used without waiting
+ * @param throttledRequests requests that had to wait for a permit
+ * @param totalWaitMillis time those requests spent waiting
+ */
+public record RateLimitStats(
+    double permitsPerSecond,
+    double availablePermits,
+    long throttledRequests,
+    long totalWaitMillis) {}
@@ -0,0 +1,183 @@
+package com.mailbreeze.http;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import okhttp3.Response;
+
+/**
+ * Client-side token buckets, one per configured {@link EndpointFamily}.
+ *
+ * <p>Callers reserve a permit before each attempt and wait for the returned delay, so requests are
+ * paced at the bucket's rate rather than bounced by a 429. Each bucket starts at its configured
+ * rate and burst and then follows the API: {@code X-RateLimit-Remaining} and {@code
+ * X-RateLimit-Reset} set the rate that spreads the remaining requests over the rest of the window,
+ * and {@code Retry-After} (seconds or HTTP-date) blocks the bucket until the given time.
+ */
+final class RateLimiter {
+
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  /** Reset values above this are epoch seconds rather than seconds from now. */
+  private static final long EPOCH_RESET_THRESHOLD = 1_000_000_000L;
+
+  private final Map<EndpointFamily, Bucket> buckets;
+  private final LongSupplier nanoClock;
+
+  RateLimiter(Map<EndpointFamily, RateLimit> limits) {
+    this(limits, System::nanoTime);
+  }
+
+  RateLimiter(Map<EndpointFamily, RateLimit> limits, LongSupplier nanoClock) {
+    this.nanoClock = nanoClock;
+    Map<EndpointFamily, Bucket> byFamily = new EnumMap<>(EndpointFamily.class);
+    long now = nanoClock.getAsLong();
+    limits.forEach((family, limit) -> byFamily.put(family, new Bucket(limit, now)));
+    this.buckets = byFamily;
+  }
+
+  /**
+   * Reserves a permit for one request to the given family.
+   *
+   * @return how long the caller must wait before sending, in milliseconds; 0 if the family is not
+   *     rate limited or a permit is available now
+   */
+  long reserve(EndpointFamily family) {
+    Bucket bucket = buckets.get(family);
+    if (bucket == null) {
+      return 0;
+    }
+    long waitNanos = bucket.reserve(nanoClock.getAsLong());
+    return waitNanos == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(waitNanos + 999_999);
+  }
+
+  /** Adapts the family's bucket from the response's rate-limit headers. */
+  void observe(EndpointFamily family, Response response) {
+    Bucket bucket = family != null ? buckets.get(family) : null;
+    if (bucket == null) {
+      return;
+    }
+    long now = nanoClock.getAsLong();
+    Long retryAfter = parseRetryAfterSeconds(response.header("Retry-After"));
+    if (retryAfter != null) {
+      bucket.blockUntil(now + retryAfter * NANOS_PER_SECOND, now);
+    }
+    Long remaining = parseLong(response.header("X-RateLimit-Remaining"));
+    Long reset = parseLong(response.header("X-RateLimit-Reset"));
+    if (remaining != null && reset != null) {
+      long resetSeconds =
+          reset > EPOCH_RESET_THRESHOLD ? reset - Instant.now().getEpochSecond() : reset;
+      resetSeconds = Math.max(resetSeconds, 1);
+      if (remaining <= 0) {
+        bucket.blockUntil(now + resetSeconds * NANOS_PER_SECOND, now);
+      } else {
+        bucket.adapt((double) remaining / resetSeconds, remaining, now);
+      }
+    }
+  }
+
+  Map<EndpointFamily, RateLimitStats> stats() {
+    Map<EndpointFamily, RateLimitStats> stats = new EnumMap<>(EndpointFamily.class);
+    long now = nanoClock.getAsLong();
+    buckets.forEach((family, bucket) -> stats.put(family, bucket.stats(now)));
+    return Collections.unmodifiableMap(stats);
+  }
+
+  /**
+   * Parses a {@code Retry-After} header given either as delta seconds or as an HTTP-date.
+   *
+   * @return seconds to wait, never negative, or null if the header is absent or malformed
+   */
+  static Long parseRetryAfterSeconds(String header) {
+    if (header == null || header.isBlank()) {
+      return null;
+    }
+    String value = header.trim();
+    Long seconds = parseLong(value);
+    if (seconds != null) {
+      return Math.max(seconds, 0);
+    }
+    try {
+      Instant date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+      long millis = date.toEpochMilli() - System.currentTimeMillis();
+      return Math.max((millis + 999) / 1000, 0);
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  private static Long parseLong(String value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return Long.parseLong(value.trim());
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /** Reservation-based token bucket. All times are {@link System#nanoTime()} values. */
+  private static final class Bucket {
+    private final double maxPermits;
+    private double permitsPerSecond;
+    private double storedPermits;
+    private long nextFreeNanos;
+    private long throttled;
+    private long waitedNanos;
+
+    Bucket(RateLimit limit, long now) {
+      this.maxPermits = limit.burst();
+      this.permitsPerSecond = limit.permitsPerSecond();
+      this.storedPermits = limit.burst();
+      this.nextFreeNanos = now;
+    }
+
+    synchronized long reserve(long now) {
+      refill(now);
+      long wait = Math.max(nextFreeNanos - now, 0);
+      double fromStored = Math.min(1, storedPermits);
+      storedPermits -= fromStored;
+      long owed = (long) ((1 - fromStored) / permitsPerSecond * NANOS_PER_SECOND);
+      nextFreeNanos = Math.max(nextFreeNanos, now) + owed;
+      if (wait > 0) {
+        throttled++;
+        waitedNanos += wait;
+      }
+      return wait;
+    }
+
+    synchronized void blockUntil(long until, long now) {
+      refill(now);
+      storedPermits = 0;
+      nextFreeNanos = Math.max(nextFreeNanos, until);
+    }
+
+    synchronized void adapt(double newRate, long remaining, long now) {
+      refill(now);
+      permitsPerSecond = newRate;
+      storedPermits = Math.min(storedPermits, remaining);
+    }
+
+    synchronized RateLimitStats stats(long now) {
+      refill(now);
+      double available = nextFreeNanos > now ? 0 : storedPermits;
+      return new RateLimitStats(
+          permitsPerSecond, available, throttled, TimeUnit.NANOSECONDS.toMillis(waitedNanos));
+    }
+
+    private void refill(long now) {
+      if (now > nextFreeNanos) {
+        double earned = (double) (now - nextFreeNanos) * permitsPerSecond / NANOS_PER_SECOND;
+        storedPermits = Math.min(maxPermits, storedPermits + earned);
+        nextFreeNanos = now;
+      }
+    }
+  }
+}
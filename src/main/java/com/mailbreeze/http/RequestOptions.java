@@ -1,5 +1,6 @@
 package com.mailbreeze.http;
 
+import java.time.Duration;
 import java.util.regex.Pattern;
 
 /** Options for individual HTTP requests. */
@@ -8,10 +9,14 @@ public final class RequestOptions {
   private static final Pattern HEADER_INJECTION_PATTERN = Pattern.compile("[\\r\\n]");
 
   private final String idempotencyKey;
+  private final Duration deadline;
+  private final Duration attemptTimeout;
 
   private RequestOptions(Builder builder) {
     // Sanitize idempotency key to prevent header injection
     this.idempotencyKey = sanitizeHeaderValue(builder.idempotencyKey);
+    this.deadline = builder.deadline;
+    this.attemptTimeout = builder.attemptTimeout;
   }
 
   private static String sanitizeHeaderValue(String value) {
@@ -26,12 +31,24 @@ public final class RequestOptions {
     return idempotencyKey;
   }
 
+  /** Returns the time allowed for the whole call including retries, or null for the default. */
+  public Duration getDeadline() {
+    return deadline;
+  }
+
+  /** Returns the time allowed for each attempt, or null for the default. */
+  public Duration getAttemptTimeout() {
+    return attemptTimeout;
+  }
+
   public static Builder builder() {
     return new Builder();
   }
 
   public static final class Builder {
     private String idempotencyKey;
+    private Duration deadline;
+    private Duration attemptTimeout;
 
     private Builder() {}
 
@@ -40,7 +57,45 @@ public final class RequestOptions {
       return this;
     }
 
+    /**
+     * Sets the time allowed for the whole call, counted from when it is made and covering every
+     * attempt, backoff and rate-limit wait. A retry that would start after the deadline is not
+     * sent, and each attempt's timeout is cut to the time remaining. Overrides the client's
+     * per-endpoint default.
+     *
+     * @param deadline the deadline
+     * @return this builder
+     */
+    public Builder deadline(Duration deadline) {
+      this.deadline = deadline;
+      return this;
+    }
+
+    /**
+     * Sets the time allowed for each attempt, from sending the request to reading the response.
+     * Overrides the client's per-endpoint default.
+     *
+     * @param attemptTimeout the per-attempt timeout
+     * @return this builder
+     */
+    public Builder attemptTimeout(Duration attemptTimeout) {
+      this.attemptTimeout = attemptTimeout;
+      return this;
+    }
+
+    /**
+     * Builds the request options.
+     *
+     * @return new request options
+     * @throws IllegalArgumentException if a timeout is not positive
+     */
     public RequestOptions build() {
+      if (deadline != null && (deadline.isNegative() || deadline.isZero())) {
+        throw new IllegalArgumentException("deadline must be positive");
+      }
+      if (attemptTimeout != null && (attemptTimeout.isNegative() || attemptTimeout.isZero())) {
+        throw new IllegalArgumentException("attemptTimeout must be positive");
+      }
       return new RequestOptions(this);
     }
   }
@@ -0,0 +1,121 @@
+package com.mailbreeze.http;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration for the conditional-GET response cache.
+ *
+ * <p>Successful GET responses carrying an {@code ETag}, {@code Last-Modified} or {@code
+ * Cache-Control: max-age} are stored. While an entry is fresh under {@code max-age} it is served
+ * without a request; after that the next GET revalidates it with {@code If-None-Match} or {@code
+ * If-Modified-Since} and a {@code 304 Not Modified} is answered from the stored body. Responses
+ * marked {@code no-store} are never stored.
+ *
+ * <p>Entries live in an in-memory LRU tier bounded by size. With a disk directory set they are also
+ * written to disk, so a restarted process can revalidate instead of refetching:
+ *
+ * <pre>{@code
+ * MailBreeze mailbreeze = MailBreeze.builder()
+ *     .apiKey("sk_live_your_api_key")
+ *     .responseCache(
+ *         ResponseCache.builder().diskDirectory(Path.of("/var/cache/mailbreeze")).build())
+ *     .build();
+ * }</pre>
+ *
+ * <p>Disk entries are keyed by a hash of the API key and URL, so clients with different keys can
+ * share a directory without seeing each other's responses. A successful POST, PUT, PATCH or DELETE
+ * drops the entry for the same URL.
+ */
+public final class ResponseCache {
+
+  private final long maxMemoryBytes;
+  private final Path diskDirectory;
+  private final long maxDiskBytes;
+
+  private ResponseCache(Builder builder) {
+    this.maxMemoryBytes = builder.maxMemoryBytes;
+    this.diskDirectory = builder.diskDirectory;
+    this.maxDiskBytes = builder.maxDiskBytes;
+  }
+
+  /**
+   * Creates a new builder for response cache configuration.
+   *
+   * @return a new builder instance
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  long maxMemoryBytes() {
+    return maxMemoryBytes;
+  }
+
+  Path diskDirectory() {
+    return diskDirectory;
+  }
+
+  long maxDiskBytes() {
+    return maxDiskBytes;
+  }
+
+  /** Builder for response cache configuration. */
+  public static final class Builder {
+
+    private long maxMemoryBytes = 10L * 1024 * 1024;
+    private Path diskDirectory;
+    private long maxDiskBytes = 50L * 1024 * 1024;
+
+    private Builder() {}
+
+    /**
+     * Sets the total size of response bodies kept in memory. Least recently used entries are
+     * evicted beyond it; larger responses are not cached in memory.
+     *
+     * @param maxMemoryBytes the memory tier size in bytes (default: 10 MiB)
+     * @return this builder
+     */
+    public Builder maxMemoryBytes(long maxMemoryBytes) {
+      this.maxMemoryBytes = maxMemoryBytes;
+      return this;
+    }
+
+    /**
+     * Enables the disk tier in the given directory, which is created if missing.
+     *
+     * @param diskDirectory the cache directory (default: none, memory only)
+     * @return this builder
+     */
+    public Builder diskDirectory(Path diskDirectory) {
+      this.diskDirectory = diskDirectory;
+      return this;
+    }
+
+    /**
+     * Sets the total size of entries kept on disk. Oldest entries are deleted beyond it.
+     *
+     * @param maxDiskBytes the disk tier size in bytes (default: 50 MiB)
+     * @return this builder
+     */
+    public Builder maxDiskBytes(long maxDiskBytes) {
+      this.maxDiskBytes = maxDiskBytes;
+      return this;
+    }
+
+    /**
+     * Builds the response cache configuration.
+     *
+     * @return a new response cache configuration
+     * @throws IllegalArgumentException if a size is out of range
+     */
+    public ResponseCache build() {
+      if (maxMemoryBytes < 1) {
+        throw new IllegalArgumentException("maxMemoryBytes must be >= 1");
+      }
+      if (maxDiskBytes < 1) {
+        throw new IllegalArgumentException("maxDiskBytes must be >= 1");
+      }
+      return new ResponseCache(this);
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package com.mailbreeze.http;
+
+/**
+ * Response cache outcomes for one endpoint family.
+ *
+ * @param hits GETs answered from a fresh entry without a request
+ * @param revalidations GETs answered from a stored entry after a {@code 304 Not Modified}
+ * @param misses GETs answered with a full response from the server
+ */
+public record ResponseCacheStats(long hits, long revalidations, long misses) {
+
+  /** Returns the share of GETs answered without a request, or 0 if there were none. */
+  public double hitRatio() {
+    return ratio(hits);
+  }
+
+  /** Returns the share of GETs answered by a {@code 304}, or 0 if there were none. */
+  public double revalidationRatio() {
+    return ratio(revalidations);
+  }
+
+  /** Returns the share of GETs that fetched a full response, or 0 if there were none. */
+  public double missRatio() {
+    return ratio(misses);
+  }
+
+  private double ratio(long count) {
+    long total = hits + revalidations + misses;
+    return total == 0 ? 0 : (double) count / total;
+  }
+}
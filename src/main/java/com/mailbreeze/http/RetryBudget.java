@@ -0,0 +1,84 @@
+package com.mailbreeze.http;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token bucket that caps retries at a fraction of recent successful requests. Thread-safe.
+ *
+ * <p>Every successful request deposits {@code ratio} tokens and every retry withdraws one, up to
+ * {@code maxTokens}. The bucket starts full, so a quiet client can still retry a few times. During
+ * an outage the bucket drains and further retries are denied, so retries add at most {@code ratio}
+ * extra load instead of multiplying it by {@code maxRetries}.
+ *
+ * <pre>{@code
+ * MailBreeze mailbreeze = MailBreeze.builder()
+ *     .apiKey("sk_live_your_api_key")
+ *     .retryBudget(RetryBudget.of(0.1, 20)) // retry at most 10% of successes
+ *     .build();
+ * }</pre>
+ *
+ * <p>One budget may be shared by several clients to cap their retries together.
+ */
+public final class RetryBudget {
+
+  private static final long SCALE = 1000;
+
+  private final long depositPerSuccess;
+  private final long capacity;
+  private final AtomicLong balance;
+  private final LongAdder allowed = new LongAdder();
+  private final LongAdder denied = new LongAdder();
+
+  private RetryBudget(double ratio, int maxTokens) {
+    this.depositPerSuccess = Math.round(ratio * SCALE);
+    this.capacity = maxTokens * SCALE;
+    this.balance = new AtomicLong(capacity);
+  }
+
+  /**
+   * Creates a retry budget.
+   *
+   * @param ratio retries allowed per successful request, e.g. 0.1 for 10%
+   * @param maxTokens the most retries that can be saved up
+   * @return a new retry budget
+   * @throws IllegalArgumentException if ratio is not in (0, 1] or maxTokens is less than 1
+   */
+  public static RetryBudget of(double ratio, int maxTokens) {
+    if (!(ratio > 0 && ratio <= 1)) {
+      throw new IllegalArgumentException("ratio must be > 0 and <= 1");
+    }
+    if (maxTokens < 1) {
+      throw new IllegalArgumentException("maxTokens must be >= 1");
+    }
+    return new RetryBudget(ratio, maxTokens);
+  }
+
+  /**
+   * Returns the budget counters.
+   *
+   * @return the current statistics
+   */
+  public RetryBudgetStats stats() {
+    return new RetryBudgetStats(allowed.sum(), denied.sum(), (double) balance.get() / SCALE);
+  }
+
+  void recordSuccess() {
+    balance.accumulateAndGet(
+        depositPerSuccess, (current, deposit) -> Math.min(capacity, current + deposit));
+  }
+
+  /** Withdraws one retry, returning false if the budget is exhausted. */
+  boolean tryAcquire() {
+    long current;
+    do {
+      current = balance.get();
+      if (current < SCALE) {
+        denied.increment();
+        return false;
+      }
+    } while (!balance.compareAndSet(current, current - SCALE));
+    allowed.increment();
+    return true;
+  }
+}
@@ -0,0 +1,11 @@
+package com.mailbreeze.http;
+
+/**
+ * Retry budget counters.
+ *
+ * @param allowedRetries retries the budget allowed
+ * @param deniedRetries retries the budget denied, each failing its request with {@link
+ *     com.mailbreeze.exceptions.RetryBudgetExhaustedException}
+ * @param availableTokens retries currently available
+ */
+public record RetryBudgetStats(long allowedRetries, long deniedRetries, double availableTokens) {}
@@ -0,0 +1,321 @@
+package com.mailbreeze.http;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Hashed timing wheel that holds pending retries for one client.
+ *
+ * <p>Each wait is a future that completes once its delay has passed, so no thread is held per
+ * pending retry. A single daemon thread advances the wheel one tick at a time; it starts with the
+ * first pending wait and exits once none are left, so idle clients own no thread.
+ *
+ * <p>The wheel thread only signals. Async waits are completed on a small handoff pool, so the
+ * continuations they run (the next attempt, request serialization, callers' own callbacks) cannot
+ * stall other timers. Blocking waits from {@link #await} have no continuations and are woken
+ * directly, so a callback that makes a sync call still gets its timer.
+ *
+ * <p>The same wheel runs other client timers, such as hedge delays, through {@link #timer}; those
+ * are not counted as retries.
+ *
+ * <p>The scheduler also tracks endpoint pauses: a {@code Retry-After} on one request pauses every
+ * request to the same endpoint family until it expires.
+ */
+final class RetryScheduler {
+
+  private static final long DEFAULT_TICK_MILLIS = 10;
+  private static final int DEFAULT_WHEEL_SIZE = 512;
+  private static final int HANDOFF_THREADS =
+      Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+  private final long tickNanos;
+  private final int mask;
+  private final ArrayDeque<Wait>[] wheel;
+  private final ConcurrentLinkedQueue<Wait> incoming = new ConcurrentLinkedQueue<>();
+  private final ReentrantLock workerLock = new ReentrantLock();
+  private final AtomicInteger pending = new AtomicInteger();
+  private final AtomicInteger scheduled = new AtomicInteger();
+  private final LongAdder completedWaits = new LongAdder();
+  private final LongAdder waitNanos = new LongAdder();
+  private final ConcurrentHashMap<EndpointFamily, Long> pausedUntil = new ConcurrentHashMap<>();
+  private final Executor handoff;
+  private Thread worker;
+
+  RetryScheduler() {
+    this(DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE);
+  }
+
+  RetryScheduler(long tickMillis, int wheelSize) {
+    this(tickMillis, wheelSize, newHandoffPool());
+  }
+
+  /**
+   * Creates a scheduler with its own wheel geometry and handoff executor.
+   *
+   * @param handoff runs the completion of async waits; a rejected completion runs on the wheel
+   *     thread
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  RetryScheduler(long tickMillis, int wheelSize, Executor handoff) {
+    this.handoff = handoff;
+    if (Integer.bitCount(wheelSize) != 1) {
+      throw new IllegalArgumentException("wheelSize must be a power of two");
+    }
+    this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+    this.mask = wheelSize - 1;
+    this.wheel = new ArrayDeque[wheelSize];
+    for (int i = 0; i < wheelSize; i++) {
+      wheel[i] = new ArrayDeque<>();
+    }
+  }
+
+  /** Creates the pool that completes async waits. Its threads exit after a few idle seconds. */
+  private static Executor newHandoffPool() {
+    AtomicInteger threads = new AtomicInteger();
+    ThreadPoolExecutor pool =
+        new ThreadPoolExecutor(
+            HANDOFF_THREADS,
+            HANDOFF_THREADS,
+            10,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "MailBreeze RetryScheduler-" + threads.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    pool.allowCoreThreadTimeOut(true);
+    return pool;
+  }
+
+  /** The executor that completes async waits, shared with the limiters for their grants. */
+  Executor handoff() {
+    return handoff;
+  }
+
+  /**
+   * Returns a future that completes after the given delay. Cancelling the future removes the wait.
+   *
+   * @param delayMillis the delay; zero or negative completes immediately
+   */
+  CompletableFuture<Void> delay(long delayMillis) {
+    return schedule(delayMillis, true, false);
+  }
+
+  /**
+   * Like {@link #delay} but for timers that are not retries; they are left out of {@link
+   * #stats()}.
+   */
+  CompletableFuture<Void> timer(long delayMillis) {
+    return schedule(delayMillis, false, false);
+  }
+
+  private CompletableFuture<Void> schedule(long delayMillis, boolean retry, boolean blocking) {
+    if (delayMillis <= 0) {
+      return CompletableFuture.completedFuture(null);
+    }
+    long now = System.nanoTime();
+    Wait wait = new Wait(now, now + TimeUnit.MILLISECONDS.toNanos(delayMillis), retry, blocking);
+    wait.future.whenComplete(
+        (ignored, error) -> {
+          if (wait.future.isCancelled()) {
+            wait.finish(false);
+          }
+        });
+    scheduled.incrementAndGet();
+    if (retry) {
+      pending.incrementAndGet();
+    }
+    incoming.add(wait);
+    ensureWorker();
+    return wait.future;
+  }
+
+  /**
+   * Blocks the calling thread until the given delay has passed.
+   *
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  void await(long delayMillis) throws InterruptedException {
+    CompletableFuture<Void> wait = schedule(delayMillis, true, true);
+    try {
+      wait.get();
+    } catch (InterruptedException e) {
+      wait.cancel(false);
+      throw e;
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /** Pauses requests to an endpoint family for the given time, extending any existing pause. */
+  void pause(EndpointFamily endpoint, long millis) {
+    long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+    pausedUntil.merge(endpoint, until, Math::max);
+  }
+
+  /** Returns how long requests to an endpoint family must still wait, in milliseconds. */
+  long pauseRemaining(EndpointFamily endpoint) {
+    Long until = pausedUntil.get(endpoint);
+    if (until == null) {
+      return 0;
+    }
+    long remaining = until - System.nanoTime();
+    if (remaining <= 0) {
+      pausedUntil.remove(endpoint, until);
+      return 0;
+    }
+    return TimeUnit.NANOSECONDS.toMillis(remaining) + 1;
+  }
+
+  RetryStats stats() {
+    long now = System.nanoTime();
+    Set<EndpointFamily> paused =
+        pausedUntil.entrySet().stream()
+            .filter(entry -> entry.getValue() - now > 0)
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toUnmodifiableSet());
+    return new RetryStats(
+        pending.get(),
+        completedWaits.sum(),
+        TimeUnit.NANOSECONDS.toMillis(waitNanos.sum()),
+        paused);
+  }
+
+  private void ensureWorker() {
+    workerLock.lock();
+    try {
+      if (worker == null) {
+        worker = new Thread(this::run, "MailBreeze RetryScheduler");
+        worker.setDaemon(true);
+        worker.start();
+      }
+    } finally {
+      workerLock.unlock();
+    }
+  }
+
+  private void run() {
+    long start = System.nanoTime();
+    long tick = 0;
+    while (true) {
+      long deadline = start + (tick + 1) * tickNanos;
+      long sleep;
+      while ((sleep = deadline - System.nanoTime()) > 0) {
+        LockSupport.parkNanos(sleep);
+      }
+      transferIncoming(start, tick);
+      expire(wheel[(int) (tick & mask)]);
+      tick++;
+
+      // Exit when idle; a wait added after this check starts a new worker
+      workerLock.lock();
+      try {
+        if (scheduled.get() == 0 && incoming.isEmpty()) {
+          for (ArrayDeque<Wait> bucket : wheel) {
+            bucket.clear();
+          }
+          worker = null;
+          return;
+        }
+      } finally {
+        workerLock.unlock();
+      }
+    }
+  }
+
+  private void transferIncoming(long start, long tick) {
+    Wait wait;
+    while ((wait = incoming.poll()) != null) {
+      if (wait.isDone()) {
+        continue;
+      }
+      long dueTick = Math.max((wait.deadline - start + tickNanos - 1) / tickNanos, tick);
+      wait.rounds = (dueTick - tick) / wheel.length;
+      wheel[(int) (dueTick & mask)].add(wait);
+    }
+  }
+
+  private void expire(ArrayDeque<Wait> bucket) {
+    int size = bucket.size();
+    for (int i = 0; i < size; i++) {
+      Wait wait = bucket.poll();
+      if (wait.isDone()) {
+        continue;
+      }
+      if (wait.rounds > 0) {
+        wait.rounds--;
+        bucket.add(wait);
+      } else if (wait.finish(true)) {
+        complete(wait);
+      }
+    }
+  }
+
+  private void complete(Wait wait) {
+    if (wait.blocking) {
+      wait.future.complete(null);
+      return;
+    }
+    try {
+      handoff.execute(() -> wait.future.complete(null));
+    } catch (RejectedExecutionException e) {
+      wait.future.complete(null);
+    }
+  }
+
+  /** A pending wait. {@code rounds} is only touched by the worker thread. */
+  private final class Wait {
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+    final long scheduledAt;
+    final long deadline;
+    final boolean retry;
+    final boolean blocking;
+    final AtomicInteger state = new AtomicInteger();
+    long rounds;
+
+    Wait(long scheduledAt, long deadline, boolean retry, boolean blocking) {
+      this.scheduledAt = scheduledAt;
+      this.deadline = deadline;
+      this.retry = retry;
+      this.blocking = blocking;
+    }
+
+    boolean isDone() {
+      return state.get() != 0;
+    }
+
+    /** Marks the wait finished exactly once and updates the counters. */
+    boolean finish(boolean expired) {
+      if (!state.compareAndSet(0, expired ? 1 : 2)) {
+        return false;
+      }
+      scheduled.decrementAndGet();
+      if (!retry) {
+        return true;
+      }
+      pending.decrementAndGet();
+      if (expired) {
+        completedWaits.increment();
+        waitNanos.add(System.nanoTime() - scheduledAt);
+      }
+      return true;
+    }
+  }
+}
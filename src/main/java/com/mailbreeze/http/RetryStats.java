@@ -0,0 +1,18 @@
+package com.mailbreeze.http;
+
+import java.util.Set;
+
+/**
+ * Retry scheduler statistics.
+ *
+ * @param pendingRetries requests currently waiting on backoff, an endpoint pause or rate-limit
+ *     pacing
+ * @param completedWaits waits that have ended and let a request proceed
+ * @param totalWaitMillis time spent waiting across all completed waits
+ * @param pausedEndpoints endpoint families currently paused by a {@code Retry-After} response
+ */
+public record RetryStats(
+    int pendingRetries,
+    long completedWaits,
+    long totalWaitMillis,
+    Set<EndpointFamily> pausedEndpoints) {}
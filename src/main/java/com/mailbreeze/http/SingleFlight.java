@@ -0,0 +1,219 @@
+package com.mailbreeze.http;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Shares one in-flight request between concurrent identical calls.
+ *
+ * <p>The first caller for a key runs the request; callers arriving while it is in flight wait for
+ * its result instead of sending their own. Async callers each get their own future, so one caller
+ * cancelling does not affect the others; the shared request is only cancelled once every async
+ * caller has given up on it. Results are not cached: the key is released as soon as the request
+ * completes.
+ *
+ * <p>A blocking leader that is interrupted fails for its own reasons, not the request's, so its
+ * failure is not shared: callers waiting on it run the request again, and one of them becomes the
+ * new leader.
+ */
+final class SingleFlight {
+
+  private final ConcurrentHashMap<Object, Flight<?>> flights = new ConcurrentHashMap<>();
+  private final LongAdder started = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+
+  /** Runs an async request, or joins the identical one already in flight. */
+  @SuppressWarnings("unchecked")
+  <T> CompletableFuture<T> executeAsync(Object key, Supplier<CompletableFuture<T>> request) {
+    while (true) {
+      Flight<T> flight = new Flight<>(key);
+      Flight<T> existing = (Flight<T>) flights.putIfAbsent(key, flight);
+      if (existing != null) {
+        CompletableFuture<T> joined = existing.join(request);
+        if (joined != null) {
+          coalesced.increment();
+          return joined;
+        }
+        // The flight was abandoned by all its callers and is being torn down; start a new one
+        flights.remove(key, existing);
+        continue;
+      }
+      started.increment();
+      CompletableFuture<T> caller = flight.join(request);
+      CompletableFuture<T> source;
+      try {
+        source = request.get();
+      } catch (RuntimeException e) {
+        flight.finish(null, e);
+        throw e;
+      }
+      flight.start(source);
+      return caller;
+    }
+  }
+
+  /** Runs a blocking request, or waits for the identical one already in flight. */
+  @SuppressWarnings("unchecked")
+  <T> T execute(Object key, Supplier<T> request) {
+    while (true) {
+      Flight<T> flight = new Flight<>(key);
+      Flight<T> existing = (Flight<T>) flights.putIfAbsent(key, flight);
+      if (existing != null) {
+        if (existing.joinBlocking()) {
+          coalesced.increment();
+          try {
+            // Await a copy, so an interrupted waiter cannot cancel the shared request
+            return MailBreezeHttpClient.await(existing.shared.thenApply(value -> value));
+          } catch (RuntimeException e) {
+            if (existing.leaderInterrupted && !Thread.currentThread().isInterrupted()) {
+              continue;
+            }
+            throw e;
+          }
+        }
+        flights.remove(key, existing);
+        continue;
+      }
+      started.increment();
+      T value;
+      try {
+        value = request.get();
+      } catch (RuntimeException e) {
+        // Set before the flight finishes, so waiters see it when they wake
+        flight.leaderInterrupted = Thread.currentThread().isInterrupted();
+        flight.finish(null, e);
+        throw e;
+      }
+      flight.finish(value, null);
+      return value;
+    }
+  }
+
+  SingleFlightStats stats() {
+    return new SingleFlightStats(started.sum(), coalesced.sum());
+  }
+
+  /** One in-flight request and the callers waiting on it. */
+  private final class Flight<T> {
+    private final Object key;
+    private final CompletableFuture<T> shared = new CompletableFuture<>();
+    private CompletableFuture<T> source;
+    private int asyncCallers;
+    private boolean blockingCallers;
+    private boolean abandoned;
+    private volatile boolean leaderInterrupted;
+
+    Flight(Object key) {
+      this.key = key;
+    }
+
+    /**
+     * Returns a future for a new async caller, or null if the flight was abandoned. The caller's
+     * own request runs instead if the blocking leader is interrupted.
+     */
+    CompletableFuture<T> join(Supplier<CompletableFuture<T>> request) {
+      synchronized (this) {
+        if (abandoned) {
+          return null;
+        }
+        asyncCallers++;
+      }
+      CompletableFuture<T> caller = new CompletableFuture<>();
+      shared.whenComplete(
+          (value, error) -> {
+            if (error != null && leaderInterrupted) {
+              rerun(caller, request);
+            } else {
+              complete(caller, value, error);
+            }
+          });
+      caller.whenComplete(
+          (value, error) -> {
+            if (!shared.isDone()) {
+              // Completed from outside: cancelled or timed out by this caller
+              leave();
+            }
+          });
+      return caller;
+    }
+
+    /** Registers a blocking caller, which never gives up on the flight. */
+    synchronized boolean joinBlocking() {
+      if (abandoned) {
+        return false;
+      }
+      blockingCallers = true;
+      return true;
+    }
+
+    void start(CompletableFuture<T> source) {
+      boolean cancel;
+      synchronized (this) {
+        this.source = source;
+        cancel = abandoned;
+      }
+      if (cancel) {
+        source.cancel(true);
+      }
+      source.whenComplete((value, error) -> finish(value, unwrap(error)));
+    }
+
+    void finish(T value, Throwable error) {
+      // Release the key first so callers arriving now start a fresh request
+      flights.remove(key, this);
+      if (error != null) {
+        shared.completeExceptionally(error);
+      } else {
+        shared.complete(value);
+      }
+    }
+
+    private void rerun(CompletableFuture<T> caller, Supplier<CompletableFuture<T>> request) {
+      if (caller.isDone()) {
+        return;
+      }
+      CompletableFuture<T> next;
+      try {
+        next = executeAsync(key, request);
+      } catch (RuntimeException e) {
+        caller.completeExceptionally(e);
+        return;
+      }
+      next.whenComplete((value, error) -> complete(caller, value, error));
+      // Hand a cancel of the caller on to its place in the new flight
+      caller.whenComplete((value, error) -> next.cancel(true));
+    }
+
+    private void leave() {
+      CompletableFuture<T> toCancel;
+      synchronized (this) {
+        if (--asyncCallers > 0 || blockingCallers || abandoned) {
+          return;
+        }
+        abandoned = true;
+        toCancel = source;
+      }
+      flights.remove(key, this);
+      if (toCancel != null) {
+        toCancel.cancel(true);
+      }
+    }
+  }
+
+  private static <T> void complete(CompletableFuture<T> future, T value, Throwable error) {
+    if (error != null) {
+      future.completeExceptionally(unwrap(error));
+    } else {
+      future.complete(value);
+    }
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    return error instanceof CompletionException && error.getCause() != null
+        ? error.getCause()
+        : error;
+  }
+}
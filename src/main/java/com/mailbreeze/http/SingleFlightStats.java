@@ -0,0 +1,9 @@
+package com.mailbreeze.http;
+
+/**
+ * Single-flight GET coalescing counters.
+ *
+ * @param flights GETs that went out as their own request
+ * @param coalescedCalls GETs that shared an identical in-flight request instead of sending one
+ */
+public record SingleFlightStats(long flights, long coalescedCalls) {}
@@ -0,0 +1,90 @@
+package com.mailbreeze.http;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accumulates per-stage response timings. Reading and binding a body interleave while the envelope
+ * is streamed, so read time is measured inside the stream and bind time is whatever remains.
+ */
+final class StageTimer {
+
+  private final LongAdder responses = new LongAdder();
+  private final LongAdder headersNanos = new LongAdder();
+  private final LongAdder decodedBodies = new LongAdder();
+  private final LongAdder bodyReadNanos = new LongAdder();
+  private final LongAdder bindNanos = new LongAdder();
+  private final LongAdder offloaded = new LongAdder();
+  private final LongAdder handoffNanos = new LongAdder();
+
+  /** Records that response headers arrived {@code nanos} after the call was sent. */
+  void headers(long nanos) {
+    responses.increment();
+    headersNanos.add(nanos);
+  }
+
+  /** Records time spent reading a body ahead of binding it. */
+  void bodyRead(long nanos) {
+    bodyReadNanos.add(nanos);
+  }
+
+  /** Records a decoded body: {@code totalNanos} spent decoding, of which {@code readNanos} read. */
+  void decoded(long totalNanos, long readNanos) {
+    decodedBodies.increment();
+    bodyReadNanos.add(readNanos);
+    bindNanos.add(Math.max(0, totalNanos - readNanos));
+  }
+
+  /** Records a response that waited {@code nanos} for a deserialization executor thread. */
+  void handoff(long nanos) {
+    offloaded.increment();
+    handoffNanos.add(nanos);
+  }
+
+  StageTimingStats snapshot() {
+    return new StageTimingStats(
+        responses.sum(),
+        TimeUnit.NANOSECONDS.toMillis(headersNanos.sum()),
+        decodedBodies.sum(),
+        TimeUnit.NANOSECONDS.toMillis(bodyReadNanos.sum()),
+        TimeUnit.NANOSECONDS.toMillis(bindNanos.sum()),
+        offloaded.sum(),
+        TimeUnit.NANOSECONDS.toMillis(handoffNanos.sum()));
+  }
+
+  /** Stream that adds up the time its caller spends blocked in {@code read}. */
+  static final class TimedInputStream extends FilterInputStream {
+    private long readNanos;
+
+    TimedInputStream(InputStream in) {
+      super(in);
+    }
+
+    long readNanos() {
+      return readNanos;
+    }
+
+    @Override
+    public int read() throws IOException {
+      long start = System.nanoTime();
+      try {
+        return super.read();
+      } finally {
+        readNanos += System.nanoTime() - start;
+      }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      long start = System.nanoTime();
+      try {
+        return in.read(b, off, len);
+      } finally {
+        readNanos += System.nanoTime() - start;
+      }
+    }
+  }
+}
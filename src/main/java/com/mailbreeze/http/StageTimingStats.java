@@ -0,0 +1,52 @@
+package com.mailbreeze.http;
+
+/**
+ * Where response handling time goes, split into stages. Headers are timed from the moment the
+ * transport starts the exchange, so time queued in the dispatcher or a fair call queue is not
+ * included.
+ *
+ * @param responses responses whose headers arrived
+ * @param totalHeadersMillis time from sending a call until its response headers arrived
+ * @param decodedBodies response bodies read and bound, including bodies served from the response
+ *     cache
+ * @param totalBodyReadMillis time spent reading those bodies from the network or cache
+ * @param totalBindMillis time spent binding those bodies into response objects
+ * @param offloaded async responses bound on the deserialization executor
+ * @param totalHandoffMillis time those responses waited for a deserialization executor thread
+ */
+public record StageTimingStats(
+    long responses,
+    long totalHeadersMillis,
+    long decodedBodies,
+    long totalBodyReadMillis,
+    long totalBindMillis,
+    long offloaded,
+    long totalHandoffMillis) {
+
+  /**
+   * Returns the mean time to response headers, or 0 if no response has arrived.
+   *
+   * @return the mean time to headers in milliseconds
+   */
+  public double meanHeadersMillis() {
+    return responses == 0 ? 0 : (double) totalHeadersMillis / responses;
+  }
+
+  /**
+   * Returns the mean time to read a response body, or 0 if none was read.
+   *
+   * @return the mean body read time in milliseconds
+   */
+  public double meanBodyReadMillis() {
+    return decodedBodies == 0 ? 0 : (double) totalBodyReadMillis / decodedBodies;
+  }
+
+  /**
+   * Returns the mean time to bind a response body, or 0 if none was bound.
+   *
+   * @return the mean bind time in milliseconds
+   */
+  public double meanBindMillis() {
+    return decodedBodies == 0 ? 0 : (double) totalBindMillis / decodedBodies;
+  }
+}
@@ -0,0 +1,149 @@
+package com.mailbreeze.http;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Stale-while-revalidate cache for the aggregate stats endpoints.
+ *
+ * <p>A result younger than its TTL is returned as is. An older one is still returned immediately,
+ * and a background fetch replaces it; callers only wait when nothing usable is cached. Each path
+ * has at most one fetch in flight, which waiting callers and later refreshes share. Results are
+ * cached by path, since the API key is fixed per client, and the same instance is handed to every
+ * caller until it is replaced.
+ */
+final class StatsCache {
+
+  /** Entries beyond which expired ones are swept when a new path is cached. */
+  static final int SWEEP_THRESHOLD = 1024;
+
+  private final Map<EndpointFamily, StatsTtl> ttls;
+  private final LongSupplier nanoClock;
+  private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+  private final LongAdder freshHits = new LongAdder();
+  private final LongAdder staleHits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder refreshFailures = new LongAdder();
+
+  StatsCache(Map<EndpointFamily, StatsTtl> ttls) {
+    this(ttls, System::nanoTime);
+  }
+
+  StatsCache(Map<EndpointFamily, StatsTtl> ttls, LongSupplier nanoClock) {
+    this.ttls = ttls;
+    this.nanoClock = nanoClock;
+  }
+
+  /** Returns true if results for the family are cached. */
+  boolean caches(EndpointFamily family) {
+    return ttls.containsKey(family);
+  }
+
+  /**
+   * Returns the cached result for a path, fetching it when none is usable and refreshing it in the
+   * background once it is past its TTL.
+   *
+   * @param fetch starts a fetch of the path
+   */
+  <T> T get(String path, Supplier<CompletableFuture<T>> fetch) {
+    return MailBreezeHttpClient.await(getAsync(path, fetch));
+  }
+
+  /**
+   * Async variant of {@link #get}: completed at once with a usable cached result, otherwise when
+   * the fetch completes. Cancelling the returned future leaves the shared fetch running.
+   */
+  @SuppressWarnings("unchecked")
+  <T> CompletableFuture<T> getAsync(String path, Supplier<CompletableFuture<T>> fetch) {
+    StatsTtl ttl = ttls.get(EndpointFamily.of(path));
+    Entry entry = entries.get(path);
+    if (entry == null) {
+      sweep();
+      entry = entries.computeIfAbsent(path, key -> new Entry());
+    }
+
+    Loaded loaded = entry.loaded;
+    if (loaded != null) {
+      long age = nanoClock.getAsLong() - loaded.loadedAtNanos();
+      if (age < ttl.ttl().toNanos()) {
+        freshHits.increment();
+        return CompletableFuture.completedFuture((T) loaded.value());
+      }
+      if (age < ttl.ttl().toNanos() + ttl.maxStale().toNanos()) {
+        staleHits.increment();
+        entry.refresh(fetch);
+        return CompletableFuture.completedFuture((T) loaded.value());
+      }
+    }
+    misses.increment();
+    // Hand out a copy, so a caller cancelling or interrupted cannot cancel the fetch others share
+    return entry.refresh(fetch).thenApply(value -> (T) value);
+  }
+
+  StatsCacheStats stats() {
+    Map<String, Duration> ages = new TreeMap<>();
+    long now = nanoClock.getAsLong();
+    entries.forEach(
+        (path, entry) -> {
+          Loaded loaded = entry.loaded;
+          if (loaded != null) {
+            ages.put(path, Duration.ofNanos(now - loaded.loadedAtNanos()));
+          }
+        });
+    return new StatsCacheStats(
+        freshHits.sum(), staleHits.sum(), misses.sum(), refreshFailures.sum(), ages);
+  }
+
+  /** Drops results too old to be served, so per-list paths cannot grow the cache unbounded. */
+  private void sweep() {
+    if (entries.size() < SWEEP_THRESHOLD) {
+      return;
+    }
+    long now = nanoClock.getAsLong();
+    entries
+        .entrySet()
+        .removeIf(
+            e -> {
+              Loaded loaded = e.getValue().loaded;
+              StatsTtl ttl = ttls.get(EndpointFamily.of(e.getKey()));
+              return loaded != null
+                  && now - loaded.loadedAtNanos() >= ttl.ttl().plus(ttl.maxStale()).toNanos();
+            });
+  }
+
+  /** A fetched result and when it arrived. */
+  private record Loaded(Object value, long loadedAtNanos) {}
+
+  /** Cached result for one path and the fetch currently replacing it. */
+  private final class Entry {
+    volatile Loaded loaded;
+    private CompletableFuture<?> fetching;
+
+    /** Starts a fetch unless one is already in flight, and returns the one in flight. */
+    synchronized CompletableFuture<?> refresh(Supplier<? extends CompletableFuture<?>> fetch) {
+      if (fetching != null) {
+        return fetching;
+      }
+      CompletableFuture<?> started = fetch.get();
+      fetching = started;
+      started.whenComplete(
+          (value, error) -> {
+            synchronized (this) {
+              if (error == null) {
+                loaded = new Loaded(value, nanoClock.getAsLong());
+              } else {
+                refreshFailures.increment();
+              }
+              fetching = null;
+            }
+          });
+      return started;
+    }
+  }
+}
@@ -0,0 +1,20 @@
+package com.mailbreeze.http;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Stats cache counters and the age of each cached result.
+ *
+ * @param freshHits calls answered from a result younger than its TTL
+ * @param staleHits calls answered from an expired result while it was refreshed in the background
+ * @param misses calls that waited for a fetch because no usable result was cached
+ * @param refreshFailures fetches that failed; the previous result, if any, stays cached
+ * @param entryAges age of each cached result by request path
+ */
+public record StatsCacheStats(
+    long freshHits,
+    long staleHits,
+    long misses,
+    long refreshFailures,
+    Map<String, Duration> entryAges) {}
@@ -0,0 +1,12 @@
+package com.mailbreeze.http;
+
+import java.time.Duration;
+
+/**
+ * Stats cache lifetime for one endpoint family.
+ *
+ * @param ttl how long a cached result is served without refreshing it
+ * @param maxStale how long past the TTL a cached result is still served while it is refreshed in
+ *     the background; older results are refetched before returning
+ */
+public record StatsTtl(Duration ttl, Duration maxStale) {}
@@ -0,0 +1,65 @@
+package com.mailbreeze.http;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+
+/**
+ * Counts the requests multiplexed on each pooled connection. Connections are held weakly, so
+ * entries disappear once OkHttp evicts and discards a connection.
+ */
+final class StreamTrackingListener extends EventListener {
+
+  private final Map<Connection, Counter> counters =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  @Override
+  public void connectionAcquired(Call call, Connection connection) {
+    synchronized (counters) {
+      Counter counter = counters.computeIfAbsent(connection, c -> new Counter());
+      counter.active++;
+      counter.total++;
+      counter.peak = Math.max(counter.peak, counter.active);
+    }
+  }
+
+  @Override
+  public void connectionReleased(Call call, Connection connection) {
+    synchronized (counters) {
+      Counter counter = counters.get(connection);
+      if (counter != null) {
+        counter.active--;
+      }
+    }
+  }
+
+  List<ConnectionStats> snapshot() {
+    List<ConnectionStats> stats = new ArrayList<>();
+    synchronized (counters) {
+      counters.forEach(
+          (connection, counter) -> {
+            InetSocketAddress address = connection.route().socketAddress();
+            stats.add(
+                new ConnectionStats(
+                    address.getHostString() + ":" + address.getPort(),
+                    connection.protocol().toString(),
+                    counter.active,
+                    counter.peak,
+                    counter.total));
+          });
+    }
+    return stats;
+  }
+
+  private static final class Counter {
+    private int active;
+    private int peak;
+    private long total;
+  }
+}
@@ -0,0 +1,66 @@
+package com.mailbreeze.http;
+
+import java.time.Duration;
+import java.util.List;
+import okhttp3.Call;
+import okhttp3.Callback;
+
+/**
+ * Executes HTTP requests on behalf of {@link MailBreezeHttpClient}.
+ *
+ * <p>A transport only moves requests and responses; envelope parsing, error mapping and retries
+ * stay in the client. Requests and responses are exchanged as OkHttp {@link okhttp3.Request} and
+ * {@link okhttp3.Response} values, so a transport can be backed by any HTTP stack that can adapt
+ * to {@link Call}. Two implementations ship with the SDK:
+ *
+ * <ul>
+ *   <li>{@link OkHttpTransport} - OkHttp with a tunable connection pool and dispatcher (default)
+ *   <li>{@link JdkHttpTransport} - the JDK {@code java.net.http.HttpClient}
+ * </ul>
+ *
+ * <p>Implementations must be thread-safe. A transport may be shared by many clients.
+ */
+public interface Transport {
+
+  /**
+   * Returns a call factory whose calls time out after the given duration.
+   *
+   * @param timeout the connect, read and write timeout for calls
+   * @return a call factory backed by this transport
+   */
+  Call.Factory callFactory(Duration timeout);
+
+  /**
+   * Starts an async call on behalf of a tenant. Transports that queue fairly across tenants use the
+   * tenant to pick a queue; the default starts the call immediately.
+   *
+   * @param tenant the tenant key of the calling client
+   * @param call the call to start
+   * @param callback receives the response or failure
+   */
+  default void enqueue(Object tenant, Call call, Callback callback) {
+    call.enqueue(callback);
+  }
+
+  /**
+   * Returns connection pool and dispatcher statistics, or zeros if the transport cannot report
+   * them.
+   *
+   * @return the current pool statistics
+   */
+  default PoolStats stats() {
+    return new PoolStats(0, 0, 0, 0);
+  }
+
+  /**
+   * Returns per-connection stream usage, or an empty list if the transport cannot report it.
+   *
+   * @return stream statistics for each live connection
+   */
+  default List<ConnectionStats> connectionStats() {
+    return List.of();
+  }
+
+  /** Releases connections and threads owned by this transport. */
+  void close();
+}
@@ -0,0 +1,94 @@
+package com.mailbreeze.http;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Runtime access to virtual threads. The SDK targets Java 17, so the JDK 21 APIs are looked up
+ * reflectively once and used only when present.
+ */
+final class VirtualThreads {
+
+  private static final MethodHandle OF_VIRTUAL;
+  private static final MethodHandle NAME;
+  private static final MethodHandle FACTORY;
+  private static final MethodHandle PER_TASK_EXECUTOR;
+  private static final MethodHandle IS_VIRTUAL;
+
+  static {
+    MethodHandle ofVirtual = null;
+    MethodHandle name = null;
+    MethodHandle factory = null;
+    MethodHandle perTaskExecutor = null;
+    MethodHandle isVirtual = null;
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+      Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+      Class<?> ofVirtualType = Class.forName("java.lang.Thread$Builder$OfVirtual");
+      ofVirtual =
+          lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualType));
+      name =
+          lookup.findVirtual(
+              builderType, "name", MethodType.methodType(builderType, String.class, long.class));
+      factory =
+          lookup.findVirtual(builderType, "factory", MethodType.methodType(ThreadFactory.class));
+      perTaskExecutor =
+          lookup.findStatic(
+              Executors.class,
+              "newThreadPerTaskExecutor",
+              MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+      isVirtual =
+          lookup.findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+    } catch (ReflectiveOperationException e) {
+      // Running on a JDK without virtual threads
+      ofVirtual = null;
+    }
+    OF_VIRTUAL = ofVirtual;
+    NAME = name;
+    FACTORY = factory;
+    PER_TASK_EXECUTOR = perTaskExecutor;
+    IS_VIRTUAL = isVirtual;
+  }
+
+  private VirtualThreads() {}
+
+  /** Returns true if the running JDK supports virtual threads (JDK 21+). */
+  static boolean isAvailable() {
+    return OF_VIRTUAL != null;
+  }
+
+  /**
+   * Creates an executor that starts a new virtual thread for each task.
+   *
+   * @param namePrefix prefix for thread names, followed by a counter
+   * @throws IllegalStateException if virtual threads are not available
+   */
+  static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+    if (!isAvailable()) {
+      throw new IllegalStateException("Virtual threads require JDK 21 or later");
+    }
+    try {
+      Object builder = NAME.invoke(OF_VIRTUAL.invoke(), namePrefix, 0L);
+      ThreadFactory factory = (ThreadFactory) FACTORY.invoke(builder);
+      return (ExecutorService) PER_TASK_EXECUTOR.invoke(factory);
+    } catch (Throwable e) {
+      throw new IllegalStateException("Failed to create virtual thread executor", e);
+    }
+  }
+
+  /** Returns true if the given thread is a virtual thread. */
+  static boolean isVirtual(Thread thread) {
+    if (!isAvailable()) {
+      return false;
+    }
+    try {
+      return (boolean) IS_VIRTUAL.invoke(thread);
+    } catch (Throwable e) {
+      return false;
+    }
+  }
+}
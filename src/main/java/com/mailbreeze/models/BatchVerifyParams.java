@@ -1,11 +1,17 @@
 package com.mailbreeze.models;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
 /** Parameters for batch email verification. */
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonSerialize(using = BatchVerifyParams.Serializer.class)
 public class BatchVerifyParams {
 
   private List<String> emails;
@@ -24,4 +30,20 @@ public class BatchVerifyParams {
   public List<String> getEmails() {
     return emails;
   }
+
+  /** Writes the body directly; batches can carry thousands of addresses. */
+  static final class Serializer extends StdSerializer<BatchVerifyParams> {
+
+    Serializer() {
+      super(BatchVerifyParams.class);
+    }
+
+    @Override
+    public void serialize(BatchVerifyParams value, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+      gen.writeStartObject(value);
+      JsonFields.writeStrings(gen, "emails", value.emails);
+      gen.writeEndObject();
+    }
+  }
 }
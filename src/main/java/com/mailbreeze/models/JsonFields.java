@@ -0,0 +1,72 @@
+package com.mailbreeze.models;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Field writers shared by the hand-written request serializers. Each skips a null value, matching
+ * {@code @JsonInclude(NON_NULL)}; nulls inside lists and maps are written as {@code null}.
+ */
+final class JsonFields {
+
+  private JsonFields() {}
+
+  static void writeString(JsonGenerator gen, String name, String value) throws IOException {
+    if (value != null) {
+      gen.writeStringField(name, value);
+    }
+  }
+
+  static void writeStrings(JsonGenerator gen, String name, List<String> values) throws IOException {
+    if (values == null) {
+      return;
+    }
+    gen.writeArrayFieldStart(name);
+    for (int i = 0, n = values.size(); i < n; i++) {
+      gen.writeString(values.get(i));
+    }
+    gen.writeEndArray();
+  }
+
+  static void writeStringMap(JsonGenerator gen, String name, Map<String, String> values)
+      throws IOException {
+    if (values == null) {
+      return;
+    }
+    gen.writeObjectFieldStart(name);
+    for (Map.Entry<String, String> entry : values.entrySet()) {
+      gen.writeStringField(entry.getKey(), entry.getValue());
+    }
+    gen.writeEndObject();
+  }
+
+  /** Writes a map of arbitrary values; strings are written directly, anything else via databind. */
+  static void writeObjectMap(
+      JsonGenerator gen, String name, Map<String, Object> values, SerializerProvider provider)
+      throws IOException {
+    if (values == null) {
+      return;
+    }
+    gen.writeObjectFieldStart(name);
+    for (Map.Entry<String, Object> entry : values.entrySet()) {
+      gen.writeFieldName(entry.getKey());
+      if (entry.getValue() instanceof String value) {
+        gen.writeString(value);
+      } else {
+        provider.defaultSerializeValue(entry.getValue(), gen);
+      }
+    }
+    gen.writeEndObject();
+  }
+
+  /** Writes a value through databind, so it follows the mapper's configuration (dates, enums). */
+  static void writeValue(JsonGenerator gen, String name, Object value, SerializerProvider provider)
+      throws IOException {
+    if (value != null) {
+      provider.defaultSerializeField(name, value, gen);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.mailbreeze.models;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link SendEmailTemplate} addressed to its recipients. Created by {@link
+ * SendEmailTemplate#personalize}; send it with {@code emails().send(...)}.
+ */
+@JsonSerialize(using = PersonalizedEmail.Serializer.class)
+public final class PersonalizedEmail {
+
+  private final SendEmailTemplate template;
+  private final List<String> to;
+  private final Map<String, Object> variables;
+
+  PersonalizedEmail(SendEmailTemplate template, List<String> to, Map<String, Object> variables) {
+    this.template = template;
+    this.to = to;
+    this.variables = variables;
+  }
+
+  public List<String> getTo() {
+    return to;
+  }
+
+  public Map<String, Object> getVariables() {
+    return variables;
+  }
+
+  /** Writes the recipient fields, then copies in the template's pre-encoded shared fields. */
+  static final class Serializer extends StdSerializer<PersonalizedEmail> {
+
+    Serializer() {
+      super(PersonalizedEmail.class);
+    }
+
+    @Override
+    public void serialize(PersonalizedEmail value, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+      gen.writeStartObject(value);
+      JsonFields.writeStrings(gen, "to", value.to);
+      JsonFields.writeObjectMap(gen, "variables", value.variables, provider);
+      gen.writeRaw(value.template.sharedFields());
+      gen.writeEndObject();
+    }
+  }
+}
@@ -2,6 +2,11 @@ package com.mailbreeze.models;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -9,6 +14,7 @@ import java.util.Map;
 
 /** Parameters for sending an email. */
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonSerialize(using = SendEmailParams.Serializer.class)
 public class SendEmailParams {
 
   private String from;
@@ -219,4 +225,35 @@ public class SendEmailParams {
       return new SendEmailParams(this);
     }
   }
+
+  /**
+   * Writes the body field by field instead of through bean introspection; this is the SDK's
+   * highest-volume request. Field order matches what databind produced for this class.
+   */
+  static final class Serializer extends StdSerializer<SendEmailParams> {
+
+    Serializer() {
+      super(SendEmailParams.class);
+    }
+
+    @Override
+    public void serialize(SendEmailParams value, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+      gen.writeStartObject(value);
+      JsonFields.writeString(gen, "from", value.from);
+      JsonFields.writeStrings(gen, "to", value.to);
+      JsonFields.writeString(gen, "subject", value.subject);
+      JsonFields.writeString(gen, "html", value.html);
+      JsonFields.writeString(gen, "text", value.text);
+      JsonFields.writeObjectMap(gen, "variables", value.variables, provider);
+      JsonFields.writeStrings(gen, "cc", value.cc);
+      JsonFields.writeStrings(gen, "bcc", value.bcc);
+      JsonFields.writeStringMap(gen, "headers", value.headers);
+      JsonFields.writeStrings(gen, "tags", value.tags);
+      JsonFields.writeString(gen, "template_id", value.templateId);
+      JsonFields.writeStrings(gen, "attachment_ids", value.attachmentIds);
+      JsonFields.writeString(gen, "reply_to", value.replyTo);
+      gen.writeEndObject();
+    }
+  }
 }
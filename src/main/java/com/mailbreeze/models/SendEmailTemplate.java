@@ -0,0 +1,199 @@
+package com.mailbreeze.models;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The fields a bulk send shares across recipients, serialized once.
+ *
+ * <p>Everything except {@code to} and {@code variables} is written to JSON when the template is
+ * built; each {@link #personalize} call only adds the recipient and their variables, and sending
+ * it copies the pre-encoded fields into the request body instead of serializing them again:
+ *
+ * <pre>{@code
+ * SendEmailTemplate campaign = SendEmailTemplate.builder()
+ *     .from("news@example.com")
+ *     .subject("Our spring update")
+ *     .templateId("tpl_spring")
+ *     .tags(List.of("campaign"))
+ *     .build();
+ *
+ * for (Subscriber subscriber : subscribers) {
+ *   mailbreeze.emails().send(
+ *       campaign.personalize(subscriber.email(), Map.of("name", subscriber.name())));
+ * }
+ * }</pre>
+ *
+ * <p>A template is immutable and can be shared between threads.
+ */
+public final class SendEmailTemplate {
+
+  private static final JsonFactory JSON = new JsonFactory();
+
+  private final SerializableString sharedFields;
+
+  private SendEmailTemplate(Builder builder) {
+    this.sharedFields = new SerializedString(serialize(builder));
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns the shared fields as JSON object members with a leading comma, ready to follow the
+   * per-recipient fields. The UTF-8 encoding is cached on first use.
+   */
+  SerializableString sharedFields() {
+    return sharedFields;
+  }
+
+  /**
+   * Creates a send of this template to one recipient.
+   *
+   * @param to the recipient address
+   * @param variables template variables for this recipient, or null for none; not copied, so do
+   *     not modify it until the email is sent
+   * @return the personalized email
+   */
+  public PersonalizedEmail personalize(String to, Map<String, Object> variables) {
+    if (to == null || to.isBlank()) {
+      throw new IllegalArgumentException("to is required");
+    }
+    return new PersonalizedEmail(this, List.of(to), variables);
+  }
+
+  /**
+   * Creates a send of this template to one or more recipients.
+   *
+   * @param to the recipient addresses
+   * @param variables template variables for these recipients, or null for none; not copied, so do
+   *     not modify it until the email is sent
+   * @return the personalized email
+   */
+  public PersonalizedEmail personalize(List<String> to, Map<String, Object> variables) {
+    if (to == null || to.isEmpty()) {
+      throw new IllegalArgumentException("to is required");
+    }
+    return new PersonalizedEmail(this, List.copyOf(to), variables);
+  }
+
+  private static String serialize(Builder builder) {
+    StringWriter json = new StringWriter();
+    try (JsonGenerator gen = JSON.createGenerator(json)) {
+      gen.writeStartObject();
+      JsonFields.writeString(gen, "from", builder.from);
+      JsonFields.writeString(gen, "subject", builder.subject);
+      JsonFields.writeString(gen, "html", builder.html);
+      JsonFields.writeString(gen, "text", builder.text);
+      JsonFields.writeStrings(gen, "cc", builder.cc);
+      JsonFields.writeStrings(gen, "bcc", builder.bcc);
+      JsonFields.writeStringMap(gen, "headers", builder.headers);
+      JsonFields.writeStrings(gen, "tags", builder.tags);
+      JsonFields.writeString(gen, "template_id", builder.templateId);
+      JsonFields.writeStrings(gen, "attachment_ids", builder.attachmentIds);
+      JsonFields.writeString(gen, "reply_to", builder.replyTo);
+      gen.writeEndObject();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    // Keep the members only; "from" is required, so there is at least one
+    String object = json.toString();
+    return "," + object.substring(1, object.length() - 1);
+  }
+
+  public static final class Builder {
+    private String from;
+    private String subject;
+    private String html;
+    private String text;
+    private String templateId;
+    private List<String> attachmentIds;
+    private String replyTo;
+    private List<String> cc;
+    private List<String> bcc;
+    private Map<String, String> headers;
+    private List<String> tags;
+
+    private Builder() {}
+
+    public Builder from(String from) {
+      this.from = from;
+      return this;
+    }
+
+    public Builder subject(String subject) {
+      this.subject = subject;
+      return this;
+    }
+
+    public Builder html(String html) {
+      this.html = html;
+      return this;
+    }
+
+    public Builder text(String text) {
+      this.text = text;
+      return this;
+    }
+
+    public Builder templateId(String templateId) {
+      this.templateId = templateId;
+      return this;
+    }
+
+    public Builder attachmentIds(List<String> attachmentIds) {
+      this.attachmentIds = new ArrayList<>(attachmentIds);
+      return this;
+    }
+
+    public Builder replyTo(String replyTo) {
+      this.replyTo = replyTo;
+      return this;
+    }
+
+    public Builder cc(List<String> cc) {
+      this.cc = new ArrayList<>(cc);
+      return this;
+    }
+
+    public Builder bcc(List<String> bcc) {
+      this.bcc = new ArrayList<>(bcc);
+      return this;
+    }
+
+    public Builder headers(Map<String, String> headers) {
+      this.headers = new HashMap<>(headers);
+      return this;
+    }
+
+    public Builder header(String name, String value) {
+      if (this.headers == null) {
+        this.headers = new HashMap<>();
+      }
+      this.headers.put(name, value);
+      return this;
+    }
+
+    public Builder tags(List<String> tags) {
+      this.tags = new ArrayList<>(tags);
+      return this;
+    }
+
+    public SendEmailTemplate build() {
+      if (from == null || from.isBlank()) {
+        throw new IllegalArgumentException("from is required");
+      }
+      return new SendEmailTemplate(this);
+    }
+  }
+}
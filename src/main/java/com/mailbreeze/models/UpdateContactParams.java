@@ -1,13 +1,19 @@
 package com.mailbreeze.models;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.mailbreeze.models.enums.ConsentType;
+import java.io.IOException;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 
 /** Parameters for updating a contact. */
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonSerialize(using = UpdateContactParams.Serializer.class)
 public class UpdateContactParams {
 
   private String email;
@@ -142,4 +148,30 @@ public class UpdateContactParams {
       return new UpdateContactParams(this);
     }
   }
+
+  /** Writes the body field by field instead of through bean introspection. */
+  static final class Serializer extends StdSerializer<UpdateContactParams> {
+
+    Serializer() {
+      super(UpdateContactParams.class);
+    }
+
+    @Override
+    public void serialize(UpdateContactParams value, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+      gen.writeStartObject(value);
+      JsonFields.writeString(gen, "email", value.email);
+      JsonFields.writeString(gen, "firstName", value.firstName);
+      JsonFields.writeString(gen, "lastName", value.lastName);
+      JsonFields.writeString(gen, "phoneNumber", value.phoneNumber);
+      JsonFields.writeObjectMap(gen, "customFields", value.customFields, provider);
+      if (value.consentType != null) {
+        gen.writeStringField("consentType", value.consentType.getValue());
+      }
+      JsonFields.writeString(gen, "consentSource", value.consentSource);
+      JsonFields.writeValue(gen, "consentTimestamp", value.consentTimestamp, provider);
+      JsonFields.writeString(gen, "consentIpAddress", value.consentIpAddress);
+      gen.writeEndObject();
+    }
+  }
 }
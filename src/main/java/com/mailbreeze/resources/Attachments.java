@@ -3,6 +3,7 @@ package com.mailbreeze.resources;
 import com.mailbreeze.http.MailBreezeHttpClient;
 import com.mailbreeze.models.*;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Resource for managing file attachments.
@@ -48,6 +49,8 @@ import java.util.Map;
  */
 public class Attachments extends BaseResource {
 
+  private final Async async = new Async();
+
   /**
    * Creates a new Attachments resource.
    *
@@ -57,6 +60,15 @@ public class Attachments extends BaseResource {
     super(httpClient, "/attachments");
   }
 
+  /**
+   * Returns the non-blocking variants of this resource's methods.
+   *
+   * @return the async attachments resource
+   */
+  public Async async() {
+    return async;
+  }
+
   /**
    * Creates a presigned URL for uploading an attachment.
    *
@@ -100,4 +112,58 @@ public class Attachments extends BaseResource {
   public void delete(String attachmentId) {
     doDelete("/" + attachmentId);
   }
+
+  /**
+   * Non-blocking variants of the {@link Attachments} methods. Futures complete on an SDK thread,
+   * such as the HTTP dispatcher, the retry scheduler or a configured deserialization executor, so
+   * keep dependent stages short or move them to your own executor with the {@code *Async} methods;
+   * cancelling a future cancels its request.
+   */
+  public final class Async {
+
+    private Async() {}
+
+    /**
+     * Creates a presigned URL for uploading an attachment.
+     *
+     * @param params the upload parameters (file name, content type, size)
+     * @return a future completed with the upload result
+     * @see Attachments#createUpload(CreateAttachmentUploadParams)
+     */
+    public CompletableFuture<CreateAttachmentUploadResult> createUpload(
+        CreateAttachmentUploadParams params) {
+      return postAsync("/presigned-url", params, CreateAttachmentUploadResult.class, null);
+    }
+
+    /**
+     * Confirms that a file upload is complete.
+     *
+     * @param params the confirmation parameters (upload token)
+     * @return a future completed with the confirmed attachment (may be null)
+     */
+    public CompletableFuture<Attachment> confirm(ConfirmAttachmentParams params) {
+      return postAsync(
+          "/" + params.getUploadToken() + "/confirm", Map.of(), Attachment.class, null);
+    }
+
+    /**
+     * Gets an attachment by ID.
+     *
+     * @param attachmentId the attachment ID
+     * @return a future completed with the attachment details
+     */
+    public CompletableFuture<Attachment> get(String attachmentId) {
+      return getAsync("/" + attachmentId, null, Attachment.class);
+    }
+
+    /**
+     * Deletes an attachment.
+     *
+     * @param attachmentId the attachment ID to delete
+     * @return a future completed when the attachment is deleted
+     */
+    public CompletableFuture<Void> delete(String attachmentId) {
+      return deleteAsync("/" + attachmentId);
+    }
+  }
 }
@@ -3,6 +3,8 @@ package com.mailbreeze.resources;
 import com.mailbreeze.http.MailBreezeHttpClient;
 import com.mailbreeze.http.RequestOptions;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * Abstract base class for all API resources. Provides common HTTP methods with path building for
@@ -11,6 +13,9 @@ import java.util.Map;
  * <p>Each resource subclass defines a base path (e.g., "/emails", "/contacts") and all requests are
  * automatically prefixed with this path.
  *
+ * <p>Each resource also exposes non-blocking variants of its methods through {@code async()}, built
+ * on the {@code *Async} helpers here.
+ *
  * <p>Example usage in subclass:
  *
  * <pre>{@code
@@ -67,6 +72,19 @@ public abstract class BaseResource {
     return httpClient.get(buildPath(path), queryParams, responseType);
   }
 
+  /**
+   * Performs a GET request for an aggregate stats endpoint, served from the client's stats cache
+   * when one is configured for it.
+   *
+   * @param path relative path to append to the base path
+   * @param responseType the expected response type
+   * @param <T> the response type
+   * @return the response object
+   */
+  protected <T> T getStats(String path, Class<T> responseType) {
+    return httpClient.getStats(buildPath(path), responseType);
+  }
+
   /**
    * Performs a POST request.
    *
@@ -115,4 +133,105 @@ public abstract class BaseResource {
   protected void doDelete(String path) {
     httpClient.delete(buildPath(path));
   }
+
+  /**
+   * Performs an async GET request.
+   *
+   * @param path relative path to append to the base path
+   * @param queryParams optional query parameters
+   * @param responseType the expected response type
+   * @param <T> the response type
+   * @return a future completed with the response object
+   */
+  protected <T> CompletableFuture<T> getAsync(
+      String path, Map<String, String> queryParams, Class<T> responseType) {
+    return httpClient.getAsync(buildPath(path), queryParams, responseType);
+  }
+
+  /**
+   * Performs an async GET request for an aggregate stats endpoint, served from the client's stats
+   * cache when one is configured for it.
+   *
+   * @param path relative path to append to the base path
+   * @param responseType the expected response type
+   * @param <T> the response type
+   * @return a future completed with the response object
+   */
+  protected <T> CompletableFuture<T> getStatsAsync(String path, Class<T> responseType) {
+    return httpClient.getStatsAsync(buildPath(path), responseType);
+  }
+
+  /**
+   * Performs an async POST request.
+   *
+   * @param path relative path to append to the base path
+   * @param body the request body
+   * @param responseType the expected response type
+   * @param options optional request options (e.g., idempotency key)
+   * @param <T> the response type
+   * @return a future completed with the response object
+   */
+  protected <T> CompletableFuture<T> postAsync(
+      String path, Object body, Class<T> responseType, RequestOptions options) {
+    return httpClient.postAsync(buildPath(path), body, responseType, options);
+  }
+
+  /**
+   * Performs an async PATCH request.
+   *
+   * @param path relative path to append to the base path
+   * @param body the request body
+   * @param responseType the expected response type
+   * @param <T> the response type
+   * @return a future completed with the response object
+   */
+  protected <T> CompletableFuture<T> patchAsync(String path, Object body, Class<T> responseType) {
+    return httpClient.patchAsync(buildPath(path), body, responseType);
+  }
+
+  /**
+   * Performs an async PUT request.
+   *
+   * @param path relative path to append to the base path
+   * @param body the request body
+   * @param responseType the expected response type
+   * @param <T> the response type
+   * @return a future completed with the response object
+   */
+  protected <T> CompletableFuture<T> putAsync(String path, Object body, Class<T> responseType) {
+    return httpClient.putAsync(buildPath(path), body, responseType);
+  }
+
+  /**
+   * Performs an async DELETE request.
+   *
+   * @param path relative path to append to the base path
+   * @return a future completed when the resource is deleted
+   */
+  protected CompletableFuture<Void> deleteAsync(String path) {
+    return httpClient.deleteAsync(buildPath(path));
+  }
+
+  /**
+   * Maps the result of an async request. Unlike {@link CompletableFuture#thenApply}, cancelling or
+   * timing out the returned future also cancels the request.
+   *
+   * @param future the request future
+   * @param mapper maps the response object
+   * @param <T> the response type
+   * @param <R> the mapped type
+   * @return a future completed with the mapped response
+   */
+  protected static <T, R> CompletableFuture<R> map(
+      CompletableFuture<T> future, Function<? super T, ? extends R> mapper) {
+    CompletableFuture<R> mapped = future.thenApply(mapper);
+    mapped.whenComplete(
+        (value, error) -> {
+          if (!future.isDone()) {
+            // Completed from outside, by cancel() or orTimeout()
+            future.cancel(true);
+          }
+        });
+    return mapped;
+  }
 }
@@ -7,6 +7,7 @@ import com.mailbreeze.models.*;
 import com.mailbreeze.models.enums.SuppressReason;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Resource for managing contacts within a specific list.
@@ -53,11 +54,15 @@ import java.util.Map;
  *
  * // Delete contact
  * contacts.delete("contact_123");
+ *
+ * // Create without blocking the calling thread
+ * CompletableFuture<Contact> pending = contacts.async().create(params);
  * }</pre>
  */
 public class Contacts extends BaseResource {
 
   private final String listId;
+  private final Async async = new Async();
 
   /**
    * Creates a new Contacts resource for a specific list.
@@ -70,6 +75,15 @@ public class Contacts extends BaseResource {
     this.listId = listId;
   }
 
+  /**
+   * Returns the non-blocking variants of this resource's methods.
+   *
+   * @return the async contacts resource
+   */
+  public Async async() {
+    return async;
+  }
+
   /**
    * Builds the path including the list ID. Overrides the base path building to include:
    * /contact-lists/{listId}/contacts{path}
@@ -155,6 +169,90 @@ public class Contacts extends BaseResource {
   /** Request body for suppress endpoint. */
   private record SuppressRequest(String reason) {}
 
+  /**
+   * Non-blocking variants of the {@link Contacts} methods. Futures complete on an SDK thread, such
+   * as the HTTP dispatcher, the retry scheduler or a configured deserialization executor, so keep
+   * dependent stages short or move them to your own executor with the {@code *Async} methods;
+   * cancelling a future cancels its request.
+   */
+  public final class Async {
+
+    private Async() {}
+
+    /**
+     * Creates a new contact in the list.
+     *
+     * @param params the contact parameters
+     * @return a future completed with the created contact
+     */
+    public CompletableFuture<Contact> create(CreateContactParams params) {
+      return postAsync("", params, Contact.class, null);
+    }
+
+    /**
+     * Lists all contacts in the list with default pagination.
+     *
+     * @return a future completed with the contacts response
+     */
+    public CompletableFuture<ContactsResponse> list() {
+      return list(null);
+    }
+
+    /**
+     * Lists contacts with filtering and pagination.
+     *
+     * @param params filter and pagination parameters
+     * @return a future completed with the contacts response
+     */
+    public CompletableFuture<ContactsResponse> list(ListContactsParams params) {
+      Map<String, String> queryParams = params != null ? params.toQueryParams() : null;
+      return getAsync("", queryParams, ContactsResponse.class);
+    }
+
+    /**
+     * Gets a contact by ID.
+     *
+     * @param contactId the contact ID
+     * @return a future completed with the contact details
+     */
+    public CompletableFuture<Contact> get(String contactId) {
+      return getAsync("/" + contactId, null, Contact.class);
+    }
+
+    /**
+     * Updates a contact.
+     *
+     * @param contactId the contact ID
+     * @param params the update parameters
+     * @return a future completed with the updated contact
+     */
+    public CompletableFuture<Contact> update(String contactId, UpdateContactParams params) {
+      return putAsync("/" + contactId, params, Contact.class);
+    }
+
+    /**
+     * Deletes a contact from the list.
+     *
+     * @param contactId the contact ID to delete
+     * @return a future completed when the contact is deleted
+     */
+    public CompletableFuture<Void> delete(String contactId) {
+      return deleteAsync("/" + contactId);
+    }
+
+    /**
+     * Suppresses a contact.
+     *
+     * @param contactId the contact ID to suppress
+     * @param reason the reason for suppression
+     * @return a future completed when the contact is suppressed
+     */
+    public CompletableFuture<Void> suppress(String contactId, SuppressReason reason) {
+      SuppressRequest request = new SuppressRequest(reason.getValue());
+      return postAsync("/" + contactId + "/suppress", request, Void.class, null);
+    }
+  }
+
   /**
    * Response wrapper for contacts list endpoint. Maps the API response format: {contacts: [...],
    * pagination: {...}}
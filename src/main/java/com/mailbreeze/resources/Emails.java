@@ -7,6 +7,7 @@ import com.mailbreeze.http.RequestOptions;
 import com.mailbreeze.models.*;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Resource for sending and managing emails.
@@ -43,10 +44,16 @@ import java.util.Map;
  *
  * // Get email statistics
  * EmailStats stats = mailbreeze.emails().stats();
+ *
+ * // Send without blocking the calling thread
+ * mailbreeze.emails().async().send(params)
+ *     .thenAccept(r -> System.out.println(r.getId()));
  * }</pre>
  */
 public class Emails extends BaseResource {
 
+  private final Async async = new Async();
+
   /**
    * Creates a new Emails resource.
    *
@@ -56,6 +63,15 @@ public class Emails extends BaseResource {
     super(httpClient, "/emails");
   }
 
+  /**
+   * Returns the non-blocking variants of this resource's methods.
+   *
+   * @return the async emails resource
+   */
+  public Async async() {
+    return async;
+  }
+
   /**
    * Sends an email.
    *
@@ -77,11 +93,29 @@ public class Emails extends BaseResource {
    * @return the send result containing the email ID and status
    */
   public SendEmailResult send(SendEmailParams params, String idempotencyKey) {
-    RequestOptions options =
-        idempotencyKey != null
-            ? RequestOptions.builder().idempotencyKey(idempotencyKey).build()
-            : null;
-    return post("", params, SendEmailResult.class, options);
+    return post("", params, SendEmailResult.class, idempotency(idempotencyKey));
+  }
+
+  /**
+   * Sends a personalized copy of a bulk-send template. The template's shared fields were
+   * serialized when it was built, so only the recipient and variables are serialized here.
+   *
+   * @param email the template addressed to its recipients
+   * @return the send result containing the email ID and status
+   */
+  public SendEmailResult send(PersonalizedEmail email) {
+    return send(email, null);
+  }
+
+  /**
+   * Sends a personalized copy of a bulk-send template with an idempotency key.
+   *
+   * @param email the template addressed to its recipients
+   * @param idempotencyKey unique key for idempotent requests
+   * @return the send result containing the email ID and status
+   */
+  public SendEmailResult send(PersonalizedEmail email, String idempotencyKey) {
+    return post("", email, SendEmailResult.class, idempotency(idempotencyKey));
   }
 
   /**
@@ -117,10 +151,13 @@ public class Emails extends BaseResource {
   /**
    * Gets email sending statistics.
    *
+   * <p>With a stats TTL configured for {@code EndpointFamily.EMAILS}, the result comes from the
+   * stats cache and is shared between callers, so it must not be modified.
+   *
    * @return the email statistics
    */
   public EmailStats stats() {
-    EmailStatsResponse response = get("/stats", null, EmailStatsResponse.class);
+    EmailStatsResponse response = getStats("/stats", EmailStatsResponse.class);
     return response != null ? response.getStats() : null;
   }
 
@@ -137,6 +174,117 @@ public class Emails extends BaseResource {
     return post("/" + emailId + "/cancel", Map.of(), CancelEmailResult.class, null);
   }
 
+  private static RequestOptions idempotency(String idempotencyKey) {
+    return idempotencyKey != null
+        ? RequestOptions.builder().idempotencyKey(idempotencyKey).build()
+        : null;
+  }
+
+  /**
+   * Non-blocking variants of the {@link Emails} methods. Futures complete on an SDK thread, such
+   * as the HTTP dispatcher, the retry scheduler or a configured deserialization executor, so keep
+   * dependent stages short or move them to your own executor with the {@code *Async} methods;
+   * cancelling a future cancels its request.
+   */
+  public final class Async {
+
+    private Async() {}
+
+    /**
+     * Sends an email.
+     *
+     * @param params the email parameters
+     * @return a future completed with the send result
+     */
+    public CompletableFuture<SendEmailResult> send(SendEmailParams params) {
+      return send(params, null);
+    }
+
+    /**
+     * Sends an email with an idempotency key.
+     *
+     * @param params the email parameters
+     * @param idempotencyKey unique key for idempotent requests
+     * @return a future completed with the send result
+     */
+    public CompletableFuture<SendEmailResult> send(SendEmailParams params, String idempotencyKey) {
+      return postAsync("", params, SendEmailResult.class, idempotency(idempotencyKey));
+    }
+
+    /**
+     * Sends a personalized copy of a bulk-send template.
+     *
+     * @param email the template addressed to its recipients
+     * @return a future completed with the send result
+     */
+    public CompletableFuture<SendEmailResult> send(PersonalizedEmail email) {
+      return send(email, null);
+    }
+
+    /**
+     * Sends a personalized copy of a bulk-send template with an idempotency key.
+     *
+     * @param email the template addressed to its recipients
+     * @param idempotencyKey unique key for idempotent requests
+     * @return a future completed with the send result
+     */
+    public CompletableFuture<SendEmailResult> send(PersonalizedEmail email, String idempotencyKey) {
+      return postAsync("", email, SendEmailResult.class, idempotency(idempotencyKey));
+    }
+
+    /**
+     * Lists all emails with default pagination.
+     *
+     * @return a future completed with the emails response
+     */
+    public CompletableFuture<EmailsResponse> list() {
+      return list(null);
+    }
+
+    /**
+     * Lists emails with filtering and pagination.
+     *
+     * @param params filter and pagination parameters
+     * @return a future completed with the emails response
+     */
+    public CompletableFuture<EmailsResponse> list(ListEmailsParams params) {
+      Map<String, String> queryParams = params != null ? params.toQueryParams() : null;
+      return getAsync("", queryParams, EmailsResponse.class);
+    }
+
+    /**
+     * Gets an email by ID.
+     *
+     * @param emailId the email ID
+     * @return a future completed with the email details
+     */
+    public CompletableFuture<Email> get(String emailId) {
+      return getAsync("/" + emailId, null, Email.class);
+    }
+
+    /**
+     * Gets email sending statistics.
+     *
+     * @return a future completed with the email statistics
+     * @see Emails#stats()
+     */
+    public CompletableFuture<EmailStats> stats() {
+      return map(
+          getStatsAsync("/stats", EmailStatsResponse.class),
+          response -> response != null ? response.getStats() : null);
+    }
+
+    /**
+     * Cancels a pending email.
+     *
+     * @param emailId the email ID to cancel
+     * @return a future completed with the cancel result
+     */
+    public CompletableFuture<CancelEmailResult> cancel(String emailId) {
+      return postAsync("/" + emailId + "/cancel", Map.of(), CancelEmailResult.class, null);
+    }
+  }
+
   /**
    * Response wrapper for emails list endpoint. Maps the API response format: {emails: [...],
    * pagination: {...}}
@@ -4,6 +4,7 @@ import com.mailbreeze.http.MailBreezeHttpClient;
 import com.mailbreeze.models.*;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Resource for managing contact lists.
@@ -40,10 +41,15 @@ import java.util.Map;
  *
  * // Get list statistics
  * ListStats stats = mailbreeze.lists().stats("list_123");
+ *
+ * // Fetch without blocking the calling thread
+ * CompletableFuture<ContactList> pending = mailbreeze.lists().async().get("list_123");
  * }</pre>
  */
 public class Lists extends BaseResource {
 
+  private final Async async = new Async();
+
   /**
    * Creates a new Lists resource.
    *
@@ -53,6 +59,15 @@ public class Lists extends BaseResource {
     super(httpClient, "/contact-lists");
   }
 
+  /**
+   * Returns the non-blocking variants of this resource's methods.
+   *
+   * @return the async lists resource
+   */
+  public Async async() {
+    return async;
+  }
+
   /**
    * Creates a new contact list.
    *
@@ -81,8 +96,7 @@ public class Lists extends BaseResource {
   public ListsResponse list(ListListsParams params) {
     Map<String, String> queryParams = params != null ? params.toQueryParams() : null;
     // API returns data as a direct array
-    ContactList[] lists = get("", queryParams, ContactList[].class);
-    return new ListsResponse(lists != null ? List.of(lists) : List.of());
+    return toListsResponse(get("", queryParams, ContactList[].class));
   }
 
   /**
@@ -118,11 +132,101 @@ public class Lists extends BaseResource {
   /**
    * Gets statistics for a contact list.
    *
+   * <p>With a stats TTL configured for {@code EndpointFamily.LISTS}, the result comes from the
+   * stats cache and is shared between callers, so it must not be modified.
+   *
    * @param listId the list ID
    * @return the list statistics
    */
   public ListStats stats(String listId) {
-    return get("/" + listId + "/stats", null, ListStats.class);
+    return getStats("/" + listId + "/stats", ListStats.class);
+  }
+
+  private static ListsResponse toListsResponse(ContactList[] lists) {
+    return new ListsResponse(lists != null ? List.of(lists) : List.of());
+  }
+
+  /**
+   * Non-blocking variants of the {@link Lists} methods. Futures complete on an SDK thread, such as
+   * the HTTP dispatcher, the retry scheduler or a configured deserialization executor, so keep
+   * dependent stages short or move them to your own executor with the {@code *Async} methods;
+   * cancelling a future cancels its request.
+   */
+  public final class Async {
+
+    private Async() {}
+
+    /**
+     * Creates a new contact list.
+     *
+     * @param params the list parameters
+     * @return a future completed with the created contact list
+     */
+    public CompletableFuture<ContactList> create(CreateListParams params) {
+      return postAsync("", params, ContactList.class, null);
+    }
+
+    /**
+     * Lists all contact lists with default pagination.
+     *
+     * @return a future completed with the contact lists
+     */
+    public CompletableFuture<ListsResponse> list() {
+      return list(null);
+    }
+
+    /**
+     * Lists contact lists with filtering and pagination.
+     *
+     * @param params filter and pagination parameters
+     * @return a future completed with the contact lists
+     */
+    public CompletableFuture<ListsResponse> list(ListListsParams params) {
+      Map<String, String> queryParams = params != null ? params.toQueryParams() : null;
+      return map(getAsync("", queryParams, ContactList[].class), Lists::toListsResponse);
+    }
+
+    /**
+     * Gets a contact list by ID.
+     *
+     * @param listId the list ID
+     * @return a future completed with the contact list details
+     */
+    public CompletableFuture<ContactList> get(String listId) {
+      return getAsync("/" + listId, null, ContactList.class);
+    }
+
+    /**
+     * Updates a contact list.
+     *
+     * @param listId the list ID
+     * @param params the update parameters
+     * @return a future completed with the updated contact list
+     */
+    public CompletableFuture<ContactList> update(String listId, UpdateListParams params) {
+      return putAsync("/" + listId, params, ContactList.class);
+    }
+
+    /**
+     * Deletes a contact list.
+     *
+     * @param listId the list ID to delete
+     * @return a future completed when the list is deleted
+     */
+    public CompletableFuture<Void> delete(String listId) {
+      return deleteAsync("/" + listId);
+    }
+
+    /**
+     * Gets statistics for a contact list.
+     *
+     * @param listId the list ID
+     * @return a future completed with the list statistics
+     * @see Lists#stats(String)
+     */
+    public CompletableFuture<ListStats> stats(String listId) {
+      return getStatsAsync("/" + listId + "/stats", ListStats.class);
+    }
   }
 
   /**
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.mailbreeze.http.MailBreezeHttpClient;
 import com.mailbreeze.models.*;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Resource for email verification.
@@ -32,10 +33,16 @@ import java.util.List;
  *
  * // Get verification statistics
  * VerificationStats stats = mailbreeze.verification().stats();
+ *
+ * // Verify without blocking the calling thread
+ * CompletableFuture<VerifyEmailResult> pending =
+ *     mailbreeze.verification().async().verify("user@example.com");
  * }</pre>
  */
 public class Verification extends BaseResource {
 
+  private final Async async = new Async();
+
   /**
    * Creates a new Verification resource.
    *
@@ -45,6 +52,15 @@ public class Verification extends BaseResource {
     super(httpClient, "/email-verification");
   }
 
+  /**
+   * Returns the non-blocking variants of this resource's methods.
+   *
+   * @return the async verification resource
+   */
+  public Async async() {
+    return async;
+  }
+
   /**
    * Verifies a single email address.
    *
@@ -52,7 +68,6 @@ public class Verification extends BaseResource {
    * @return the verification result
    */
   public VerifyEmailResult verify(String email) {
-    record VerifyRequest(String email) {}
     return post("/single", new VerifyRequest(email), VerifyEmailResult.class, null);
   }
 
@@ -85,17 +100,87 @@ public class Verification extends BaseResource {
    * @return list of verification batches
    */
   public List<VerificationListItem> list() {
-    VerificationListResponse response = get("", null, VerificationListResponse.class);
-    return response != null ? response.getItems() : List.of();
+    return itemsOf(get("", null, VerificationListResponse.class));
   }
 
   /**
    * Gets email verification statistics.
    *
+   * <p>With a stats TTL configured for {@code EndpointFamily.VERIFICATION}, the result comes from
+   * the stats cache and is shared between callers, so it must not be modified.
+   *
    * @return the verification statistics
    */
   public VerificationStats stats() {
-    return get("/stats", null, VerificationStats.class);
+    return getStats("/stats", VerificationStats.class);
+  }
+
+  private static List<VerificationListItem> itemsOf(VerificationListResponse response) {
+    return response != null ? response.getItems() : List.of();
+  }
+
+  /** Request body for single verification endpoint. */
+  private record VerifyRequest(String email) {}
+
+  /**
+   * Non-blocking variants of the {@link Verification} methods. Futures complete on an SDK thread,
+   * such as the HTTP dispatcher, the retry scheduler or a configured deserialization executor, so
+   * keep dependent stages short or move them to your own executor with the {@code *Async} methods;
+   * cancelling a future cancels its request.
+   */
+  public final class Async {
+
+    private Async() {}
+
+    /**
+     * Verifies a single email address.
+     *
+     * @param email the email address to verify
+     * @return a future completed with the verification result
+     */
+    public CompletableFuture<VerifyEmailResult> verify(String email) {
+      return postAsync("/single", new VerifyRequest(email), VerifyEmailResult.class, null);
+    }
+
+    /**
+     * Starts a batch email verification.
+     *
+     * @param params the batch parameters with list of emails
+     * @return a future completed with the batch verification result
+     */
+    public CompletableFuture<BatchVerifyResult> batch(BatchVerifyParams params) {
+      return postAsync("/batch", params, BatchVerifyResult.class, null);
+    }
+
+    /**
+     * Gets the status and results of a batch verification.
+     *
+     * @param verificationId the batch verification ID
+     * @return a future completed with the verification status and results
+     */
+    public CompletableFuture<BatchVerifyResult> get(String verificationId) {
+      return getAsync(
+          "/" + verificationId + "?includeResults=true", null, BatchVerifyResult.class);
+    }
+
+    /**
+     * Lists all verification batches.
+     *
+     * @return a future completed with the verification batches
+     */
+    public CompletableFuture<List<VerificationListItem>> list() {
+      return map(getAsync("", null, VerificationListResponse.class), Verification::itemsOf);
+    }
+
+    /**
+     * Gets email verification statistics.
+     *
+     * @return a future completed with the verification statistics
+     * @see Verification#stats()
+     */
+    public CompletableFuture<VerificationStats> stats() {
+      return getStatsAsync("/stats", VerificationStats.class);
+    }
   }
 
   /** Response wrapper for verification list endpoint. */
@@ -2,6 +2,7 @@ package com.mailbreeze;
 
 import static org.assertj.core.api.Assertions.*;
 
+import com.mailbreeze.http.PoolStats;
 import com.mailbreeze.resources.Emails;
 import java.time.Duration;
 import org.junit.jupiter.api.*;
@@ -36,6 +37,44 @@ class MailBreezeTest {
       assertThat(client).isNotNull();
     }
 
+    @Test
+    @DisplayName("should create client with connection pool and dispatcher limits")
+    void shouldCreateWithPoolConfig() {
+      MailBreeze client =
+          MailBreeze.builder()
+              .apiKey("sk_test_123")
+              .maxIdleConnections(20)
+              .keepAliveDuration(Duration.ofMinutes(1))
+              .maxRequests(128)
+              .maxRequestsPerHost(32)
+              .build();
+
+      PoolStats stats = client.metrics().pool();
+      assertThat(stats.queuedCalls()).isZero();
+      assertThat(stats.runningCalls()).isZero();
+      assertThat(stats.totalConnections()).isZero();
+    }
+
+    @Test
+    @DisplayName("should reject invalid dispatcher limits")
+    void shouldRejectInvalidDispatcherLimits() {
+      assertThatThrownBy(() -> MailBreeze.builder().apiKey("sk_test_123").maxRequests(0).build())
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("maxRequests");
+      assertThatThrownBy(
+              () -> MailBreeze.builder().apiKey("sk_test_123").maxRequestsPerHost(0).build())
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("maxRequestsPerHost");
+      assertThatThrownBy(
+              () ->
+                  MailBreeze.builder()
+                      .apiKey("sk_test_123")
+                      .keepAliveDuration(Duration.ZERO)
+                      .build())
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("keepAliveDuration");
+    }
+
     @Test
     @DisplayName("should throw exception when API key is null")
     void shouldThrowWhenApiKeyNull() {
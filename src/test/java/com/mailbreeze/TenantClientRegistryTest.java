@@ -0,0 +1,85 @@
+package com.mailbreeze;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.mailbreeze.http.OkHttpTransport;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.*;
+
+@DisplayName("TenantClientRegistry")
+class TenantClientRegistryTest {
+
+  private OkHttpTransport transport;
+  private AtomicLong clock;
+  private TenantClientRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    transport = OkHttpTransport.builder().build();
+    clock = new AtomicLong();
+    registry =
+        TenantClientRegistry.builder()
+            .transport(transport)
+            .idleTimeout(Duration.ofMinutes(10))
+            .nanoClock(clock::get)
+            .build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    transport.close();
+  }
+
+  @Test
+  @DisplayName("should return the same client for the same tenant and key")
+  void shouldCacheClientPerTenant() {
+    MailBreeze first = registry.get("tenant_1", "sk_test_1");
+    MailBreeze second = registry.get("tenant_1", "sk_test_1");
+
+    assertThat(first).isSameAs(second);
+    assertThat(registry.get("tenant_2", "sk_test_2")).isNotSameAs(first);
+    assertThat(registry.size()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("should replace the client when the API key changes")
+  void shouldReplaceClientOnKeyRotation() {
+    MailBreeze original = registry.get("tenant_1", "sk_test_old");
+    MailBreeze rotated = registry.get("tenant_1", "sk_test_new");
+
+    assertThat(rotated).isNotSameAs(original);
+    assertThat(registry.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should evict idle clients")
+  void shouldEvictIdleClients() {
+    registry.get("tenant_idle", "sk_test_1");
+    clock.addAndGet(Duration.ofMinutes(5).toNanos());
+    registry.get("tenant_active", "sk_test_2");
+    clock.addAndGet(Duration.ofMinutes(6).toNanos());
+
+    assertThat(registry.evictIdle()).isEqualTo(1);
+    assertThat(registry.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should evict idle clients lazily on access")
+  void shouldEvictLazily() {
+    registry.get("tenant_idle", "sk_test_1");
+    clock.addAndGet(Duration.ofMinutes(11).toNanos());
+
+    registry.get("tenant_new", "sk_test_2");
+
+    assertThat(registry.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should require a transport")
+  void shouldRequireTransport() {
+    assertThatThrownBy(() -> TenantClientRegistry.builder().build())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("transport");
+  }
+}
@@ -0,0 +1,101 @@
+package com.mailbreeze.http;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.*;
+
+@DisplayName("Backoff and RetryBudget")
+class BackoffTest {
+
+  private static final Duration BASE = Duration.ofMillis(100);
+  private static final Duration MAX = Duration.ofMillis(1000);
+
+  @Nested
+  @DisplayName("Backoff")
+  class BackoffTests {
+
+    @Test
+    @DisplayName("should double without jitter up to the cap")
+    void shouldDoubleUpToCap() {
+      Backoff backoff = new Backoff(BASE, MAX, Jitter.NONE);
+
+      assertThat(backoff.delayMillis(0, 0)).isEqualTo(100);
+      assertThat(backoff.delayMillis(1, 100)).isEqualTo(200);
+      assertThat(backoff.delayMillis(3, 400)).isEqualTo(800);
+      assertThat(backoff.delayMillis(4, 800)).isEqualTo(1000);
+      assertThat(backoff.delayMillis(62, 1000)).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("should keep full jitter between zero and the exponential ceiling")
+    void shouldBoundFullJitter() {
+      Backoff backoff = new Backoff(BASE, MAX, Jitter.FULL);
+
+      for (int i = 0; i < 1000; i++) {
+        assertThat(backoff.delayMillis(2, 0)).isBetween(0L, 400L);
+        assertThat(backoff.delayMillis(10, 0)).isBetween(0L, 1000L);
+      }
+    }
+
+    @Test
+    @DisplayName("should keep decorrelated jitter between base and three times the previous delay")
+    void shouldBoundDecorrelatedJitter() {
+      Backoff backoff = new Backoff(BASE, MAX, Jitter.DECORRELATED);
+
+      long previous = 0;
+      for (int attempt = 0; attempt < 1000; attempt++) {
+        long delay = backoff.delayMillis(attempt, previous);
+        assertThat(delay).isBetween(100L, Math.min(1000L, Math.max(previous, 100L) * 3));
+        previous = delay;
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("RetryBudget")
+  class RetryBudgetTests {
+
+    @Test
+    @DisplayName("should deny retries once the initial tokens are spent")
+    void shouldDenyWhenExhausted() {
+      RetryBudget budget = RetryBudget.of(0.5, 2);
+
+      assertThat(budget.tryAcquire()).isTrue();
+      assertThat(budget.tryAcquire()).isTrue();
+      assertThat(budget.tryAcquire()).isFalse();
+
+      RetryBudgetStats stats = budget.stats();
+      assertThat(stats.allowedRetries()).isEqualTo(2);
+      assertThat(stats.deniedRetries()).isEqualTo(1);
+      assertThat(stats.availableTokens()).isZero();
+    }
+
+    @Test
+    @DisplayName("should refill by the ratio per success up to the maximum")
+    void shouldRefillFromSuccesses() {
+      RetryBudget budget = RetryBudget.of(0.5, 2);
+      budget.tryAcquire();
+      budget.tryAcquire();
+
+      budget.recordSuccess();
+      assertThat(budget.tryAcquire()).isFalse();
+      budget.recordSuccess();
+      assertThat(budget.tryAcquire()).isTrue();
+
+      for (int i = 0; i < 100; i++) {
+        budget.recordSuccess();
+      }
+      assertThat(budget.stats().availableTokens()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("should reject invalid settings")
+    void shouldRejectInvalidSettings() {
+      assertThatThrownBy(() -> RetryBudget.of(0, 10)).isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> RetryBudget.of(1.5, 10))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> RetryBudget.of(0.1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+}
@@ -0,0 +1,188 @@
+package com.mailbreeze.http;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.mailbreeze.exceptions.MailBreezeException;
+import com.mailbreeze.exceptions.ServerException;
+import com.mailbreeze.exceptions.ValidationException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.*;
+
+@DisplayName("CircuitBreakers")
+class CircuitBreakersTest {
+
+  private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long SLOW = TimeUnit.SECONDS.toNanos(2);
+  private static final ServerException SERVER_ERROR = new ServerException(503, "Unavailable", null);
+
+  private final AtomicLong now = new AtomicLong(1_000_000_000L);
+  private final List<String> transitions = new ArrayList<>();
+  private CircuitBreakers breakers;
+
+  @BeforeEach
+  void setUp() {
+    breakers =
+        new CircuitBreakers(
+            CircuitBreaker.builder()
+                .failureRateThreshold(0.5)
+                .slowCallRateThreshold(0.5)
+                .slowCallDuration(Duration.ofSeconds(1))
+                .slidingWindowSize(10)
+                .minimumCalls(4)
+                .openDuration(Duration.ofSeconds(30))
+                .halfOpenCalls(2)
+                .listener((family, from, to) -> transitions.add(family + ":" + from + "->" + to))
+                .build(),
+            now::get);
+  }
+
+  private void advanceSeconds(long seconds) {
+    now.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+  }
+
+  private void record(EndpointFamily family, long elapsedNanos, Throwable error) {
+    assertThat(breakers.tryAcquire(family)).isTrue();
+    breakers.onResult(family, elapsedNanos, error);
+  }
+
+  private CircuitState state(EndpointFamily family) {
+    return breakers.stats().get(family).state();
+  }
+
+  @Test
+  @DisplayName("should stay closed until the minimum number of calls is recorded")
+  void shouldWaitForMinimumCalls() {
+    for (int i = 0; i < 3; i++) {
+      record(EndpointFamily.EMAILS, FAST, SERVER_ERROR);
+    }
+    assertThat(state(EndpointFamily.EMAILS)).isEqualTo(CircuitState.CLOSED);
+
+    record(EndpointFamily.EMAILS, FAST, SERVER_ERROR);
+    assertThat(state(EndpointFamily.EMAILS)).isEqualTo(CircuitState.OPEN);
+    assertThat(transitions).containsExactly("EMAILS:CLOSED->OPEN");
+  }
+
+  @Test
+  @DisplayName("should open on the failure rate and reject calls while open")
+  void shouldOpenOnFailureRate() {
+    record(EndpointFamily.EMAILS, FAST, null);
+    record(EndpointFamily.EMAILS, FAST, null);
+    record(EndpointFamily.EMAILS, FAST, SERVER_ERROR);
+    assertThat(state(EndpointFamily.EMAILS)).isEqualTo(CircuitState.CLOSED);
+
+    record(EndpointFamily.EMAILS, FAST, new MailBreezeException(0, "NETWORK_ERROR", "reset"));
+    assertThat(state(EndpointFamily.EMAILS)).isEqualTo(CircuitState.OPEN);
+
+    assertThat(breakers.tryAcquire(EndpointFamily.EMAILS)).isFalse();
+    assertThat(breakers.tryAcquire(EndpointFamily.VERIFICATION)).isTrue();
+    assertThat(breakers.stats().get(EndpointFamily.EMAILS).notPermittedCalls()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should open on the slow-call rate even when calls succeed")
+  void shouldOpenOnSlowCallRate() {
+    record(EndpointFamily.VERIFICATION, FAST, null);
+    record(EndpointFamily.VERIFICATION, FAST, null);
+    record(EndpointFamily.VERIFICATION, SLOW, null);
+    record(EndpointFamily.VERIFICATION, SLOW, null);
+
+    assertThat(state(EndpointFamily.VERIFICATION)).isEqualTo(CircuitState.OPEN);
+  }
+
+  @Test
+  @DisplayName("should not count client errors as failures")
+  void shouldIgnoreClientErrors() {
+    for (int i = 0; i < 10; i++) {
+      record(EndpointFamily.EMAILS, FAST, new ValidationException("bad", null, null));
+    }
+
+    CircuitBreakerStats stats = breakers.stats().get(EndpointFamily.EMAILS);
+    assertThat(stats.state()).isEqualTo(CircuitState.CLOSED);
+    assertThat(stats.failureRate()).isZero();
+    assertThat(stats.bufferedCalls()).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("should close after the trial calls succeed")
+  void shouldCloseAfterTrials() {
+    for (int i = 0; i < 4; i++) {
+      record(EndpointFamily.EMAILS, FAST, SERVER_ERROR);
+    }
+    advanceSeconds(30);
+
+    assertThat(breakers.tryAcquire(EndpointFamily.EMAILS)).isTrue();
+    assertThat(breakers.tryAcquire(EndpointFamily.EMAILS)).isTrue();
+    assertThat(breakers.tryAcquire(EndpointFamily.EMAILS)).isFalse();
+    assertThat(state(EndpointFamily.EMAILS)).isEqualTo(CircuitState.HALF_OPEN);
+
+    breakers.onResult(EndpointFamily.EMAILS, FAST, null);
+    breakers.onResult(EndpointFamily.EMAILS, FAST, null);
+    assertThat(state(EndpointFamily.EMAILS)).isEqualTo(CircuitState.CLOSED);
+    assertThat(transitions)
+        .containsExactly(
+            "EMAILS:CLOSED->OPEN", "EMAILS:OPEN->HALF_OPEN", "EMAILS:HALF_OPEN->CLOSED");
+    assertThat(breakers.stats().get(EndpointFamily.EMAILS).transitions()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("should reopen when a trial call fails")
+  void shouldReopenOnTrialFailure() {
+    for (int i = 0; i < 4; i++) {
+      record(EndpointFamily.EMAILS, FAST, SERVER_ERROR);
+    }
+    advanceSeconds(30);
+
+    record(EndpointFamily.EMAILS, SLOW, null);
+    assertThat(state(EndpointFamily.EMAILS)).isEqualTo(CircuitState.OPEN);
+    assertThat(breakers.tryAcquire(EndpointFamily.EMAILS)).isFalse();
+
+    advanceSeconds(30);
+    assertThat(breakers.tryAcquire(EndpointFamily.EMAILS)).isTrue();
+  }
+
+  @Test
+  @DisplayName("should start a new trial round when trial calls never report back")
+  void shouldRecoverFromLostTrials() {
+    for (int i = 0; i < 4; i++) {
+      record(EndpointFamily.EMAILS, FAST, SERVER_ERROR);
+    }
+    advanceSeconds(30);
+    breakers.tryAcquire(EndpointFamily.EMAILS);
+    breakers.tryAcquire(EndpointFamily.EMAILS);
+    assertThat(breakers.tryAcquire(EndpointFamily.EMAILS)).isFalse();
+
+    advanceSeconds(30);
+    assertThat(breakers.tryAcquire(EndpointFamily.EMAILS)).isTrue();
+  }
+
+  @Test
+  @DisplayName("should admit another trial call when a trial permit is released")
+  void shouldReuseReleasedTrialPermit() {
+    for (int i = 0; i < 4; i++) {
+      record(EndpointFamily.EMAILS, FAST, SERVER_ERROR);
+    }
+    advanceSeconds(30);
+    breakers.tryAcquire(EndpointFamily.EMAILS);
+    breakers.tryAcquire(EndpointFamily.EMAILS);
+    assertThat(breakers.tryAcquire(EndpointFamily.EMAILS)).isFalse();
+
+    breakers.release(EndpointFamily.EMAILS);
+    assertThat(breakers.tryAcquire(EndpointFamily.EMAILS)).isTrue();
+    assertThat(breakers.tryAcquire(EndpointFamily.EMAILS)).isFalse();
+    assertThat(state(EndpointFamily.EMAILS)).isEqualTo(CircuitState.HALF_OPEN);
+  }
+
+  @Test
+  @DisplayName("should ignore releases while closed")
+  void shouldIgnoreReleaseWhileClosed() {
+    breakers.tryAcquire(EndpointFamily.EMAILS);
+    breakers.release(EndpointFamily.EMAILS);
+
+    assertThat(state(EndpointFamily.EMAILS)).isEqualTo(CircuitState.CLOSED);
+    assertThat(breakers.stats().get(EndpointFamily.EMAILS).bufferedCalls()).isZero();
+  }
+}
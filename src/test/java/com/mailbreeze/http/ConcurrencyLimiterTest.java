@@ -0,0 +1,198 @@
+package com.mailbreeze.http;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.mailbreeze.exceptions.ConcurrencyLimitExceededException;
+import com.mailbreeze.exceptions.MailBreezeException;
+import com.mailbreeze.exceptions.ServerException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.*;
+
+@DisplayName("ConcurrencyLimiter")
+class ConcurrencyLimiterTest {
+
+  private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  @Nested
+  @DisplayName("Limiter")
+  class LimiterTests {
+
+    @Test
+    @DisplayName("should reject calls over the limit when no queue is configured")
+    void shouldRejectOverLimit() throws Exception {
+      ConcurrencyLimiter limiter =
+          new ConcurrencyLimiter(
+              ConcurrencyLimit.aimd().initialLimit(2).minLimit(1).maxLimit(2).build());
+
+      ConcurrencyLimiter.Permit first = limiter.acquire().get();
+      limiter.acquire().get();
+      CompletableFuture<ConcurrencyLimiter.Permit> third = limiter.acquire();
+
+      assertThatThrownBy(third::get)
+          .isInstanceOf(ExecutionException.class)
+          .hasCauseInstanceOf(ConcurrencyLimitExceededException.class);
+      assertThat(limiter.stats()).isEqualTo(new ConcurrencyStats(2, 2, 0, 1));
+
+      first.release(null);
+      assertThat(limiter.acquire()).isCompleted();
+    }
+
+    @Test
+    @DisplayName("should queue calls and grant them in order as slots free up")
+    void shouldQueueUpToMax() throws Exception {
+      ConcurrencyLimiter limiter =
+          new ConcurrencyLimiter(
+              ConcurrencyLimit.aimd().initialLimit(1).maxLimit(1).maxQueued(2).build());
+
+      ConcurrencyLimiter.Permit first = limiter.acquire().get();
+      CompletableFuture<ConcurrencyLimiter.Permit> second = limiter.acquire();
+      CompletableFuture<ConcurrencyLimiter.Permit> third = limiter.acquire();
+      CompletableFuture<ConcurrencyLimiter.Permit> fourth = limiter.acquire();
+
+      assertThat(second).isNotDone();
+      assertThat(fourth).isCompletedExceptionally();
+      assertThat(limiter.stats().queued()).isEqualTo(2);
+
+      first.release(null);
+      assertThat(second).isCompleted();
+      assertThat(third).isNotDone();
+
+      second.get().release(null);
+      second.get().release(null);
+      assertThat(third).isCompleted();
+      assertThat(limiter.stats().inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should free the slot of a cancelled waiter")
+    void shouldSkipCancelledWaiters() throws Exception {
+      ConcurrencyLimiter limiter =
+          new ConcurrencyLimiter(
+              ConcurrencyLimit.aimd().initialLimit(1).maxLimit(1).maxQueued(1).build());
+
+      ConcurrencyLimiter.Permit first = limiter.acquire().get();
+      limiter.acquire().cancel(false);
+      first.release(null);
+
+      assertThat(limiter.stats().inFlight()).isZero();
+      assertThat(limiter.acquire()).isCompleted();
+    }
+
+    @Test
+    @DisplayName("should not count cancelled waiters against the queue bound")
+    void shouldDropCancelledWaitersFromQueue() throws Exception {
+      ConcurrencyLimiter limiter =
+          new ConcurrencyLimiter(
+              ConcurrencyLimit.aimd().initialLimit(1).maxLimit(1).maxQueued(2).build());
+
+      ConcurrencyLimiter.Permit first = limiter.acquire().get();
+      limiter.acquire().cancel(false);
+      limiter.acquire().cancel(false);
+      CompletableFuture<ConcurrencyLimiter.Permit> live = limiter.acquire();
+
+      assertThat(live).isNotDone();
+      assertThat(limiter.stats().queued()).isEqualTo(1);
+      first.release(null);
+      assertThat(live).isCompleted();
+    }
+
+    @Test
+    @DisplayName("should complete grants on the grant executor")
+    void shouldCompleteGrantsOnExecutor() throws Exception {
+      List<Runnable> grants = new ArrayList<>();
+      ConcurrencyLimiter limiter =
+          new ConcurrencyLimiter(
+              ConcurrencyLimit.aimd().initialLimit(1).maxLimit(1).maxQueued(2).build(),
+              grants::add);
+
+      ConcurrencyLimiter.Permit first = limiter.acquire().get();
+      CompletableFuture<ConcurrencyLimiter.Permit> cancelled = limiter.acquire();
+      CompletableFuture<ConcurrencyLimiter.Permit> next = limiter.acquire();
+      first.release(null);
+      assertThat(cancelled).isNotDone();
+
+      cancelled.cancel(false);
+      grants.remove(0).run();
+      assertThat(next).isNotDone();
+      grants.remove(0).run();
+      assertThat(next).isCompleted();
+      assertThat(limiter.stats().inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should treat 5xx, 429 and network errors as overload")
+    void shouldClassifyOverload() {
+      assertThat(ConcurrencyLimiter.isOverload(new ServerException(503, "down", null))).isTrue();
+      assertThat(
+              ConcurrencyLimiter.isOverload(new MailBreezeException(0, "NETWORK_ERROR", "reset")))
+          .isTrue();
+      assertThat(ConcurrencyLimiter.isOverload(new MailBreezeException(404, "NOT_FOUND", "x")))
+          .isFalse();
+      assertThat(ConcurrencyLimiter.isOverload(null)).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("Algorithms")
+  class AlgorithmTests {
+
+    @Test
+    @DisplayName("AIMD should grow while busy and cut on drops and slow calls")
+    void aimdShouldAdjust() {
+      LimitAlgorithm aimd = new LimitAlgorithm.Aimd(10, 2, 12, 0.5, 100 * MS);
+
+      aimd.onSample(10 * MS, 10, false);
+      assertThat(aimd.limit()).isEqualTo(11);
+      aimd.onSample(10 * MS, 11, false);
+      aimd.onSample(10 * MS, 12, false);
+      assertThat(aimd.limit()).isEqualTo(12);
+
+      aimd.onSample(10 * MS, 1, false);
+      assertThat(aimd.limit()).isEqualTo(12);
+
+      aimd.onSample(10 * MS, 12, true);
+      assertThat(aimd.limit()).isEqualTo(6);
+      aimd.onSample(500 * MS, 6, false);
+      assertThat(aimd.limit()).isEqualTo(3);
+      aimd.onSample(10 * MS, 3, true);
+      assertThat(aimd.limit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("gradient should grow at baseline latency and shrink as latency rises")
+    void gradientShouldFollowLatency() {
+      LimitAlgorithm gradient = new LimitAlgorithm.Gradient(20, 1, 100, 0.9);
+
+      for (int i = 0; i < 50; i++) {
+        gradient.onSample(10 * MS, gradient.limit(), false);
+      }
+      int grown = gradient.limit();
+      assertThat(grown).isGreaterThan(20);
+
+      for (int i = 0; i < 20; i++) {
+        gradient.onSample(100 * MS, gradient.limit(), false);
+      }
+      assertThat(gradient.limit()).isLessThan(grown);
+    }
+
+    @Test
+    @DisplayName("should validate configuration")
+    void shouldValidateConfiguration() {
+      assertThatThrownBy(() -> ConcurrencyLimit.aimd().minLimit(0).build())
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> ConcurrencyLimit.aimd().initialLimit(500).build())
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> ConcurrencyLimit.gradient().maxQueued(-1).build())
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> ConcurrencyLimit.gradient().backoffRatio(1.0).build())
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> ConcurrencyLimit.aimd().latencyThreshold(Duration.ZERO).build())
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+}
@@ -0,0 +1,243 @@
+package com.mailbreeze.http;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("ConditionalCache")
+class ConditionalCacheTest {
+
+  private static final String URL = "https://api.test/api/v1/lists/1";
+  private static final String BODY = "{\"success\": true, \"data\": {\"id\": \"1\"}}";
+
+  private final AtomicLong now = new AtomicLong(1_000_000L);
+
+  private ConditionalCache cache(ResponseCache config) {
+    return new ConditionalCache(config, "sk_test_123", now::get);
+  }
+
+  private static Request get(String url) {
+    return new Request.Builder().url(url).tag(EndpointFamily.class, EndpointFamily.LISTS).build();
+  }
+
+  private static Response response(Request request, int code, String body, String... headers) {
+    return new Response.Builder()
+        .request(request)
+        .protocol(Protocol.HTTP_1_1)
+        .code(code)
+        .message("")
+        .headers(Headers.of(headers))
+        .body(ResponseBody.create(body, MediaType.get("application/json")))
+        .build();
+  }
+
+  private static String bodyOf(Response response) throws IOException {
+    return response.body().string();
+  }
+
+  @Test
+  @DisplayName("should revalidate with the stored validators")
+  void shouldAddValidators() throws IOException {
+    ConditionalCache cache = cache(ResponseCache.builder().build());
+    Request request = get(URL);
+    cache.onResponse(
+        request,
+        response(request, 200, BODY, "ETag", "\"v1\"", "Last-Modified", "Tue, 01 Sep 2026"));
+
+    Request conditional = cache.lookup(get(URL)).request();
+
+    assertThat(conditional.header("If-None-Match")).isEqualTo("\"v1\"");
+    assertThat(conditional.header("If-Modified-Since")).isEqualTo("Tue, 01 Sep 2026");
+    assertThat(cache.lookup(get(URL + "?page=2")).request().header("If-None-Match")).isNull();
+  }
+
+  @Test
+  @DisplayName("should answer a 304 from the stored body")
+  void shouldAnswerNotModified() throws IOException {
+    ConditionalCache cache = cache(ResponseCache.builder().build());
+    Request request = get(URL);
+    cache.onResponse(request, response(request, 200, BODY, "ETag", "\"v1\""));
+
+    Request conditional = cache.lookup(get(URL)).request();
+    Response answered = cache.onResponse(conditional, response(conditional, 304, ""));
+
+    assertThat(answered.code()).isEqualTo(200);
+    assertThat(bodyOf(answered)).isEqualTo(BODY);
+    assertThat(cache.stats().get(EndpointFamily.LISTS))
+        .isEqualTo(new ResponseCacheStats(0, 1, 1));
+  }
+
+  @Test
+  @DisplayName("should serve fresh entries without a request until max-age passes")
+  void shouldServeFreshEntries() throws IOException {
+    ConditionalCache cache = cache(ResponseCache.builder().build());
+    Request request = get(URL);
+    cache.onResponse(request, response(request, 200, BODY, "Cache-Control", "max-age=60"));
+
+    now.addAndGet(59_000);
+    Response fresh = cache.lookup(get(URL)).fresh();
+    assertThat(fresh).isNotNull();
+    assertThat(bodyOf(fresh)).isEqualTo(BODY);
+
+    now.addAndGet(1_000);
+    assertThat(cache.lookup(get(URL)).fresh()).isNull();
+    assertThat(cache.stats().get(EndpointFamily.LISTS).hitRatio()).isEqualTo(0.5);
+  }
+
+  @Test
+  @DisplayName("should not store responses without validators or marked no-store")
+  void shouldSkipUncacheableResponses() throws IOException {
+    ConditionalCache cache = cache(ResponseCache.builder().build());
+    Request request = get(URL);
+    cache.onResponse(request, response(request, 200, BODY));
+    cache.onResponse(
+        request, response(request, 200, BODY, "ETag", "\"v1\"", "Cache-Control", "no-store"));
+
+    assertThat(cache.lookup(get(URL)).request().header("If-None-Match")).isNull();
+    assertThat(cache.stats().get(EndpointFamily.LISTS).missRatio()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("should drop the entry after a successful write to the same URL")
+  void shouldInvalidateOnWrite() throws IOException {
+    ConditionalCache cache = cache(ResponseCache.builder().build());
+    Request request = get(URL);
+    cache.onResponse(request, response(request, 200, BODY, "ETag", "\"v1\""));
+
+    Request patch =
+        new Request.Builder()
+            .url(URL)
+            .patch(RequestBody.create("{}", MediaType.get("application/json")))
+            .build();
+    cache.onResponse(patch, response(patch, 200, BODY));
+
+    assertThat(cache.lookup(get(URL)).request().header("If-None-Match")).isNull();
+  }
+
+  @Test
+  @DisplayName("should evict least recently used entries beyond the memory budget")
+  void shouldEvictLeastRecentlyUsed() throws IOException {
+    ConditionalCache cache =
+        cache(ResponseCache.builder().maxMemoryBytes(BODY.length() * 2L).build());
+    for (String id : new String[] {"1", "2"}) {
+      Request request = get("https://api.test/api/v1/lists/" + id);
+      cache.onResponse(request, response(request, 200, BODY, "ETag", "\"" + id + "\""));
+    }
+    cache.lookup(get("https://api.test/api/v1/lists/1")).request();
+
+    Request third = get("https://api.test/api/v1/lists/3");
+    cache.onResponse(third, response(third, 200, BODY, "ETag", "\"3\""));
+
+    Request first = cache.lookup(get("https://api.test/api/v1/lists/1")).request();
+    Request second = cache.lookup(get("https://api.test/api/v1/lists/2")).request();
+    assertThat(first.header("If-None-Match")).isEqualTo("\"1\"");
+    assertThat(second.header("If-None-Match")).isNull();
+  }
+
+  @Test
+  @DisplayName("should reload entries from disk after a restart")
+  void shouldReloadFromDisk(@TempDir Path directory) throws IOException {
+    ResponseCache config = ResponseCache.builder().diskDirectory(directory).build();
+    ConditionalCache first = cache(config);
+    Request request = get(URL);
+    first.onResponse(request, response(request, 200, BODY, "ETag", "\"v1\""));
+
+    ConditionalCache restarted = cache(config);
+    Request conditional = restarted.lookup(get(URL)).request();
+    Response answered = restarted.onResponse(conditional, response(conditional, 304, ""));
+
+    assertThat(conditional.header("If-None-Match")).isEqualTo("\"v1\"");
+    assertThat(bodyOf(answered)).isEqualTo(BODY);
+  }
+
+  @Test
+  @DisplayName("should not share disk entries between API keys")
+  void shouldIsolateApiKeys(@TempDir Path directory) throws IOException {
+    ResponseCache config = ResponseCache.builder().diskDirectory(directory).build();
+    Request request = get(URL);
+    cache(config).onResponse(request, response(request, 200, BODY, "ETag", "\"v1\""));
+
+    ConditionalCache otherKey = new ConditionalCache(config, "sk_test_other", now::get);
+
+    assertThat(otherKey.lookup(get(URL)).request().header("If-None-Match")).isNull();
+  }
+
+  @Test
+  @DisplayName("should delete the oldest disk entries beyond the disk budget")
+  void shouldTrimDisk(@TempDir Path directory) throws IOException {
+    ConditionalCache cache =
+        cache(ResponseCache.builder().diskDirectory(directory).maxDiskBytes(400).build());
+    for (int i = 0; i < 10; i++) {
+      Request request = get("https://api.test/api/v1/lists/" + i);
+      cache.onResponse(request, response(request, 200, BODY, "ETag", "\"" + i + "\""));
+    }
+
+    long size;
+    try (Stream<Path> files = Files.list(directory)) {
+      size = files.mapToLong(file -> file.toFile().length()).sum();
+    }
+    assertThat(size).isLessThanOrEqualTo(400);
+  }
+
+  @Test
+  @DisplayName("should trim the least recently used disk entries first")
+  void shouldTrimDiskInUseOrder(@TempDir Path directory) throws IOException {
+    Path probeDirectory = directory.resolve("probe");
+    Request probe = get("https://api.test/api/v1/lists/9");
+    cache(ResponseCache.builder().maxMemoryBytes(1).diskDirectory(probeDirectory).build())
+        .onResponse(probe, response(probe, 200, BODY, "ETag", "\"9\""));
+    long entrySize;
+    try (Stream<Path> files = Files.list(probeDirectory)) {
+      entrySize = files.findFirst().orElseThrow().toFile().length();
+    }
+    ConditionalCache cache =
+        cache(
+            ResponseCache.builder()
+                .maxMemoryBytes(1)
+                .diskDirectory(directory.resolve("cache"))
+                .maxDiskBytes(entrySize * 2)
+                .build());
+    for (String id : new String[] {"1", "2"}) {
+      Request request = get("https://api.test/api/v1/lists/" + id);
+      cache.onResponse(request, response(request, 200, BODY, "ETag", "\"" + id + "\""));
+    }
+    cache.lookup(get("https://api.test/api/v1/lists/1"));
+
+    Request third = get("https://api.test/api/v1/lists/3");
+    cache.onResponse(third, response(third, 200, BODY, "ETag", "\"3\""));
+
+    Request first = cache.lookup(get("https://api.test/api/v1/lists/1")).request();
+    Request second = cache.lookup(get("https://api.test/api/v1/lists/2")).request();
+    assertThat(first.header("If-None-Match")).isEqualTo("\"1\"");
+    assertThat(second.header("If-None-Match")).isNull();
+  }
+
+  @Test
+  @DisplayName("should keep entries too large for the disk format in memory")
+  void shouldSkipDiskForOversizedKeys(@TempDir Path directory) throws IOException {
+    ConditionalCache cache = cache(ResponseCache.builder().diskDirectory(directory).build());
+    String url = URL + "?filter=" + "x".repeat(70_000);
+    Request request = get(url);
+
+    Response stored = cache.onResponse(request, response(request, 200, BODY, "ETag", "\"v1\""));
+
+    assertThat(bodyOf(stored)).isEqualTo(BODY);
+    assertThat(cache.lookup(get(url)).request().header("If-None-Match")).isEqualTo("\"v1\"");
+    try (Stream<Path> files = Files.list(directory)) {
+      assertThat(files).isEmpty();
+    }
+  }
+}
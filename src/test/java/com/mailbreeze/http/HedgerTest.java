@@ -0,0 +1,77 @@
+package com.mailbreeze.http;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.*;
+
+@DisplayName("Hedger")
+class HedgerTest {
+
+  @Test
+  @DisplayName("should use the fixed delay for every family")
+  void shouldUseFixedDelay() {
+    Hedger hedger = new Hedger(HedgePolicy.fixed(Duration.ofMillis(250)).build());
+
+    assertThat(hedger.delayMillis(EndpointFamily.EMAILS)).isEqualTo(250);
+    assertThat(hedger.delayMillis(EndpointFamily.VERIFICATION)).isEqualTo(250);
+  }
+
+  @Test
+  @DisplayName("should not hedge until enough latencies are observed")
+  void shouldWaitForSamples() {
+    Hedger hedger = new Hedger(HedgePolicy.percentile(0.95).build());
+
+    for (int i = 0; i < Hedger.MIN_SAMPLES - 1; i++) {
+      hedger.onResponse(EndpointFamily.EMAILS, TimeUnit.MILLISECONDS.toNanos(100), false);
+    }
+    assertThat(hedger.delayMillis(EndpointFamily.EMAILS)).isEqualTo(-1);
+
+    hedger.onResponse(EndpointFamily.EMAILS, TimeUnit.MILLISECONDS.toNanos(100), false);
+    assertThat(hedger.delayMillis(EndpointFamily.EMAILS)).isEqualTo(100);
+    assertThat(hedger.delayMillis(EndpointFamily.CONTACTS)).isEqualTo(-1);
+  }
+
+  @Test
+  @DisplayName("should derive the delay from the observed percentile")
+  void shouldDeriveDelayFromPercentile() {
+    Hedger hedger = new Hedger(HedgePolicy.percentile(0.95).build());
+
+    for (int i = 1; i <= 100; i++) {
+      hedger.onResponse(EndpointFamily.EMAILS, TimeUnit.MILLISECONDS.toNanos(i), false);
+    }
+
+    assertThat(hedger.delayMillis(EndpointFamily.EMAILS)).isEqualTo(95);
+  }
+
+  @Test
+  @DisplayName("should not derive a delay below the minimum")
+  void shouldApplyMinDelay() {
+    Hedger hedger =
+        new Hedger(HedgePolicy.percentile(0.5).minDelay(Duration.ofMillis(50)).build());
+
+    for (int i = 0; i < Hedger.MIN_SAMPLES; i++) {
+      hedger.onResponse(EndpointFamily.EMAILS, TimeUnit.MILLISECONDS.toNanos(1), false);
+    }
+
+    assertThat(hedger.delayMillis(EndpointFamily.EMAILS)).isEqualTo(50);
+  }
+
+  @Test
+  @DisplayName("should cap hedges with the budget")
+  void shouldCapHedgesWithBudget() {
+    Hedger hedger =
+        new Hedger(HedgePolicy.fixed(Duration.ofMillis(10)).budgetRatio(0.5).maxBudget(1).build());
+
+    assertThat(hedger.tryHedge()).isTrue();
+    assertThat(hedger.tryHedge()).isFalse();
+
+    hedger.delayMillis(EndpointFamily.EMAILS);
+    hedger.delayMillis(EndpointFamily.EMAILS);
+    assertThat(hedger.tryHedge()).isTrue();
+
+    hedger.onResponse(EndpointFamily.EMAILS, 0, true);
+    assertThat(hedger.stats()).isEqualTo(new HedgeStats(2, 1, 1));
+  }
+}
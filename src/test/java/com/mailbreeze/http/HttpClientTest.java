@@ -2,15 +2,38 @@ package com.mailbreeze.http;
 
 import static org.assertj.core.api.Assertions.*;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mailbreeze.exceptions.*;
+import com.mailbreeze.models.SendEmailResult;
+import com.mailbreeze.models.enums.EmailStatus;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -87,6 +110,42 @@ class HttpClientTest {
       assertThat(request.getPath()).contains("page=2");
       assertThat(request.getPath()).contains("limit=50");
     }
+
+    @Test
+    @DisplayName("should keep a query string embedded in the path")
+    void shouldKeepEmbeddedQueryString() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {}}
+                        """));
+
+      httpClient.get(
+          "/email-verification/ver_123?includeResults=true", Map.of("page", "2"), JsonNode.class);
+
+      RecordedRequest request = mockServer.takeRequest();
+      assertThat(request.getPath())
+          .isEqualTo("/api/v1/email-verification/ver_123?includeResults=true&page=2");
+    }
+
+    @Test
+    @DisplayName("should not duplicate the API version prefix")
+    void shouldNotDuplicateApiVersion() throws Exception {
+      MailBreezeHttpClient client =
+          new MailBreezeHttpClient(
+              "sk_test_123", mockServer.url("/api/v1/").toString(), Duration.ofSeconds(30), 0);
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {}}
+                        """));
+
+      client.get("/contact-lists", null, JsonNode.class);
+
+      assertThat(mockServer.takeRequest().getPath()).isEqualTo("/api/v1/contact-lists");
+    }
   }
 
   @Nested
@@ -492,6 +551,659 @@ class HttpClientTest {
       // Should have tried initial + 3 retries = 4 total (maxRetries=3)
       assertThat(mockServer.getRequestCount()).isEqualTo(4);
     }
+
+    @Test
+    @DisplayName("should pause the whole endpoint after 429 with Retry-After")
+    void shouldPauseEndpointAfter429() throws Exception {
+      MailBreezeHttpClient client =
+          new MailBreezeHttpClient(
+              "sk_test_123", mockServer.url("/").toString(), Duration.ofSeconds(30), 0);
+      mockServer.enqueue(
+          new MockResponse()
+              .setResponseCode(429)
+              .setHeader("Retry-After", "1")
+              .setBody(
+                  """
+                        {"success": false, "error": {"message": "Rate limited"}}
+                        """));
+      for (int i = 0; i < 2; i++) {
+        mockServer.enqueue(
+            new MockResponse()
+                .setBody(
+                    """
+                          {"success": true, "data": {}}
+                          """));
+      }
+
+      assertThatThrownBy(() -> client.get("/emails", null, JsonNode.class))
+          .isInstanceOf(RateLimitException.class);
+      assertThat(client.metrics().retries().pausedEndpoints())
+          .containsExactly(EndpointFamily.EMAILS);
+
+      long start = System.nanoTime();
+      client.get("/contact-lists", null, JsonNode.class);
+      assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(900);
+
+      client.get("/emails/email_123", null, JsonNode.class);
+      assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+          .isGreaterThanOrEqualTo(900);
+      assertThat(client.metrics().retries().completedWaits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should cap backoff at the max retry delay")
+    void shouldCapBackoff() {
+      MailBreezeHttpClient client =
+          MailBreezeHttpClient.builder()
+              .apiKey("sk_test_123")
+              .baseUrl(mockServer.url("/").toString())
+              .maxRetries(3)
+              .jitter(Jitter.FULL)
+              .maxRetryDelay(Duration.ofMillis(50))
+              .build();
+      for (int i = 0; i < 4; i++) {
+        mockServer.enqueue(new MockResponse().setResponseCode(500).setBody("{}"));
+      }
+
+      long start = System.nanoTime();
+      assertThatThrownBy(() -> client.get("/test", null, JsonNode.class))
+          .isInstanceOf(ServerException.class);
+
+      assertThat(mockServer.getRequestCount()).isEqualTo(4);
+      assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+    }
+
+    @Test
+    @DisplayName("should fail fast once the retry budget is exhausted")
+    void shouldFailFastWhenBudgetExhausted() {
+      RetryBudget budget = RetryBudget.of(0.1, 1);
+      MailBreezeHttpClient client =
+          MailBreezeHttpClient.builder()
+              .apiKey("sk_test_123")
+              .baseUrl(mockServer.url("/").toString())
+              .maxRetries(3)
+              .maxRetryDelay(Duration.ofMillis(10))
+              .retryBudget(budget)
+              .build();
+      for (int i = 0; i < 3; i++) {
+        mockServer.enqueue(
+            new MockResponse()
+                .setResponseCode(503)
+                .setHeader("X-Request-Id", "req_503")
+                .setBody("{}"));
+      }
+
+      assertThatThrownBy(() -> client.get("/test", null, JsonNode.class))
+          .isInstanceOf(RetryBudgetExhaustedException.class)
+          .hasCauseInstanceOf(ServerException.class)
+          .satisfies(
+              e -> {
+                RetryBudgetExhaustedException rbe = (RetryBudgetExhaustedException) e;
+                assertThat(rbe.getCode()).isEqualTo("RETRY_BUDGET_EXHAUSTED");
+                assertThat(rbe.getStatusCode()).isEqualTo(503);
+                assertThat(rbe.getRequestId()).isEqualTo("req_503");
+                assertThat(rbe.isRetryable()).isFalse();
+              });
+
+      assertThat(mockServer.getRequestCount()).isEqualTo(2);
+      RetryBudgetStats stats = client.metrics().retryBudget();
+      assertThat(stats.allowedRetries()).isEqualTo(1);
+      assertThat(stats.deniedRetries()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should fail async calls fast once the retry budget is exhausted")
+    void shouldFailAsyncFastWhenBudgetExhausted() {
+      MailBreezeHttpClient client =
+          MailBreezeHttpClient.builder()
+              .apiKey("sk_test_123")
+              .baseUrl(mockServer.url("/").toString())
+              .maxRetries(3)
+              .retryBudget(RetryBudget.of(0.1, 1))
+              .build();
+      for (int i = 0; i < 3; i++) {
+        mockServer.enqueue(new MockResponse().setResponseCode(500).setBody("{}"));
+      }
+
+      assertThatThrownBy(
+              () -> client.getAsync("/test", null, JsonNode.class).get(5, TimeUnit.SECONDS))
+          .isInstanceOf(ExecutionException.class)
+          .hasCauseInstanceOf(RetryBudgetExhaustedException.class);
+      assertThat(mockServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should honor Retry-After given as an HTTP-date")
+    void shouldHonorRetryAfterHttpDate() {
+      MailBreezeHttpClient client =
+          new MailBreezeHttpClient(
+              "sk_test_123", mockServer.url("/").toString(), Duration.ofSeconds(30), 0);
+      String date =
+          DateTimeFormatter.RFC_1123_DATE_TIME.format(
+              ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(120));
+      mockServer.enqueue(
+          new MockResponse()
+              .setResponseCode(429)
+              .setHeader("Retry-After", date)
+              .setBody("{\"success\": false}"));
+
+      assertThatThrownBy(() -> client.get("/test", null, JsonNode.class))
+          .isInstanceOf(RateLimitException.class)
+          .satisfies(
+              e -> assertThat(((RateLimitException) e).getRetryAfter()).isBetween(118, 121));
+    }
+
+    @Test
+    @DisplayName("should pace requests with a client-side rate limit")
+    void shouldPaceWithClientRateLimit() {
+      MailBreezeHttpClient client =
+          MailBreezeHttpClient.builder()
+              .apiKey("sk_test_123")
+              .baseUrl(mockServer.url("/").toString())
+              .rateLimit(EndpointFamily.EMAILS, 20, 1)
+              .build();
+      for (int i = 0; i < 6; i++) {
+        mockServer.enqueue(
+            new MockResponse()
+                .setBody(
+                    """
+                          {"success": true, "data": {}}
+                          """));
+      }
+
+      long start = System.nanoTime();
+      for (int i = 0; i < 5; i++) {
+        client.get("/emails", null, JsonNode.class);
+      }
+      assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+          .isGreaterThanOrEqualTo(200);
+
+      client.get("/contact-lists", null, JsonNode.class);
+      assertThat(client.metrics().rateLimits().get(EndpointFamily.EMAILS).throttledRequests())
+          .isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("should hold async retries on the retry scheduler")
+    void shouldHoldAsyncRetriesOnScheduler() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setResponseCode(503)
+              .setBody(
+                  """
+                        {"success": false, "error": {"message": "Unavailable"}}
+                        """));
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"id": "scheduled"}}
+                        """));
+
+      CompletableFuture<JsonNode> future = httpClient.getAsync("/test", null, JsonNode.class);
+      mockServer.takeRequest(5, TimeUnit.SECONDS);
+      Thread.sleep(200);
+      assertThat(httpClient.metrics().retries().pendingRetries()).isEqualTo(1);
+
+      assertThat(future.get(5, TimeUnit.SECONDS).get("id").asText()).isEqualTo("scheduled");
+      RetryStats stats = httpClient.metrics().retries();
+      assertThat(stats.pendingRetries()).isZero();
+      assertThat(stats.completedWaits()).isEqualTo(1);
+      assertThat(stats.totalWaitMillis()).isGreaterThanOrEqualTo(900);
+    }
+  }
+
+  @Nested
+  @DisplayName("Circuit Breaker")
+  class CircuitBreakerTests {
+
+    private MailBreezeHttpClient breakerClient() {
+      return MailBreezeHttpClient.builder()
+          .apiKey("sk_test_123")
+          .baseUrl(mockServer.url("/").toString())
+          .maxRetries(0)
+          .circuitBreaker(
+              CircuitBreaker.builder()
+                  .slidingWindowSize(4)
+                  .minimumCalls(2)
+                  .openDuration(Duration.ofMinutes(1))
+                  .build())
+          .build();
+    }
+
+    private void enqueueServerError() {
+      mockServer.enqueue(
+          new MockResponse()
+              .setResponseCode(503)
+              .setBody(
+                  """
+                        {"success": false, "error": {"message": "Unavailable"}}
+                        """));
+    }
+
+    @Test
+    @DisplayName("should fail fast without sending once the circuit opens")
+    void shouldFailFastWhenOpen() {
+      MailBreezeHttpClient client = breakerClient();
+      enqueueServerError();
+      enqueueServerError();
+
+      for (int i = 0; i < 2; i++) {
+        assertThatThrownBy(() -> client.get("/emails", null, JsonNode.class))
+            .isInstanceOf(ServerException.class);
+      }
+      assertThatThrownBy(() -> client.get("/emails/email_1", null, JsonNode.class))
+          .isInstanceOf(CircuitOpenException.class)
+          .satisfies(e -> assertThat(((MailBreezeException) e).isRetryable()).isFalse());
+
+      assertThat(mockServer.getRequestCount()).isEqualTo(2);
+      CircuitBreakerStats stats = client.metrics().circuitBreakers().get(EndpointFamily.EMAILS);
+      assertThat(stats.state()).isEqualTo(CircuitState.OPEN);
+      assertThat(stats.notPermittedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should keep other endpoint families closed")
+    void shouldIsolateFamilies() {
+      MailBreezeHttpClient client = breakerClient();
+      enqueueServerError();
+      enqueueServerError();
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"id": "list_1"}}
+                        """));
+
+      for (int i = 0; i < 2; i++) {
+        assertThatThrownBy(() -> client.get("/emails", null, JsonNode.class))
+            .isInstanceOf(ServerException.class);
+      }
+
+      JsonNode list = client.get("/contact-lists/list_1", null, JsonNode.class);
+      assertThat(list.get("id").asText()).isEqualTo("list_1");
+      assertThat(client.metrics().circuitBreakers().get(EndpointFamily.LISTS).state())
+          .isEqualTo(CircuitState.CLOSED);
+    }
+
+    @Test
+    @DisplayName("should fail async calls fast while the circuit is open")
+    void shouldFailAsyncFastWhenOpen() throws Exception {
+      MailBreezeHttpClient client = breakerClient();
+      enqueueServerError();
+      enqueueServerError();
+
+      for (int i = 0; i < 2; i++) {
+        CompletableFuture<JsonNode> failed = client.getAsync("/emails", null, JsonNode.class);
+        assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(ServerException.class);
+      }
+
+      CompletableFuture<JsonNode> rejected = client.getAsync("/emails", null, JsonNode.class);
+      assertThat(rejected).isCompletedExceptionally();
+      assertThatThrownBy(rejected::get).hasCauseInstanceOf(CircuitOpenException.class);
+      assertThat(mockServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should hand back half-open trial permits of abandoned calls")
+    void shouldReleaseAbandonedTrialPermits() throws Exception {
+      MailBreezeHttpClient client =
+          MailBreezeHttpClient.builder()
+              .apiKey("sk_test_123")
+              .baseUrl(mockServer.url("/").toString())
+              .maxRetries(0)
+              .rateLimit(EndpointFamily.EMAILS, 2, 1)
+              .circuitBreaker(
+                  CircuitBreaker.builder()
+                      .slidingWindowSize(4)
+                      .minimumCalls(2)
+                      .openDuration(Duration.ofMillis(200))
+                      .halfOpenCalls(1)
+                      .build())
+              .build();
+      enqueueServerError();
+      enqueueServerError();
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"id": "email_1"}}
+                        """));
+      for (int i = 0; i < 2; i++) {
+        assertThatThrownBy(() -> client.get("/emails", null, JsonNode.class))
+            .isInstanceOf(ServerException.class);
+      }
+      Thread.sleep(250);
+
+      // Each trial call is throttled past its deadline and gives up before it is sent
+      RequestOptions shortDeadline =
+          RequestOptions.builder().deadline(Duration.ofMillis(50)).build();
+      CompletableFuture<JsonNode> abandoned =
+          client.getAsync("/emails", null, JsonNode.class, shortDeadline);
+      assertThatThrownBy(() -> abandoned.get(5, TimeUnit.SECONDS))
+          .hasCauseInstanceOf(DeadlineExceededException.class);
+      assertThatThrownBy(() -> client.get("/emails", null, JsonNode.class, shortDeadline))
+          .isInstanceOf(DeadlineExceededException.class);
+
+      JsonNode email = client.get("/emails/email_1", null, JsonNode.class);
+      assertThat(email.get("id").asText()).isEqualTo("email_1");
+      assertThat(client.metrics().circuitBreakers().get(EndpointFamily.EMAILS).state())
+          .isEqualTo(CircuitState.CLOSED);
+      assertThat(mockServer.getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should report no breakers when none is configured")
+    void shouldReportNoBreakersByDefault() {
+      assertThat(httpClient.metrics().circuitBreakers()).isEmpty();
+    }
+  }
+
+  @Nested
+  @DisplayName("Hedging")
+  class HedgingTests {
+
+    private MailBreezeHttpClient hedgingClient(HedgePolicy policy) {
+      return MailBreezeHttpClient.builder()
+          .apiKey("sk_test_123")
+          .baseUrl(mockServer.url("/").toString())
+          .maxRequestsPerHost(8)
+          .hedging(policy)
+          .build();
+    }
+
+    private void enqueueEmail(String id, long delayMillis) {
+      mockServer.enqueue(
+          new MockResponse()
+              .setHeadersDelay(delayMillis, TimeUnit.MILLISECONDS)
+              .setBody("{\"success\": true, \"data\": {\"id\": \"" + id + "\"}}"));
+    }
+
+    @Test
+    @DisplayName("should answer a slow GET from the hedged copy")
+    void shouldAnswerFromHedge() throws Exception {
+      MailBreezeHttpClient client =
+          hedgingClient(HedgePolicy.fixed(Duration.ofMillis(100)).build());
+      enqueueEmail("slow", 3000);
+      enqueueEmail("hedge", 0);
+
+      long start = System.nanoTime();
+      JsonNode result = client.getAsync("/emails/1", null, JsonNode.class).get(5, TimeUnit.SECONDS);
+
+      assertThat(result.get("id").asText()).isEqualTo("hedge");
+      assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2000);
+      assertThat(mockServer.getRequestCount()).isEqualTo(2);
+      assertThat(client.metrics().hedging()).isEqualTo(new HedgeStats(1, 1, 0));
+    }
+
+    @Test
+    @DisplayName("should hedge sync GETs")
+    void shouldHedgeSyncGets() {
+      MailBreezeHttpClient client =
+          hedgingClient(HedgePolicy.fixed(Duration.ofMillis(100)).build());
+      enqueueEmail("slow", 3000);
+      enqueueEmail("hedge", 0);
+
+      JsonNode result = client.get("/emails/1", null, JsonNode.class);
+
+      assertThat(result.get("id").asText()).isEqualTo("hedge");
+      assertThat(client.metrics().hedging().hedgeWins()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should send the first copy of a sync GET on the calling thread")
+    void shouldSendSyncPrimaryOnCallerThread() {
+      AtomicInteger dispatcherThreads = new AtomicInteger();
+      ExecutorService dispatcher =
+          Executors.newCachedThreadPool(
+              runnable -> {
+                dispatcherThreads.incrementAndGet();
+                return new Thread(runnable);
+              });
+      try {
+        MailBreezeHttpClient client =
+            MailBreezeHttpClient.builder()
+                .apiKey("sk_test_123")
+                .baseUrl(mockServer.url("/").toString())
+                .transport(OkHttpTransport.builder().dispatcherExecutor(dispatcher).build())
+                .hedging(HedgePolicy.fixed(Duration.ofMillis(500)).build())
+                .build();
+        enqueueEmail("fast", 0);
+
+        JsonNode result = client.get("/emails/1", null, JsonNode.class);
+
+        assertThat(result.get("id").asText()).isEqualTo("fast");
+        assertThat(dispatcherThreads).hasValue(0);
+        assertThat(client.metrics().hedging().hedgedRequests()).isZero();
+      } finally {
+        dispatcher.shutdown();
+      }
+    }
+
+    @Test
+    @DisplayName("should not hedge GETs that answer before the delay")
+    void shouldNotHedgeFastGets() throws Exception {
+      MailBreezeHttpClient client =
+          hedgingClient(HedgePolicy.fixed(Duration.ofMillis(500)).build());
+      enqueueEmail("fast", 0);
+
+      client.getAsync("/emails/1", null, JsonNode.class).get(5, TimeUnit.SECONDS);
+      Thread.sleep(600);
+
+      assertThat(mockServer.getRequestCount()).isEqualTo(1);
+      assertThat(client.metrics().hedging().hedgedRequests()).isZero();
+    }
+
+    @Test
+    @DisplayName("should stop hedging once the budget is spent")
+    void shouldRespectBudget() throws Exception {
+      MailBreezeHttpClient client =
+          hedgingClient(
+              HedgePolicy.fixed(Duration.ofMillis(50)).budgetRatio(0.01).maxBudget(1).build());
+      enqueueEmail("slow-1", 300);
+      enqueueEmail("hedge-1", 0);
+      enqueueEmail("slow-2", 300);
+
+      client.getAsync("/emails/1", null, JsonNode.class).get(5, TimeUnit.SECONDS);
+      JsonNode second = client.getAsync("/emails/2", null, JsonNode.class).get(5, TimeUnit.SECONDS);
+
+      assertThat(second.get("id").asText()).isEqualTo("slow-2");
+      assertThat(client.metrics().hedging()).isEqualTo(new HedgeStats(1, 1, 1));
+    }
+
+    @Test
+    @DisplayName("should never hedge POSTs")
+    void shouldNotHedgePosts() throws Exception {
+      MailBreezeHttpClient client =
+          hedgingClient(HedgePolicy.fixed(Duration.ofMillis(10)).build());
+      enqueueEmail("sent", 200);
+
+      client.postAsync("/emails", Map.of(), JsonNode.class, null).get(5, TimeUnit.SECONDS);
+
+      assertThat(mockServer.getRequestCount()).isEqualTo(1);
+      assertThat(client.metrics().hedging().hedgedRequests()).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("Deadlines")
+  class DeadlineTests {
+
+    private void enqueueServerError() {
+      mockServer.enqueue(
+          new MockResponse()
+              .setResponseCode(503)
+              .setBody(
+                  """
+                        {"success": false, "error": {"message": "Unavailable"}}
+                        """));
+    }
+
+    private void enqueueSlow(long delayMillis) {
+      mockServer.enqueue(
+          new MockResponse()
+              .setHeadersDelay(delayMillis, TimeUnit.MILLISECONDS)
+              .setBody(
+                  """
+                        {"success": true, "data": {"id": "slow"}}
+                        """));
+    }
+
+    @Test
+    @DisplayName("should time out an attempt after the per-call attempt timeout")
+    void shouldApplyAttemptTimeout() {
+      MailBreezeHttpClient client =
+          MailBreezeHttpClient.builder()
+              .apiKey("sk_test_123")
+              .baseUrl(mockServer.url("/").toString())
+              .maxRetries(0)
+              .build();
+      enqueueSlow(2000);
+      RequestOptions options =
+          RequestOptions.builder().attemptTimeout(Duration.ofMillis(200)).build();
+
+      long start = System.nanoTime();
+      assertThatThrownBy(() -> client.get("/emails/1", null, JsonNode.class, options))
+          .isInstanceOf(MailBreezeException.class)
+          .extracting(e -> ((MailBreezeException) e).getCode())
+          .isEqualTo("NETWORK_ERROR");
+      assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1500);
+    }
+
+    @Test
+    @DisplayName("should not start a retry that cannot finish before the deadline")
+    void shouldNotRetryPastDeadline() {
+      enqueueServerError();
+      enqueueServerError();
+      RequestOptions options = RequestOptions.builder().deadline(Duration.ofMillis(500)).build();
+
+      long start = System.nanoTime();
+      assertThatThrownBy(() -> httpClient.get("/emails/1", null, JsonNode.class, options))
+          .isInstanceOf(DeadlineExceededException.class)
+          .hasCauseInstanceOf(ServerException.class)
+          .satisfies(e -> assertThat(((MailBreezeException) e).isRetryable()).isFalse());
+
+      assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(500);
+      assertThat(mockServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should apply the deadline across async retries")
+    void shouldApplyDeadlineToAsyncRetries() {
+      enqueueServerError();
+      enqueueServerError();
+      RequestOptions options = RequestOptions.builder().deadline(Duration.ofMillis(500)).build();
+
+      CompletableFuture<JsonNode> future =
+          httpClient.getAsync("/emails/1", null, JsonNode.class, options);
+
+      assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+          .hasCauseInstanceOf(DeadlineExceededException.class);
+      assertThat(mockServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should cut the last attempt to the time left before the deadline")
+    void shouldCutAttemptToDeadline() {
+      MailBreezeHttpClient client =
+          MailBreezeHttpClient.builder()
+              .apiKey("sk_test_123")
+              .baseUrl(mockServer.url("/").toString())
+              .deadline(EndpointFamily.EMAILS, Duration.ofMillis(300))
+              .build();
+      enqueueSlow(2000);
+
+      long start = System.nanoTime();
+      assertThatThrownBy(() -> client.get("/emails/1", null, JsonNode.class))
+          .isInstanceOf(DeadlineExceededException.class);
+      assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1500);
+    }
+
+    @Test
+    @DisplayName("should apply per-endpoint attempt timeouts only to their family")
+    void shouldApplyPerEndpointAttemptTimeouts() {
+      MailBreezeHttpClient client =
+          MailBreezeHttpClient.builder()
+              .apiKey("sk_test_123")
+              .baseUrl(mockServer.url("/").toString())
+              .maxRetries(0)
+              .attemptTimeout(EndpointFamily.EMAILS, Duration.ofMillis(100))
+              .build();
+      enqueueSlow(400);
+      enqueueSlow(400);
+
+      assertThatThrownBy(() -> client.get("/emails/1", null, JsonNode.class))
+          .isInstanceOf(MailBreezeException.class);
+      JsonNode result = client.get("/email-verification/batch_1", null, JsonNode.class);
+      assertThat(result.get("id").asText()).isEqualTo("slow");
+    }
+
+    @Test
+    @DisplayName("should bound the wait for an in-flight permit by the deadline")
+    void shouldBoundPermitWaitByDeadline() throws Exception {
+      for (OverflowPolicy policy : List.of(OverflowPolicy.WAIT, OverflowPolicy.BLOCK)) {
+        MailBreezeHttpClient client =
+            MailBreezeHttpClient.builder()
+                .apiKey("sk_test_123")
+                .baseUrl(mockServer.url("/").toString())
+                .maxInFlight(1, policy)
+                .build();
+        enqueueSlow(1000);
+        CompletableFuture<JsonNode> holder = client.getAsync("/emails/1", null, JsonNode.class);
+        RequestOptions options =
+            RequestOptions.builder().deadline(Duration.ofMillis(200)).build();
+
+        long start = System.nanoTime();
+        CompletableFuture<JsonNode> waiting =
+            client.getAsync("/emails/2", null, JsonNode.class, options);
+        assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(DeadlineExceededException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(800);
+        assertThat(client.metrics().inFlight().queued()).isZero();
+
+        holder.get(5, TimeUnit.SECONDS);
+        assertThat(client.metrics().inFlight().inFlight()).isZero();
+      }
+    }
+
+    @Test
+    @DisplayName("should bound the wait for a concurrency limiter slot by the deadline")
+    void shouldBoundSlotWaitByDeadline() throws Exception {
+      MailBreezeHttpClient client =
+          MailBreezeHttpClient.builder()
+              .apiKey("sk_test_123")
+              .baseUrl(mockServer.url("/").toString())
+              .concurrencyLimit(
+                  ConcurrencyLimit.aimd().initialLimit(1).maxLimit(1).maxQueued(4).build())
+              .build();
+      enqueueSlow(1000);
+      CompletableFuture<JsonNode> holder = client.getAsync("/emails/1", null, JsonNode.class);
+      RequestOptions options = RequestOptions.builder().deadline(Duration.ofMillis(200)).build();
+
+      CompletableFuture<JsonNode> waiting =
+          client.getAsync("/emails/2", null, JsonNode.class, options);
+      assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS))
+          .hasCauseInstanceOf(DeadlineExceededException.class);
+      assertThat(client.metrics().concurrency().queued()).isZero();
+
+      holder.get(5, TimeUnit.SECONDS);
+      assertThat(mockServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should reject non-positive timeouts")
+    void shouldRejectNonPositiveTimeouts() {
+      assertThatThrownBy(() -> RequestOptions.builder().deadline(Duration.ZERO).build())
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(
+              () ->
+                  MailBreezeHttpClient.builder()
+                      .apiKey("sk_test_123")
+                      .attemptTimeout(EndpointFamily.EMAILS, Duration.ofMillis(-1))
+                      .build())
+          .isInstanceOf(IllegalArgumentException.class);
+    }
   }
 
   @Nested
@@ -601,27 +1313,1006 @@ class HttpClientTest {
         assertThat(result.get("id").asText()).startsWith("email_");
       }
     }
-  }
-
-  @Nested
-  @DisplayName("Response Parsing")
-  class ResponseParsingTests {
 
     @Test
-    @DisplayName("should parse data from success response envelope")
-    void shouldParseDataFromEnvelope() throws Exception {
+    @DisplayName("should reject async calls beyond the concurrency limit")
+    void shouldRejectBeyondConcurrencyLimit() throws Exception {
+      MailBreezeHttpClient client =
+          MailBreezeHttpClient.builder()
+              .apiKey("sk_test_123")
+              .baseUrl(mockServer.url("/").toString())
+              .concurrencyLimit(ConcurrencyLimit.aimd().initialLimit(1).maxLimit(1).build())
+              .build();
       mockServer.enqueue(
           new MockResponse()
+              .setHeadersDelay(300, TimeUnit.MILLISECONDS)
               .setBody(
                   """
-                        {
-                            "success": true,
-                            "data": {
-                                "id": "email_123",
-                                "from": "test@example.com",
-                                "status": "sent"
-                            },
-                            "meta": {
+                        {"success": true, "data": {"id": "slow"}}
+                        """));
+
+      CompletableFuture<JsonNode> slow = client.getAsync("/emails/1", null, JsonNode.class);
+      CompletableFuture<JsonNode> rejected = client.getAsync("/emails/2", null, JsonNode.class);
+
+      assertThatThrownBy(() -> rejected.get(5, TimeUnit.SECONDS))
+          .isInstanceOf(ExecutionException.class)
+          .hasCauseInstanceOf(ConcurrencyLimitExceededException.class);
+      assertThat(client.metrics().concurrency().inFlight()).isEqualTo(1);
+
+      assertThat(slow.get(5, TimeUnit.SECONDS).get("id").asText()).isEqualTo("slow");
+      ConcurrencyStats stats = client.metrics().concurrency();
+      assertThat(stats.inFlight()).isZero();
+      assertThat(stats.rejected()).isEqualTo(1);
+      assertThat(mockServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should queue async calls beyond the concurrency limit")
+    void shouldQueueBeyondConcurrencyLimit() throws Exception {
+      MailBreezeHttpClient client =
+          MailBreezeHttpClient.builder()
+              .apiKey("sk_test_123")
+              .baseUrl(mockServer.url("/").toString())
+              .concurrencyLimit(
+                  ConcurrencyLimit.gradient().initialLimit(1).maxLimit(1).maxQueued(10).build())
+              .build();
+      for (int i = 0; i < 3; i++) {
+        mockServer.enqueue(
+            new MockResponse()
+                .setHeadersDelay(50, TimeUnit.MILLISECONDS)
+                .setBody(
+                    """
+                          {"success": true, "data": {}}
+                          """));
+      }
+
+      CompletableFuture<?>[] futures = new CompletableFuture<?>[3];
+      for (int i = 0; i < 3; i++) {
+        futures[i] = client.getAsync("/emails/" + i, null, JsonNode.class);
+      }
+      assertThat(client.metrics().concurrency().queued()).isEqualTo(2);
+
+      CompletableFuture.allOf(futures).get(5, TimeUnit.SECONDS);
+      assertThat(client.metrics().concurrency().rejected()).isZero();
+      assertThat(mockServer.getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should fail fast when the in-flight cap is reached")
+    void shouldFailFastOverInFlightCap() throws Exception {
+      MailBreezeHttpClient client =
+          MailBreezeHttpClient.builder()
+              .apiKey("sk_test_123")
+              .baseUrl(mockServer.url("/").toString())
+              .maxInFlight(1, OverflowPolicy.FAIL_FAST)
+              .build();
+      mockServer.enqueue(
+          new MockResponse()
+              .setHeadersDelay(200, TimeUnit.MILLISECONDS)
+              .setBody(
+                  """
+                        {"success": true, "data": {}}
+                        """));
+
+      CompletableFuture<JsonNode> first = client.getAsync("/emails/1", null, JsonNode.class);
+      CompletableFuture<JsonNode> rejected = client.getAsync("/emails/2", null, JsonNode.class);
+
+      assertThat(rejected).isCompletedExceptionally();
+      assertThatThrownBy(() -> rejected.get(5, TimeUnit.SECONDS))
+          .hasCauseInstanceOf(ConcurrencyLimitExceededException.class);
+      first.get(5, TimeUnit.SECONDS);
+      InFlightStats stats = client.metrics().inFlight();
+      assertThat(stats.inFlight()).isZero();
+      assertThat(stats.rejected()).isEqualTo(1);
+      assertThat(mockServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should hold calls over the in-flight cap until a permit frees up")
+    void shouldWaitForInFlightPermit() throws Exception {
+      MailBreezeHttpClient client =
+          MailBreezeHttpClient.builder()
+              .apiKey("sk_test_123")
+              .baseUrl(mockServer.url("/").toString())
+              .maxInFlight(1, OverflowPolicy.WAIT)
+              .build();
+      for (int i = 0; i < 3; i++) {
+        mockServer.enqueue(
+            new MockResponse()
+                .setHeadersDelay(50, TimeUnit.MILLISECONDS)
+                .setBody(
+                    """
+                          {"success": true, "data": {}}
+                          """));
+      }
+
+      CompletableFuture<?>[] futures = new CompletableFuture<?>[3];
+      for (int i = 0; i < 3; i++) {
+        futures[i] = client.getAsync("/emails/" + i, null, JsonNode.class);
+      }
+      assertThat(client.metrics().inFlight().queued()).isEqualTo(2);
+
+      CompletableFuture.allOf(futures).get(5, TimeUnit.SECONDS);
+      InFlightStats stats = client.metrics().inFlight();
+      assertThat(stats.inFlight()).isZero();
+      assertThat(stats.permitWaits()).isEqualTo(2);
+      assertThat(stats.totalPermitWaitMillis()).isPositive();
+      assertThat(mockServer.getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should block the caller when the in-flight cap is reached")
+    void shouldBlockOverInFlightCap() throws Exception {
+      MailBreezeHttpClient client =
+          MailBreezeHttpClient.builder()
+              .apiKey("sk_test_123")
+              .baseUrl(mockServer.url("/").toString())
+              .maxInFlight(1, OverflowPolicy.BLOCK)
+              .build();
+      for (int i = 0; i < 2; i++) {
+        mockServer.enqueue(
+            new MockResponse()
+                .setHeadersDelay(100, TimeUnit.MILLISECONDS)
+                .setBody(
+                    """
+                          {"success": true, "data": {}}
+                          """));
+      }
+
+      CompletableFuture<JsonNode> first = client.getAsync("/emails/1", null, JsonNode.class);
+      CompletableFuture<JsonNode> second = client.getAsync("/emails/2", null, JsonNode.class);
+
+      // The second call only returned once the first had completed and released its permit
+      assertThat(first).isCompleted();
+      second.get(5, TimeUnit.SECONDS);
+      assertThat(client.metrics().inFlight().permitWaits()).isEqualTo(1);
+    }
+  }
+
+  @Nested
+  @DisplayName("Single Flight")
+  class SingleFlightTests {
+
+    private MailBreezeHttpClient singleFlightClient() {
+      return MailBreezeHttpClient.builder()
+          .apiKey("sk_test_123")
+          .baseUrl(mockServer.url("/").toString())
+          .singleFlight(true)
+          .build();
+    }
+
+    private void enqueueStats(long delayMillis) {
+      mockServer.enqueue(
+          new MockResponse()
+              .setHeadersDelay(delayMillis, TimeUnit.MILLISECONDS)
+              .setBody("{\"success\": true, \"data\": {\"sent\": 10}}"));
+    }
+
+    @Test
+    @DisplayName("should send one request for concurrent identical GETs")
+    void shouldCoalesceIdenticalGets() throws Exception {
+      MailBreezeHttpClient client = singleFlightClient();
+      enqueueStats(300);
+
+      List<CompletableFuture<JsonNode>> futures =
+          List.of(
+              client.getAsync("/emails/stats", Map.of("a", "1", "b", "2"), JsonNode.class),
+              client.getAsync("/emails/stats", Map.of("b", "2", "a", "1"), JsonNode.class),
+              client.getAsync("/emails/stats", Map.of("a", "1", "b", "2"), JsonNode.class));
+
+      for (CompletableFuture<JsonNode> future : futures) {
+        assertThat(future.get(5, TimeUnit.SECONDS).get("sent").asInt()).isEqualTo(10);
+      }
+      assertThat(mockServer.getRequestCount()).isEqualTo(1);
+      assertThat(client.metrics().singleFlight()).isEqualTo(new SingleFlightStats(1, 2));
+    }
+
+    @Test
+    @DisplayName("should let sync callers share an async request")
+    void shouldShareWithSyncCallers() throws Exception {
+      MailBreezeHttpClient client = singleFlightClient();
+      enqueueStats(300);
+
+      CompletableFuture<JsonNode> async = client.getAsync("/emails/stats", null, JsonNode.class);
+      JsonNode sync = client.get("/emails/stats", null, JsonNode.class);
+
+      assertThat(sync.get("sent").asInt()).isEqualTo(10);
+      assertThat(async.get(5, TimeUnit.SECONDS)).isEqualTo(sync);
+      assertThat(mockServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should not coalesce different queries or calls with options")
+    void shouldNotCoalesceDifferentCalls() throws Exception {
+      MailBreezeHttpClient client = singleFlightClient();
+      enqueueStats(200);
+      enqueueStats(200);
+      enqueueStats(200);
+
+      CompletableFuture<JsonNode> first =
+          client.getAsync("/emails/stats", Map.of("a", "1"), JsonNode.class);
+      CompletableFuture<JsonNode> second =
+          client.getAsync("/emails/stats", Map.of("a", "2"), JsonNode.class);
+      CompletableFuture<JsonNode> third =
+          client.getAsync(
+              "/emails/stats",
+              Map.of("a", "1"),
+              JsonNode.class,
+              RequestOptions.builder().deadline(Duration.ofSeconds(5)).build());
+      CompletableFuture.allOf(first, second, third).get(5, TimeUnit.SECONDS);
+
+      assertThat(mockServer.getRequestCount()).isEqualTo(3);
+      assertThat(client.metrics().singleFlight()).isEqualTo(new SingleFlightStats(2, 0));
+    }
+
+    @Test
+    @DisplayName("should send a new request after the shared one completed")
+    void shouldNotCacheResponses() {
+      MailBreezeHttpClient client = singleFlightClient();
+      enqueueStats(0);
+      enqueueStats(0);
+
+      client.get("/emails/stats", null, JsonNode.class);
+      client.get("/emails/stats", null, JsonNode.class);
+
+      assertThat(mockServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should not coalesce unless enabled")
+    void shouldBeOptIn() throws Exception {
+      enqueueStats(200);
+      enqueueStats(200);
+
+      CompletableFuture.allOf(
+              httpClient.getAsync("/emails/stats", null, JsonNode.class),
+              httpClient.getAsync("/emails/stats", null, JsonNode.class))
+          .get(5, TimeUnit.SECONDS);
+
+      assertThat(mockServer.getRequestCount()).isEqualTo(2);
+      assertThat(httpClient.metrics().singleFlight()).isEqualTo(new SingleFlightStats(0, 0));
+    }
+  }
+
+  @Nested
+  @DisplayName("Response Cache")
+  class ResponseCacheTests {
+
+    private MailBreezeHttpClient cachingClient() {
+      return MailBreezeHttpClient.builder()
+          .apiKey("sk_test_123")
+          .baseUrl(mockServer.url("/").toString())
+          .responseCache(ResponseCache.builder().build())
+          .build();
+    }
+
+    @Test
+    @DisplayName("should answer a 304 from the cached body")
+    void shouldRevalidateWithEtag() throws Exception {
+      MailBreezeHttpClient client = cachingClient();
+      mockServer.enqueue(
+          new MockResponse()
+              .setHeader("ETag", "\"v1\"")
+              .setBody("{\"success\": true, \"data\": {\"id\": \"list_1\"}}"));
+      mockServer.enqueue(new MockResponse().setResponseCode(304));
+
+      JsonNode first = client.get("/lists/list_1", null, JsonNode.class);
+      JsonNode second =
+          client.getAsync("/lists/list_1", null, JsonNode.class).get(5, TimeUnit.SECONDS);
+
+      assertThat(second).isEqualTo(first);
+      mockServer.takeRequest();
+      assertThat(mockServer.takeRequest().getHeader("If-None-Match")).isEqualTo("\"v1\"");
+      assertThat(client.metrics().responseCache())
+          .containsEntry(EndpointFamily.LISTS, new ResponseCacheStats(0, 1, 1));
+    }
+
+    @Test
+    @DisplayName("should not send a request while the entry is fresh")
+    void shouldServeFreshEntry() {
+      MailBreezeHttpClient client = cachingClient();
+      mockServer.enqueue(
+          new MockResponse()
+              .setHeader("Cache-Control", "max-age=60")
+              .setBody("{\"success\": true, \"data\": {\"sent\": 10}}"));
+
+      client.get("/emails/stats", null, JsonNode.class);
+      JsonNode cached = client.get("/emails/stats", null, JsonNode.class);
+
+      assertThat(cached.get("sent").asInt()).isEqualTo(10);
+      assertThat(mockServer.getRequestCount()).isEqualTo(1);
+      assertThat(client.metrics().responseCache().get(EndpointFamily.EMAILS).hitRatio())
+          .isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("should refetch after a write to the same resource")
+    void shouldInvalidateOnWrite() throws Exception {
+      MailBreezeHttpClient client = cachingClient();
+      mockServer.enqueue(
+          new MockResponse()
+              .setHeader("Cache-Control", "max-age=60")
+              .setBody("{\"success\": true, \"data\": {\"name\": \"old\"}}"));
+      mockServer.enqueue(
+          new MockResponse().setBody("{\"success\": true, \"data\": {\"name\": \"new\"}}"));
+      mockServer.enqueue(
+          new MockResponse().setBody("{\"success\": true, \"data\": {\"name\": \"new\"}}"));
+
+      client.get("/lists/list_1", null, JsonNode.class);
+      client.patch("/lists/list_1", Map.of("name", "new"), JsonNode.class);
+      JsonNode refetched = client.get("/lists/list_1", null, JsonNode.class);
+
+      assertThat(refetched.get("name").asText()).isEqualTo("new");
+      assertThat(mockServer.getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should not send validators without a response cache")
+    void shouldBeOptIn() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setHeader("ETag", "\"v1\"")
+              .setBody("{\"success\": true, \"data\": {}}"));
+      mockServer.enqueue(new MockResponse().setBody("{\"success\": true, \"data\": {}}"));
+
+      httpClient.get("/lists/list_1", null, JsonNode.class);
+      httpClient.get("/lists/list_1", null, JsonNode.class);
+
+      mockServer.takeRequest();
+      assertThat(mockServer.takeRequest().getHeader("If-None-Match")).isNull();
+      assertThat(httpClient.metrics().responseCache()).isEmpty();
+    }
+  }
+
+  @Nested
+  @DisplayName("Cancellation")
+  class CancellationTests {
+
+    @Test
+    @DisplayName("should cancel the in-flight call when the future is cancelled")
+    void shouldCancelInFlightCall() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setHeadersDelay(5, TimeUnit.SECONDS)
+              .setBody(
+                  """
+                        {"success": true, "data": {}}
+                        """));
+
+      CompletableFuture<JsonNode> future =
+          httpClient.postAsync("/emails", Map.of(), JsonNode.class, null);
+      mockServer.takeRequest(5, TimeUnit.SECONDS);
+      future.cancel(true);
+
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+      while (httpClient.metrics().pool().runningCalls() > 0 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertThat(httpClient.metrics().pool().runningCalls()).isZero();
+      assertThat(httpClient.metrics().cancellations()).isEqualTo(new CancellationStats(0, 1));
+    }
+
+    @Test
+    @DisplayName("should drop the pending retry when the future is cancelled")
+    void shouldDropPendingRetry() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setResponseCode(503)
+              .setBody(
+                  """
+                        {"success": false, "error": {"message": "Unavailable"}}
+                        """));
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {}}
+                        """));
+
+      CompletableFuture<JsonNode> future = httpClient.getAsync("/test", null, JsonNode.class);
+      mockServer.takeRequest(5, TimeUnit.SECONDS);
+      Thread.sleep(200);
+      assertThat(httpClient.metrics().retries().pendingRetries()).isEqualTo(1);
+
+      future.cancel(true);
+      assertThat(httpClient.metrics().retries().pendingRetries()).isZero();
+      Thread.sleep(1200);
+
+      assertThat(mockServer.getRequestCount()).isEqualTo(1);
+      assertThat(httpClient.metrics().cancellations()).isEqualTo(new CancellationStats(1, 0));
+    }
+
+    @Test
+    @DisplayName("should treat orTimeout like a cancellation")
+    void shouldCancelOnOrTimeout() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setHeadersDelay(5, TimeUnit.SECONDS)
+              .setBody(
+                  """
+                        {"success": true, "data": {}}
+                        """));
+
+      CompletableFuture<JsonNode> future =
+          httpClient.getAsync("/test", null, JsonNode.class).orTimeout(200, TimeUnit.MILLISECONDS);
+
+      assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+          .hasCauseInstanceOf(TimeoutException.class);
+      // The timeout thread runs the SDK's completion handler after waking the caller
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+      while (httpClient.metrics().cancellations().cancelledInFlight() == 0
+          && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertThat(httpClient.metrics().cancellations().cancelledInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should not count failed calls as cancelled")
+    void shouldNotCountFailures() {
+      mockServer.enqueue(
+          new MockResponse()
+              .setResponseCode(400)
+              .setBody(
+                  """
+                        {"success": false, "error": {"message": "Bad request"}}
+                        """));
+
+      CompletableFuture<JsonNode> future = httpClient.getAsync("/test", null, JsonNode.class);
+
+      assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+          .hasCauseInstanceOf(ValidationException.class);
+      assertThat(httpClient.metrics().cancellations()).isEqualTo(new CancellationStats(0, 0));
+    }
+  }
+
+  @Nested
+  @DisplayName("Deserialization Executor")
+  class DeserializationExecutorTests {
+
+    private ExecutorService pool;
+
+    @BeforeEach
+    void setUpPool() {
+      pool = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDownPool() {
+      pool.shutdownNow();
+    }
+
+    private MailBreezeHttpClient client(Executor executor) {
+      return MailBreezeHttpClient.builder()
+          .apiKey("sk_test_123")
+          .baseUrl(mockServer.url("/").toString())
+          .deserializationExecutor(executor)
+          .build();
+    }
+
+    @Test
+    @DisplayName("should bind async responses on the deserialization executor")
+    void shouldBindOnExecutor() throws Exception {
+      AtomicInteger tasks = new AtomicInteger();
+      MailBreezeHttpClient client =
+          client(
+              task -> {
+                tasks.incrementAndGet();
+                pool.execute(task);
+              });
+      mockServer.enqueue(new MockResponse().setBody("{\"success\": true, \"data\": {\"id\": 1}}"));
+
+      JsonNode result = client.getAsync("/test", null, JsonNode.class).get(5, TimeUnit.SECONDS);
+
+      assertThat(result.get("id").asInt()).isEqualTo(1);
+      assertThat(tasks.get()).isEqualTo(1);
+      StageTimingStats timings = client.metrics().stageTimings();
+      assertThat(timings.responses()).isEqualTo(1);
+      assertThat(timings.decodedBodies()).isEqualTo(1);
+      assertThat(timings.offloaded()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should surface API errors from the deserialization executor")
+    void shouldSurfaceErrors() {
+      MailBreezeHttpClient client = client(pool);
+      mockServer.enqueue(
+          new MockResponse()
+              .setResponseCode(404)
+              .setBody("{\"success\": false, \"error\": {\"message\": \"Not found\"}}"));
+
+      CompletableFuture<JsonNode> future = client.getAsync("/test", null, JsonNode.class);
+
+      assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+          .hasCauseInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("should bind on the dispatcher thread when the executor rejects the task")
+    void shouldBindInlineWhenRejected() throws Exception {
+      MailBreezeHttpClient client =
+          client(
+              task -> {
+                throw new RejectedExecutionException("full");
+              });
+      mockServer.enqueue(new MockResponse().setBody("{\"success\": true, \"data\": {\"id\": 1}}"));
+
+      JsonNode result = client.getAsync("/test", null, JsonNode.class).get(5, TimeUnit.SECONDS);
+
+      assertThat(result.get("id").asInt()).isEqualTo(1);
+      assertThat(client.metrics().stageTimings().offloaded()).isZero();
+    }
+
+    @Test
+    @DisplayName("should time headers, body read and bind for sync calls")
+    void shouldRecordStageTimings() {
+      mockServer.enqueue(
+          new MockResponse()
+              .setHeadersDelay(100, TimeUnit.MILLISECONDS)
+              .setBody("{\"success\": true, \"data\": {\"id\": 1}}"));
+
+      httpClient.get("/test", null, JsonNode.class);
+
+      StageTimingStats timings = httpClient.metrics().stageTimings();
+      assertThat(timings.responses()).isEqualTo(1);
+      assertThat(timings.totalHeadersMillis()).isGreaterThanOrEqualTo(100);
+      assertThat(timings.decodedBodies()).isEqualTo(1);
+      assertThat(timings.offloaded()).isZero();
+    }
+
+    @Test
+    @DisplayName("should time headers from the send, not from the dispatcher queue")
+    void shouldExcludeDispatcherQueueFromHeaders() throws Exception {
+      MailBreezeHttpClient client =
+          MailBreezeHttpClient.builder()
+              .apiKey("sk_test_123")
+              .baseUrl(mockServer.url("/").toString())
+              .maxRequestsPerHost(1)
+              .build();
+      for (int i = 0; i < 2; i++) {
+        mockServer.enqueue(
+            new MockResponse()
+                .setHeadersDelay(500, TimeUnit.MILLISECONDS)
+                .setBody("{\"success\": true, \"data\": {\"id\": 1}}"));
+      }
+
+      CompletableFuture<JsonNode> first = client.getAsync("/first", null, JsonNode.class);
+      CompletableFuture<JsonNode> second = client.getAsync("/second", null, JsonNode.class);
+      first.get(5, TimeUnit.SECONDS);
+      second.get(5, TimeUnit.SECONDS);
+
+      // The second call queues behind the first; counting that wait would add another 500 ms
+      StageTimingStats timings = client.metrics().stageTimings();
+      assertThat(timings.responses()).isEqualTo(2);
+      assertThat(timings.totalHeadersMillis()).isBetween(1000L, 1400L);
+    }
+
+    @Test
+    @DisplayName("should count an offloaded body read once")
+    void shouldNotDoubleCountOffloadedRead() throws Exception {
+      MailBreezeHttpClient client = client(pool);
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody("{\"success\": true, \"data\": {\"id\": 1}}")
+              .throttleBody(16, 100, TimeUnit.MILLISECONDS));
+
+      client.getAsync("/test", null, JsonNode.class).get(5, TimeUnit.SECONDS);
+
+      // The body trickles in over ~300 ms on the dispatcher; the bind reads it from memory
+      StageTimingStats timings = client.metrics().stageTimings();
+      assertThat(timings.totalBodyReadMillis()).isBetween(150L, 450L);
+      assertThat(timings.offloaded()).isEqualTo(1);
+    }
+  }
+
+  @Nested
+  @DisplayName("Connection Pool")
+  class ConnectionPoolTests {
+
+    @Test
+    @DisplayName("should report pooled connection after a request")
+    void shouldReportPooledConnection() {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {}}
+                        """));
+
+      httpClient.get("/test", null, JsonNode.class);
+
+      PoolStats stats = httpClient.metrics().pool();
+      assertThat(stats.totalConnections()).isEqualTo(1);
+      assertThat(stats.idleConnections()).isEqualTo(1);
+      assertThat(stats.runningCalls()).isZero();
+    }
+
+    @Test
+    @DisplayName("should run async calls on the configured dispatcher executor")
+    void shouldUseDispatcherExecutor() throws Exception {
+      AtomicInteger threadsCreated = new AtomicInteger();
+      ExecutorService executor =
+          Executors.newCachedThreadPool(
+              r -> {
+                threadsCreated.incrementAndGet();
+                return new Thread(r, "custom-dispatcher");
+              });
+      try {
+        MailBreezeHttpClient client =
+            MailBreezeHttpClient.builder()
+                .apiKey("sk_test_123")
+                .baseUrl(mockServer.url("/").toString())
+                .maxRequests(10)
+                .maxRequestsPerHost(10)
+                .dispatcherExecutor(executor)
+                .build();
+        mockServer.enqueue(
+            new MockResponse()
+                .setBody(
+                    """
+                          {"success": true, "data": {"id": "async"}}
+                          """));
+
+        JsonNode result = client.getAsync("/test", null, JsonNode.class).get(5, TimeUnit.SECONDS);
+
+        assertThat(result.get("id").asText()).isEqualTo("async");
+        assertThat(threadsCreated.get()).isPositive();
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    @DisplayName("should fall back to platform threads when virtual threads are unavailable")
+    void shouldDetectVirtualThreadSupport() {
+      OkHttpTransport transport = OkHttpTransport.builder().virtualThreads(true).build();
+      try {
+        assertThat(transport.usesVirtualThreads()).isEqualTo(VirtualThreads.isAvailable());
+        assertThat(OkHttpTransport.builder().build().usesVirtualThreads()).isFalse();
+      } finally {
+        transport.close();
+      }
+    }
+
+    @Test
+    @DisplayName("should run async calls on virtual threads")
+    void shouldRunAsyncCallsOnVirtualThreads() throws Exception {
+      Assumptions.assumeTrue(VirtualThreads.isAvailable(), "requires JDK 21+");
+      OkHttpTransport transport = OkHttpTransport.builder().virtualThreads(true).build();
+      try {
+        mockServer.enqueue(
+            new MockResponse()
+                .setBody(
+                    """
+                          {"success": true, "data": {}}
+                          """));
+        CompletableFuture<Thread> callbackThread = new CompletableFuture<>();
+        Request request = new Request.Builder().url(mockServer.url("/test")).build();
+
+        transport.enqueue(
+            this,
+            transport.callFactory(Duration.ofSeconds(5)).newCall(request),
+            new Callback() {
+              @Override
+              public void onFailure(Call call, IOException e) {
+                callbackThread.completeExceptionally(e);
+              }
+
+              @Override
+              public void onResponse(Call call, Response response) {
+                response.close();
+                callbackThread.complete(Thread.currentThread());
+              }
+            });
+
+        assertThat(VirtualThreads.isVirtual(callbackThread.get(5, TimeUnit.SECONDS))).isTrue();
+      } finally {
+        transport.close();
+      }
+    }
+
+    @Test
+    @DisplayName("should retry sync calls made from virtual threads")
+    void shouldRetrySyncCallsOnVirtualThreads() throws Exception {
+      Assumptions.assumeTrue(VirtualThreads.isAvailable(), "requires JDK 21+");
+      mockServer.enqueue(new MockResponse().setResponseCode(503).setBody("{}"));
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"id": "vt"}}
+                        """));
+
+      ExecutorService callers = VirtualThreads.newThreadPerTaskExecutor("test-caller-");
+      try {
+        JsonNode result =
+            callers
+                .submit(() -> httpClient.get("/test", null, JsonNode.class))
+                .get(10, TimeUnit.SECONDS);
+
+        assertThat(result.get("id").asText()).isEqualTo("vt");
+        assertThat(mockServer.getRequestCount()).isEqualTo(2);
+      } finally {
+        callers.shutdownNow();
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Shared Transport")
+  class SharedTransportTests {
+
+    private OkHttpTransport transport;
+
+    @BeforeEach
+    void setUp() {
+      transport = OkHttpTransport.builder().maxRequestsPerHost(1).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+      transport.close();
+    }
+
+    private MailBreezeHttpClient client(String apiKey) {
+      return MailBreezeHttpClient.builder()
+          .apiKey(apiKey)
+          .baseUrl(mockServer.url("/").toString())
+          .transport(transport)
+          .tenantId(apiKey)
+          .build();
+    }
+
+    @Test
+    @DisplayName("should share connections while keeping API keys per client")
+    void shouldShareConnections() throws Exception {
+      for (int i = 0; i < 2; i++) {
+        mockServer.enqueue(
+            new MockResponse()
+                .setBody(
+                    """
+                          {"success": true, "data": {}}
+                          """));
+      }
+
+      MailBreezeHttpClient tenantA = client("sk_test_a");
+      MailBreezeHttpClient tenantB = client("sk_test_b");
+      tenantA.get("/test", null, JsonNode.class);
+      tenantB.get("/test", null, JsonNode.class);
+
+      assertThat(mockServer.takeRequest().getHeader("X-API-Key")).isEqualTo("sk_test_a");
+      assertThat(mockServer.takeRequest().getHeader("X-API-Key")).isEqualTo("sk_test_b");
+      assertThat(tenantA.metrics().pool().totalConnections()).isEqualTo(1);
+      assertThat(tenantB.metrics().pool()).isEqualTo(transport.stats());
+    }
+
+    @Test
+    @DisplayName("should not let a busy tenant starve others")
+    void shouldQueueTenantsFairly() throws Exception {
+      for (int i = 0; i < 6; i++) {
+        mockServer.enqueue(
+            new MockResponse()
+                .setBodyDelay(50, TimeUnit.MILLISECONDS)
+                .setBody(
+                    """
+                          {"success": true, "data": {}}
+                          """));
+      }
+
+      MailBreezeHttpClient noisy = client("sk_test_noisy");
+      MailBreezeHttpClient quiet = client("sk_test_quiet");
+      var futures = new CompletableFuture[6];
+      for (int i = 0; i < 5; i++) {
+        futures[i] = noisy.getAsync("/noisy", null, JsonNode.class);
+      }
+      futures[5] = quiet.getAsync("/quiet", null, JsonNode.class);
+      CompletableFuture.allOf(futures).get(10, TimeUnit.SECONDS);
+
+      int quietPosition = -1;
+      for (int i = 0; i < 6; i++) {
+        if (mockServer.takeRequest().getPath().endsWith("/quiet")) {
+          quietPosition = i;
+        }
+      }
+      assertThat(quietPosition).isBetween(0, 2);
+    }
+  }
+
+  @Nested
+  @DisplayName("HTTP/2")
+  class Http2Tests {
+
+    @Test
+    @DisplayName("should multiplex concurrent calls on one h2c connection")
+    void shouldMultiplexOnOneConnection() throws Exception {
+      try (MockWebServer h2Server = new MockWebServer()) {
+        h2Server.setProtocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE));
+        h2Server.start();
+        for (int i = 0; i < 11; i++) {
+          h2Server.enqueue(
+              new MockResponse()
+                  .setBodyDelay(100, TimeUnit.MILLISECONDS)
+                  .setBody(
+                      """
+                            {"success": true, "data": {}}
+                            """));
+        }
+
+        MailBreezeHttpClient client =
+            MailBreezeHttpClient.builder()
+                .apiKey("sk_test_123")
+                .baseUrl(h2Server.url("/").toString())
+                .httpVersion(HttpVersion.H2_PRIOR_KNOWLEDGE)
+                .maxConcurrentStreams(10)
+                .build();
+        // Establish the connection first so concurrent calls do not race to open their own
+        client.get("/warmup", null, JsonNode.class);
+
+        var futures = new CompletableFuture[10];
+        for (int i = 0; i < 10; i++) {
+          futures[i] = client.getAsync("/test", null, JsonNode.class);
+        }
+        CompletableFuture.allOf(futures).get(10, TimeUnit.SECONDS);
+
+        List<ConnectionStats> connections = client.metrics().connections();
+        assertThat(connections).hasSize(1);
+        ConnectionStats stats = connections.get(0);
+        assertThat(stats.protocol()).isEqualTo("h2_prior_knowledge");
+        assertThat(stats.totalStreams()).isEqualTo(11);
+        assertThat(stats.peakStreams()).isGreaterThan(1);
+        assertThat(stats.activeStreams()).isZero();
+      }
+    }
+
+    @Test
+    @DisplayName("should carry one stream at a time on HTTP/1.1")
+    void shouldUseOneStreamPerHttp1Connection() {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {}}
+                        """));
+      MailBreezeHttpClient client =
+          MailBreezeHttpClient.builder()
+              .apiKey("sk_test_123")
+              .baseUrl(mockServer.url("/").toString())
+              .httpVersion(HttpVersion.HTTP_1_1)
+              .build();
+
+      client.get("/test", null, JsonNode.class);
+
+      assertThat(client.metrics().connections())
+          .singleElement()
+          .satisfies(
+              stats -> {
+                assertThat(stats.protocol()).isEqualTo("http/1.1");
+                assertThat(stats.peakStreams()).isEqualTo(1);
+              });
+    }
+  }
+
+  @Nested
+  @DisplayName("Request Compression")
+  class RequestCompressionTests {
+
+    private MailBreezeHttpClient client;
+
+    @BeforeEach
+    void setUp() {
+      client =
+          MailBreezeHttpClient.builder()
+              .apiKey("sk_test_123")
+              .baseUrl(mockServer.url("/").toString())
+              .requestCompressionThreshold(1024)
+              .build();
+    }
+
+    @Test
+    @DisplayName("should gzip bodies above the threshold")
+    void shouldGzipLargeBodies() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {}}
+                        """));
+      String html = "<p>Hello MailBreeze</p>".repeat(500);
+
+      client.post("/emails", Map.of("html", html), JsonNode.class, null);
+
+      RecordedRequest request = mockServer.takeRequest();
+      assertThat(request.getHeader("Content-Encoding")).isEqualTo("gzip");
+      try (GZIPInputStream gzip = new GZIPInputStream(request.getBody().inputStream())) {
+        JsonNode sent = objectMapper.readTree(gzip);
+        assertThat(sent.get("html").asText()).isEqualTo(html);
+      }
+
+      CompressionStats stats = client.metrics().compression();
+      assertThat(stats.compressedRequests()).isEqualTo(1);
+      assertThat(stats.rawBytes()).isGreaterThan(html.length());
+      assertThat(stats.compressedBytes()).isEqualTo(request.getBodySize());
+      assertThat(stats.ratio()).isLessThan(0.1);
+    }
+
+    @Test
+    @DisplayName("should compress once and resend the same bytes on retry")
+    void shouldCompressOnceAcrossRetries() throws Exception {
+      mockServer.enqueue(new MockResponse().setResponseCode(500).setBody("{}"));
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {}}
+                        """));
+      String html = "<p>Hello MailBreeze</p>".repeat(500);
+
+      client.post("/emails", Map.of("html", html), JsonNode.class, null);
+
+      RecordedRequest first = mockServer.takeRequest();
+      RecordedRequest second = mockServer.takeRequest();
+      assertThat(second.getBody().readByteString()).isEqualTo(first.getBody().readByteString());
+      assertThat(first.getHeader("Content-Length"))
+          .isEqualTo(String.valueOf(first.getBodySize()));
+      CompressionStats stats = client.metrics().compression();
+      assertThat(stats.compressedRequests()).isEqualTo(1);
+      assertThat(stats.compressedBytes()).isEqualTo(first.getBodySize());
+    }
+
+    @Test
+    @DisplayName("should tag each compressed request with its own sizes")
+    void shouldTagRequestWithSizes() throws Exception {
+      String html = "<p>Hello MailBreeze</p>".repeat(500);
+
+      Request request = client.jsonRequest("POST", "/emails", Map.of("html", html), null);
+
+      CompressionStats sizes = request.tag(CompressionStats.class);
+      assertThat(sizes).isNotNull();
+      assertThat(sizes.compressedRequests()).isEqualTo(1);
+      assertThat(sizes.rawBytes()).isGreaterThan(html.length());
+      assertThat(sizes.compressedBytes()).isEqualTo(request.body().contentLength());
+      Request small = client.jsonRequest("POST", "/emails", Map.of("to", "a@b.c"), null);
+      assertThat(small.tag(CompressionStats.class)).isNull();
+    }
+
+    @Test
+    @DisplayName("should send small bodies uncompressed")
+    void shouldNotGzipSmallBodies() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {}}
+                        """));
+
+      client.post("/emails", Map.of("to", "user@example.com"), JsonNode.class, null);
+
+      RecordedRequest request = mockServer.takeRequest();
+      assertThat(request.getHeader("Content-Encoding")).isNull();
+      assertThat(request.getBody().readUtf8()).contains("user@example.com");
+      assertThat(client.metrics().compression().compressedRequests()).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("Response Parsing")
+  class ResponseParsingTests {
+
+    @Test
+    @DisplayName("should parse data from success response envelope")
+    void shouldParseDataFromEnvelope() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {
+                            "success": true,
+                            "data": {
+                                "id": "email_123",
+                                "from": "test@example.com",
+                                "status": "sent"
+                            },
+                            "meta": {
                                 "requestId": "req_xyz"
                             }
                         }
@@ -656,5 +2347,116 @@ class HttpClientTest {
           .isInstanceOf(MailBreezeException.class)
           .hasMessageContaining("Domain not verified");
     }
+
+    @Test
+    @DisplayName("should bind data directly into typed response")
+    void shouldBindDataIntoTypedResponse() {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {
+                            "meta": {"requestId": "req_xyz", "tags": [1, 2, {"a": null}]},
+                            "data": {"id": "email_123", "status": "sent", "extra": [1, 2]},
+                            "success": true
+                        }
+                        """));
+
+      SendEmailResult result = httpClient.get("/emails/email_123", null, SendEmailResult.class);
+
+      assertThat(result.getId()).isEqualTo("email_123");
+      assertThat(result.getStatus()).isEqualTo(EmailStatus.SENT);
+    }
+
+    @Test
+    @DisplayName("should return null for null data")
+    void shouldReturnNullForNullData() {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": null}
+                        """));
+
+      assertThat(httpClient.get("/test", null, SendEmailResult.class)).isNull();
+    }
+
+    @Test
+    @DisplayName("should report API error when error follows data")
+    void shouldReportApiErrorAfterData() {
+      mockServer.enqueue(
+          new MockResponse()
+              .setResponseCode(400)
+              .setBody(
+                  """
+                        {
+                            "data": {"id": "ignored"},
+                            "success": false,
+                            "error": {"code": "VALIDATION_ERROR", "message": "Bad from"}
+                        }
+                        """));
+
+      assertThatThrownBy(() -> httpClient.get("/test", null, SendEmailResult.class))
+          .isInstanceOf(ValidationException.class)
+          .hasMessageContaining("Bad from");
+    }
+
+    @Test
+    @DisplayName("should throw PARSE_ERROR when data does not match type")
+    void shouldThrowParseErrorOnDataMismatch() {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"id": "email_1", "status": "not-a-status"}}
+                        """));
+
+      assertThatThrownBy(() -> httpClient.get("/test", null, SendEmailResult.class))
+          .isInstanceOf(MailBreezeException.class)
+          .satisfies(
+              e -> assertThat(((MailBreezeException) e).getCode()).isEqualTo("PARSE_ERROR"));
+    }
+
+    @Test
+    @DisplayName("should report a read failure inside data as a read error, not bad data")
+    void shouldPropagateReadFailureInData() {
+      EnvelopeDecoder decoder = new EnvelopeDecoder(new JsonCodec(false));
+      String prefix = "{\"success\": true, \"data\": {\"id\": \"email_1\", ";
+      byte[] head = prefix.getBytes(StandardCharsets.UTF_8);
+      InputStream in =
+          new SequenceInputStream(
+              new ByteArrayInputStream(head),
+              new InputStream() {
+                @Override
+                public int read() throws IOException {
+                  throw new IOException("connection reset");
+                }
+              });
+
+      assertThatThrownBy(() -> decoder.decode(in, SendEmailResult.class))
+          .isInstanceOf(IOException.class)
+          .isNotInstanceOf(JsonProcessingException.class)
+          .hasMessage("connection reset");
+    }
+
+    @Test
+    @DisplayName("should throw PARSE_ERROR for non-envelope body")
+    void shouldThrowParseErrorForNonEnvelopeBody() {
+      mockServer.enqueue(new MockResponse().setBody("[1, 2, 3]"));
+
+      assertThatThrownBy(() -> httpClient.get("/test", null, JsonNode.class))
+          .isInstanceOf(MailBreezeException.class)
+          .satisfies(
+              e -> assertThat(((MailBreezeException) e).getCode()).isEqualTo("PARSE_ERROR"));
+    }
+
+    @Test
+    @DisplayName("should map unparseable error body to status exception")
+    void shouldMapUnparseableErrorBodyToStatus() {
+      mockServer.enqueue(new MockResponse().setResponseCode(404).setBody("<html>Not Found</html>"));
+
+      assertThatThrownBy(() -> httpClient.get("/test", null, SendEmailResult.class))
+          .isInstanceOf(NotFoundException.class);
+    }
   }
 }
@@ -0,0 +1,140 @@
+package com.mailbreeze.http;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.mailbreeze.exceptions.ConcurrencyLimitExceededException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.*;
+
+@DisplayName("InFlightLimiter")
+class InFlightLimiterTest {
+
+  @Test
+  @DisplayName("should fail fast over the cap without queuing")
+  void shouldFailFastOverCap() {
+    InFlightLimiter limiter = new InFlightLimiter(1, OverflowPolicy.FAIL_FAST);
+
+    assertThat(limiter.acquire()).isCompleted();
+    CompletableFuture<Void> second = limiter.acquire();
+
+    assertThatThrownBy(second::get)
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(ConcurrencyLimitExceededException.class);
+    assertThat(limiter.stats()).isEqualTo(new InFlightStats(1, 1, 0, 1, 0, 0));
+
+    limiter.release();
+    assertThat(limiter.acquire()).isCompleted();
+  }
+
+  @Test
+  @DisplayName("should grant queued permits in order as permits are released")
+  void shouldGrantInOrder() {
+    InFlightLimiter limiter = new InFlightLimiter(1, OverflowPolicy.WAIT);
+
+    limiter.acquire();
+    CompletableFuture<Void> second = limiter.acquire();
+    CompletableFuture<Void> third = limiter.acquire();
+    assertThat(second).isNotDone();
+    assertThat(limiter.stats().queued()).isEqualTo(2);
+
+    limiter.release();
+    assertThat(second).isCompleted();
+    assertThat(third).isNotDone();
+
+    limiter.release();
+    assertThat(third).isCompleted();
+    InFlightStats stats = limiter.stats();
+    assertThat(stats.inFlight()).isEqualTo(1);
+    assertThat(stats.queued()).isZero();
+    assertThat(stats.permitWaits()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("should skip cancelled waiters")
+  void shouldSkipCancelledWaiters() {
+    InFlightLimiter limiter = new InFlightLimiter(1, OverflowPolicy.WAIT);
+
+    limiter.acquire();
+    CompletableFuture<Void> cancelled = limiter.acquire();
+    CompletableFuture<Void> next = limiter.acquire();
+    cancelled.cancel(false);
+
+    limiter.release();
+    assertThat(next).isCompleted();
+    assertThat(limiter.stats().inFlight()).isEqualTo(1);
+
+    limiter.release();
+    assertThat(limiter.stats().inFlight()).isZero();
+  }
+
+  @Test
+  @DisplayName("should not let new callers overtake queued ones")
+  void shouldNotOvertakeQueued() {
+    InFlightLimiter limiter = new InFlightLimiter(1, OverflowPolicy.WAIT);
+
+    limiter.acquire();
+    CompletableFuture<Void> queued = limiter.acquire();
+    limiter.release();
+    CompletableFuture<Void> late = limiter.acquire();
+
+    assertThat(queued).isCompleted();
+    assertThat(late).isNotDone();
+  }
+
+  @Test
+  @DisplayName("should drop cancelled waiters from the queue")
+  void shouldDropCancelledWaiters() {
+    InFlightLimiter limiter = new InFlightLimiter(1, OverflowPolicy.WAIT);
+
+    limiter.acquire();
+    List<CompletableFuture<Void>> cancelled = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      cancelled.add(limiter.acquire());
+    }
+    CompletableFuture<Void> next = limiter.acquire();
+    cancelled.forEach(waiter -> waiter.cancel(false));
+    assertThat(limiter.stats().queued()).isEqualTo(1);
+
+    limiter.release();
+    assertThat(next).isCompleted();
+    assertThat(limiter.stats().permitWaits()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should complete grants on the grant executor")
+  void shouldCompleteGrantsOnExecutor() {
+    List<Runnable> grants = new ArrayList<>();
+    InFlightLimiter limiter = new InFlightLimiter(1, OverflowPolicy.WAIT, grants::add);
+
+    limiter.acquire();
+    CompletableFuture<Void> queued = limiter.acquire();
+    limiter.release();
+
+    assertThat(queued).isNotDone();
+    assertThat(grants).hasSize(1);
+    grants.get(0).run();
+    assertThat(queued).isCompleted();
+    assertThat(limiter.stats().inFlight()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should pass the permit on when a waiter is cancelled before its grant runs")
+  void shouldPassOnPermitOfLateCancel() {
+    List<Runnable> grants = new ArrayList<>();
+    InFlightLimiter limiter = new InFlightLimiter(1, OverflowPolicy.WAIT, grants::add);
+
+    limiter.acquire();
+    CompletableFuture<Void> cancelled = limiter.acquire();
+    CompletableFuture<Void> next = limiter.acquire();
+    limiter.release();
+    cancelled.cancel(false);
+    grants.remove(0).run();
+    grants.remove(0).run();
+
+    assertThat(next).isCompleted();
+    assertThat(limiter.stats().inFlight()).isEqualTo(1);
+  }
+}
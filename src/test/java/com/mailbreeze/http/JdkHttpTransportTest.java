@@ -0,0 +1,277 @@
+package com.mailbreeze.http;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mailbreeze.exceptions.*;
+import com.mailbreeze.models.SendEmailResult;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.*;
+
+@DisplayName("JdkHttpTransport")
+class JdkHttpTransportTest {
+
+  private MockWebServer mockServer;
+  private MailBreezeHttpClient httpClient;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    mockServer = new MockWebServer();
+    mockServer.start();
+
+    httpClient =
+        MailBreezeHttpClient.builder()
+            .apiKey("sk_test_123")
+            .baseUrl(mockServer.url("/").toString())
+            .timeout(Duration.ofSeconds(5))
+            .maxRetries(0)
+            .transport(JdkHttpTransport.builder().httpVersion(HttpVersion.HTTP_1_1).build())
+            .build();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    mockServer.shutdown();
+  }
+
+  @Test
+  @DisplayName("should send GET request with headers and bind typed response")
+  void shouldSendGetRequest() throws Exception {
+    mockServer.enqueue(
+        new MockResponse()
+            .setHeader("Content-Type", "application/json")
+            .setBody(
+                """
+                    {"success": true, "data": {"id": "email_123", "status": "sent"}}
+                    """));
+
+    SendEmailResult result =
+        httpClient.get("/emails/email_123", Map.of("expand", "events"), SendEmailResult.class);
+
+    assertThat(result.getId()).isEqualTo("email_123");
+    RecordedRequest request = mockServer.takeRequest();
+    assertThat(request.getMethod()).isEqualTo("GET");
+    assertThat(request.getPath()).isEqualTo("/api/v1/emails/email_123?expand=events");
+    assertThat(request.getHeader("X-API-Key")).isEqualTo("sk_test_123");
+    assertThat(request.getHeader("User-Agent")).startsWith("mailbreeze-java/");
+  }
+
+  @Test
+  @DisplayName("should send POST body and idempotency key")
+  void shouldSendPostRequest() throws Exception {
+    mockServer.enqueue(
+        new MockResponse()
+            .setResponseCode(201)
+            .setBody(
+                """
+                    {"success": true, "data": {"id": "email_456"}}
+                    """));
+
+    RequestOptions options = RequestOptions.builder().idempotencyKey("key-1").build();
+    JsonNode result =
+        httpClient.post("/emails", Map.of("from", "a@example.com"), JsonNode.class, options);
+
+    assertThat(result.get("id").asText()).isEqualTo("email_456");
+    RecordedRequest request = mockServer.takeRequest();
+    assertThat(request.getHeader("Content-Type")).startsWith("application/json");
+    assertThat(request.getHeader("X-Idempotency-Key")).isEqualTo("key-1");
+    assertThat(request.getBody().readUtf8()).contains("a@example.com");
+  }
+
+  @Test
+  @DisplayName("should send gzip-compressed bodies")
+  void shouldSendGzipBodies() throws Exception {
+    MailBreezeHttpClient client =
+        MailBreezeHttpClient.builder()
+            .apiKey("sk_test_123")
+            .baseUrl(mockServer.url("/").toString())
+            .requestCompressionThreshold(0)
+            .transport(JdkHttpTransport.builder().httpVersion(HttpVersion.HTTP_1_1).build())
+            .build();
+    mockServer.enqueue(
+        new MockResponse()
+            .setBody(
+                """
+                    {"success": true, "data": {}}
+                    """));
+
+    client.post("/emails", Map.of("html", "<p>hi</p>"), JsonNode.class, null);
+
+    RecordedRequest request = mockServer.takeRequest();
+    assertThat(request.getHeader("Content-Encoding")).isEqualTo("gzip");
+    try (GZIPInputStream gzip = new GZIPInputStream(request.getBody().inputStream())) {
+      assertThat(new ObjectMapper().readTree(gzip).get("html").asText()).isEqualTo("<p>hi</p>");
+    }
+  }
+
+  @Test
+  @DisplayName("should map error responses to exceptions")
+  void shouldMapErrors() {
+    mockServer.enqueue(
+        new MockResponse()
+            .setResponseCode(404)
+            .setHeader("X-Request-Id", "req_404")
+            .setBody(
+                """
+                    {"success": false, "error": {"code": "NOT_FOUND", "message": "Missing"}}
+                    """));
+
+    assertThatThrownBy(() -> httpClient.get("/emails/none", null, JsonNode.class))
+        .isInstanceOf(NotFoundException.class)
+        .satisfies(e -> assertThat(((NotFoundException) e).getRequestId()).isEqualTo("req_404"));
+  }
+
+  @Test
+  @DisplayName("should complete async calls")
+  void shouldCompleteAsyncCalls() throws Exception {
+    mockServer.enqueue(
+        new MockResponse()
+            .setBody(
+                """
+                    {"success": true, "data": {"id": "async_1"}}
+                    """));
+    mockServer.enqueue(new MockResponse().setResponseCode(401).setBody("{\"success\": false}"));
+
+    JsonNode result = httpClient.getAsync("/test", null, JsonNode.class).get(5, TimeUnit.SECONDS);
+    assertThat(result.get("id").asText()).isEqualTo("async_1");
+
+    assertThatThrownBy(
+            () -> httpClient.getAsync("/test", null, JsonNode.class).get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(AuthenticationException.class);
+  }
+
+  @Test
+  @DisplayName("should report network errors")
+  void shouldReportNetworkErrors() throws IOException {
+    mockServer.shutdown();
+
+    assertThatThrownBy(() -> httpClient.get("/test", null, JsonNode.class))
+        .isInstanceOf(MailBreezeException.class)
+        .satisfies(
+            e -> assertThat(((MailBreezeException) e).getCode()).isEqualTo("NETWORK_ERROR"));
+  }
+
+  @Test
+  @DisplayName("should apply the call timeout to the response body")
+  void shouldTimeOutSlowBody() {
+    mockServer.enqueue(
+        new MockResponse()
+            .setHeader("Content-Type", "application/json")
+            .setBody("{\"success\": true, \"data\": {\"id\": \"email_123\"}}")
+            .throttleBody(8, 1, TimeUnit.SECONDS));
+    RequestOptions options =
+        RequestOptions.builder().attemptTimeout(Duration.ofMillis(300)).build();
+
+    long start = System.nanoTime();
+    assertThatThrownBy(() -> httpClient.get("/emails/email_123", null, JsonNode.class, options))
+        .isInstanceOf(MailBreezeException.class);
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2000);
+  }
+
+  @Test
+  @DisplayName("should report a call timeout before the headers as a timeout")
+  void shouldTimeOutBeforeHeaders() throws Exception {
+    okhttp3.Call.Factory factory =
+        JdkHttpTransport.builder()
+            .httpVersion(HttpVersion.HTTP_1_1)
+            .build()
+            .callFactory(Duration.ofSeconds(5));
+    okhttp3.Request request = new okhttp3.Request.Builder().url(mockServer.url("/")).build();
+    for (int i = 0; i < 2; i++) {
+      mockServer.enqueue(
+          new MockResponse().setHeadersDelay(2, TimeUnit.SECONDS).setBody("{\"success\": true}"));
+    }
+
+    okhttp3.Call sync = factory.newCall(request);
+    sync.timeout().timeout(200, TimeUnit.MILLISECONDS);
+    assertThatThrownBy(sync::execute)
+        .isInstanceOf(InterruptedIOException.class)
+        .hasMessage("timeout");
+
+    okhttp3.Call async = factory.newCall(request);
+    async.timeout().timeout(200, TimeUnit.MILLISECONDS);
+    CompletableFuture<IOException> failure = new CompletableFuture<>();
+    async.enqueue(
+        new okhttp3.Callback() {
+          @Override
+          public void onFailure(okhttp3.Call call, IOException e) {
+            failure.complete(e);
+          }
+
+          @Override
+          public void onResponse(okhttp3.Call call, okhttp3.Response response) {
+            response.close();
+            failure.completeExceptionally(new AssertionError("expected a timeout"));
+          }
+        });
+    assertThat(failure.get(2, TimeUnit.SECONDS))
+        .isInstanceOf(InterruptedIOException.class)
+        .hasMessage("timeout");
+  }
+
+  @Test
+  @DisplayName("should stop an exchange cancelled right after it started")
+  void shouldCancelStartedExchange() throws Exception {
+    mockServer.enqueue(
+        new MockResponse().setHeadersDelay(2, TimeUnit.SECONDS).setBody("{\"success\": true}"));
+    okhttp3.Call call =
+        JdkHttpTransport.builder()
+            .httpVersion(HttpVersion.HTTP_1_1)
+            .build()
+            .callFactory(Duration.ofSeconds(5))
+            .newCall(new okhttp3.Request.Builder().url(mockServer.url("/")).build());
+    CompletableFuture<IOException> failure = new CompletableFuture<>();
+
+    call.enqueue(
+        new okhttp3.Callback() {
+          @Override
+          public void onFailure(okhttp3.Call call, IOException e) {
+            failure.complete(e);
+          }
+
+          @Override
+          public void onResponse(okhttp3.Call call, okhttp3.Response response) {
+            response.close();
+            failure.completeExceptionally(new AssertionError("expected a cancel"));
+          }
+        });
+    call.cancel();
+
+    assertThat(failure.get(1, TimeUnit.SECONDS)).hasMessage("Canceled");
+    assertThat(call.isCanceled()).isTrue();
+  }
+
+  @Test
+  @DisplayName("should keep the call timeout on cloned calls")
+  void shouldCloneCallTimeout() {
+    okhttp3.Call call =
+        JdkHttpTransport.builder()
+            .build()
+            .callFactory(Duration.ofSeconds(5))
+            .newCall(new okhttp3.Request.Builder().url(mockServer.url("/")).build());
+    call.timeout().timeout(250, TimeUnit.MILLISECONDS);
+
+    assertThat(call.clone().timeout().timeoutNanos())
+        .isEqualTo(TimeUnit.MILLISECONDS.toNanos(250));
+  }
+
+  @Test
+  @DisplayName("should reject HTTP/2 prior knowledge")
+  void shouldRejectPriorKnowledge() {
+    assertThatThrownBy(
+            () -> JdkHttpTransport.builder().httpVersion(HttpVersion.H2_PRIOR_KNOWLEDGE))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,187 @@
+package com.mailbreeze.http;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mailbreeze.models.BatchVerifyParams;
+import com.mailbreeze.models.Contact;
+import com.mailbreeze.models.CreateContactParams;
+import com.mailbreeze.models.SendEmailParams;
+import com.mailbreeze.models.UpdateContactParams;
+import com.mailbreeze.models.enums.ConsentType;
+import com.mailbreeze.models.enums.ContactStatus;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.*;
+
+@DisplayName("JsonCodec")
+class JsonCodecTest {
+
+  private static final String CONTACT =
+      """
+      {"id": "contact_1", "email": "user@example.com", "status": "active",
+       "created_at": "2024-01-15T10:30:00Z", "unknown_field": true}
+      """;
+
+  @Test
+  @DisplayName("should cache one reader and writer per type")
+  void shouldCachePerType() {
+    JsonCodec codec = new JsonCodec(false);
+
+    assertThat(codec.reader(Contact.class)).isSameAs(codec.reader(Contact.class));
+    assertThat(codec.writer(SendEmailParams.class)).isSameAs(codec.writer(SendEmailParams.class));
+  }
+
+  @Test
+  @DisplayName("should hand out pre-resolved readers and writers")
+  void shouldPreResolve() {
+    JsonCodec codec = new JsonCodec(true);
+    codec.preResolve(List.of(Contact.class, SendEmailParams.class));
+
+    assertThat(codec.reader(Contact.class)).isSameAs(codec.reader(Contact.class));
+    assertThat(codec.writer(SendEmailParams.class)).isSameAs(codec.writer(SendEmailParams.class));
+  }
+
+  @Test
+  @DisplayName("should register Blackbird under the performance profile when it is present")
+  void shouldRegisterBlackbird() {
+    assertThat(new JsonCodec(true).blackbird()).isTrue();
+    assertThat(new JsonCodec(false).blackbird()).isFalse();
+  }
+
+  @Test
+  @DisplayName("should bind and write the same JSON with and without the profile")
+  void shouldMatchWithoutProfile() throws Exception {
+    SendEmailParams params =
+        SendEmailParams.builder()
+            .from("sender@example.com")
+            .to("recipient@example.com")
+            .subject("Hello")
+            .replyTo("support@example.com")
+            .build();
+
+    for (boolean profile : new boolean[] {false, true}) {
+      JsonCodec codec = new JsonCodec(profile);
+      Contact contact = codec.reader(Contact.class).readValue(CONTACT);
+
+      assertThat(contact.getEmail()).isEqualTo("user@example.com");
+      assertThat(contact.getStatus()).isEqualTo(ContactStatus.ACTIVE);
+      assertThat(contact.getCreatedAt()).isEqualTo(Instant.parse("2024-01-15T10:30:00Z"));
+      assertThat(codec.writer(SendEmailParams.class).writeValueAsString(params))
+          .contains("\"reply_to\":\"support@example.com\"")
+          .doesNotContain("null");
+    }
+  }
+
+  @Nested
+  @DisplayName("Hand-written param serializers")
+  class ParamSerializerTests {
+
+    // Ignores @JsonSerialize on the param classes, so they go through the bean serializer
+    private final ObjectMapper beanMapper =
+        new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .setAnnotationIntrospector(
+                new JacksonAnnotationIntrospector() {
+                  @Override
+                  public Object findSerializer(Annotated a) {
+                    return a instanceof AnnotatedClass ? null : super.findSerializer(a);
+                  }
+                });
+
+    private final JsonCodec codec = new JsonCodec(false);
+
+    private void assertSameAsBean(Object params) throws Exception {
+      assertThat(codec.writer(params.getClass()).writeValueAsString(params))
+          .isEqualTo(beanMapper.writeValueAsString(params));
+    }
+
+    private Map<String, Object> variables() {
+      Map<String, Object> variables = new LinkedHashMap<>();
+      variables.put("name", "Ada \"Lovelace\" \u00e9");
+      variables.put("count", 5);
+      variables.put("nested", Map.of("items", List.of(1, 2)));
+      variables.put("missing", null);
+      variables.put("sentAt", Instant.parse("2024-01-15T10:30:00.5Z"));
+      return variables;
+    }
+
+    @Test
+    @DisplayName("should write SendEmailParams exactly as the bean serializer does")
+    void shouldMatchSendEmailParams() throws Exception {
+      List<String> cc = new ArrayList<>(List.of("cc@example.com"));
+      cc.add(null);
+      Map<String, String> headers = new LinkedHashMap<>();
+      headers.put("X-Campaign", "spring");
+      headers.put("X-Empty", null);
+
+      assertSameAsBean(
+          SendEmailParams.builder()
+              .from("sender@example.com")
+              .to("recipient@example.com")
+              .subject("Hello")
+              .html("<p>Caf\u00e9 \u2014 \"quoted\"</p>")
+              .text("Hello")
+              .templateId("tpl_1")
+              .variables(variables())
+              .attachmentIds(List.of("att_1"))
+              .replyTo("support@example.com")
+              .cc(cc)
+              .bcc(List.of())
+              .headers(headers)
+              .tags(List.of("welcome"))
+              .build());
+      assertSameAsBean(
+          SendEmailParams.builder()
+              .from("sender@example.com")
+              .to("recipient@example.com")
+              .subject("Hello")
+              .build());
+    }
+
+    @Test
+    @DisplayName("should write contact params exactly as the bean serializer does")
+    void shouldMatchContactParams() throws Exception {
+      assertSameAsBean(
+          CreateContactParams.builder()
+              .email("ada@example.com")
+              .firstName("Ada")
+              .lastName("Lovelace")
+              .phoneNumber("+2348012345678")
+              .customFields(variables())
+              .source("api")
+              .consentType(ConsentType.LEGITIMATE_INTEREST)
+              .consentSource("signup_form")
+              .consentTimestamp(Instant.parse("2024-01-15T10:30:00.123456789Z"))
+              .consentIpAddress("192.0.2.1")
+              .build());
+      assertSameAsBean(CreateContactParams.builder().email("ada@example.com").build());
+      assertSameAsBean(
+          UpdateContactParams.builder()
+              .firstName("Ada")
+              .customFields(variables())
+              .consentType(ConsentType.EXPLICIT)
+              .consentTimestamp(Instant.parse("2024-01-15T10:30:00Z"))
+              .build());
+      assertSameAsBean(UpdateContactParams.builder().build());
+    }
+
+    @Test
+    @DisplayName("should write a large BatchVerifyParams exactly as the bean serializer does")
+    void shouldMatchBatchVerifyParams() throws Exception {
+      List<String> emails = new ArrayList<>();
+      for (int i = 0; i < 10_000; i++) {
+        emails.add("user" + i + "@example.com");
+      }
+
+      assertSameAsBean(BatchVerifyParams.of(emails));
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package com.mailbreeze.http;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.*;
+
+@DisplayName("RateLimiter")
+class RateLimiterTest {
+
+  private final AtomicLong now = new AtomicLong(1_000_000_000L);
+  private RateLimiter limiter;
+
+  @BeforeEach
+  void setUp() {
+    limiter = new RateLimiter(Map.of(EndpointFamily.EMAILS, new RateLimit(10, 2)), now::get);
+  }
+
+  private void advanceMillis(long millis) {
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+  }
+
+  private static Response response(int code, String... headers) {
+    Response.Builder builder =
+        new Response.Builder()
+            .request(new Request.Builder().url("https://api.mailbreeze.com/api/v1/emails").build())
+            .protocol(Protocol.HTTP_1_1)
+            .code(code)
+            .message("");
+    for (int i = 0; i < headers.length; i += 2) {
+      builder.header(headers[i], headers[i + 1]);
+    }
+    return builder.build();
+  }
+
+  @Test
+  @DisplayName("should allow the burst and then pace at the configured rate")
+  void shouldPaceAfterBurst() {
+    assertThat(limiter.reserve(EndpointFamily.EMAILS)).isZero();
+    assertThat(limiter.reserve(EndpointFamily.EMAILS)).isZero();
+    assertThat(limiter.reserve(EndpointFamily.EMAILS)).isEqualTo(100);
+    assertThat(limiter.reserve(EndpointFamily.EMAILS)).isEqualTo(200);
+
+    advanceMillis(200);
+    assertThat(limiter.reserve(EndpointFamily.EMAILS)).isEqualTo(100);
+
+    RateLimitStats stats = limiter.stats().get(EndpointFamily.EMAILS);
+    assertThat(stats.throttledRequests()).isEqualTo(3);
+    assertThat(stats.totalWaitMillis()).isEqualTo(400);
+  }
+
+  @Test
+  @DisplayName("should not limit unconfigured families")
+  void shouldIgnoreUnconfiguredFamilies() {
+    for (int i = 0; i < 100; i++) {
+      assertThat(limiter.reserve(EndpointFamily.CONTACTS)).isZero();
+    }
+    assertThat(limiter.stats()).containsOnlyKeys(EndpointFamily.EMAILS);
+  }
+
+  @Test
+  @DisplayName("should refill up to the burst while idle")
+  void shouldRefillWhileIdle() {
+    limiter.reserve(EndpointFamily.EMAILS);
+    limiter.reserve(EndpointFamily.EMAILS);
+
+    advanceMillis(10_000);
+
+    assertThat(limiter.stats().get(EndpointFamily.EMAILS).availablePermits()).isEqualTo(2.0);
+    assertThat(limiter.reserve(EndpointFamily.EMAILS)).isZero();
+    assertThat(limiter.reserve(EndpointFamily.EMAILS)).isZero();
+    assertThat(limiter.reserve(EndpointFamily.EMAILS)).isPositive();
+  }
+
+  @Test
+  @DisplayName("should block until Retry-After seconds have passed")
+  void shouldBlockOnRetryAfterSeconds() {
+    limiter.observe(EndpointFamily.EMAILS, response(429, "Retry-After", "3"));
+
+    assertThat(limiter.reserve(EndpointFamily.EMAILS)).isEqualTo(3000);
+  }
+
+  @Test
+  @DisplayName("should adapt the rate from X-RateLimit headers")
+  void shouldAdaptFromRateLimitHeaders() {
+    limiter.observe(
+        EndpointFamily.EMAILS,
+        response(200, "X-RateLimit-Remaining", "50", "X-RateLimit-Reset", "10"));
+
+    assertThat(limiter.stats().get(EndpointFamily.EMAILS).permitsPerSecond()).isEqualTo(5.0);
+    limiter.reserve(EndpointFamily.EMAILS);
+    limiter.reserve(EndpointFamily.EMAILS);
+    assertThat(limiter.reserve(EndpointFamily.EMAILS)).isEqualTo(200);
+  }
+
+  @Test
+  @DisplayName("should block until reset when no requests remain")
+  void shouldBlockWhenExhausted() {
+    limiter.observe(
+        EndpointFamily.EMAILS,
+        response(200, "X-RateLimit-Remaining", "0", "X-RateLimit-Reset", "5"));
+
+    assertThat(limiter.reserve(EndpointFamily.EMAILS)).isEqualTo(5000);
+  }
+
+  @Test
+  @DisplayName("should parse Retry-After as seconds or HTTP-date")
+  void shouldParseRetryAfter() {
+    String date =
+        DateTimeFormatter.RFC_1123_DATE_TIME.format(
+            ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30));
+
+    assertThat(RateLimiter.parseRetryAfterSeconds("120")).isEqualTo(120L);
+    assertThat(RateLimiter.parseRetryAfterSeconds(date)).isBetween(28L, 31L);
+    assertThat(RateLimiter.parseRetryAfterSeconds("Wed, 21 Oct 2015 07:28:00 GMT")).isZero();
+    assertThat(RateLimiter.parseRetryAfterSeconds("soon")).isNull();
+    assertThat(RateLimiter.parseRetryAfterSeconds(null)).isNull();
+  }
+}
@@ -0,0 +1,149 @@
+package com.mailbreeze.http;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.*;
+
+@DisplayName("RetryScheduler")
+class RetrySchedulerTest {
+
+  private RetryScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    scheduler = new RetryScheduler(1, 8);
+  }
+
+  @Test
+  @DisplayName("should complete waits after their delay")
+  void shouldCompleteAfterDelay() throws Exception {
+    long start = System.nanoTime();
+
+    scheduler.delay(50).get(5, TimeUnit.SECONDS);
+
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(50);
+    RetryStats stats = scheduler.stats();
+    assertThat(stats.pendingRetries()).isZero();
+    assertThat(stats.completedWaits()).isEqualTo(1);
+    assertThat(stats.totalWaitMillis()).isGreaterThanOrEqualTo(50);
+  }
+
+  @Test
+  @DisplayName("should complete immediately for non-positive delays")
+  void shouldCompleteImmediately() {
+    assertThat(scheduler.delay(0)).isDone();
+    assertThat(scheduler.stats().completedWaits()).isZero();
+  }
+
+  @Test
+  @DisplayName("should leave timers out of retry statistics")
+  void shouldNotCountTimers() throws Exception {
+    CompletableFuture<Void> timer = scheduler.timer(20);
+    assertThat(scheduler.stats().pendingRetries()).isZero();
+
+    timer.get(5, TimeUnit.SECONDS);
+    assertThat(scheduler.stats().completedWaits()).isZero();
+  }
+
+  @Test
+  @DisplayName("should handle delays spanning several wheel rotations")
+  void shouldHandleMultipleRotations() throws Exception {
+    List<CompletableFuture<Void>> waits = new ArrayList<>();
+    for (int delay = 5; delay <= 60; delay += 5) {
+      waits.add(scheduler.delay(delay));
+    }
+    assertThat(scheduler.stats().pendingRetries()).isPositive();
+
+    CompletableFuture.allOf(waits.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+    assertThat(scheduler.stats().pendingRetries()).isZero();
+    assertThat(scheduler.stats().completedWaits()).isEqualTo(12);
+  }
+
+  @Test
+  @DisplayName("should drop cancelled waits")
+  void shouldDropCancelledWaits() throws Exception {
+    CompletableFuture<Void> wait = scheduler.delay(10_000);
+    assertThat(scheduler.stats().pendingRetries()).isEqualTo(1);
+
+    wait.cancel(false);
+
+    assertThat(scheduler.stats().pendingRetries()).isZero();
+    assertThat(scheduler.stats().completedWaits()).isZero();
+    scheduler.delay(5).get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  @DisplayName("should track endpoint pauses")
+  void shouldTrackEndpointPauses() throws Exception {
+    scheduler.pause(EndpointFamily.EMAILS, 100);
+    scheduler.pause(EndpointFamily.EMAILS, 20);
+
+    assertThat(scheduler.pauseRemaining(EndpointFamily.EMAILS)).isBetween(21L, 101L);
+    assertThat(scheduler.pauseRemaining(EndpointFamily.CONTACTS)).isZero();
+    assertThat(scheduler.stats().pausedEndpoints()).containsExactly(EndpointFamily.EMAILS);
+
+    Thread.sleep(120);
+    assertThat(scheduler.pauseRemaining(EndpointFamily.EMAILS)).isZero();
+    assertThat(scheduler.stats().pausedEndpoints()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should map paths to endpoint families")
+  void shouldMapEndpointFamilies() {
+    assertThat(EndpointFamily.of("/emails")).isEqualTo(EndpointFamily.EMAILS);
+    assertThat(EndpointFamily.of("/emails/email_123/cancel")).isEqualTo(EndpointFamily.EMAILS);
+    assertThat(EndpointFamily.of("/contact-lists/lst_1")).isEqualTo(EndpointFamily.LISTS);
+    assertThat(EndpointFamily.of("/contact-lists/lst_1/contacts/c_1"))
+        .isEqualTo(EndpointFamily.CONTACTS);
+    assertThat(EndpointFamily.of("/email-verification/v_1?includeResults=true"))
+        .isEqualTo(EndpointFamily.VERIFICATION);
+    assertThat(EndpointFamily.of("/test")).isEqualTo(EndpointFamily.OTHER);
+  }
+
+  @Test
+  @DisplayName("should not hold up other timers behind a slow callback")
+  void shouldNotStallOnSlowCallback() throws Exception {
+    CompletableFuture<Void> slow =
+        scheduler
+            .delay(5)
+            .thenRun(
+                () -> {
+                  try {
+                    Thread.sleep(1_000);
+                  } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                  }
+                });
+    long start = System.nanoTime();
+
+    scheduler.delay(30).get(5, TimeUnit.SECONDS);
+
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(500);
+    assertThat(slow).isNotDone();
+  }
+
+  @Test
+  @DisplayName("should wake a blocking wait made from a delayed callback")
+  void shouldWakeBlockingWaitFromCallback() throws Exception {
+    CompletableFuture<Void> nested =
+        scheduler
+            .delay(5)
+            .thenRun(
+                () -> {
+                  try {
+                    scheduler.await(20);
+                  } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                  }
+                });
+
+    nested.get(5, TimeUnit.SECONDS);
+
+    assertThat(scheduler.stats().completedWaits()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,169 @@
+package com.mailbreeze.http;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.*;
+
+@DisplayName("SingleFlight")
+class SingleFlightTest {
+
+  @Test
+  @DisplayName("should share one async request between identical calls")
+  void shouldShareAsyncRequest() throws Exception {
+    SingleFlight singleFlight = new SingleFlight();
+    CompletableFuture<String> source = new CompletableFuture<>();
+    AtomicInteger requests = new AtomicInteger();
+
+    CompletableFuture<String> first =
+        singleFlight.executeAsync(
+            "key",
+            () -> {
+              requests.incrementAndGet();
+              return source;
+            });
+    CompletableFuture<String> second =
+        singleFlight.executeAsync(
+            "key",
+            () -> {
+              requests.incrementAndGet();
+              return new CompletableFuture<>();
+            });
+    source.complete("result");
+
+    assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("result");
+    assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo("result");
+    assertThat(requests).hasValue(1);
+    assertThat(singleFlight.stats()).isEqualTo(new SingleFlightStats(1, 1));
+  }
+
+  @Test
+  @DisplayName("should start a new request once the previous one completed")
+  void shouldNotCacheResults() throws Exception {
+    SingleFlight singleFlight = new SingleFlight();
+
+    singleFlight.executeAsync("key", () -> CompletableFuture.completedFuture("a"));
+    CompletableFuture<String> next =
+        singleFlight.executeAsync("key", () -> CompletableFuture.completedFuture("b"));
+
+    assertThat(next.get(1, TimeUnit.SECONDS)).isEqualTo("b");
+    assertThat(singleFlight.stats()).isEqualTo(new SingleFlightStats(2, 0));
+  }
+
+  @Test
+  @DisplayName("should keep the shared request running while another caller waits")
+  void shouldIsolateCallerCancellation() throws Exception {
+    SingleFlight singleFlight = new SingleFlight();
+    CompletableFuture<String> source = new CompletableFuture<>();
+
+    CompletableFuture<String> first = singleFlight.executeAsync("key", () -> source);
+    CompletableFuture<String> second = singleFlight.executeAsync("key", () -> source);
+    first.cancel(true);
+
+    assertThat(source).isNotDone();
+    source.complete("result");
+    assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo("result");
+  }
+
+  @Test
+  @DisplayName("should cancel the shared request once every caller cancelled")
+  void shouldCancelWhenAllCallersCancel() {
+    SingleFlight singleFlight = new SingleFlight();
+    CompletableFuture<String> source = new CompletableFuture<>();
+
+    CompletableFuture<String> first = singleFlight.executeAsync("key", () -> source);
+    CompletableFuture<String> second = singleFlight.executeAsync("key", () -> source);
+    first.cancel(true);
+    second.cancel(true);
+
+    assertThat(source).isCancelled();
+    CompletableFuture<String> next =
+        singleFlight.executeAsync("key", () -> CompletableFuture.completedFuture("fresh"));
+    assertThat(next).isCompletedWithValue("fresh");
+  }
+
+  @Test
+  @DisplayName("should share a blocking request and its failure")
+  void shouldShareBlockingFailure() throws Exception {
+    SingleFlight singleFlight = new SingleFlight();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<String> leader =
+          executor.submit(
+              () ->
+                  singleFlight.execute(
+                      "key",
+                      () -> {
+                        started.countDown();
+                        awaitLatch(release);
+                        throw new IllegalStateException("boom");
+                      }));
+      started.await(1, TimeUnit.SECONDS);
+      Future<String> follower =
+          executor.submit(() -> singleFlight.execute("key", () -> "unexpected"));
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+      while (singleFlight.stats().coalescedCalls() == 0 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      release.countDown();
+
+      assertThatThrownBy(() -> leader.get(1, TimeUnit.SECONDS))
+          .hasCauseInstanceOf(IllegalStateException.class);
+      assertThatThrownBy(() -> follower.get(1, TimeUnit.SECONDS))
+          .hasCauseInstanceOf(IllegalStateException.class);
+      assertThat(singleFlight.stats()).isEqualTo(new SingleFlightStats(1, 1));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("should rerun waiting calls when the blocking leader is interrupted")
+  void shouldRerunAfterLeaderInterrupted() throws Exception {
+    SingleFlight singleFlight = new SingleFlight();
+    CountDownLatch started = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<String> leader =
+          executor.submit(
+              () ->
+                  singleFlight.execute(
+                      "key",
+                      () -> {
+                        started.countDown();
+                        awaitLatch(new CountDownLatch(1));
+                        throw new IllegalStateException("interrupted");
+                      }));
+      started.await(1, TimeUnit.SECONDS);
+      Future<String> follower = executor.submit(() -> singleFlight.execute("key", () -> "fresh"));
+      CompletableFuture<String> asyncFollower =
+          singleFlight.executeAsync("key", () -> CompletableFuture.completedFuture("fresh"));
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+      while (singleFlight.stats().coalescedCalls() < 2 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      leader.cancel(true);
+
+      assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo("fresh");
+      assertThat(asyncFollower.get(1, TimeUnit.SECONDS)).isEqualTo("fresh");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void awaitLatch(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.mailbreeze.http;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.*;
+
+@DisplayName("StatsCache")
+class StatsCacheTest {
+
+  private static final String PATH = "/emails/stats";
+
+  private final AtomicLong now = new AtomicLong(1_000_000_000L);
+  private final AtomicInteger fetches = new AtomicInteger();
+  private StatsCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache =
+        new StatsCache(
+            Map.of(
+                EndpointFamily.EMAILS,
+                new StatsTtl(Duration.ofSeconds(10), Duration.ofSeconds(30))),
+            now::get);
+  }
+
+  private CompletableFuture<String> fetch(String value) {
+    fetches.incrementAndGet();
+    return CompletableFuture.completedFuture(value);
+  }
+
+  private void advanceSeconds(long seconds) {
+    now.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+  }
+
+  @Test
+  @DisplayName("should serve the cached result within the TTL")
+  void shouldServeFreshResult() {
+    assertThat(cache.get(PATH, () -> fetch("first"))).isEqualTo("first");
+    advanceSeconds(9);
+
+    assertThat(cache.get(PATH, () -> fetch("second"))).isEqualTo("first");
+    assertThat(fetches).hasValue(1);
+    assertThat(cache.stats().freshHits()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should serve a stale result while one refresh runs")
+  void shouldServeStaleWhileRefreshing() {
+    cache.get(PATH, () -> fetch("first"));
+    advanceSeconds(15);
+    CompletableFuture<String> refresh = new CompletableFuture<>();
+
+    assertThat(cache.get(PATH, () -> refresh)).isEqualTo("first");
+    assertThat(cache.get(PATH, () -> fetch("unexpected"))).isEqualTo("first");
+    assertThat(fetches).hasValue(1);
+
+    refresh.complete("second");
+    assertThat(cache.get(PATH, () -> fetch("unexpected"))).isEqualTo("second");
+    assertThat(cache.stats().staleHits()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("should wait for a fetch once the result is too stale")
+  void shouldRefetchBeyondMaxStale() {
+    cache.get(PATH, () -> fetch("first"));
+    advanceSeconds(41);
+
+    assertThat(cache.get(PATH, () -> fetch("second"))).isEqualTo("second");
+    assertThat(cache.stats().misses()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("should keep the stale result when a refresh fails")
+  void shouldKeepResultOnRefreshFailure() {
+    cache.get(PATH, () -> fetch("first"));
+    advanceSeconds(15);
+
+    cache.get(PATH, () -> CompletableFuture.failedFuture(new IllegalStateException("down")));
+
+    assertThat(cache.get(PATH, () -> new CompletableFuture<String>())).isEqualTo("first");
+    assertThat(cache.stats().refreshFailures()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should report the age of each cached result")
+  void shouldReportEntryAge() {
+    cache.get(PATH, () -> fetch("first"));
+    advanceSeconds(3);
+
+    assertThat(cache.stats().entryAges()).containsEntry(PATH, Duration.ofSeconds(3));
+  }
+}
@@ -7,6 +7,7 @@ import com.mailbreeze.models.*;
 import com.mailbreeze.models.enums.AttachmentStatus;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -117,4 +118,93 @@ class AttachmentsTest {
       assertThat(request.getPath()).isEqualTo("/api/v1/attachments/token_xyz789/confirm");
     }
   }
+
+  @Nested
+  @DisplayName("async()")
+  class AsyncTests {
+
+    @Test
+    @DisplayName("should create upload and return presigned URL")
+    void shouldCreateUpload() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {
+                            "success": true,
+                            "data": {
+                                "attachmentId": "attach_abc123",
+                                "uploadUrl": "https://storage.example.com/upload?token=xyz"
+                            }
+                        }
+                        """));
+
+      CreateAttachmentUploadResult result =
+          attachments
+              .async()
+              .createUpload(
+                  CreateAttachmentUploadParams.builder()
+                      .fileName("report.pdf")
+                      .contentType("application/pdf")
+                      .fileSize(1024)
+                      .build())
+              .get(5, TimeUnit.SECONDS);
+
+      assertThat(result.getAttachmentId()).isEqualTo("attach_abc123");
+      RecordedRequest request = mockServer.takeRequest();
+      assertThat(request.getMethod()).isEqualTo("POST");
+      assertThat(request.getPath()).isEqualTo("/api/v1/attachments/presigned-url");
+    }
+
+    @Test
+    @DisplayName("should confirm upload and return attachment")
+    void shouldConfirmUpload() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"id": "attach_abc123", "status": "uploaded"}}
+                        """));
+
+      Attachment result =
+          attachments
+              .async()
+              .confirm(ConfirmAttachmentParams.of("token_xyz789"))
+              .get(5, TimeUnit.SECONDS);
+
+      assertThat(result.getStatus()).isEqualTo(AttachmentStatus.UPLOADED);
+      assertThat(mockServer.takeRequest().getPath())
+          .isEqualTo("/api/v1/attachments/token_xyz789/confirm");
+    }
+
+    @Test
+    @DisplayName("should get attachment by ID")
+    void shouldGetAttachment() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"id": "attach_abc123", "file_name": "a.pdf"}}
+                        """));
+
+      Attachment result = attachments.async().get("attach_abc123").get(5, TimeUnit.SECONDS);
+
+      assertThat(result.getFileName()).isEqualTo("a.pdf");
+      RecordedRequest request = mockServer.takeRequest();
+      assertThat(request.getMethod()).isEqualTo("GET");
+      assertThat(request.getPath()).isEqualTo("/api/v1/attachments/attach_abc123");
+    }
+
+    @Test
+    @DisplayName("should delete attachment")
+    void shouldDeleteAttachment() throws Exception {
+      mockServer.enqueue(new MockResponse().setResponseCode(204));
+
+      attachments.async().delete("attach_abc123").get(5, TimeUnit.SECONDS);
+
+      RecordedRequest request = mockServer.takeRequest();
+      assertThat(request.getMethod()).isEqualTo("DELETE");
+      assertThat(request.getPath()).isEqualTo("/api/v1/attachments/attach_abc123");
+    }
+  }
 }
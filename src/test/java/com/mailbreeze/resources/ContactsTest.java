@@ -9,6 +9,7 @@ import com.mailbreeze.models.enums.ContactStatus;
 import com.mailbreeze.models.enums.SuppressReason;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -343,4 +344,132 @@ class ContactsTest {
       assertThat(body).contains("manual");
     }
   }
+
+  @Nested
+  @DisplayName("async()")
+  class AsyncTests {
+
+    @Test
+    @DisplayName("should create a contact")
+    void shouldCreateContact() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"id": "contact_xyz789", "status": "active"}}
+                        """));
+
+      Contact result =
+          contacts
+              .async()
+              .create(CreateContactParams.builder().email("john@example.com").build())
+              .get(5, TimeUnit.SECONDS);
+
+      assertThat(result.getId()).isEqualTo("contact_xyz789");
+      assertThat(result.getStatus()).isEqualTo(ContactStatus.ACTIVE);
+      RecordedRequest request = mockServer.takeRequest();
+      assertThat(request.getMethod()).isEqualTo("POST");
+      assertThat(request.getPath()).isEqualTo("/api/v1/contact-lists/list_abc123/contacts");
+    }
+
+    @Test
+    @DisplayName("should list contacts with filters")
+    void shouldListContacts() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {
+                            "success": true,
+                            "data": {
+                                "contacts": [{"id": "contact_1", "status": "active"}],
+                                "pagination": {"page": 2, "limit": 10, "total": 11}
+                            }
+                        }
+                        """));
+
+      Contacts.ContactsResponse response =
+          contacts
+              .async()
+              .list(ListContactsParams.builder().page(2).limit(10).build())
+              .get(5, TimeUnit.SECONDS);
+
+      assertThat(response.getContacts()).extracting(Contact::getId).containsExactly("contact_1");
+      assertThat(response.getPagination().getTotal()).isEqualTo(11);
+      RecordedRequest request = mockServer.takeRequest();
+      assertThat(request.getMethod()).isEqualTo("GET");
+      assertThat(request.getPath()).contains("page=2").contains("limit=10");
+    }
+
+    @Test
+    @DisplayName("should get contact by ID")
+    void shouldGetContact() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"id": "contact_123", "email": "a@example.com"}}
+                        """));
+
+      Contact result = contacts.async().get("contact_123").get(5, TimeUnit.SECONDS);
+
+      assertThat(result.getEmail()).isEqualTo("a@example.com");
+      assertThat(mockServer.takeRequest().getPath())
+          .isEqualTo("/api/v1/contact-lists/list_abc123/contacts/contact_123");
+    }
+
+    @Test
+    @DisplayName("should update contact with PUT")
+    void shouldUpdateContact() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"id": "contact_123", "first_name": "Updated"}}
+                        """));
+
+      Contact result =
+          contacts
+              .async()
+              .update("contact_123", UpdateContactParams.builder().firstName("Updated").build())
+              .get(5, TimeUnit.SECONDS);
+
+      assertThat(result.getFirstName()).isEqualTo("Updated");
+      RecordedRequest request = mockServer.takeRequest();
+      assertThat(request.getMethod()).isEqualTo("PUT");
+      assertThat(request.getPath())
+          .isEqualTo("/api/v1/contact-lists/list_abc123/contacts/contact_123");
+    }
+
+    @Test
+    @DisplayName("should delete contact")
+    void shouldDeleteContact() throws Exception {
+      mockServer.enqueue(new MockResponse().setResponseCode(204));
+
+      contacts.async().delete("contact_123").get(5, TimeUnit.SECONDS);
+
+      RecordedRequest request = mockServer.takeRequest();
+      assertThat(request.getMethod()).isEqualTo("DELETE");
+      assertThat(request.getPath())
+          .isEqualTo("/api/v1/contact-lists/list_abc123/contacts/contact_123");
+    }
+
+    @Test
+    @DisplayName("should suppress contact with reason")
+    void shouldSuppressContact() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": null}
+                        """));
+
+      contacts.async().suppress("contact_123", SuppressReason.MANUAL).get(5, TimeUnit.SECONDS);
+
+      RecordedRequest request = mockServer.takeRequest();
+      assertThat(request.getPath())
+          .isEqualTo("/api/v1/contact-lists/list_abc123/contacts/contact_123/suppress");
+      assertThat(request.getBody().readUtf8()).contains("manual");
+    }
+  }
 }
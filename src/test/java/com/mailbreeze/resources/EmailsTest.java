@@ -2,12 +2,19 @@ package com.mailbreeze.resources;
 
 import static org.assertj.core.api.Assertions.*;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mailbreeze.exceptions.NotFoundException;
+import com.mailbreeze.http.EndpointFamily;
 import com.mailbreeze.http.MailBreezeHttpClient;
 import com.mailbreeze.models.*;
 import com.mailbreeze.models.enums.EmailStatus;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -158,6 +165,102 @@ class EmailsTest {
     }
   }
 
+  @Nested
+  @DisplayName("send() with a template")
+  class TemplateSendTests {
+
+    private final SendEmailTemplate template =
+        SendEmailTemplate.builder()
+            .from("news@example.com")
+            .subject("Spring update")
+            .html("<p>Hello {{name}}</p>")
+            .templateId("tpl_spring")
+            .header("List-Unsubscribe", "<https://example.com/unsubscribe>")
+            .tags(List.of("campaign"))
+            .build();
+
+    private void enqueueResult() {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"id": "email_123", "status": "queued"}}
+                        """));
+    }
+
+    @Test
+    @DisplayName("should send the shared fields with the recipient and variables")
+    void shouldSendPersonalizedEmail() throws Exception {
+      enqueueResult();
+
+      SendEmailResult result =
+          emails.send(template.personalize("ada@example.com", Map.of("name", "Ada")));
+
+      assertThat(result.getId()).isEqualTo("email_123");
+      JsonNode body = objectMapper.readTree(mockServer.takeRequest().getBody().readUtf8());
+      JsonNode expected =
+          objectMapper.readTree(
+              """
+              {"to": ["ada@example.com"], "variables": {"name": "Ada"},
+               "from": "news@example.com", "subject": "Spring update",
+               "html": "<p>Hello {{name}}</p>", "template_id": "tpl_spring",
+               "headers": {"List-Unsubscribe": "<https://example.com/unsubscribe>"},
+               "tags": ["campaign"]}
+              """);
+      assertThat(body).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("should write the same body as the equivalent SendEmailParams")
+    void shouldMatchSendEmailParams() throws Exception {
+      enqueueResult();
+      enqueueResult();
+
+      emails.send(template.personalize(List.of("ada@example.com"), Map.of("name", "Ada")));
+      emails.send(
+          SendEmailParams.builder()
+              .from("news@example.com")
+              .to("ada@example.com")
+              .subject("Spring update")
+              .html("<p>Hello {{name}}</p>")
+              .templateId("tpl_spring")
+              .variable("name", "Ada")
+              .header("List-Unsubscribe", "<https://example.com/unsubscribe>")
+              .tags(List.of("campaign"))
+              .build());
+
+      JsonNode templated = objectMapper.readTree(mockServer.takeRequest().getBody().readUtf8());
+      JsonNode params = objectMapper.readTree(mockServer.takeRequest().getBody().readUtf8());
+      assertThat(templated).isEqualTo(params);
+    }
+
+    @Test
+    @DisplayName("should omit variables when none are given")
+    void shouldOmitNullVariables() throws Exception {
+      enqueueResult();
+
+      emails
+          .async()
+          .send(template.personalize("ada@example.com", null), "idem_1")
+          .get(5, TimeUnit.SECONDS);
+
+      RecordedRequest request = mockServer.takeRequest();
+      assertThat(request.getHeader("X-Idempotency-Key")).isEqualTo("idem_1");
+      assertThat(objectMapper.readTree(request.getBody().readUtf8()).has("variables")).isFalse();
+    }
+
+    @Test
+    @DisplayName("should require a sender and a recipient")
+    void shouldValidate() {
+      assertThatThrownBy(() -> SendEmailTemplate.builder().subject("No sender").build())
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("from is required");
+      assertThatThrownBy(() -> template.personalize(List.of(), null))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("to is required");
+    }
+  }
+
   @Nested
   @DisplayName("list()")
   class ListTests {
@@ -311,5 +414,196 @@ class EmailsTest {
       assertThat(request.getMethod()).isEqualTo("GET");
       assertThat(request.getPath()).isEqualTo("/api/v1/emails/stats");
     }
+
+    @Test
+    @DisplayName("should serve cached statistics within the stats TTL")
+    void shouldServeCachedStats() {
+      Emails cached =
+          new Emails(
+              MailBreezeHttpClient.builder()
+                  .apiKey("sk_test_123")
+                  .baseUrl(mockServer.url("/").toString())
+                  .statsTtl(EndpointFamily.EMAILS, Duration.ofMinutes(1))
+                  .build());
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody("{\"success\": true, \"data\": {\"stats\": {\"total\": 1000}}}"));
+
+      EmailStats first = cached.stats();
+      EmailStats second = cached.stats();
+
+      assertThat(second).isSameAs(first);
+      assertThat(second.getTotal()).isEqualTo(1000);
+      assertThat(mockServer.getRequestCount()).isEqualTo(1);
+    }
+  }
+
+  @Nested
+  @DisplayName("async()")
+  class AsyncTests {
+
+    private final SendEmailParams params =
+        SendEmailParams.builder().from("sender@example.com").to("recipient@example.com").build();
+
+    @Test
+    @DisplayName("should send email and return result")
+    void shouldSendEmail() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"id": "email_123", "status": "queued"}}
+                        """));
+
+      SendEmailResult result = emails.async().send(params).get(5, TimeUnit.SECONDS);
+
+      assertThat(result.getId()).isEqualTo("email_123");
+      assertThat(result.getStatus()).isEqualTo(EmailStatus.QUEUED);
+      RecordedRequest request = mockServer.takeRequest();
+      assertThat(request.getMethod()).isEqualTo("POST");
+      assertThat(request.getPath()).isEqualTo("/api/v1/emails");
+      assertThat(request.getHeader("X-Idempotency-Key")).isNull();
+    }
+
+    @Test
+    @DisplayName("should include idempotency key when provided")
+    void shouldIncludeIdempotencyKey() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"id": "email_123", "status": "queued"}}
+                        """));
+
+      emails.async().send(params, "idem_key_12345").get(5, TimeUnit.SECONDS);
+
+      assertThat(mockServer.takeRequest().getHeader("X-Idempotency-Key"))
+          .isEqualTo("idem_key_12345");
+    }
+
+    @Test
+    @DisplayName("should list emails with filter params")
+    void shouldListEmails() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {
+                            "success": true,
+                            "data": {
+                                "emails": [{"id": "email_1", "status": "delivered"}],
+                                "pagination": {"page": 2, "limit": 50, "total": 51}
+                            }
+                        }
+                        """));
+
+      Emails.EmailsResponse response =
+          emails
+              .async()
+              .list(
+                  ListEmailsParams.builder()
+                      .status(EmailStatus.DELIVERED)
+                      .page(2)
+                      .limit(50)
+                      .build())
+              .get(5, TimeUnit.SECONDS);
+
+      assertThat(response.getEmails()).hasSize(1);
+      assertThat(response.getPagination().getTotal()).isEqualTo(51);
+      RecordedRequest request = mockServer.takeRequest();
+      assertThat(request.getMethod()).isEqualTo("GET");
+      assertThat(request.getPath()).contains("status=delivered").contains("page=2");
+    }
+
+    @Test
+    @DisplayName("should get email by ID")
+    void shouldGetEmail() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"id": "email_xyz789", "status": "delivered"}}
+                        """));
+
+      Email email = emails.async().get("email_xyz789").get(5, TimeUnit.SECONDS);
+
+      assertThat(email.getStatus()).isEqualTo(EmailStatus.DELIVERED);
+      assertThat(mockServer.takeRequest().getPath()).isEqualTo("/api/v1/emails/email_xyz789");
+    }
+
+    @Test
+    @DisplayName("should get email statistics")
+    void shouldGetStats() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"stats": {"total": 1000, "sent": 950}}}
+                        """));
+
+      EmailStats stats = emails.async().stats().get(5, TimeUnit.SECONDS);
+
+      assertThat(stats.getTotal()).isEqualTo(1000);
+      assertThat(stats.getSent()).isEqualTo(950);
+      assertThat(mockServer.takeRequest().getPath()).isEqualTo("/api/v1/emails/stats");
+    }
+
+    @Test
+    @DisplayName("should cancel a pending email")
+    void shouldCancelEmail() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"id": "email_123", "cancelled": true}}
+                        """));
+
+      Emails.CancelEmailResult result =
+          emails.async().cancel("email_123").get(5, TimeUnit.SECONDS);
+
+      assertThat(result.isCancelled()).isTrue();
+      RecordedRequest request = mockServer.takeRequest();
+      assertThat(request.getMethod()).isEqualTo("POST");
+      assertThat(request.getPath()).isEqualTo("/api/v1/emails/email_123/cancel");
+    }
+
+    @Test
+    @DisplayName("should fail the future with the API exception")
+    void shouldFailWithApiException() {
+      mockServer.enqueue(
+          new MockResponse()
+              .setResponseCode(404)
+              .setBody(
+                  """
+                        {"success": false, "error": {"message": "Email not found"}}
+                        """));
+
+      CompletableFuture<Email> future = emails.async().get("missing");
+
+      assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+          .hasCauseInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("should cancel the request when a mapped future is cancelled")
+    void shouldPropagateCancellation() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setHeadersDelay(5, TimeUnit.SECONDS)
+              .setBody(
+                  """
+                        {"success": true, "data": {"stats": {"total": 1}}}
+                        """));
+
+      CompletableFuture<EmailStats> future = emails.async().stats();
+      mockServer.takeRequest(5, TimeUnit.SECONDS);
+      future.cancel(true);
+
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+      while (httpClient.metrics().pool().runningCalls() > 0 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertThat(httpClient.metrics().pool().runningCalls()).isZero();
+    }
   }
 }
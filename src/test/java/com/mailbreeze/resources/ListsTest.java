@@ -7,6 +7,7 @@ import com.mailbreeze.http.MailBreezeHttpClient;
 import com.mailbreeze.models.*;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -316,4 +317,139 @@ class ListsTest {
       assertThat(request.getPath()).isEqualTo("/api/v1/contact-lists/list_123/stats");
     }
   }
+
+  @Nested
+  @DisplayName("async()")
+  class AsyncTests {
+
+    @Test
+    @DisplayName("should create a contact list")
+    void shouldCreateList() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"id": "list_123", "name": "Customers"}}
+                        """));
+
+      ContactList result =
+          lists
+              .async()
+              .create(CreateListParams.builder().name("Customers").build())
+              .get(5, TimeUnit.SECONDS);
+
+      assertThat(result.getId()).isEqualTo("list_123");
+      RecordedRequest request = mockServer.takeRequest();
+      assertThat(request.getMethod()).isEqualTo("POST");
+      assertThat(request.getPath()).isEqualTo("/api/v1/contact-lists");
+    }
+
+    @Test
+    @DisplayName("should list contact lists with search filter")
+    void shouldListLists() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {
+                            "success": true,
+                            "data": [{"id": "list_1", "name": "Newsletter"}, {"id": "list_2"}]
+                        }
+                        """));
+
+      Lists.ListsResponse response =
+          lists
+              .async()
+              .list(ListListsParams.builder().search("news").build())
+              .get(5, TimeUnit.SECONDS);
+
+      assertThat(response.getData())
+          .extracting(ContactList::getId)
+          .containsExactly("list_1", "list_2");
+      assertThat(mockServer.takeRequest().getPath()).contains("search=news");
+    }
+
+    @Test
+    @DisplayName("should return an empty list when the API returns no data")
+    void shouldListEmpty() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": null}
+                        """));
+
+      Lists.ListsResponse response = lists.async().list().get(5, TimeUnit.SECONDS);
+
+      assertThat(response.getData()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should get contact list by ID")
+    void shouldGetList() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"id": "list_xyz789", "name": "VIP"}}
+                        """));
+
+      ContactList list = lists.async().get("list_xyz789").get(5, TimeUnit.SECONDS);
+
+      assertThat(list.getName()).isEqualTo("VIP");
+      assertThat(mockServer.takeRequest().getPath()).isEqualTo("/api/v1/contact-lists/list_xyz789");
+    }
+
+    @Test
+    @DisplayName("should update contact list with PUT")
+    void shouldUpdateList() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"id": "list_123", "name": "Updated Name"}}
+                        """));
+
+      ContactList result =
+          lists
+              .async()
+              .update("list_123", UpdateListParams.builder().name("Updated Name").build())
+              .get(5, TimeUnit.SECONDS);
+
+      assertThat(result.getName()).isEqualTo("Updated Name");
+      RecordedRequest request = mockServer.takeRequest();
+      assertThat(request.getMethod()).isEqualTo("PUT");
+      assertThat(request.getPath()).isEqualTo("/api/v1/contact-lists/list_123");
+    }
+
+    @Test
+    @DisplayName("should delete contact list")
+    void shouldDeleteList() throws Exception {
+      mockServer.enqueue(new MockResponse().setResponseCode(204));
+
+      lists.async().delete("list_123").get(5, TimeUnit.SECONDS);
+
+      RecordedRequest request = mockServer.takeRequest();
+      assertThat(request.getMethod()).isEqualTo("DELETE");
+      assertThat(request.getPath()).isEqualTo("/api/v1/contact-lists/list_123");
+    }
+
+    @Test
+    @DisplayName("should get list statistics")
+    void shouldGetStats() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"total_contacts": 1000, "active_contacts": 850}}
+                        """));
+
+      ListStats stats = lists.async().stats("list_123").get(5, TimeUnit.SECONDS);
+
+      assertThat(stats.getTotalContacts()).isEqualTo(1000);
+      assertThat(stats.getActiveContacts()).isEqualTo(850);
+      assertThat(mockServer.takeRequest().getPath())
+          .isEqualTo("/api/v1/contact-lists/list_123/stats");
+    }
+  }
 }
@@ -8,6 +8,7 @@ import com.mailbreeze.models.enums.VerificationResult;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -191,4 +192,113 @@ class VerificationTest {
       assertThat(request.getPath()).isEqualTo("/api/v1/email-verification/stats");
     }
   }
+
+  @Nested
+  @DisplayName("async()")
+  class AsyncTests {
+
+    @Test
+    @DisplayName("should verify single email")
+    void shouldVerifySingleEmail() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"email": "user@example.com", "result": "valid"}}
+                        """));
+
+      VerifyEmailResult result =
+          verification.async().verify("user@example.com").get(5, TimeUnit.SECONDS);
+
+      assertThat(result.getResult()).isEqualTo(VerificationResult.VALID);
+      RecordedRequest request = mockServer.takeRequest();
+      assertThat(request.getMethod()).isEqualTo("POST");
+      assertThat(request.getPath()).isEqualTo("/api/v1/email-verification/single");
+      assertThat(request.getBody().readUtf8()).contains("user@example.com");
+    }
+
+    @Test
+    @DisplayName("should start batch verification")
+    void shouldStartBatchVerification() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"verificationId": "ver_abc123"}}
+                        """));
+
+      BatchVerifyResult result =
+          verification
+              .async()
+              .batch(BatchVerifyParams.of(List.of("a@example.com")))
+              .get(5, TimeUnit.SECONDS);
+
+      assertThat(result.getVerificationId()).isEqualTo("ver_abc123");
+      assertThat(mockServer.takeRequest().getPath())
+          .isEqualTo("/api/v1/email-verification/batch");
+    }
+
+    @Test
+    @DisplayName("should get batch verification status with results")
+    void shouldGetBatchStatus() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"status": "completed"}}
+                        """));
+
+      BatchVerifyResult result = verification.async().get("ver_abc123").get(5, TimeUnit.SECONDS);
+
+      assertThat(result.getStatus()).isEqualTo("completed");
+      assertThat(mockServer.takeRequest().getPath())
+          .isEqualTo("/api/v1/email-verification/ver_abc123?includeResults=true");
+    }
+
+    @Test
+    @DisplayName("should list verification batches")
+    void shouldListBatches() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"items": [{"id": "ver_1"}]}}
+                        """));
+
+      List<VerificationListItem> items = verification.async().list().get(5, TimeUnit.SECONDS);
+
+      assertThat(items).extracting(VerificationListItem::getId).containsExactly("ver_1");
+      assertThat(mockServer.takeRequest().getPath()).isEqualTo("/api/v1/email-verification");
+    }
+
+    @Test
+    @DisplayName("should return an empty list when the API returns no data")
+    void shouldListEmpty() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": null}
+                        """));
+
+      assertThat(verification.async().list().get(5, TimeUnit.SECONDS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should get verification statistics")
+    void shouldGetStats() throws Exception {
+      mockServer.enqueue(
+          new MockResponse()
+              .setBody(
+                  """
+                        {"success": true, "data": {"totalVerified": 5000, "totalValid": 4500}}
+                        """));
+
+      VerificationStats stats = verification.async().stats().get(5, TimeUnit.SECONDS);
+
+      assertThat(stats.getTotalVerified()).isEqualTo(5000);
+      assertThat(mockServer.takeRequest().getPath())
+          .isEqualTo("/api/v1/email-verification/stats");
+    }
+  }
 }